@@ -0,0 +1,103 @@
+package com.spring5microservices.common.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Caffeine {@link Expiry} that keeps every entry until the expiration time of its value, but never more than the
+ * given maximum time to live. The values without expiration time are kept the maximum time to live, and the already
+ * expired ones are removed as soon as they are stored.
+ *
+ * @param <K>
+ *    Type of the keys of the cache
+ * @param <V>
+ *    Type of the values of the cache
+ */
+public class ExpirationTimeExpiry<K, V> implements Expiry<K, V> {
+
+    private final Function<? super V, Instant> expirationTimeExtractor;
+
+    private final Duration maxTimeToLive;
+
+    private final Clock clock;
+
+
+    /**
+     * Builds an {@link ExpirationTimeExpiry} that uses the system clock.
+     *
+     * @param expirationTimeExtractor
+     *    {@link Function} used to get the expiration time of every value, or {@code null} if it has not one
+     * @param maxTimeToLive
+     *    {@link Duration} with the maximum time an entry will be kept
+     *
+     * @throws IllegalArgumentException if {@code expirationTimeExtractor} or {@code maxTimeToLive} are {@code null}
+     */
+    public ExpirationTimeExpiry(final Function<? super V, Instant> expirationTimeExtractor,
+                                final Duration maxTimeToLive) {
+        this(expirationTimeExtractor, maxTimeToLive, Clock.systemUTC());
+    }
+
+
+    /**
+     * Builds an {@link ExpirationTimeExpiry} that uses the given {@link Clock} to know the remaining time of every value.
+     *
+     * @param expirationTimeExtractor
+     *    {@link Function} used to get the expiration time of every value, or {@code null} if it has not one
+     * @param maxTimeToLive
+     *    {@link Duration} with the maximum time an entry will be kept
+     * @param clock
+     *    {@link Clock} used to calculate the remaining time until the expiration time
+     *
+     * @throws IllegalArgumentException if {@code expirationTimeExtractor}, {@code maxTimeToLive} or {@code clock} are {@code null}
+     */
+    public ExpirationTimeExpiry(final Function<? super V, Instant> expirationTimeExtractor,
+                                final Duration maxTimeToLive,
+                                final Clock clock) {
+        Assert.notNull(expirationTimeExtractor, "expirationTimeExtractor cannot be null");
+        Assert.notNull(maxTimeToLive, "maxTimeToLive cannot be null");
+        Assert.notNull(clock, "clock cannot be null");
+        this.expirationTimeExtractor = expirationTimeExtractor;
+        this.maxTimeToLive = maxTimeToLive;
+        this.clock = clock;
+    }
+
+
+    @Override
+    public long expireAfterCreate(final K key,
+                                  final V value,
+                                  final long currentTime) {
+        Duration timeToLive = ofNullable(expirationTimeExtractor.apply(value))
+                .map(expirationTime -> Duration.between(clock.instant(), expirationTime))
+                .filter(untilExpiration -> untilExpiration.compareTo(maxTimeToLive) < 0)
+                .orElse(maxTimeToLive);
+
+        return Math.max(0, timeToLive.toNanos());
+    }
+
+
+    @Override
+    public long expireAfterUpdate(final K key,
+                                  final V value,
+                                  final long currentTime,
+                                  final long currentDuration) {
+        // The new value could have another expiration time
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+
+    @Override
+    public long expireAfterRead(final K key,
+                                final V value,
+                                final long currentTime,
+                                final long currentDuration) {
+        return currentDuration;
+    }
+
+}
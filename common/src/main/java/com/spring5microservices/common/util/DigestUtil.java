@@ -0,0 +1,46 @@
+package com.spring5microservices.common.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@UtilityClass
+public class DigestUtil {
+
+    public static final String SHA_256_ALGORITHM = "SHA-256";
+
+
+    /**
+     *    Returns the SHA-256 digest of the given {@code value}. The returned {@link ByteBuffer} compares its content, so
+     * it can be used as key of a cache, avoiding to keep sensitive values like tokens or credentials in memory.
+     *
+     * @param value
+     *    {@link String} to digest
+     *
+     * @return {@link ByteBuffer} with the digest of {@code value}
+     *
+     * @throws IllegalArgumentException if {@code value} is {@code null}
+     * @throws IllegalStateException if the digest algorithm is not available
+     */
+    public static ByteBuffer sha256(final String value) {
+        Assert.notNull(value, "value cannot be null");
+        try {
+            return ByteBuffer.wrap(
+                    MessageDigest.getInstance(SHA_256_ALGORITHM)
+                            .digest(value.getBytes(UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(
+                    format("The digest algorithm: %s is not available", SHA_256_ALGORITHM),
+                    e
+            );
+        }
+    }
+
+}
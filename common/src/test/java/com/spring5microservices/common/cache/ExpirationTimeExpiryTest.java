@@ -0,0 +1,83 @@
+package com.spring5microservices.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExpirationTimeExpiryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final Duration MAX_TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    private final ExpirationTimeExpiry<String, Instant> expiry = new ExpirationTimeExpiry<>(
+            Function.identity(),
+            MAX_TIME_TO_LIVE,
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+
+    @Test
+    @DisplayName("ExpirationTimeExpiry: when null parameters are given then IllegalArgumentException is thrown")
+    public void expirationTimeExpiry_whenNullParametersAreGiven_thenIllegalArgumentExceptionIsThrown() {
+        Clock clock = Clock.systemUTC();
+
+        assertThrows(IllegalArgumentException.class, () -> new ExpirationTimeExpiry<String, Instant>(null, MAX_TIME_TO_LIVE, clock));
+        assertThrows(IllegalArgumentException.class, () -> new ExpirationTimeExpiry<String, Instant>(Function.identity(), null, clock));
+        assertThrows(IllegalArgumentException.class, () -> new ExpirationTimeExpiry<String, Instant>(Function.identity(), MAX_TIME_TO_LIVE, null));
+    }
+
+
+    static Stream<Arguments> expireAfterCreateTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            expirationTime,           expectedResult
+                Arguments.of( null,                     MAX_TIME_TO_LIVE.toNanos() ),
+                Arguments.of( NOW.minusSeconds(10),     0L ),
+                Arguments.of( NOW,                      0L ),
+                Arguments.of( NOW.plusSeconds(10),      Duration.ofSeconds(10).toNanos() ),
+                Arguments.of( NOW.plusSeconds(600),     MAX_TIME_TO_LIVE.toNanos() )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("expireAfterCreateTestCases")
+    @DisplayName("expireAfterCreate: test cases")
+    public void expireAfterCreate_testCases(Instant expirationTime,
+                                            long expectedResult) {
+        assertEquals(expectedResult, expiry.expireAfterCreate("key", expirationTime, 0));
+    }
+
+
+    @Test
+    @DisplayName("expireAfterUpdate: when it is invoked then the expiration time of the new value is used")
+    public void expireAfterUpdate_whenItIsInvoked_thenTheExpirationTimeOfTheNewValueIsUsed() {
+        assertEquals(
+                Duration.ofSeconds(10).toNanos(),
+                expiry.expireAfterUpdate("key", NOW.plusSeconds(10), 0, MAX_TIME_TO_LIVE.toNanos())
+        );
+    }
+
+
+    @Test
+    @DisplayName("expireAfterRead: when it is invoked then the current duration is kept")
+    public void expireAfterRead_whenItIsInvoked_thenTheCurrentDurationIsKept() {
+        assertEquals(
+                5L,
+                expiry.expireAfterRead("key", NOW.plusSeconds(10), 0, 5L)
+        );
+    }
+
+}
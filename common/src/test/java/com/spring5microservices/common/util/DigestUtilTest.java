@@ -0,0 +1,35 @@
+package com.spring5microservices.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
+import static com.spring5microservices.common.util.DigestUtil.sha256;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DigestUtilTest {
+
+    @Test
+    @DisplayName("sha256: when null value is given then IllegalArgumentException is thrown")
+    public void sha256_whenNullValueIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> sha256(null));
+    }
+
+
+    @Test
+    @DisplayName("sha256: when a value is given then its digest is returned")
+    public void sha256_whenAValueIsGiven_thenItsDigestIsReturned() {
+        ByteBuffer expectedResult = ByteBuffer.wrap(
+                HexFormat.of().parseHex("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad")
+        );
+
+        assertEquals(expectedResult, sha256("abc"));
+        assertEquals(sha256("abc"), sha256("abc"));
+        assertNotEquals(sha256("abc"), sha256("abd"));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.order.configuration.cache;
+
+import com.order.dto.OrderDto;
+import com.order.util.OrderDtoUtil;
+import com.order.util.SingleFlightCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfiguration {
+
+    public static final String ORDER_LOOKUP_NAME = "order.lookup";
+
+    @Value("${cache.orderLookup.timeToLiveInMillis:0}")
+    private long orderLookupTimeToLiveInMillis;
+
+    @Value("${cache.orderLookup.maximumSize:10000}")
+    private long orderLookupMaximumSize;
+
+
+    /**
+     *    Coalesces the concurrent searches of the same {@link OrderDto} and, if {@code cache.orderLookup.timeToLiveInMillis}
+     * is greater than 0, keeps the found ones during that time. Every caller receives its own copy of the shared
+     * {@link OrderDto}.
+     *
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     *
+     * @return {@link SingleFlightCache}
+     */
+    @Bean
+    public SingleFlightCache<Integer, OrderDto> orderLookupCache(final MeterRegistry meterRegistry) {
+        return new SingleFlightCache<>(
+                ORDER_LOOKUP_NAME,
+                orderLookupTimeToLiveInMillis,
+                orderLookupMaximumSize,
+                OrderDtoUtil::copy,
+                meterRegistry
+        );
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.order.configuration.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Configuration used to send the read-only transactions to the replicas defined in {@code database.replicas.urls},
+ * only enabled if {@code database.replicas.enabled} is {@code true}. The primary is configured using the default
+ * {@code spring.datasource} properties.
+ */
+@ConditionalOnProperty(prefix = "database.replicas", name = "enabled", havingValue = "true")
+@Configuration
+@Getter
+public class ReadReplicaConfiguration {
+
+    public static final String PRIMARY_POOL_NAME = "primary";
+    public static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+    @Value("${database.replicas.urls}")
+    private List<String> urls;
+
+    @Value("${database.replicas.username:${spring.datasource.username}}")
+    private String username;
+
+    @Value("${database.replicas.password:${spring.datasource.password}}")
+    private String password;
+
+    @Value("${database.replicas.maximumPoolSize:10}")
+    private int maximumPoolSize;
+
+    @Value("${database.replicas.healthCheckIntervalInSeconds:10}")
+    private int healthCheckIntervalInSeconds;
+
+    @Value("${database.replicas.validationTimeoutInSeconds:2}")
+    private int validationTimeoutInSeconds;
+
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(final DataSourceProperties dataSourceProperties,
+                                                                     final MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(PRIMARY_POOL_NAME);
+        primary.setMetricRegistry(meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            if (StringUtils.hasText(urls.get(i))) {
+                String poolName = REPLICA_POOL_NAME_PREFIX + i;
+                replicas.put(
+                        poolName,
+                        buildReplica(
+                                dataSourceProperties,
+                                poolName,
+                                urls.get(i).trim(),
+                                meterRegistry
+                        )
+                );
+            }
+        }
+        return new ReadReplicaRoutingDataSource(
+                primary,
+                replicas,
+                validationTimeoutInSeconds,
+                meterRegistry
+        );
+    }
+
+
+    /**
+     *    Returns the {@link DataSource} used by the application. Connections are requested when the first statement is
+     * executed, so the transaction is already marked as read-only (or not) when {@link ReadReplicaRoutingDataSource}
+     * chooses the pool to use.
+     *
+     * @param readReplicaRoutingDataSource
+     *    {@link ReadReplicaRoutingDataSource} that provides the connections
+     *
+     * @return {@link DataSource}
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+
+    /**
+     * Periodically verifies the replicas, so the ones that were not healthy are used again once they are back.
+     *
+     * @param readReplicaRoutingDataSource
+     *    {@link ReadReplicaRoutingDataSource} with the replicas to verify
+     *
+     * @return {@link ScheduledExecutorService}
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService replicasHealthCheckExecutor(final ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replicas-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(
+                readReplicaRoutingDataSource::checkReplicasHealth,
+                healthCheckIntervalInSeconds,
+                healthCheckIntervalInSeconds,
+                TimeUnit.SECONDS
+        );
+        return executor;
+    }
+
+
+    private HikariDataSource buildReplica(final DataSourceProperties dataSourceProperties,
+                                          final String poolName,
+                                          final String url,
+                                          final MeterRegistry meterRegistry) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(poolName);
+        replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(maximumPoolSize);
+        replica.setReadOnly(true);
+        // Do not fail at startup if a replica is not available, it will be used once it is healthy
+        replica.setInitializationFailTimeout(-1);
+        replica.setMetricRegistry(meterRegistry);
+        return replica;
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.order.configuration.database;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ *    {@link DataSource} that sends the connections required by read-only transactions to one of the healthy replicas
+ * (using round-robin), and the remaining ones to the primary.
+ * <p>
+ *    When there is no healthy replica, or the chosen one fails providing a connection, the primary is used. Replicas
+ * marked as not healthy are included again once {@link ReadReplicaRoutingDataSource#checkReplicasHealth()} verifies
+ * them.
+ * <p>
+ *    It must be wrapped by a {@link LazyConnectionDataSourceProxy}, because the transaction manager asks for a
+ * connection before marking the transaction as read-only.
+ */
+@Log4j2
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String ROUTED_CONNECTIONS_METRIC = "database.routing.connections";
+    public static final String HEALTHY_REPLICA_METRIC = "database.replica.healthy";
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    private final Map<String, DataSource> replicas;
+
+    private final List<String> replicaNames;
+
+    private final Map<String, Boolean> healthyReplicas;
+
+    private final AtomicInteger nextReplica;
+
+    private final int validationTimeoutInSeconds;
+
+    private final MeterRegistry meterRegistry;
+
+
+    /**
+     * Create a new routing {@link DataSource}
+     *
+     * @param primary
+     *    {@link DataSource} used by the write and not read-only operations
+     * @param replicas
+     *    {@link Map} with the name of every replica as key and its {@link DataSource} as value
+     * @param validationTimeoutInSeconds
+     *    Maximum time used to validate the connection of a replica
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics of every pool
+     */
+    public ReadReplicaRoutingDataSource(final DataSource primary,
+                                        final Map<String, DataSource> replicas,
+                                        final int validationTimeoutInSeconds,
+                                        final MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        this.healthyReplicas = new ConcurrentHashMap<>();
+        this.nextReplica = new AtomicInteger();
+        this.validationTimeoutInSeconds = validationTimeoutInSeconds;
+        this.meterRegistry = meterRegistry;
+        replicaNames.forEach(name -> {
+            healthyReplicas.put(name, true);
+            Gauge.builder(
+                            HEALTHY_REPLICA_METRIC,
+                            healthyReplicas,
+                            h -> h.getOrDefault(name, false) ? 1 : 0
+                    )
+                    .description("1 if the replica is used by read-only transactions, 0 otherwise")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        });
+    }
+
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            for (int i = 0; i < replicaNames.size(); i++) {
+                String replicaName = nextHealthyReplica();
+                if (null == replicaName) {
+                    break;
+                }
+                try {
+                    Connection connection = replicas.get(replicaName).getConnection();
+                    countRoutedConnection(replicaName);
+                    return connection;
+                } catch (SQLException e) {
+                    log.error(
+                            format("There was an error getting a connection of the replica: %s, it will not be used until it is healthy again",
+                                    replicaName),
+                            e
+                    );
+                    healthyReplicas.put(replicaName, false);
+                }
+            }
+        }
+        countRoutedConnection(PRIMARY);
+        return primary.getConnection();
+    }
+
+
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password) throws SQLException {
+        // Specific credentials are only used by the primary
+        countRoutedConnection(PRIMARY);
+        return primary.getConnection(username, password);
+    }
+
+
+    /**
+     * Validates a connection of every replica, updating the ones that can be used by read-only transactions.
+     */
+    public void checkReplicasHealth() {
+        replicas.forEach((name, dataSource) -> {
+            boolean healthy;
+            try (Connection connection = dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutInSeconds);
+            } catch (Exception e) {
+                healthy = false;
+            }
+            Boolean previous = healthyReplicas.put(name, healthy);
+            if (null != previous && previous != healthy) {
+                log.warn(
+                        format("The replica: %s is now %s",
+                                name,
+                                healthy ? "healthy" : "not healthy")
+                );
+            }
+        });
+    }
+
+
+    /**
+     * Returns if the given replica is currently used by read-only transactions.
+     *
+     * @param replicaName
+     *    Name of the replica to check
+     *
+     * @return {@code true} if the replica is healthy, {@code false} otherwise
+     */
+    public boolean isHealthy(final String replicaName) {
+        return healthyReplicas.getOrDefault(replicaName, false);
+    }
+
+
+    /**
+     * Closes the pools of the primary and replicas.
+     */
+    @Override
+    public void close() {
+        replicas.values().forEach(this::closeDataSource);
+        closeDataSource(primary);
+    }
+
+
+    /**
+     * Returns the name of the next healthy replica using round-robin.
+     *
+     * @return name of the replica, {@code null} if there is no healthy replica
+     */
+    private String nextHealthyReplica() {
+        int size = replicaNames.size();
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get(
+                    Math.floorMod(nextReplica.getAndIncrement(), size)
+            );
+            if (isHealthy(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+
+    private void closeDataSource(final DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                log.error("There was an error closing a database pool", e);
+            }
+        }
+    }
+
+
+    private void countRoutedConnection(final String poolName) {
+        Counter.builder(ROUTED_CONNECTIONS_METRIC)
+                .description("Number of connections requested to every pool")
+                .tag("pool", poolName)
+                .register(meterRegistry)
+                .increment();
+    }
+
+}
@@ -10,6 +10,9 @@ public final class RestRoutes {
     public static final class ORDER {
         public static final String ROOT = RestRoutes.ROOT;
         public static final String WITH_ORDERLINES = "/withOrderlines";
+        public static final String PAGE = "/page";
+        public static final String EXPORT = "/export";
+        public static final String BULK = "/bulk";
     }
 
     public static final class INGREDIENT {
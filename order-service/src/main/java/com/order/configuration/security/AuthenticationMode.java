@@ -0,0 +1,19 @@
+package com.order.configuration.security;
+
+/**
+ * Available ways to validate the tokens included in the received requests.
+ */
+public enum AuthenticationMode {
+
+    /**
+     *    The signature and expiration of the token are verified by the microservice itself, using the remote
+     * introspection only when the token cannot be verified locally.
+     */
+    LOCAL,
+
+    /**
+     * The token is always sent to the security server to validate it.
+     */
+    REMOTE
+
+}
@@ -0,0 +1,171 @@
+package com.order.configuration.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order.dto.UsernameAuthoritiesDto;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Verifies locally the JWT tokens signed by the security server with a symmetric key (HS256, HS384 or HS512),
+ * extracting the authorization information included in their payload without any remote call.
+ */
+@Component
+@Log4j2
+public class JwtVerifier {
+
+    private static final String ALGORITHM_HEADER = "alg";
+
+    private static final String AUTHORITIES_CLAIM = "authorities";
+
+    // Only included in the refresh tokens, with the identifier of their access token
+    private static final String ACCESS_TOKEN_ID_CLAIM = "ati";
+
+    private static final Map<String, String> MAC_ALGORITHMS_BY_JWT_ALGORITHM = Map.of(
+            "HS256", "HmacSHA256",
+            "HS384", "HmacSHA384",
+            "HS512", "HmacSHA512"
+    );
+
+    @Lazy
+    private final SecurityConfiguration securityConfiguration;
+
+    @Lazy
+    private final ObjectMapper objectMapper;
+
+    private final Clock clock;
+
+
+    public JwtVerifier(final SecurityConfiguration securityConfiguration,
+                       final ObjectMapper objectMapper) {
+        this(securityConfiguration, objectMapper, Clock.systemUTC());
+    }
+
+
+    JwtVerifier(final SecurityConfiguration securityConfiguration,
+                final ObjectMapper objectMapper,
+                final Clock clock) {
+        this.securityConfiguration = securityConfiguration;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+
+    /**
+     *    Checks if the given {@code token} can be verified locally: a secret key was configured and {@code token} is a
+     * JWT signed with the configured {@link SecurityConfiguration#getJwtSignatureAlgorithm()}.
+     *
+     * @param token
+     *    Token to check
+     *
+     * @return {@code true} if {@code token} can be verified using {@link JwtVerifier#verify(String)},
+     *         {@code false} otherwise
+     */
+    public boolean isVerifiable(final String token) {
+        if (!StringUtils.hasText(securityConfiguration.getJwtSecretKey()) ||
+                !StringUtils.hasText(token)) {
+            return false;
+        }
+        String[] parts = token.split("\\.", -1);
+        if (3 != parts.length) {
+            return false;
+        }
+        return readJson(parts[0])
+                .map(header -> header.path(ALGORITHM_HEADER).asText())
+                .map(MAC_ALGORITHMS_BY_JWT_ALGORITHM::get)
+                .map(macAlgorithm -> macAlgorithm.equalsIgnoreCase(securityConfiguration.getJwtSignatureAlgorithm()))
+                .orElse(false);
+    }
+
+
+    /**
+     *    Verifies the signature and expiration of the given {@code token}, returning the information included on it.
+     * Refresh tokens are signed with the same key, so only the tokens with authorities and without {@code ati} claim
+     * are accepted as access tokens.
+     *
+     * @param token
+     *    JWT token to verify
+     *
+     * @return {@link Optional} of {@link UsernameAuthoritiesDto} if {@code token} is valid,
+     *         {@link Optional#empty()} otherwise
+     */
+    public Optional<UsernameAuthoritiesDto> verify(final String token) {
+        if (!isVerifiable(token)) {
+            return empty();
+        }
+        String[] parts = token.split("\\.", -1);
+        if (!isSignatureValid(parts[0] + "." + parts[1], parts[2])) {
+            log.warn("The signature of the given token is not valid");
+            return empty();
+        }
+        return readJson(parts[1])
+                .filter(payload -> {
+                    boolean isAccessToken = !payload.has(ACCESS_TOKEN_ID_CLAIM) &&
+                            payload.path(AUTHORITIES_CLAIM).isArray();
+                    if (!isAccessToken) {
+                        log.warn("The given token is not an access one");
+                    }
+                    return isAccessToken;
+                })
+                .map(payload -> objectMapper.convertValue(payload, UsernameAuthoritiesDto.class))
+                .filter(usernameAuthorities -> {
+                    boolean notExpired = ofNullable(usernameAuthorities.getExpiration())
+                            .map(exp -> exp > clock.instant().getEpochSecond())
+                            .orElse(false);
+                    if (!notExpired) {
+                        log.warn("The given token has expired or has no expiration time");
+                    }
+                    return notExpired;
+                });
+    }
+
+
+    private boolean isSignatureValid(final String signedContent,
+                                     final String signature) {
+        try {
+            Mac mac = Mac.getInstance(securityConfiguration.getJwtSignatureAlgorithm());
+            mac.init(
+                    new SecretKeySpec(
+                            securityConfiguration.getJwtSecretKey().getBytes(StandardCharsets.UTF_8),
+                            securityConfiguration.getJwtSignatureAlgorithm()
+                    )
+            );
+            return MessageDigest.isEqual(
+                    mac.doFinal(signedContent.getBytes(StandardCharsets.US_ASCII)),
+                    Base64.getUrlDecoder().decode(signature)
+            );
+        } catch (Exception e) {
+            log.error("There was an error verifying the signature of the given token", e);
+            return false;
+        }
+    }
+
+
+    private Optional<JsonNode> readJson(final String base64UrlJson) {
+        try {
+            return of(
+                    objectMapper.readTree(
+                            Base64.getUrlDecoder().decode(base64UrlJson)
+                    )
+            );
+        } catch (Exception e) {
+            return empty();
+        }
+    }
+
+}
@@ -24,6 +24,21 @@ public class SecurityConfiguration {
     @Value("${security.restApi.clientPassword}")
     private String clientPassword;
 
+    @Value("${security.authentication.mode:REMOTE}")
+    private AuthenticationMode authenticationMode;
+
+    @Value("${security.jwt.secretKey:}")
+    private String jwtSecretKey;
+
+    @Value("${security.jwt.signatureAlgorithm:HmacSHA256}")
+    private String jwtSignatureAlgorithm;
+
+    @Value("${security.tokenCache.maximumSize:10000}")
+    private long tokenCacheMaximumSize;
+
+    @Value("${security.tokenCache.timeToLiveInSeconds:300}")
+    private long tokenCacheTimeToLiveInSeconds;
+
 
     @Bean
     public BasicAuthRequestInterceptor basicAuthRequestInterceptor() {
@@ -36,13 +36,41 @@ public class SecurityManager {
     @Lazy
     private final SecurityServerRestClient securityServerRestClient;
 
+    @Lazy
+    private final TokenCache tokenCache;
+
+    @Lazy
+    private final JwtVerifier jwtVerifier;
 
+
+    /**
+     *    Returns the {@link Authentication} related with the given token. If {@link SecurityConfiguration#getAuthenticationMode()}
+     * is {@link AuthenticationMode#LOCAL} and the token can be verified by {@link JwtVerifier}, no remote call is sent.
+     * Otherwise, the security server is invoked only if the token was not found in {@link TokenCache}.
+     *
+     * @param authToken
+     *    Token to validate
+     *
+     * @return {@link Optional} of {@link Authentication}
+     */
     public Optional<Authentication> authenticate(final String authToken) {
-        return getAuthenticationInformation(
-                securityConfiguration.getAuthenticationInformationWebService(),
-                authToken
-        )
-        .map(this::getFromUsernameAuthoritiesDto);
+        if (AuthenticationMode.LOCAL == securityConfiguration.getAuthenticationMode() &&
+                jwtVerifier.isVerifiable(authToken)) {
+            return jwtVerifier.verify(authToken)
+                    .map(this::getFromUsernameAuthoritiesDto);
+        }
+        return tokenCache.get(authToken)
+                .or(() ->
+                        getAuthenticationInformation(
+                                securityConfiguration.getAuthenticationInformationWebService(),
+                                authToken
+                        )
+                        .map(usernameAuthorities -> {
+                            tokenCache.put(authToken, usernameAuthorities);
+                            return usernameAuthorities;
+                        })
+                )
+                .map(this::getFromUsernameAuthoritiesDto);
     }
 
 
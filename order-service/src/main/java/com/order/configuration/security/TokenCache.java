@@ -0,0 +1,146 @@
+package com.order.configuration.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.order.dto.UsernameAuthoritiesDto;
+import com.spring5microservices.common.cache.ExpirationTimeExpiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.spring5microservices.common.util.DigestUtil.sha256;
+import static java.util.Objects.isNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Bounded in-memory cache of the authorization information returned by the security server, avoiding a remote call
+ * for every request that includes an already validated token.
+ * <p>
+ *    Tokens are not stored as they are but as a digest of them, and every entry expires when the first of these events
+ * happens:
+ * <ul>
+ *   <li>The token expires ({@link UsernameAuthoritiesDto#getExpiration()})</li>
+ *   <li>{@link SecurityConfiguration#getTokenCacheTimeToLiveInSeconds()} seconds have passed since it was stored</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class TokenCache {
+
+    public static final String CACHE_NAME = "tokenCache";
+
+    private final Cache<ByteBuffer, UsernameAuthoritiesDto> cache;
+
+    private final Clock clock;
+
+
+    public TokenCache(final SecurityConfiguration securityConfiguration,
+                      final MeterRegistry meterRegistry) {
+        this(securityConfiguration, meterRegistry, Clock.systemUTC());
+    }
+
+
+    TokenCache(final SecurityConfiguration securityConfiguration,
+               final MeterRegistry meterRegistry,
+               final Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(securityConfiguration.getTokenCacheMaximumSize())
+                .expireAfter(
+                        new ExpirationTimeExpiry<ByteBuffer, UsernameAuthoritiesDto>(
+                                value -> ofNullable(value.getExpiration())
+                                        .map(Instant::ofEpochSecond)
+                                        .orElse(null),
+                                Duration.ofSeconds(
+                                        securityConfiguration.getTokenCacheTimeToLiveInSeconds()
+                                ),
+                                clock
+                        )
+                )
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+
+    /**
+     * Returns the authorization information related with the given {@code token}, if it was stored and has not expired.
+     *
+     * @param token
+     *    Token to search
+     *
+     * @return {@link Optional} of {@link UsernameAuthoritiesDto}
+     */
+    public Optional<UsernameAuthoritiesDto> get(final String token) {
+        if (isNull(token)) {
+            return empty();
+        }
+        return ofNullable(
+                cache.getIfPresent(
+                        sha256(token)
+                )
+        );
+    }
+
+
+    /**
+     *    Stores the authorization information related with the given {@code token}. Expired tokens are not stored,
+     * and invalid parameters are ignored.
+     *
+     * @param token
+     *    Token to store
+     * @param usernameAuthoritiesDto
+     *    {@link UsernameAuthoritiesDto} returned by the security server for {@code token}
+     */
+    public void put(final String token,
+                    final UsernameAuthoritiesDto usernameAuthoritiesDto) {
+        if (isNull(token) || isNull(usernameAuthoritiesDto) || isExpired(usernameAuthoritiesDto)) {
+            return;
+        }
+        cache.put(
+                sha256(token),
+                usernameAuthoritiesDto
+        );
+    }
+
+
+    /**
+     * Removes the given {@code token}, for example when it has been revoked.
+     *
+     * @param token
+     *    Token to remove
+     */
+    public void invalidate(final String token) {
+        if (isNull(token)) {
+            return;
+        }
+        cache.invalidate(
+                sha256(token)
+        );
+    }
+
+
+    /**
+     * Removes all stored tokens.
+     */
+    public void invalidateAll() {
+        log.info("Removing all tokens stored in the cache");
+        cache.invalidateAll();
+    }
+
+
+    private boolean isExpired(final UsernameAuthoritiesDto usernameAuthoritiesDto) {
+        return ofNullable(usernameAuthoritiesDto.getExpiration())
+                .map(exp -> exp <= clock.instant().getEpochSecond())
+                .orElse(false);
+    }
+
+}
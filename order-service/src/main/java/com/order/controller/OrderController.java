@@ -1,14 +1,22 @@
 package com.order.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.order.annotation.RoleAdmin;
 import com.order.annotation.RoleAdminOrUser;
 import com.order.configuration.rest.RestRoutes;
+import com.order.dto.OrderBulkResultDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
+import com.order.service.OrderBulkService;
 import com.order.service.OrderService;
+import com.order.util.OrderPageCursorUtil;
+import com.spring5microservices.common.collection.tuple.Tuple2;
 import com.spring5microservices.common.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +24,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,17 +35,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static java.lang.String.format;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 /**
  * Rest services to work with {@link Order}
@@ -48,9 +70,19 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Validated
 public class OrderController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_BULK_SIZE = 10000;
+
     @Lazy
     private final OrderService service;
 
+    @Lazy
+    private final OrderBulkService bulkService;
+
+    @Lazy
+    private final ObjectMapper objectMapper;
+
 
     /**
      * Used to create a new {@link OrderDto}
@@ -126,6 +158,69 @@ public class OrderController {
     }
 
 
+    /**
+     *    Used to create several new {@link OrderDto}s in only one request. Every {@link OrderDto} is validated on its own,
+     * so the invalid ones do not stop the creation of the remaining ones.
+     *
+     * @param orderDtos
+     *    {@link List} of {@link OrderDto}s to create
+     *
+     * @return {@link HttpStatus#OK} and one {@link OrderBulkResultDto} by every given {@link OrderDto}, in the same order
+     */
+    @Operation(
+            summary = "Create several orders",
+            description = "Create several orders, returning the result of every one of them (only allowed to user with role admin)"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "The result of the creation of every given order",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = OrderBulkResultDto.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "There was a problem in the given request, the given parameters have not passed the required validations",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "The user has not authorization to execute this request or provided authorization has expired",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "There was an internal problem in the server",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(RestRoutes.ORDER.BULK)
+    @RoleAdmin
+    public ResponseEntity<List<OrderBulkResultDto>> createAll(@RequestBody @Size(min = 1, max = MAX_BULK_SIZE) final List<OrderDto> orderDtos) {
+        log.info(
+                format("Creating %d orders",
+                        orderDtos.size())
+        );
+        return new ResponseEntity<>(
+                bulkService.createAll(orderDtos),
+                OK
+        );
+    }
+
+
     /**
      * Return the {@link OrderDto} and its {@link OrderLineDto} information of the given {@link OrderDto#getId()}.
      *
@@ -200,6 +295,169 @@ public class OrderController {
     }
 
 
+    /**
+     *    Return a page of {@link OrderDto}s with their {@link OrderLineDto}s, ordered by {@link Order#getCreated()} desc,
+     * using keyset pagination: the next page is requested using the cursor returned in the previous one.
+     *
+     * @param after
+     *    Opaque cursor returned in the previous page, {@code null} to get the first one
+     * @param size
+     *    Number of {@link OrderDto}s included in the page
+     *
+     * @return if {@code after} is valid: {@link HttpStatus#OK} and {@link OrderPageDto} with the found orders
+     *         if {@code after} is not valid: {@link HttpStatus#BAD_REQUEST}
+     */
+    @Operation(
+            summary = "Find a page of orders ordered by created desc",
+            description = "Find a page of orders ordered by created desc using keyset pagination (only allowed to user with role admin/user)"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "The page of orders located after the given cursor",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = OrderPageDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "There was a problem in the given request, the given parameters have not passed the required validations"
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "The user has not authorization to execute this request or provided authorization has expired",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "There was an internal problem in the server",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(RestRoutes.ORDER.PAGE)
+    @Transactional(readOnly = true)
+    @RoleAdminOrUser
+    public ResponseEntity<OrderPageDto> findPageWithOrderLines(@RequestParam(required = false) final String after,
+                                                               @RequestParam(defaultValue = "20") @Positive @Max(MAX_PAGE_SIZE) final int size) {
+        log.info(
+                format("Searching page of orders after: %s with size: %d",
+                        after,
+                        size)
+        );
+        Optional<Tuple2<Timestamp, Integer>> afterCursor = OrderPageCursorUtil.decode(after);
+        if (null != after && afterCursor.isEmpty()) {
+            return new ResponseEntity<>(BAD_REQUEST);
+        }
+        return new ResponseEntity<>(
+                service.findPageOrderedByCreatedWithOrderLines(
+                        afterCursor.orElse(null),
+                        size
+                ),
+                OK
+        );
+    }
+
+
+    /**
+     *    Write as newline-delimited JSON every {@link OrderDto} with its {@link OrderLineDto}s created in the given range,
+     * ordered by {@link Order#getCreated()}. Every {@link OrderDto} is written as soon as it is read from database, so
+     * the used memory does not depend on the number of exported orders.
+     *
+     * @param from
+     *    {@link Order#getCreated()} lower limit (included)
+     * @param to
+     *    {@link Order#getCreated()} upper limit (excluded)
+     * @param response
+     *    {@link HttpServletResponse} used to write the found {@link OrderDto}s
+     *
+     * @throws IOException if there was a problem writing the response
+     */
+    @Operation(
+            summary = "Export the orders created in the given range",
+            description = "Export as newline-delimited JSON the orders created in the given range (only allowed to user with role admin)"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "The orders created in the given range, one by line",
+                            content = @Content(
+                                    mediaType = APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = OrderDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "There was a problem in the given request, the given parameters have not passed the required validations"
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "The user has not authorization to execute this request or provided authorization has expired",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "There was an internal problem in the server",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(value = RestRoutes.ORDER.EXPORT, produces = APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    @RoleAdmin
+    public void export(@RequestParam @DateTimeFormat(iso = DATE_TIME) final LocalDateTime from,
+                       @RequestParam @DateTimeFormat(iso = DATE_TIME) final LocalDateTime to,
+                       final HttpServletResponse response) throws IOException {
+        log.info(
+                format("Exporting orders created between: %s and: %s",
+                        from,
+                        to)
+        );
+        if (!from.isBefore(to)) {
+            response.setStatus(BAD_REQUEST.value());
+            return;
+        }
+        response.setStatus(OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        try (SequenceWriter writer = objectMapper.writerFor(OrderDto.class)
+                                                 .withRootValueSeparator("\n")
+                                                 .writeValues(response.getOutputStream())) {
+            long exported = service.exportOrderedByCreatedWithOrderLines(
+                    Timestamp.valueOf(from),
+                    Timestamp.valueOf(to),
+                    orderDto -> {
+                        try {
+                            writer.write(orderDto);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+            );
+            log.info(
+                    format("Exported %d orders created between: %s and: %s",
+                            exported,
+                            from,
+                            to)
+            );
+        }
+    }
+
+
     /**
      * Used to update an existing {@link OrderDto}
      *
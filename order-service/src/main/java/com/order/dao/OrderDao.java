@@ -12,27 +12,38 @@ import com.order.model.jooq.tables.records.OrderRecord;
 
 import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
 import org.simpleflatmapper.jdbc.JdbcMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toCollection;
 import static org.jooq.impl.DSL.denseRank;
+import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.orderBy;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 public class OrderDao extends ParentDao<OrderRecord, Order, Integer> {
 
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    // Number of rows read from database in every round-trip when the results are streamed
+    @Value("${database.fetchSize:" + DEFAULT_FETCH_SIZE + "}")
+    protected int fetchSize;
+
     /**
      * Create a new OrderDao with an attached configuration
      */
@@ -235,6 +246,150 @@ public class OrderDao extends ParentDao<OrderRecord, Order, Integer> {
     }
 
 
+    /**
+     *    Return a "page of {@link OrderDto}" (with its {@link OrderLineDto} and related {@link PizzaDto}), ordered by
+     * {@link Order#getCreated()} desc and {@link Order#getId()} desc, using keyset pagination: only the {@link Order}s
+     * located after the given ({@code afterCreated}, {@code afterId}) are read, so the cost of the query does not depend
+     * on how "deep" the requested page is.
+     *
+     * @param afterCreated
+     *    {@link Order#getCreated()} of the last element of the previous page. {@code null} to get the first one
+     * @param afterId
+     *    {@link Order#getId()} of the last element of the previous page. {@code null} to get the first one
+     * @param size
+     *    Number of {@link OrderDto}s included in every page
+     *
+     * @return {@link Set} of {@link OrderDto} ordered by {@link Order#getCreated()} desc and {@link Order#getId()} desc
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public Set<OrderDto> fetchKeysetPageToOrderDtoByIdWithOrderLineDto(final Timestamp afterCreated,
+                                                                       final Integer afterId,
+                                                                       final int size) {
+        if (0 >= size) {
+            return new LinkedHashSet<>();
+        }
+        try (ResultSet rs =
+                     getKeysetPageQuery(
+                             afterCreated,
+                             afterId,
+                             size
+                     )
+                     .fetchResultSet()) {
+
+            JdbcMapper<OrderDto> jdbcMapper = getJdbcMapper(OrderDto.class, "id", "order_lines_id", "pizza_id");
+            return jdbcMapper.stream(rs)
+                    .collect(
+                            toCollection(LinkedHashSet::new)
+                    );
+        } catch (Exception e) {
+            throw new DataAccessException(
+                    format("There was an error trying to find the orders after created: %s and id: %d with size: %d",
+                            afterCreated,
+                            afterId,
+                            size
+                    ),
+                    e
+            );
+        }
+    }
+
+
+    /**
+     *    Send to the given {@link Consumer} every {@link OrderDto} (with its {@link OrderLineDto} and related
+     * {@link PizzaDto}) created in the given range, ordered by {@link Order#getCreated()} and {@link Order#getId()}.
+     * <p>
+     *    The results are read using a forward-only cursor, fetching {@link OrderDao#fetchSize} rows in every round-trip,
+     * and every {@link OrderDto} is sent as soon as all its {@link OrderLineDto}s were read, so the used memory does not
+     * depend on the number of returned {@link OrderDto}s.
+     * <p>
+     *    PostgreSQL only uses the cursor inside a transaction, otherwise it loads the whole result in memory.
+     *
+     * @param from
+     *    {@link Order#getCreated()} lower limit (included)
+     * @param to
+     *    {@link Order#getCreated()} upper limit (excluded)
+     * @param consumer
+     *    {@link Consumer} that receives every found {@link OrderDto}
+     *
+     * @return number of {@link OrderDto}s sent to {@code consumer}
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public long streamToOrderDtoByCreatedWithOrderLineDto(final Timestamp from,
+                                                          final Timestamp to,
+                                                          final Consumer<OrderDto> consumer) {
+        if (null == from || null == to || null == consumer) {
+            return 0;
+        }
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+        try (ResultSet rs =
+                     getOrderWithLinesQuery()
+                             .where(ORDER.CREATED.ge(from))
+                             .and(ORDER.CREATED.lt(to))
+                             .orderBy(ORDER.CREATED, ORDER.ID)
+                             .fetchSize(fetchSize)
+                             .fetchResultSet()) {
+
+            // Rows are ordered by order, so the mapper returns every order once all its lines were read
+            JdbcMapper<OrderDto> jdbcMapper = getJdbcMapper(OrderDto.class, "id", "order_lines_id", "pizza_id");
+            Iterator<OrderDto> orders = jdbcMapper.iterator(rs);
+            long count = 0;
+            while (orders.hasNext()) {
+                consumer.accept(orders.next());
+                count++;
+            }
+            return count;
+
+        } catch (Exception e) {
+            throw new DataAccessException(
+                    format("There was an error trying to stream the orders created between: %s and: %s",
+                            from,
+                            to
+                    ),
+                    e
+            );
+        }
+    }
+
+
+    /**
+     *    Build the query used to get a page of {@link Order}s and its {@link OrderLine}s using keyset pagination. Only
+     * the identifiers of the {@link Order}s included in the page are filtered (using the index over
+     * ({@link Order#getCreated()}, {@link Order#getId()})), and then joined with their {@link OrderLine}s.
+     *
+     * @param afterCreated
+     *    {@link Order#getCreated()} of the last element of the previous page
+     * @param afterId
+     *    {@link Order#getId()} of the last element of the previous page
+     * @param size
+     *    Number of {@link Order}s included in the page
+     *
+     * @return {@link ResultQuery} with the query to execute
+     */
+    ResultQuery<Record10<Integer, String, Timestamp, Integer, Integer, Short, Double, Short, String, Double>> getKeysetPageQuery(final Timestamp afterCreated,
+                                                                                                                                   final Integer afterId,
+                                                                                                                                   final int size) {
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+
+        Condition afterCursor = null == afterCreated || null == afterId
+                ? noCondition()
+                : row(ORDER.CREATED, ORDER.ID).lt(afterCreated, afterId);
+
+        return getOrderWithLinesQuery()
+                .where(
+                        ORDER.ID.in(
+                                dsl.select(ORDER.ID)
+                                        .from(ORDER)
+                                        .where(afterCursor)
+                                        .orderBy(ORDER.CREATED.desc(), ORDER.ID.desc())
+                                        .limit(size)
+                        )
+                )
+                .orderBy(ORDER.CREATED.desc(), ORDER.ID.desc());
+    }
+
+
     /**
      * Build the query used to get the information related with {@link Order}s and its {@link OrderLine}s
      *
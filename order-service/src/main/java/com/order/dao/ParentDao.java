@@ -2,29 +2,51 @@ package com.order.dao;
 
 import com.order.model.IModel;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Record;
 import org.jooq.Table;
+import org.jooq.TableField;
 import org.jooq.UpdatableRecord;
 import org.jooq.impl.DAOImpl;
 import org.simpleflatmapper.jdbc.JdbcMapper;
 import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.jooq.impl.DSL.defaultValue;
+import static org.jooq.impl.DSL.generateSeries;
+import static org.jooq.impl.DSL.val;
 
 /**
  * Class used to share properties and methods among all existing Daos
  */
 public abstract class ParentDao<R extends UpdatableRecord<R>, P extends IModel, T> extends DAOImpl<R, P, T> {
 
+    // Default maximum number of models sent to the database in every batch statement
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
     // Used to execute SQL queries in database
     protected DSLContext dsl;
 
+    // Maximum number of models sent to the database in every batch statement
+    @Value("${database.batchSize:" + DEFAULT_BATCH_SIZE + "}")
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+
 
     protected ParentDao(Table<R> table, Class<P> type, DSLContext dslContext) {
         super(
@@ -85,7 +107,9 @@ public abstract class ParentDao<R extends UpdatableRecord<R>, P extends IModel,
 
 
     /**
-     * Store in database the given {@link Collection}.
+     *    Store in database the given {@link Collection}, using batches of {@link ParentDao#batchSize} elements. New
+     * models are inserted with multi-row {@code INSERT ... RETURNING} statements, so their generated identifiers are
+     * included in the given instances, and the existing ones are updated using JDBC batches.
      *
      * @param models
      *    {@link Collection} of objects to store in database
@@ -93,6 +117,30 @@ public abstract class ParentDao<R extends UpdatableRecord<R>, P extends IModel,
      * @return {@link List} with the "final version" of the given models
      */
     public List<P> saveAll(Collection<P> models) {
+        return saveAll(
+                models,
+                batchSize
+        );
+    }
+
+
+    /**
+     *    Store in database the given {@link Collection}, using batches of {@code batchSize} elements. New models are
+     * inserted with multi-row {@code INSERT ... RETURNING} statements, so their generated identifiers are included in
+     * the given instances, and the existing ones are updated using JDBC batches.
+     *
+     * @param models
+     *    {@link Collection} of objects to store in database
+     * @param batchSize
+     *    Maximum number of models sent to the database in every statement
+     *
+     * @return {@link List} with the "final version" of the given models
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not a positive value
+     */
+    public List<P> saveAll(Collection<P> models,
+                           final int batchSize) {
+        Assert.isTrue(0 < batchSize, "BatchSize must be a positive value");
         return ofNullable(models)
                        .map(m -> {
                            Map<Boolean, List<P>> insertAndUpdate =
@@ -101,22 +149,159 @@ public abstract class ParentDao<R extends UpdatableRecord<R>, P extends IModel,
                                                    partitioningBy(IModel::isNew)
                                            );
 
-                           List<P> toInsert = insertAndUpdate.get(true);
-                           if (null != toInsert) {
-                               insert(toInsert);
-                           } else {
-                               toInsert = new ArrayList<>();
+                           List<P> toInsert = ofNullable(insertAndUpdate.get(true))
+                                   .orElseGet(ArrayList::new);
+                           List<P> toUpdate = ofNullable(insertAndUpdate.get(false))
+                                   .orElseGet(ArrayList::new);
+
+                           for (int i = 0; i < toInsert.size(); i += batchSize) {
+                               batchInsert(
+                                       toInsert.subList(i, Math.min(i + batchSize, toInsert.size()))
+                               );
                            }
-                           List<P> toUpdate = insertAndUpdate.get(false);
-                           if (null != toUpdate) {
-                               update(toUpdate);
-                           } else {
-                               toUpdate = new ArrayList<>();
+                           for (int i = 0; i < toUpdate.size(); i += batchSize) {
+                               batchUpdate(
+                                       toUpdate.subList(i, Math.min(i + batchSize, toUpdate.size()))
+                               );
                            }
-                           toInsert.addAll(toUpdate);
-                           return toInsert;
+                           List<P> result = new ArrayList<>(toInsert);
+                           result.addAll(toUpdate);
+                           return result;
                        })
                        .orElseGet(ArrayList::new);
     }
 
+
+    /**
+     *    Insert the given models using only one multi-row {@code INSERT ... RETURNING} statement, including in every
+     * model the values stored in database (like its generated identifier).
+     * <p>
+     *    The identifiers are got from the database before the insert, so every returned row is matched with its model
+     * by primary key, because the order of the {@code RETURNING} rows is not guaranteed. Only the columns with value
+     * in some model are included, using {@code DEFAULT} for the models without it, to not overwrite the database
+     * defaults with {@code null}.
+     *
+     * @param models
+     *    {@link List} of new models to insert
+     */
+    private void batchInsert(final List<P> models) {
+        if (models.isEmpty()) {
+            return;
+        }
+        List<R> records = models.stream()
+                .map(m -> dsl.newRecord(getTable(), m))
+                .collect(toList());
+
+        ofNullable(getTable().getIdentity())
+                .ifPresent(tableIdentity ->
+                        assignIdentities(records, tableIdentity)
+                );
+
+        List<Field<?>> insertFields = Arrays.stream(getTable().fields())
+                .filter(f ->
+                        records.stream()
+                                .anyMatch(r -> null != r.get(f))
+                )
+                .collect(toList());
+
+        InsertValuesStepN<R> insert = dsl.insertInto(
+                getTable(),
+                insertFields
+        );
+        for (R record : records) {
+            insert = insert.values(
+                    insertFields.stream()
+                            .map(f -> valueOrDefault(record, f))
+                            .collect(toList())
+            );
+        }
+        Map<Record, R> insertedByKey = insert.returning()
+                .fetch()
+                .stream()
+                .collect(
+                        toMap(UpdatableRecord::key, identity())
+                );
+
+        for (int i = 0; i < models.size(); i++) {
+            P model = models.get(i);
+            ofNullable(insertedByKey.get(records.get(i).key()))
+                    .ifPresent(inserted ->
+                            inserted.into(model)
+                    );
+        }
+    }
+
+
+    /**
+     *    Include in the given {@code records} without value in the {@link Identity} column a new one, got from its
+     * database sequence with only one query.
+     *
+     * @param records
+     *    {@link List} of records to insert
+     * @param identity
+     *    {@link Identity} of {@link ParentDao#getTable()}
+     *
+     * @throws IllegalStateException if the {@link Identity} column has no database default to generate its values
+     */
+    private <I> void assignIdentities(final List<R> records,
+                                      final Identity<R, I> identity) {
+        TableField<R, I> identityField = identity.getField();
+        List<R> withoutIdentity = records.stream()
+                .filter(r -> null == r.get(identityField))
+                .collect(toList());
+        if (withoutIdentity.isEmpty()) {
+            return;
+        }
+        Field<I> nextValue = ofNullable(identityField.getDataType().defaultValue())
+                .orElseThrow(() ->
+                        new IllegalStateException(
+                                format("The identity: %s has no default value to generate new ones",
+                                        identityField.getName())
+                        )
+                );
+        List<I> newIdentities = dsl.select(nextValue)
+                .from(generateSeries(1, withoutIdentity.size()))
+                .fetch(0, identityField.getType());
+
+        for (int i = 0; i < withoutIdentity.size(); i++) {
+            withoutIdentity.get(i)
+                    .set(identityField, newIdentities.get(i));
+        }
+    }
+
+
+    private static <T> Field<T> valueOrDefault(final Record record,
+                                               final Field<T> field) {
+        return ofNullable(record.get(field))
+                .map(value -> val(value, field))
+                .orElseGet(() -> defaultValue(field));
+    }
+
+
+    /**
+     * Update the given models sending all of them in only one JDBC batch.
+     *
+     * @param models
+     *    {@link List} of existing models to update
+     */
+    private void batchUpdate(final List<P> models) {
+        if (models.isEmpty()) {
+            return;
+        }
+        List<R> records = models.stream()
+                .map(m -> {
+                    R record = dsl.newRecord(getTable(), m);
+                    ofNullable(getTable().getPrimaryKey())
+                            .ifPresent(pk ->
+                                    pk.getFields()
+                                            .forEach(f -> record.changed(f, false))
+                            );
+                    return record;
+                })
+                .collect(toList());
+
+        dsl.batchUpdate(records)
+                .execute();
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@Schema(description = "Result of the creation of one of the orders included in a bulk request")
+public class OrderBulkResultDto {
+
+    @Schema(description = "Position of the order in the request", requiredMode = RequiredMode.REQUIRED)
+    private int index;
+
+    @Schema(description = "Unique identifier of the order")
+    private String code;
+
+    @Schema(description = "Internal unique identifier of the created order, null if it was not created")
+    private Integer id;
+
+    @Schema(description = "Result of the creation", requiredMode = RequiredMode.REQUIRED)
+    private Status status;
+
+    @Schema(description = "Problems found creating the order")
+    private List<String> errors;
+
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+}
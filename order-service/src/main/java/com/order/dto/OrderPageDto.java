@@ -0,0 +1,26 @@
+package com.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@Schema(description = "Page of orders obtained using keyset pagination")
+public class OrderPageDto {
+
+    @Schema(description = "Orders included in the page, ordered by created desc", requiredMode = RequiredMode.REQUIRED)
+    private List<OrderDto> orders;
+
+    @Schema(description = "Opaque cursor used to request the next page, null if there are no more pages")
+    private String nextCursor;
+
+}
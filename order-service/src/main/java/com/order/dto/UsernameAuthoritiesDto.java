@@ -1,5 +1,6 @@
 package com.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +15,7 @@ import java.util.Set;
 @AllArgsConstructor
 @EqualsAndHashCode(of = {"username"})
 @Data
+@JsonIgnoreProperties(ignoreUnknown = true)
 @NoArgsConstructor
 public class UsernameAuthoritiesDto {
 
@@ -21,4 +23,8 @@ public class UsernameAuthoritiesDto {
     private String username;
     private Set<String> authorities;
 
+    // Expiration time of the token, in seconds since the epoch
+    @JsonProperty("exp")
+    private Long expiration;
+
 }
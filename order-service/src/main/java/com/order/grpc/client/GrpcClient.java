@@ -6,14 +6,26 @@ import com.spring5microservices.grpc.IngredientServiceGrpc;
 import com.order.grpc.configuration.GrpcConfiguration;
 import com.spring5microservices.grpc.security.BasicCredential;
 import io.grpc.CallCredentials;
+import io.grpc.Deadline;
 import io.grpc.Grpc;
 import io.grpc.InsecureChannelCredentials;
 import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
@@ -28,6 +40,9 @@ import static java.util.Objects.nonNull;
 @Log4j2
 public class GrpcClient {
 
+    public static final String CALLS_METRIC = "grpc.client.calls";
+    public static final String IN_FLIGHT_CALLS_METRIC = "grpc.client.calls.inflight";
+
     @Lazy
     private final GrpcConfiguration grpcConfiguration;
 
@@ -37,43 +52,159 @@ public class GrpcClient {
     @Lazy
     private final RequestIdInterceptor requestIdInterceptor;
 
-    private final ManagedChannel channel;
+    private final MeterRegistry meterRegistry;
+
+    private final List<ManagedChannel> channels;
+
+    private final List<IngredientServiceGrpc.IngredientServiceBlockingStub> ingredientServiceGrpcs;
+
+    private final List<IngredientServiceGrpc.IngredientServiceStub> ingredientServiceAsyncGrpcs;
 
-    private final IngredientServiceGrpc.IngredientServiceBlockingStub ingredientServiceGrpc;
+    // Used to spread the calls over the existing channels using round-robin
+    private final AtomicInteger nextChannel;
+
+    // Limits the number of asynchronous calls waiting for a response
+    private final Semaphore inFlightCalls;
 
 
     public GrpcClient(final GrpcConfiguration grpcConfiguration,
                       final SecurityConfiguration securityConfiguration,
-                      final RequestIdInterceptor requestIdInterceptor) {
+                      final RequestIdInterceptor requestIdInterceptor,
+                      final MeterRegistry meterRegistry) {
         this.grpcConfiguration = grpcConfiguration;
         this.securityConfiguration = securityConfiguration;
         this.requestIdInterceptor = requestIdInterceptor;
-        channel = buildChannel(
-                grpcConfiguration.getServerHost(),
-                grpcConfiguration.getServerPort()
+        this.meterRegistry = meterRegistry;
+        this.channels = new ArrayList<>();
+        this.ingredientServiceGrpcs = new ArrayList<>();
+        this.ingredientServiceAsyncGrpcs = new ArrayList<>();
+        this.nextChannel = new AtomicInteger();
+        this.inFlightCalls = new Semaphore(
+                Math.max(1, grpcConfiguration.getClientMaxInFlightCalls())
         );
-        this.ingredientServiceGrpc = buildIngredientService();
+        final CallCredentials callCredentials = buildCallCredentials();
+        for (int i = 0; i < Math.max(1, grpcConfiguration.getClientChannelPoolSize()); i++) {
+            ManagedChannel channel = buildChannel(
+                    grpcConfiguration.getServerHost(),
+                    grpcConfiguration.getServerPort()
+            );
+            channels.add(channel);
+            ingredientServiceGrpcs.add(
+                    buildIngredientService(channel, callCredentials)
+            );
+            ingredientServiceAsyncGrpcs.add(
+                    buildIngredientAsyncService(channel, callCredentials)
+            );
+        }
+        registerInFlightCallsGauge();
     }
 
 
     /**
      *    Returns a synchronous stub based on one created by {@link this#buildIngredientService}. This method is the
-     * public provider of ingredient-related functionality, adding a deadline in seconds to the new requests is that
-     * configuration value was set in {@link GrpcConfiguration#getClientAwaitTerminationInSeconds()} other than 0.
+     * public provider of ingredient-related functionality, adding the deadline returned by {@link this#buildCallsDeadline()}
+     * to the new requests.
+     * <p>
+     * Every invocation returns a stub related with the next channel of the pool.
      *
      * @return {@link IngredientServiceGrpc.IngredientServiceBlockingStub}
      */
     public IngredientServiceGrpc.IngredientServiceBlockingStub getIngredientServiceGrpc() {
-        int withDeadlineAfterInSeconds = grpcConfiguration.getClientAwaitTerminationInSeconds();
-        if (0 < withDeadlineAfterInSeconds) {
-            return ingredientServiceGrpc
-                    .withDeadlineAfter(
-                            withDeadlineAfterInSeconds,
-                            TimeUnit.SECONDS
-                    );
-        } else {
-            return ingredientServiceGrpc;
+        IngredientServiceGrpc.IngredientServiceBlockingStub ingredientServiceGrpc = ingredientServiceGrpcs.get(
+                nextChannelIndex()
+        );
+        Deadline deadline = buildCallsDeadline();
+        return nonNull(deadline)
+                ? ingredientServiceGrpc.withDeadline(deadline)
+                : ingredientServiceGrpc;
+    }
+
+
+    /**
+     *    Builds the {@link Deadline} that should be shared by all the calls sent to resolve the current request, using
+     * the value configured in {@link GrpcConfiguration#getClientWithDeadlineAfterInSeconds()}.
+     *
+     * @return {@link Deadline} if {@link GrpcConfiguration#getClientWithDeadlineAfterInSeconds()} is greater than 0,
+     *         {@code null} otherwise
+     */
+    public Deadline buildCallsDeadline() {
+        int withDeadlineAfterInSeconds = grpcConfiguration.getClientWithDeadlineAfterInSeconds();
+        return 0 < withDeadlineAfterInSeconds
+                ? Deadline.after(withDeadlineAfterInSeconds, TimeUnit.SECONDS)
+                : null;
+    }
+
+
+    /**
+     *    Sends an asynchronous server-streaming call using the next channel of the pool, without blocking the current
+     * thread. The returned {@link CompletableFuture} will contain all the received messages when the server completes
+     * the stream.
+     * <p>
+     *    If the maximum number of in-flight calls ({@link GrpcConfiguration#getClientMaxInFlightCalls()}) was reached,
+     * the call is not sent and the returned {@link CompletableFuture} fails with {@link Status#RESOURCE_EXHAUSTED}.
+     *
+     * @param methodName
+     *    Name of the invoked method, used in the metrics
+     * @param deadline
+     *    {@link Deadline} of the call. If it is {@code null}, the one returned by {@link this#buildCallsDeadline()} will be used
+     * @param call
+     *    {@link BiConsumer} that invokes the desired method of the given stub with the given {@link StreamObserver}
+     *
+     * @return {@link CompletableFuture} with the received messages
+     */
+    public <T> CompletableFuture<List<T>> asyncServerStreamingCall(final String methodName,
+                                                                  final Deadline deadline,
+                                                                  final BiConsumer<IngredientServiceGrpc.IngredientServiceStub, StreamObserver<T>> call) {
+        final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        if (!inFlightCalls.tryAcquire()) {
+            result.completeExceptionally(
+                    Status.RESOURCE_EXHAUSTED
+                            .withDescription(
+                                    format("The maximum number of in-flight gRPC calls: %d was reached",
+                                            grpcConfiguration.getClientMaxInFlightCalls())
+                            )
+                            .asRuntimeException()
+            );
+            return result;
+        }
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final List<T> responses = new ArrayList<>();
+        IngredientServiceGrpc.IngredientServiceStub stub = ingredientServiceAsyncGrpcs.get(
+                nextChannelIndex()
+        );
+        final Deadline finalDeadline = nonNull(deadline)
+                ? deadline
+                : buildCallsDeadline();
+        if (nonNull(finalDeadline)) {
+            stub = stub.withDeadline(finalDeadline);
+        }
+        try {
+            call.accept(
+                    stub,
+                    new StreamObserver<>() {
+                        @Override
+                        public void onNext(T value) {
+                            responses.add(value);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            finishCall(methodName, sample, Status.fromThrowable(t));
+                            result.completeExceptionally(t);
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            finishCall(methodName, sample, Status.OK);
+                            result.complete(responses);
+                        }
+                    }
+            );
+        } catch (Exception e) {
+            finishCall(methodName, sample, Status.fromThrowable(e));
+            result.completeExceptionally(e);
         }
+        return result;
     }
 
 
@@ -81,16 +212,17 @@ public class GrpcClient {
      * Start sending requests
      */
     public void start() {
-        if (nonNull(channel)) {
+        if (!channels.isEmpty()) {
             log.info(
-                    format("gRPC client is starting. Configured server located on host: %s and port: %d",
+                    format("gRPC client is starting with %d channels. Configured server located on host: %s and port: %d",
+                            channels.size(),
                             grpcConfiguration.getServerHost(),
                             grpcConfiguration.getServerPort()
                     )
             );
             addShutdownHook();
         } else {
-            log.error("gRPC client channel is null");
+            log.error("gRPC client has no channels");
         }
     }
 
@@ -98,16 +230,16 @@ public class GrpcClient {
     /**
      * Stop sending requests and shutdown resources.
      *
-     * @throws InterruptedException if there was a problem shutting down the channel
+     * @throws InterruptedException if there was a problem shutting down the channels
      */
     public void stop() throws InterruptedException {
-        if (nonNull(channel)) {
-            int awaitTerminationInSeconds = grpcConfiguration.getClientAwaitTerminationInSeconds();
-            channel.shutdown()
-                    .awaitTermination(
-                            awaitTerminationInSeconds,
-                            TimeUnit.SECONDS
-                    );
+        int awaitTerminationInSeconds = grpcConfiguration.getClientAwaitTerminationInSeconds();
+        channels.forEach(ManagedChannel::shutdown);
+        for (ManagedChannel channel : channels) {
+            channel.awaitTermination(
+                    awaitTerminationInSeconds,
+                    TimeUnit.SECONDS
+            );
         }
     }
 
@@ -135,12 +267,89 @@ public class GrpcClient {
      *    Returns a synchronous stub, which includes {@link CallCredentials} instance, to manage functionality
      * related with ingredients.
      *
+     * @param channel
+     *    {@link ManagedChannel} used by the stub
+     * @param callCredentials
+     *    {@link CallCredentials} included in every call
+     *
      * @return {@link IngredientServiceGrpc.IngredientServiceBlockingStub}
      */
-    private IngredientServiceGrpc.IngredientServiceBlockingStub buildIngredientService() {
+    private IngredientServiceGrpc.IngredientServiceBlockingStub buildIngredientService(final ManagedChannel channel,
+                                                                                      final CallCredentials callCredentials) {
         return IngredientServiceGrpc
                 .newBlockingStub(channel)
-                .withCallCredentials(buildCallCredentials());
+                .withCallCredentials(callCredentials);
+    }
+
+
+    /**
+     *    Returns an asynchronous stub, which includes {@link CallCredentials} instance, to manage functionality
+     * related with ingredients.
+     *
+     * @param channel
+     *    {@link ManagedChannel} used by the stub
+     * @param callCredentials
+     *    {@link CallCredentials} included in every call
+     *
+     * @return {@link IngredientServiceGrpc.IngredientServiceStub}
+     */
+    private IngredientServiceGrpc.IngredientServiceStub buildIngredientAsyncService(final ManagedChannel channel,
+                                                                                   final CallCredentials callCredentials) {
+        return IngredientServiceGrpc
+                .newStub(channel)
+                .withCallCredentials(callCredentials);
+    }
+
+
+    /**
+     * Returns the index of the channel that should be used by the next call.
+     *
+     * @return index in {@link GrpcClient#channels}
+     */
+    private int nextChannelIndex() {
+        return Math.floorMod(
+                nextChannel.getAndIncrement(),
+                channels.size()
+        );
+    }
+
+
+    /**
+     * Releases the resources related with a finished asynchronous call and records its latency.
+     *
+     * @param methodName
+     *    Name of the invoked method
+     * @param sample
+     *    {@link Timer.Sample} started when the call was sent
+     * @param status
+     *    {@link Status} with the result of the call
+     */
+    private void finishCall(final String methodName,
+                            final Timer.Sample sample,
+                            final Status status) {
+        inFlightCalls.release();
+        sample.stop(
+                Timer.builder(CALLS_METRIC)
+                        .description("Latency of the asynchronous gRPC calls")
+                        .tag("method", methodName)
+                        .tag("status", status.getCode().name())
+                        .register(meterRegistry)
+        );
+    }
+
+
+    /**
+     * Exposes the number of asynchronous calls waiting for a response.
+     */
+    private void registerInFlightCallsGauge() {
+        final int maxInFlightCalls = Math.max(1, grpcConfiguration.getClientMaxInFlightCalls());
+        Gauge.builder(
+                        IN_FLIGHT_CALLS_METRIC,
+                        inFlightCalls,
+                        s -> maxInFlightCalls - s.availablePermits()
+                )
+                .description("Number of asynchronous gRPC calls waiting for a response")
+                .register(meterRegistry);
     }
 
 
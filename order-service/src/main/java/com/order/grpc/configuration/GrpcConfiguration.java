@@ -14,6 +14,15 @@ public class GrpcConfiguration {
     @Value("${grpc.client.withDeadlineAfterInSeconds}")
     private int clientWithDeadlineAfterInSeconds;
 
+    @Value("${grpc.client.channelPoolSize:1}")
+    private int clientChannelPoolSize;
+
+    @Value("${grpc.client.maxInFlightCalls:100}")
+    private int clientMaxInFlightCalls;
+
+    @Value("${grpc.client.maxPizzaIdsPerCall:20}")
+    private int clientMaxPizzaIdsPerCall;
+
     @Value("${grpc.server.host}")
     private String serverHost;
 
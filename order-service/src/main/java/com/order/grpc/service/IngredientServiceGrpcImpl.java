@@ -2,19 +2,32 @@ package com.order.grpc.service;
 
 import com.spring5microservices.grpc.IngredientResponse;
 import com.spring5microservices.grpc.IngredientServiceGrpc;
+import com.spring5microservices.grpc.PizzaIngredientResponse;
 import com.spring5microservices.grpc.PizzaRequest;
+import com.spring5microservices.grpc.PizzasRequest;
 import com.order.grpc.client.GrpcClient;
+import com.order.grpc.configuration.GrpcConfiguration;
 import com.spring5microservices.common.util.CollectionUtil;
+import io.grpc.Deadline;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 @AllArgsConstructor
 @Log4j2
@@ -24,6 +37,9 @@ public class IngredientServiceGrpcImpl {
     @Lazy
     private final GrpcClient grpcClient;
 
+    @Lazy
+    private final GrpcConfiguration grpcConfiguration;
+
 
     public List<IngredientResponse> findByPizzaId(Short pizzaId) {
         log.info(
@@ -46,6 +62,100 @@ public class IngredientServiceGrpcImpl {
     }
 
 
+    /**
+     *    Returns the ingredients of all given pizza's identifiers, grouped by pizza's identifier. Repeated identifiers
+     * are only requested once, sending at most {@link GrpcConfiguration#getClientMaxPizzaIdsPerCall()} identifiers per
+     * request. When several requests are required, all of them are sent in parallel and share the same {@link Deadline},
+     * so the whole batch is bounded by it.
+     *
+     * @param pizzaIds
+     *    {@link Collection} of pizza's identifiers
+     *
+     * @return {@link Map} with pizza's identifier as key and its {@link IngredientResponse}s as value
+     *
+     * @throws io.grpc.StatusRuntimeException if any of the requests failed
+     */
+    public Map<Short, List<IngredientResponse>> findByPizzaIds(final Collection<Short> pizzaIds) {
+        log.info(
+                format("Sending a request to get the ingredients contained in the pizza's identifiers: %s",
+                        pizzaIds)
+        );
+        if (null == pizzaIds || pizzaIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        final Deadline deadline = grpcClient.buildCallsDeadline();
+        final List<CompletableFuture<Map<Short, List<IngredientResponse>>>> futures = CollectionUtil.split(
+                        pizzaIds.stream()
+                                .filter(Objects::nonNull)
+                                .collect(toCollection(LinkedHashSet::new)),
+                        Math.max(1, grpcConfiguration.getClientMaxPizzaIdsPerCall())
+                )
+                .stream()
+                .map(ids ->
+                        findByPizzaIdsAsync(ids, deadline)
+                )
+                .collect(toList());
+        try {
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture[0])
+            )
+            .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        Map<Short, List<IngredientResponse>> ingredientsByPizzaId = new HashMap<>();
+        futures.forEach(future ->
+                ingredientsByPizzaId.putAll(
+                        future.join()
+                )
+        );
+        return ingredientsByPizzaId;
+    }
+
+
+    /**
+     *    Returns the ingredients of the given pizza's identifiers using only one request, without blocking the current
+     * thread, so several requests can be sent in parallel.
+     *
+     * @param pizzaIds
+     *    {@link Collection} of not repeated pizza's identifiers
+     * @param deadline
+     *    {@link Deadline} of the request. If it is {@code null}, the configured one will be used
+     *
+     * @return {@link CompletableFuture} with pizza's identifier as key and its {@link IngredientResponse}s as value
+     */
+    private CompletableFuture<Map<Short, List<IngredientResponse>>> findByPizzaIdsAsync(final Collection<Short> pizzaIds,
+                                                                                        final Deadline deadline) {
+        PizzasRequest request = PizzasRequest.newBuilder()
+                .addAllIds(
+                        pizzaIds.stream()
+                                .map(Short::intValue)
+                                .collect(toList())
+                )
+                .build();
+
+        return grpcClient.<PizzaIngredientResponse>asyncServerStreamingCall(
+                        "getIngredientsByPizzaIds",
+                        deadline,
+                        (stub, observer) -> stub.getIngredientsByPizzaIds(request, observer)
+                )
+                .thenApply(responses -> {
+                    Map<Short, List<IngredientResponse>> ingredientsByPizzaId = new HashMap<>();
+                    responses.forEach(response ->
+                            ingredientsByPizzaId.computeIfAbsent(
+                                    (short) response.getPizzaId(),
+                                    id -> new ArrayList<>()
+                            )
+                            .add(response.getIngredient())
+                    );
+                    return ingredientsByPizzaId;
+                });
+    }
+
+
     private IngredientServiceGrpc.IngredientServiceBlockingStub getIngredientServiceGrpc() {
         return grpcClient.getIngredientServiceGrpc();
     }
@@ -57,9 +57,26 @@ public class IngredientService {
 
 
 
+    /**
+     *    Gets the ingredients of the given pizza's identifiers using as few gRPC requests as possible, sent in parallel.
+     * Every pizza's identifier is requested once, however its ingredients are included as many times as it appears in
+     * {@code pizzaIds}.
+     *
+     * @param pizzaIds
+     *    {@link Collection} of pizza's identifiers, one per order line
+     *
+     * @return {@link List} of {@link IngredientResponse}
+     */
     private List<IngredientResponse> findByPizzaIds(final Collection<Short> pizzaIds) {
+        Map<Short, List<IngredientResponse>> ingredientsByPizzaId = ingredientServiceGrpc.findByPizzaIds(pizzaIds);
         return pizzaIds.stream()
-                .flatMap(id -> ingredientServiceGrpc.findByPizzaId(id).stream())
+                .flatMap(id ->
+                        ingredientsByPizzaId.getOrDefault(
+                                id,
+                                List.of()
+                        )
+                        .stream()
+                )
                 .collect(toList());
     }
 
@@ -0,0 +1,337 @@
+package com.order.service;
+
+import com.order.dao.OrderDao;
+import com.order.dao.OrderLineDao;
+import com.order.dto.OrderBulkResultDto;
+import com.order.dto.OrderDto;
+import com.order.model.Order;
+import com.order.model.OrderLine;
+import com.order.util.converter.OrderConverter;
+import com.order.util.converter.OrderLineConverter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Manages the creation of several {@link Order}s in only one request.
+ */
+@Log4j2
+@Service
+public class OrderBulkService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    public static final String NOT_STORED_ERROR = "The order could not be stored";
+
+    @Lazy
+    private final OrderDao orderDao;
+
+    @Lazy
+    private final OrderLineDao orderLineDao;
+
+    @Lazy
+    private final OrderConverter orderConverter;
+
+    @Lazy
+    private final OrderLineConverter orderLineConverter;
+
+    @Lazy
+    private final Validator validator;
+
+    @Lazy
+    private final TransactionTemplate transactionTemplate;
+
+    // Maximum number of orders stored in every transaction
+    private final int chunkSize;
+
+
+    public OrderBulkService(final OrderDao orderDao,
+                            final OrderLineDao orderLineDao,
+                            final OrderConverter orderConverter,
+                            final OrderLineConverter orderLineConverter,
+                            final Validator validator,
+                            final TransactionTemplate transactionTemplate,
+                            @Value("${orders.bulk.chunkSize:" + DEFAULT_CHUNK_SIZE + "}") final int chunkSize) {
+        Assert.isTrue(0 < chunkSize, "ChunkSize must be a positive value");
+        this.orderDao = orderDao;
+        this.orderLineDao = orderLineDao;
+        this.orderConverter = orderConverter;
+        this.orderLineConverter = orderLineConverter;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+
+    /**
+     *    Persist the given new {@link OrderDto}s and their {@link com.order.dto.OrderLineDto}s. The valid ones are stored
+     * in chunks of {@link OrderBulkService#chunkSize} orders, every chunk in its own transaction and using batched
+     * statements, so the number of round-trips does not depend on the number of orders.
+     * <p>
+     *    The orders whose code already exists, or that break a constraint of the database, are returned as
+     * {@link OrderBulkResultDto.Status#FAILED} without affecting the other ones of their chunk. If a chunk cannot be
+     * stored due to any other error, all its orders are returned as {@link OrderBulkResultDto.Status#FAILED}, but the
+     * remaining chunks are stored anyway.
+     *
+     * @param orderDtos
+     *    {@link List} of {@link OrderDto}s to create
+     *
+     * @return {@link List} of {@link OrderBulkResultDto}, one by every given {@link OrderDto} in the same order
+     */
+    public List<OrderBulkResultDto> createAll(final List<OrderDto> orderDtos) {
+        if (null == orderDtos || orderDtos.isEmpty()) {
+            return new ArrayList<>();
+        }
+        OrderBulkResultDto[] results = new OrderBulkResultDto[orderDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < orderDtos.size(); i++) {
+            OrderDto orderDto = orderDtos.get(i);
+            List<String> errors = validate(orderDto, codes);
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = buildResult(i, orderDto, null, OrderBulkResultDto.Status.INVALID, errors);
+            }
+        }
+        for (int i = 0; i < validIndexes.size(); i += chunkSize) {
+            createChunk(
+                    orderDtos,
+                    validIndexes.subList(i, Math.min(i + chunkSize, validIndexes.size())),
+                    results
+            );
+        }
+        return Arrays.asList(results);
+    }
+
+
+    /**
+     *    Store in only one transaction the {@link OrderDto}s located in the given positions. The ones whose code already
+     * belongs to a stored {@link Order} are not included, and if the transaction fails due to a constraint violation,
+     * the orders are stored one by one so only the wrong ones are returned as {@link OrderBulkResultDto.Status#FAILED}.
+     *
+     * @param orderDtos
+     *    {@link List} of all the {@link OrderDto}s to create
+     * @param indexes
+     *    Positions in {@code orderDtos} of the ones to store
+     * @param results
+     *    Where the result of every stored {@link OrderDto} will be included
+     */
+    private void createChunk(final List<OrderDto> orderDtos,
+                             final List<Integer> indexes,
+                             final OrderBulkResultDto[] results) {
+        List<Integer> newIndexes = excludeExistingCodes(orderDtos, indexes, results);
+        if (newIndexes.isEmpty()) {
+            return;
+        }
+        try {
+            store(orderDtos, newIndexes, results);
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn(
+                    format("There was a constraint violation creating a chunk of %d orders, so they will be created one by one",
+                            newIndexes.size()),
+                    e
+            );
+            for (int index : newIndexes) {
+                try {
+                    store(orderDtos, List.of(index), results);
+
+                } catch (Exception ex) {
+                    log.error(
+                            format("There was an error creating the order with code: %s",
+                                    orderDtos.get(index).getCode()),
+                            ex
+                    );
+                    results[index] = buildFailedResult(index, orderDtos.get(index));
+                }
+            }
+        } catch (Exception e) {
+            log.error(
+                    format("There was an error creating a chunk of %d orders",
+                            newIndexes.size()),
+                    e
+            );
+            for (int index : newIndexes) {
+                results[index] = buildFailedResult(index, orderDtos.get(index));
+            }
+        }
+    }
+
+
+    /**
+     * Return the given positions of {@code orderDtos} whose code does not belong to an already stored {@link Order}.
+     *
+     * @param orderDtos
+     *    {@link List} of all the {@link OrderDto}s to create
+     * @param indexes
+     *    Positions in {@code orderDtos} of the ones to verify
+     * @param results
+     *    Where the result of every {@link OrderDto} with an existing code will be included
+     *
+     * @return {@link List} with the positions of the {@link OrderDto}s that can be stored
+     */
+    private List<Integer> excludeExistingCodes(final List<OrderDto> orderDtos,
+                                               final List<Integer> indexes,
+                                               final OrderBulkResultDto[] results) {
+        Set<String> existingCodes = orderDao.findByCodes(
+                        indexes.stream()
+                                .map(i -> orderDtos.get(i).getCode())
+                                .toArray(String[]::new)
+                )
+                .stream()
+                .map(Order::getCode)
+                .collect(toSet());
+
+        List<Integer> newIndexes = new ArrayList<>();
+        for (int index : indexes) {
+            OrderDto orderDto = orderDtos.get(index);
+            if (existingCodes.contains(orderDto.getCode())) {
+                results[index] = buildResult(
+                        index,
+                        orderDto,
+                        null,
+                        OrderBulkResultDto.Status.FAILED,
+                        List.of(
+                                format("There is already an order with the code: %s",
+                                        orderDto.getCode())
+                        )
+                );
+            } else {
+                newIndexes.add(index);
+            }
+        }
+        return newIndexes;
+    }
+
+
+    /**
+     * Store in only one transaction the {@link OrderDto}s located in the given positions.
+     *
+     * @param orderDtos
+     *    {@link List} of all the {@link OrderDto}s to create
+     * @param indexes
+     *    Positions in {@code orderDtos} of the ones to store
+     * @param results
+     *    Where the result of every stored {@link OrderDto} will be included
+     *
+     * @throws DataAccessException if there was an error storing the orders, in which case none of them is stored
+     */
+    private void store(final List<OrderDto> orderDtos,
+                       final List<Integer> indexes,
+                       final OrderBulkResultDto[] results) {
+        List<Order> orders = transactionTemplate.execute(status -> {
+            List<Order> chunkOrders = indexes.stream()
+                    .map(i -> orderConverter.fromDtoToModel(orderDtos.get(i)))
+                    .collect(toList());
+            orderDao.saveAll(chunkOrders);
+
+            List<OrderLine> chunkOrderLines = new ArrayList<>();
+            for (int i = 0; i < indexes.size(); i++) {
+                chunkOrderLines.addAll(
+                        orderLineConverter.fromDtosToModels(
+                                orderDtos.get(indexes.get(i)).getOrderLines(),
+                                chunkOrders.get(i).getId()
+                        )
+                );
+            }
+            orderLineDao.saveAll(chunkOrderLines);
+            return chunkOrders;
+        });
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = buildResult(
+                    index,
+                    orderDtos.get(index),
+                    orders.get(i).getId(),
+                    OrderBulkResultDto.Status.CREATED,
+                    List.of()
+            );
+        }
+    }
+
+
+    /**
+     * Verifies the given {@link OrderDto} can be created.
+     *
+     * @param orderDto
+     *    {@link OrderDto} to verify
+     * @param codes
+     *    {@link OrderDto#getCode()} of the previous ones, used to detect duplicates in the same request
+     *
+     * @return {@link List} with the found problems, empty if {@code orderDto} is valid
+     */
+    private List<String> validate(final OrderDto orderDto,
+                                  final Set<String> codes) {
+        List<String> errors = new ArrayList<>();
+        if (null == orderDto) {
+            errors.add("The order cannot be null");
+            return errors;
+        }
+        for (ConstraintViolation<OrderDto> violation : validator.validate(orderDto)) {
+            errors.add(
+                    format("Error in path '%s' due to: %s",
+                            violation.getPropertyPath(),
+                            violation.getMessage())
+            );
+        }
+        if (null != orderDto.getId()) {
+            errors.add("Only new orders can be created, so id must be null");
+        }
+        if (null != orderDto.getCode() && !codes.add(orderDto.getCode())) {
+            errors.add(
+                    format("The code: %s is repeated in the request",
+                            orderDto.getCode())
+            );
+        }
+        return errors;
+    }
+
+
+    /**
+     * The details of the error are only logged, so neither the stored data nor the database schema are exposed.
+     */
+    private OrderBulkResultDto buildFailedResult(final int index,
+                                                 final OrderDto orderDto) {
+        return buildResult(
+                index,
+                orderDto,
+                null,
+                OrderBulkResultDto.Status.FAILED,
+                List.of(NOT_STORED_ERROR)
+        );
+    }
+
+
+    private OrderBulkResultDto buildResult(final int index,
+                                           final OrderDto orderDto,
+                                           final Integer id,
+                                           final OrderBulkResultDto.Status status,
+                                           final List<String> errors) {
+        return OrderBulkResultDto.builder()
+                .index(index)
+                .code(null == orderDto ? null : orderDto.getCode())
+                .id(id)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+
+}
@@ -3,16 +3,25 @@ package com.order.service;
 import com.order.dao.OrderDao;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
+import com.order.util.OrderPageCursorUtil;
+import com.order.util.SingleFlightCache;
 import com.order.util.converter.OrderConverter;
+import com.spring5microservices.common.collection.tuple.Tuple2;
 import lombok.AllArgsConstructor;
 import org.jooq.exception.DataAccessException;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static java.util.Optional.ofNullable;
 
@@ -29,9 +38,13 @@ public class OrderService {
     @Lazy
     private OrderLineService orderLineService;
 
+    @Lazy
+    private SingleFlightCache<Integer, OrderDto> orderLookupCache;
+
 
     /**
-     * Return the {@link OrderDto} and its {@link OrderLineDto} information of the given {@link OrderDto#getId()}
+     *    Return the {@link OrderDto} and its {@link OrderLineDto} information of the given {@link OrderDto#getId()}.
+     * Concurrent searches of the same identifier share the same database query, but every one receives its own copy.
      *
      * @param id
      *    {@link Order#getId()} to find
@@ -43,7 +56,12 @@ public class OrderService {
      */
     public Optional<OrderDto> findByIdWithOrderLines(final Integer id) {
         return ofNullable(id)
-                .flatMap(dao::fetchToOrderDtoByIdWithOrderLineDto);
+                .flatMap(i ->
+                        orderLookupCache.get(
+                                i,
+                                dao::fetchToOrderDtoByIdWithOrderLineDto
+                        )
+                );
     }
 
 
@@ -69,6 +87,73 @@ public class OrderService {
     }
 
 
+    /**
+     *    Return a "page of {@link OrderDto}" and its {@link OrderLineDto} information, ordered by
+     * {@link Order#getCreated()} desc, located after the given cursor (keyset pagination).
+     *
+     * @param after
+     *    {@link Tuple2} with {@link Order#getCreated()} and {@link Order#getId()} of the last element of the previous page.
+     *    {@code null} to get the first page
+     * @param size
+     *    Number of {@link OrderDto}s included in every page
+     *
+     * @return {@link OrderPageDto} with the found {@link OrderDto}s and the cursor of the next page
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public OrderPageDto findPageOrderedByCreatedWithOrderLines(final Tuple2<Timestamp, Integer> after,
+                                                               final int size) {
+        Set<OrderDto> orders = dao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(
+                null == after ? null : after._1,
+                null == after ? null : after._2,
+                size
+        );
+        // If the page is not complete, there are no more orders to return
+        String nextCursor = 0 < size && orders.size() == size
+                ? orders.stream()
+                        .reduce((first, second) -> second)
+                        .map(last ->
+                                OrderPageCursorUtil.encode(
+                                        last.getCreated(),
+                                        last.getId()
+                                )
+                        )
+                        .orElse(null)
+                : null;
+
+        return new OrderPageDto(
+                new ArrayList<>(orders),
+                nextCursor
+        );
+    }
+
+
+    /**
+     *    Send to the given {@link Consumer} every {@link OrderDto} and its {@link OrderLineDto} information created in the
+     * given range, ordered by {@link Order#getCreated()}, without loading all of them in memory.
+     *
+     * @param from
+     *    {@link Order#getCreated()} lower limit (included)
+     * @param to
+     *    {@link Order#getCreated()} upper limit (excluded)
+     * @param consumer
+     *    {@link Consumer} that receives every found {@link OrderDto}
+     *
+     * @return number of {@link OrderDto}s sent to {@code consumer}
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public long exportOrderedByCreatedWithOrderLines(final Timestamp from,
+                                                     final Timestamp to,
+                                                     final Consumer<OrderDto> consumer) {
+        return dao.streamToOrderDtoByCreatedWithOrderLineDto(
+                from,
+                to,
+                consumer
+        );
+    }
+
+
     /**
      * Persist the information included in the given {@link OrderDto}
      *
@@ -82,6 +167,7 @@ public class OrderService {
                 .flatMap(converter::fromDtoToOptionalModel)
                 .flatMap(order -> {
                     dao.save(order);
+                    invalidateOrderLookup(order.getId());
                     List<OrderLineDto> orderLineDtos = orderLineService.saveAll(
                             orderDto.getOrderLines(),
                             order.getId()
@@ -92,4 +178,26 @@ public class OrderService {
                 });
     }
 
+
+    /**
+     *    Removes the given {@link Order#getId()} from {@link OrderService#orderLookupCache}, and again once the current
+     * transaction is committed, to avoid caching the previous version of the {@link Order} meanwhile.
+     *
+     * @param id
+     *    {@link Order#getId()} to remove
+     */
+    private void invalidateOrderLookup(final Integer id) {
+        orderLookupCache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            orderLookupCache.invalidate(id);
+                        }
+                    }
+            );
+        }
+    }
+
 }
@@ -0,0 +1,66 @@
+package com.order.util;
+
+import com.order.dto.OrderDto;
+import com.order.dto.OrderLineDto;
+import com.order.dto.PizzaDto;
+import lombok.experimental.UtilityClass;
+
+import java.util.Date;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Helper methods to manage {@link OrderDto}s.
+ */
+@UtilityClass
+public class OrderDtoUtil {
+
+    /**
+     *    Returns a deep copy of the given {@link OrderDto}, including its {@link OrderLineDto}s and their
+     * {@link PizzaDto}s, so it can be modified without changing the given one.
+     *
+     * @param orderDto
+     *    {@link OrderDto} to copy
+     *
+     * @return new {@link OrderDto} with the same information, {@code null} if {@code orderDto} is {@code null}
+     */
+    public static OrderDto copy(final OrderDto orderDto) {
+        if (null == orderDto) {
+            return null;
+        }
+        return new OrderDto(
+                orderDto.getId(),
+                orderDto.getCode(),
+                null == orderDto.getCreated()
+                        ? null
+                        : (Date) orderDto.getCreated().clone(),
+                null == orderDto.getOrderLines()
+                        ? null
+                        : orderDto.getOrderLines()
+                                .stream()
+                                .map(OrderDtoUtil::copy)
+                                .collect(toList())
+        );
+    }
+
+
+    private static OrderLineDto copy(final OrderLineDto orderLineDto) {
+        if (null == orderLineDto) {
+            return null;
+        }
+        return new OrderLineDto(
+                orderLineDto.getId(),
+                orderLineDto.getOrderId(),
+                null == orderLineDto.getPizza()
+                        ? null
+                        : new PizzaDto(
+                                orderLineDto.getPizza().getId(),
+                                orderLineDto.getPizza().getName(),
+                                orderLineDto.getPizza().getCost()
+                          ),
+                orderLineDto.getAmount(),
+                orderLineDto.getCost()
+        );
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.order.util;
+
+import com.order.model.Order;
+import com.spring5microservices.common.collection.tuple.Tuple;
+import com.spring5microservices.common.collection.tuple.Tuple2;
+import lombok.experimental.UtilityClass;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+/**
+ *    Manages the opaque cursors used in the keyset pagination of {@link Order}s. Every cursor contains the
+ * {@link Order#getCreated()} and {@link Order#getId()} of the last element returned in the previous page.
+ */
+@UtilityClass
+public class OrderPageCursorUtil {
+
+    private static final String SEPARATOR = ":";
+
+
+    /**
+     * Build the opaque cursor that points to the given {@link Order#getCreated()} and {@link Order#getId()}.
+     *
+     * @param created
+     *    {@link Order#getCreated()} of the last returned element
+     * @param id
+     *    {@link Order#getId()} of the last returned element
+     *
+     * @return {@link String} with the cursor
+     *
+     * @throws IllegalArgumentException if {@code created} or {@code id} are {@code null}
+     */
+    public static String encode(final Date created,
+                                final Integer id) {
+        if (null == created || null == id) {
+            throw new IllegalArgumentException(
+                    format("Given created: %s and id: %s must be not null",
+                            created, id)
+            );
+        }
+        final Instant instant = created instanceof Timestamp
+                ? ((Timestamp) created).toInstant()
+                : created.toInstant();
+
+        final String rawCursor = instant.getEpochSecond() + SEPARATOR +
+                instant.getNano() + SEPARATOR +
+                id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawCursor.getBytes(UTF_8));
+    }
+
+
+    /**
+     * Extract the {@link Order#getCreated()} and {@link Order#getId()} included in the given cursor.
+     *
+     * @param cursor
+     *    {@link String} built using {@link OrderPageCursorUtil#encode(Date, Integer)}
+     *
+     * @return {@link Optional} of {@link Tuple2} with {@link Order#getCreated()} as first value and {@link Order#getId()}
+     *         as second one, {@link Optional#empty()} if the given {@code cursor} is not valid
+     */
+    public static Optional<Tuple2<Timestamp, Integer>> decode(final String cursor) {
+        if (null == cursor || cursor.isBlank()) {
+            return empty();
+        }
+        try {
+            final String[] parts = new String(
+                    Base64.getUrlDecoder()
+                            .decode(cursor.getBytes(UTF_8)),
+                    UTF_8
+            ).split(SEPARATOR);
+
+            if (3 != parts.length) {
+                return empty();
+            }
+            return of(
+                    Tuple.of(
+                            Timestamp.from(
+                                    Instant.ofEpochSecond(
+                                            Long.parseLong(parts[0]),
+                                            Long.parseLong(parts[1])
+                                    )
+                            ),
+                            Integer.valueOf(parts[2])
+                    )
+            );
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            return empty();
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.order.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.empty;
+
+/**
+ *    Coalesces the concurrent loads of the same key: only the first caller invokes the given loader, and the remaining
+ * ones wait for its result instead of sending the same query again.
+ * <p>
+ *    If the given time to live is greater than 0, the found values are also kept in a bounded cache during that time,
+ * so they must be removed using {@link SingleFlightCache#invalidate(Object)} when they are updated.
+ * <p>
+ *    The same value is shared by the coalesced requests and the next cache hits, so every caller receives the result
+ * of the given {@code copier} instead of it, unless the values are immutable.
+ * <p>
+ *    Every request is counted in the metric {@code <name>.requests} tagged by {@code result}:
+ * <ul>
+ *   <li>{@code hit}: the value was found in the cache</li>
+ *   <li>{@code coalesced}: the value was loaded by another concurrent request</li>
+ *   <li>{@code loaded}: the value was loaded by this request</li>
+ * </ul>
+ *
+ * @param <K>
+ *    Type of the keys
+ * @param <V>
+ *    Type of the values
+ */
+public class SingleFlightCache<K, V> {
+
+    public static final String REQUESTS_METRIC_SUFFIX = ".requests";
+
+    private final Map<K, CompletableFuture<Optional<V>>> inFlight;
+
+    private final Cache<K, V> cache;
+
+    // Used to return a different instance of the shared value to every caller
+    private final UnaryOperator<V> copier;
+
+    private final Counter hitCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter loadedCounter;
+
+
+    /**
+     * Create a new instance for immutable values, so all the callers receive the same instance.
+     *
+     * @param name
+     *    Prefix of the published metrics
+     * @param timeToLiveInMillis
+     *    Time the found values are kept in the cache. If it is 0, the values are not cached and only the concurrent
+     *    requests are coalesced
+     * @param maximumSize
+     *    Maximum number of cached values
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     */
+    public SingleFlightCache(final String name,
+                             final long timeToLiveInMillis,
+                             final long maximumSize,
+                             final MeterRegistry meterRegistry) {
+        this(
+                name,
+                timeToLiveInMillis,
+                maximumSize,
+                UnaryOperator.identity(),
+                meterRegistry
+        );
+    }
+
+
+    /**
+     * Create a new instance for mutable values, so every caller receives its own copy of the shared value.
+     *
+     * @param name
+     *    Prefix of the published metrics
+     * @param timeToLiveInMillis
+     *    Time the found values are kept in the cache. If it is 0, the values are not cached and only the concurrent
+     *    requests are coalesced
+     * @param maximumSize
+     *    Maximum number of cached values
+     * @param copier
+     *    {@link UnaryOperator} used to copy the shared value before returning it
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     */
+    public SingleFlightCache(final String name,
+                             final long timeToLiveInMillis,
+                             final long maximumSize,
+                             final UnaryOperator<V> copier,
+                             final MeterRegistry meterRegistry) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.cache = 0 < timeToLiveInMillis
+                ? Caffeine.newBuilder()
+                    .expireAfterWrite(timeToLiveInMillis, TimeUnit.MILLISECONDS)
+                    .maximumSize(maximumSize)
+                    .build()
+                : null;
+        this.copier = copier;
+        this.hitCounter = buildCounter(name, "hit", meterRegistry);
+        this.coalescedCounter = buildCounter(name, "coalesced", meterRegistry);
+        this.loadedCounter = buildCounter(name, "loaded", meterRegistry);
+    }
+
+
+    /**
+     *    Returns the value related with the given {@code key}: from the cache if it was found, waiting for the
+     * in-flight load of the same {@code key} if there is one, or invoking {@code loader} otherwise.
+     *
+     * @param key
+     *    Key to search
+     * @param loader
+     *    {@link Function} used to load the value if it was not found
+     *
+     * @return {@link Optional} with a copy of the value related with {@code key}
+     *
+     * @throws RuntimeException the one thrown by {@code loader}, also to the coalesced requests
+     */
+    public Optional<V> get(final K key,
+                           final Function<K, Optional<V>> loader) {
+        if (isNull(key)) {
+            return empty();
+        }
+        if (null != cache) {
+            V cachedValue = cache.getIfPresent(key);
+            if (null != cachedValue) {
+                hitCounter.increment();
+                return Optional.of(copier.apply(cachedValue));
+            }
+        }
+        CompletableFuture<Optional<V>> newLoad = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existingLoad = inFlight.putIfAbsent(key, newLoad);
+        if (null != existingLoad) {
+            coalescedCounter.increment();
+            return join(existingLoad)
+                    .map(copier);
+        }
+        loadedCounter.increment();
+        try {
+            Optional<V> value = loader.apply(key);
+            // Only cache the value if the key was not invalidated meanwhile
+            if (null != cache && null != value && value.isPresent()) {
+                inFlight.computeIfPresent(key, (k, load) -> {
+                    if (load == newLoad) {
+                        cache.put(k, value.get());
+                    }
+                    return load;
+                });
+            }
+            newLoad.complete(null == value ? empty() : value);
+            return newLoad.join()
+                    .map(copier);
+        } catch (RuntimeException e) {
+            newLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, newLoad);
+        }
+    }
+
+
+    /**
+     *    Removes the value related with the given {@code key}. The in-flight load of {@code key}, if any, will not store
+     * its result in the cache and will not be shared with the next requests.
+     *
+     * @param key
+     *    Key to remove
+     */
+    public void invalidate(final K key) {
+        if (isNull(key)) {
+            return;
+        }
+        inFlight.remove(key);
+        if (null != cache) {
+            cache.invalidate(key);
+        }
+    }
+
+
+    private Optional<V> join(final CompletableFuture<Optional<V>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+
+    private static Counter buildCounter(final String name,
+                                        final String result,
+                                        final MeterRegistry meterRegistry) {
+        return Counter.builder(name + REQUESTS_METRIC_SUFFIX)
+                .description("Number of requests by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.order.configuration.database;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ReadReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA_1 = "replica-0";
+    private static final String REPLICA_2 = "replica-1";
+
+    @Mock
+    private DataSource mockPrimary;
+
+    @Mock
+    private DataSource mockReplica1;
+
+    @Mock
+    private DataSource mockReplica2;
+
+    @Mock
+    private Connection mockPrimaryConnection;
+
+    @Mock
+    private Connection mockReplica1Connection;
+
+    @Mock
+    private Connection mockReplica2Connection;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReadReplicaRoutingDataSource dataSource;
+
+
+    @BeforeEach
+    public void init() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put(REPLICA_1, mockReplica1);
+        replicas.put(REPLICA_2, mockReplica2);
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReadReplicaRoutingDataSource(mockPrimary, replicas, 1, meterRegistry);
+
+        when(mockPrimary.getConnection()).thenReturn(mockPrimaryConnection);
+        when(mockReplica1.getConnection()).thenReturn(mockReplica1Connection);
+        when(mockReplica2.getConnection()).thenReturn(mockReplica2Connection);
+    }
+
+
+    @AfterEach
+    public void clean() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+
+    @Test
+    @DisplayName("getConnection: when the transaction is not read-only then primary is used")
+    public void getConnection_whenTheTransactionIsNotReadOnly_thenPrimaryIsUsed() throws SQLException {
+        assertEquals(mockPrimaryConnection, dataSource.getConnection());
+
+        verify(mockReplica1, never()).getConnection();
+        verify(mockReplica2, never()).getConnection();
+        assertEquals(1, meterRegistry.get(ReadReplicaRoutingDataSource.ROUTED_CONNECTIONS_METRIC).tag("pool", ReadReplicaRoutingDataSource.PRIMARY).counter().count());
+    }
+
+
+    @Test
+    @DisplayName("getConnection: when the transaction is read-only then replicas are used with round-robin")
+    public void getConnection_whenTheTransactionIsReadOnly_thenReplicasAreUsedWithRoundRobin() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(mockReplica1Connection, dataSource.getConnection());
+        assertEquals(mockReplica2Connection, dataSource.getConnection());
+        assertEquals(mockReplica1Connection, dataSource.getConnection());
+
+        verify(mockPrimary, never()).getConnection();
+        assertEquals(2, meterRegistry.get(ReadReplicaRoutingDataSource.ROUTED_CONNECTIONS_METRIC).tag("pool", REPLICA_1).counter().count());
+        assertEquals(1, meterRegistry.get(ReadReplicaRoutingDataSource.ROUTED_CONNECTIONS_METRIC).tag("pool", REPLICA_2).counter().count());
+    }
+
+
+    @Test
+    @DisplayName("getConnection: when a replica fails then it is not used until it is healthy again")
+    public void getConnection_whenAReplicaFails_thenItIsNotUsedUntilItIsHealthyAgain() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(mockReplica1.getConnection()).thenThrow(new SQLException("Replica not available"));
+
+        assertEquals(mockReplica2Connection, dataSource.getConnection());
+        assertEquals(mockReplica2Connection, dataSource.getConnection());
+        assertFalse(dataSource.isHealthy(REPLICA_1));
+        assertTrue(dataSource.isHealthy(REPLICA_2));
+        assertEquals(0, meterRegistry.get(ReadReplicaRoutingDataSource.HEALTHY_REPLICA_METRIC).tag("pool", REPLICA_1).gauge().value());
+
+        // The replica is back
+        when(mockReplica1.getConnection()).thenReturn(mockReplica1Connection);
+        when(mockReplica1Connection.isValid(anyInt())).thenReturn(true);
+        when(mockReplica2Connection.isValid(anyInt())).thenReturn(true);
+        dataSource.checkReplicasHealth();
+
+        assertTrue(dataSource.isHealthy(REPLICA_1));
+        assertEquals(1, meterRegistry.get(ReadReplicaRoutingDataSource.HEALTHY_REPLICA_METRIC).tag("pool", REPLICA_1).gauge().value());
+    }
+
+
+    @Test
+    @DisplayName("getConnection: when no replica is healthy then primary is used")
+    public void getConnection_whenNoReplicaIsHealthy_thenPrimaryIsUsed() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(mockReplica1.getConnection()).thenThrow(new SQLException("Replica not available"));
+        when(mockReplica2.getConnection()).thenThrow(new SQLException("Replica not available"));
+
+        assertEquals(mockPrimaryConnection, dataSource.getConnection());
+        assertEquals(mockPrimaryConnection, dataSource.getConnection());
+
+        verify(mockReplica1, times(1)).getConnection();
+        verify(mockReplica2, times(1)).getConnection();
+        verify(mockPrimary, times(2)).getConnection();
+    }
+
+}
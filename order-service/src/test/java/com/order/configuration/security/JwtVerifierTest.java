@@ -0,0 +1,173 @@
+package com.order.configuration.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order.dto.UsernameAuthoritiesDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class JwtVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-01T10:00:00Z");
+    private static final String SECRET_KEY = "TestSecretKey";
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    @Mock
+    private SecurityConfiguration mockSecurityConfiguration;
+
+    private JwtVerifier jwtVerifier;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockSecurityConfiguration.getJwtSecretKey()).thenReturn(SECRET_KEY);
+        when(mockSecurityConfiguration.getJwtSignatureAlgorithm()).thenReturn(SIGNATURE_ALGORITHM);
+        jwtVerifier = new JwtVerifier(
+                mockSecurityConfiguration,
+                new ObjectMapper(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+
+    static Stream<Arguments> isVerifiableTestCases() {
+        String payload = "{\"user_name\":\"admin\",\"exp\":" + (NOW.getEpochSecond() + 60) + "}";
+        return Stream.of(
+                //@formatter:off
+                //            token,                                                expectedResult
+                Arguments.of( null,                                                 false ),
+                Arguments.of( "",                                                   false ),
+                Arguments.of( "NotAJwtToken",                                       false ),
+                Arguments.of( "a.b.c",                                              false ),
+                Arguments.of( buildToken("HS512", payload, SECRET_KEY),             false ),
+                Arguments.of( buildToken("HS256", payload, SECRET_KEY),             true )
+        ); //@formatter:on
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("isVerifiableTestCases")
+    @DisplayName("isVerifiable: test cases")
+    public void isVerifiable_testCases(String token,
+                                       boolean expectedResult) {
+        assertEquals(expectedResult, jwtVerifier.isVerifiable(token));
+    }
+
+
+    @Test
+    @DisplayName("isVerifiable: when no secret key was configured then false is returned")
+    public void isVerifiable_whenNoSecretKeyWasConfigured_thenFalseIsReturned() {
+        when(mockSecurityConfiguration.getJwtSecretKey()).thenReturn("");
+        String token = buildToken("HS256", "{\"user_name\":\"admin\"}", SECRET_KEY);
+
+        assertFalse(jwtVerifier.isVerifiable(token));
+    }
+
+
+    static Stream<Arguments> verifyTestCases() {
+        long notExpiredTime = NOW.getEpochSecond() + 60;
+        long expiredTime = NOW.getEpochSecond() - 60;
+        String validPayload = "{\"user_name\":\"admin\",\"authorities\":[\"ADMIN\"],\"exp\":" + notExpiredTime + ",\"client_id\":\"Spring5Microservices\"}";
+        String expiredPayload = "{\"user_name\":\"admin\",\"authorities\":[\"ADMIN\"],\"exp\":" + expiredTime + "}";
+        String withoutExpirationPayload = "{\"user_name\":\"admin\",\"authorities\":[\"ADMIN\"]}";
+        String withoutAuthoritiesPayload = "{\"user_name\":\"admin\",\"exp\":" + notExpiredTime + "}";
+
+        UsernameAuthoritiesDto expectedValidResult = new UsernameAuthoritiesDto("admin", Set.of("ADMIN"), notExpiredTime);
+        return Stream.of(
+                //@formatter:off
+                //            token,                                                           expectedResult
+                Arguments.of( null,                                                            Optional.empty() ),
+                Arguments.of( buildToken("HS256", validPayload, "OtherSecretKey"),             Optional.empty() ),
+                Arguments.of( buildToken("HS256", expiredPayload, SECRET_KEY),                 Optional.empty() ),
+                Arguments.of( buildToken("HS256", withoutExpirationPayload, SECRET_KEY),       Optional.empty() ),
+                Arguments.of( buildToken("HS256", withoutAuthoritiesPayload, SECRET_KEY),      Optional.empty() ),
+                Arguments.of( buildToken("HS256", validPayload, SECRET_KEY),                   Optional.of(expectedValidResult) )
+        ); //@formatter:on
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("verifyTestCases")
+    @DisplayName("verify: test cases")
+    public void verify_testCases(String token,
+                                 Optional<UsernameAuthoritiesDto> expectedResult) {
+        Optional<UsernameAuthoritiesDto> result = jwtVerifier.verify(token);
+
+        assertEquals(expectedResult.isPresent(), result.isPresent());
+        expectedResult.ifPresent(expected -> {
+            assertEquals(expected.getUsername(), result.get().getUsername());
+            assertEquals(expected.getAuthorities(), result.get().getAuthorities());
+            assertEquals(expected.getExpiration(), result.get().getExpiration());
+        });
+    }
+
+
+    @Test
+    @DisplayName("verify: when a refresh token is given then empty is returned")
+    public void verify_whenARefreshTokenIsGiven_thenEmptyIsReturned() {
+        long notExpiredTime = NOW.getEpochSecond() + 60;
+        String refreshTokenPayload = "{\"user_name\":\"admin\",\"authorities\":[\"ADMIN\"],\"exp\":" + notExpiredTime
+                + ",\"ati\":\"accessTokenId\",\"jti\":\"refreshTokenId\"}";
+        String refreshToken = buildToken("HS256", refreshTokenPayload, SECRET_KEY);
+
+        assertTrue(jwtVerifier.isVerifiable(refreshToken));
+        assertFalse(jwtVerifier.verify(refreshToken).isPresent());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the payload was modified then empty is returned")
+    public void verify_whenThePayloadWasModified_thenEmptyIsReturned() {
+        String token = buildToken("HS256", "{\"user_name\":\"user\",\"exp\":" + (NOW.getEpochSecond() + 60) + "}", SECRET_KEY);
+        String[] parts = token.split("\\.");
+        String modifiedToken = parts[0] + "." + encode("{\"user_name\":\"admin\",\"exp\":" + (NOW.getEpochSecond() + 60) + "}") + "." + parts[2];
+
+        assertTrue(jwtVerifier.isVerifiable(modifiedToken));
+        assertFalse(jwtVerifier.verify(modifiedToken).isPresent());
+    }
+
+
+    private static String buildToken(String algorithm,
+                                      String payload,
+                                      String secretKey) {
+        String signedContent = encode("{\"alg\":\"" + algorithm + "\",\"typ\":\"JWT\"}") + "." + encode(payload);
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM));
+            return signedContent + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    mac.doFinal(signedContent.getBytes(StandardCharsets.US_ASCII))
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
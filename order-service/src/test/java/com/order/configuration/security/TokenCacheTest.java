@@ -0,0 +1,101 @@
+package com.order.configuration.security;
+
+import com.order.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class TokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-01T10:00:00Z");
+
+    @Mock
+    private SecurityConfiguration mockSecurityConfiguration;
+
+    private TokenCache tokenCache;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockSecurityConfiguration.getTokenCacheMaximumSize()).thenReturn(10L);
+        when(mockSecurityConfiguration.getTokenCacheTimeToLiveInSeconds()).thenReturn(60L);
+        tokenCache = new TokenCache(
+                mockSecurityConfiguration,
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+
+    static Stream<Arguments> putAndGetTestCases() {
+        String token = "token";
+        UsernameAuthoritiesDto withoutExpiration = new UsernameAuthoritiesDto("user1", Set.of("admin"), null);
+        UsernameAuthoritiesDto notExpired = new UsernameAuthoritiesDto("user2", Set.of("user"), NOW.getEpochSecond() + 30);
+        UsernameAuthoritiesDto expired = new UsernameAuthoritiesDto("user3", Set.of("user"), NOW.getEpochSecond() - 1);
+        return Stream.of(
+                //@formatter:off
+                //            tokenToPut,   usernameAuthoritiesDto,   tokenToGet,   expectedResult
+                Arguments.of( null,         withoutExpiration,        token,        empty() ),
+                Arguments.of( token,        null,                     token,        empty() ),
+                Arguments.of( token,        withoutExpiration,        null,         empty() ),
+                Arguments.of( token,        withoutExpiration,        "other",      empty() ),
+                Arguments.of( token,        expired,                  token,        empty() ),
+                Arguments.of( token,        withoutExpiration,        token,        of(withoutExpiration) ),
+                Arguments.of( token,        notExpired,               token,        of(notExpired) )
+        ); //@formatter:on
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("putAndGetTestCases")
+    @DisplayName("put and get: test cases")
+    public void putAndGet_testCases(String tokenToPut,
+                                    UsernameAuthoritiesDto usernameAuthoritiesDto,
+                                    String tokenToGet,
+                                    Optional<UsernameAuthoritiesDto> expectedResult) {
+        tokenCache.put(tokenToPut, usernameAuthoritiesDto);
+
+        assertEquals(expectedResult, tokenCache.get(tokenToGet));
+    }
+
+
+    @Test
+    @DisplayName("invalidate: when the token was stored then it is removed")
+    public void invalidate_whenTheTokenWasStored_thenItIsRemoved() {
+        UsernameAuthoritiesDto usernameAuthoritiesDto = new UsernameAuthoritiesDto("user", Set.of("admin"), null);
+        tokenCache.put("token1", usernameAuthoritiesDto);
+        tokenCache.put("token2", usernameAuthoritiesDto);
+
+        tokenCache.invalidate("token1");
+
+        assertFalse(tokenCache.get("token1").isPresent());
+        assertTrue(tokenCache.get("token2").isPresent());
+
+        tokenCache.invalidateAll();
+
+        assertFalse(tokenCache.get("token2").isPresent());
+    }
+
+}
@@ -3,10 +3,15 @@ package com.order.controller;
 import com.order.configuration.Constants;
 import com.order.configuration.rest.RestRoutes;
 import com.order.configuration.security.WebSecurityConfiguration;
+import com.order.dto.OrderBulkResultDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.dto.PizzaDto;
+import com.order.service.OrderBulkService;
 import com.order.service.OrderService;
+import com.order.util.OrderPageCursorUtil;
+import com.spring5microservices.common.collection.tuple.Tuple;
 import com.spring5microservices.common.dto.ErrorResponseDto;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
@@ -23,15 +28,20 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.spring5microservices.common.enums.RestApiErrorCode.VALIDATION;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -56,6 +66,9 @@ public class OrderControllerTest extends BaseControllerTest {
     @MockBean
     private OrderService mockOrderService;
 
+    @MockBean
+    private OrderBulkService mockOrderBulkService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -164,6 +177,70 @@ public class OrderControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    @DisplayName("createAll: when no valid role is given then forbidden Http code is returned")
+    public void createAll_whenNotValidAuthorityIsGiven_thenForbiddenHttpCodeIsReturned() {
+        mockMvc.perform(
+                post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                        .contentType(APPLICATION_JSON)
+                        .content(toJson(List.of(new OrderDto(null, "Order 1", new Date(), List.of()))))
+        )
+        .andExpect(status().isForbidden());
+
+        verifyNoInteractions(mockOrderBulkService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    @DisplayName("createAll: when empty list is given then bad request Http code is returned")
+    public void createAll_whenEmptyListIsGiven_thenBadRequestHttpCodeIsReturned() {
+        mockMvc.perform(
+                post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                        .contentType(APPLICATION_JSON)
+                        .content(toJson(List.of()))
+        )
+        .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(mockOrderBulkService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    @DisplayName("createAll: when orders are given then ok Http code and the result of every one are returned")
+    public void createAll_whenOrdersAreGiven_thenOkHttpCodeAndTheResultOfEveryOneAreReturned() {
+        // Given
+        OrderDto dto1 = new OrderDto(null, "Order 1", new Date(), List.of());
+        OrderDto dto2 = new OrderDto(null, null, new Date(), List.of());
+        List<OrderBulkResultDto> bulkResult = List.of(
+                new OrderBulkResultDto(0, "Order 1", 1, OrderBulkResultDto.Status.CREATED, List.of()),
+                new OrderBulkResultDto(1, null, null, OrderBulkResultDto.Status.INVALID, List.of("Error in path 'code' due to: must not be null"))
+        );
+
+        // When
+        when(mockOrderBulkService.createAll(List.of(dto1, dto2))).thenReturn(bulkResult);
+
+        ResultActions result = mockMvc.perform(
+                post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                        .contentType(APPLICATION_JSON)
+                        .content(toJson(List.of(dto1, dto2)))
+        );
+
+        // Then
+        result.andExpect(status().isOk());
+        assertEquals(
+                bulkResult,
+                List.of(fromJson(result.andReturn().getResponse().getContentAsString(), OrderBulkResultDto[].class))
+        );
+        verify(mockOrderBulkService, times(1)).createAll(List.of(dto1, dto2));
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("findByIdWithOrderLines: when no logged user is given then unauthorized Http code is returned")
@@ -254,6 +331,132 @@ public class OrderControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @SneakyThrows
+    @DisplayName("findPageWithOrderLines: when no logged user is given then unauthorized Http code is returned")
+    public void findPageWithOrderLines_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
+        mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE)
+        )
+        .andExpect(status().isUnauthorized());
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    @DisplayName("findPageWithOrderLines: when not valid cursor is given then bad request Http code is returned")
+    public void findPageWithOrderLines_whenNotValidCursorIsGiven_thenBadRequestHttpCodeIsReturned() {
+        mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE)
+                        .param("after", "notValidCursor")
+        )
+        .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(mockOrderService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    @DisplayName("findPageWithOrderLines: when valid cursor is given then ok Http code and the page are returned")
+    public void findPageWithOrderLines_whenValidCursorIsGiven_thenOkHttpCodeAndPageAreReturned() {
+        // Given
+        Timestamp created = new Timestamp(new Date().getTime());
+        String cursor = OrderPageCursorUtil.encode(created, 2);
+        int size = 1;
+
+        PizzaDto pizzaDto = new PizzaDto((short)1, "Carbonara", 7.50);
+        OrderLineDto orderLineDto = new OrderLineDto(10, 1, pizzaDto, (short)2, 15D);
+        OrderDto dto = new OrderDto(1, "Order 1", new Date(), List.of(orderLineDto));
+        OrderPageDto page = new OrderPageDto(List.of(dto), OrderPageCursorUtil.encode(dto.getCreated(), dto.getId()));
+
+        // When
+        when(mockOrderService.findPageOrderedByCreatedWithOrderLines(Tuple.of(created, 2), size)).thenReturn(page);
+
+        ResultActions result = mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE)
+                        .param("after", cursor)
+                        .param("size", String.valueOf(size))
+        );
+
+        // Then
+        result.andExpect(status().isOk());
+        assertEquals(page, fromJson(result.andReturn().getResponse().getContentAsString(), OrderPageDto.class));
+        verify(mockOrderService, times(1)).findPageOrderedByCreatedWithOrderLines(Tuple.of(created, 2), size);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    @DisplayName("export: when no valid role is given then forbidden Http code is returned")
+    public void export_whenNotValidAuthorityIsGiven_thenForbiddenHttpCodeIsReturned() {
+        mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.EXPORT)
+                        .param("from", "2023-01-01T00:00:00")
+                        .param("to", "2023-02-01T00:00:00")
+        )
+        .andExpect(status().isForbidden());
+
+        verifyNoInteractions(mockOrderService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    @DisplayName("export: when not valid range is given then bad request Http code is returned")
+    public void export_whenNotValidRangeIsGiven_thenBadRequestHttpCodeIsReturned() {
+        mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.EXPORT)
+                        .param("from", "2023-02-01T00:00:00")
+                        .param("to", "2023-01-01T00:00:00")
+        )
+        .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(mockOrderService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    @DisplayName("export: when valid range is given then ok Http code and one order by line are returned")
+    public void export_whenValidRangeIsGiven_thenOkHttpCodeAndOneOrderByLineAreReturned() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 2, 1, 0, 0);
+
+        PizzaDto pizzaDto = new PizzaDto((short)1, "Carbonara", 7.50);
+        OrderDto dto1 = new OrderDto(1, "Order 1", new Date(), List.of(new OrderLineDto(10, 1, pizzaDto, (short)2, 15D)));
+        OrderDto dto2 = new OrderDto(2, "Order 2", new Date(), List.of(new OrderLineDto(11, 2, pizzaDto, (short)1, 7.5D)));
+
+        // When
+        when(mockOrderService.exportOrderedByCreatedWithOrderLines(eq(Timestamp.valueOf(from)), eq(Timestamp.valueOf(to)), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<OrderDto> consumer = invocation.getArgument(2);
+                    consumer.accept(dto1);
+                    consumer.accept(dto2);
+                    return 2L;
+                });
+
+        ResultActions result = mockMvc.perform(
+                get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.EXPORT)
+                        .param("from", "2023-01-01T00:00:00")
+                        .param("to", "2023-02-01T00:00:00")
+        );
+
+        // Then
+        result.andExpect(status().isOk());
+        String[] lines = result.andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(dto1, fromJson(lines[0], OrderDto.class));
+        assertEquals(dto2, fromJson(lines[1], OrderDto.class));
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("update: when no logged user is given then unauthorized Http code is returned")
@@ -5,6 +5,7 @@ import com.order.dto.OrderLineDto;
 import com.order.dto.PizzaDto;
 import com.order.model.Order;
 import org.jooq.DSLContext;
+import org.jooq.Explain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +17,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -397,4 +399,139 @@ public class OrderDaoTest {
         assertEquals(orderdsPage.size(), ordersFound.size());
     }
 
+
+    @Test
+    public void streamToOrderDtoByCreatedWithOrderLineDto_whenNullParametersAreGiven_thenNoOrderIsSent() {
+        // Given
+        List<OrderDto> sentOrders = new ArrayList<>();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        // When
+        long sentWithoutFrom = orderDao.streamToOrderDtoByCreatedWithOrderLineDto(null, now, sentOrders::add);
+        long sentWithoutTo = orderDao.streamToOrderDtoByCreatedWithOrderLineDto(now, null, sentOrders::add);
+        long sentWithoutConsumer = orderDao.streamToOrderDtoByCreatedWithOrderLineDto(now, now, null);
+
+        // Then
+        assertEquals(0, sentWithoutFrom);
+        assertEquals(0, sentWithoutTo);
+        assertEquals(0, sentWithoutConsumer);
+        assertTrue(sentOrders.isEmpty());
+    }
+
+
+    @Test
+    public void streamToOrderDtoByCreatedWithOrderLineDto_whenNoOrderWasCreatedInTheRange_thenNoOrderIsSent() throws ParseException {
+        // Given
+        List<OrderDto> sentOrders = new ArrayList<>();
+        Timestamp from = new Timestamp(DATE_FORMAT.parse("2000-01-01 00:00:00.000").getTime());
+        Timestamp to = new Timestamp(DATE_FORMAT.parse("2000-02-01 00:00:00.000").getTime());
+
+        // When
+        long sent = orderDao.streamToOrderDtoByCreatedWithOrderLineDto(from, to, sentOrders::add);
+
+        // Then
+        assertEquals(0, sent);
+        assertTrue(sentOrders.isEmpty());
+    }
+
+
+    @Test
+    public void streamToOrderDtoByCreatedWithOrderLineDto_whenOrdersWereCreatedInTheRange_thenAllAreSentOrderedByCreated() {
+        // Given
+        List<OrderDto> sentOrders = new ArrayList<>();
+        Timestamp from = new Timestamp(order1.getCreated().getTime());
+        Timestamp to = new Timestamp(order2.getCreated().getTime() + 1);
+
+        // When
+        long sent = orderDao.streamToOrderDtoByCreatedWithOrderLineDto(from, to, sentOrders::add);
+
+        // Then
+        assertEquals(2, sent);
+        assertEquals(2, sentOrders.size());
+        assertEquals(order1.getId(), sentOrders.get(0).getId());
+        assertEquals(2, sentOrders.get(0).getOrderLines().size());
+        assertEquals(order2.getId(), sentOrders.get(1).getId());
+        assertEquals(3, sentOrders.get(1).getOrderLines().size());
+    }
+
+
+    @Test
+    public void fetchKeysetPageToOrderDtoByIdWithOrderLineDto_whenZeroSizeValueIsGiven_thenEmptySetIsReturned() {
+        // When
+        Set<OrderDto> orderds = orderDao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(null, null, 0);
+
+        // Then
+        assertNotNull(orderds);
+        assertTrue(orderds.isEmpty());
+    }
+
+
+    @Test
+    public void fetchKeysetPageToOrderDtoByIdWithOrderLineDto_whenNoCursorIsGiven_thenFirstPageIsReturned() throws ParseException {
+        // Given
+        PizzaDto carbonara = PizzaDto.builder().id((short)1).name("Carbonara").cost(7.50).build();
+        PizzaDto hawaiian = PizzaDto.builder().id((short)2).name("Hawaiian").cost(8D).build();
+        PizzaDto margherita = PizzaDto.builder().id((short)3).name("Margherita").cost(7D).build();
+
+        OrderLineDto orderLineDto3 = OrderLineDto.builder().id(3).orderId(2).pizza(carbonara).cost(7.5D).amount((short)1).build();
+        OrderLineDto orderLineDto4 = OrderLineDto.builder().id(4).orderId(2).pizza(hawaiian).cost(16D).amount((short)2).build();
+        OrderLineDto orderLineDto5 = OrderLineDto.builder().id(5).orderId(2).pizza(margherita).cost(21D).amount((short)3).build();
+
+        OrderDto orderDto2 = OrderDto.builder().id(2).code("Order 2").created(new Timestamp(DATE_FORMAT.parse("2019-01-02 18:00:00.000000").getTime()))
+                                                     .orderLines(Arrays.asList(orderLineDto3, orderLineDto4, orderLineDto5)).build();
+        // When
+        Set<OrderDto> orderdsPage = orderDao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(null, null, 1);
+
+        // Then
+        assertNotNull(orderdsPage);
+        assertEquals(1, orderdsPage.size());
+        for (OrderDto o : orderdsPage)
+            assertThat(o, samePropertyValuesAs(orderDto2));
+    }
+
+
+    @Test
+    public void fetchKeysetPageToOrderDtoByIdWithOrderLineDto_whenCursorIsGiven_thenOnlyOrdersAfterItAreReturned() throws ParseException {
+        // Given
+        PizzaDto carbonara = PizzaDto.builder().id((short)1).name("Carbonara").cost(7.50).build();
+        PizzaDto hawaiian = PizzaDto.builder().id((short)2).name("Hawaiian").cost(8D).build();
+
+        OrderLineDto orderLineDto1 = OrderLineDto.builder().id(1).orderId(1).pizza(carbonara).cost(15D).amount((short)2).build();
+        OrderLineDto orderLineDto2 = OrderLineDto.builder().id(2).orderId(1).pizza(hawaiian).cost(8D).amount((short)1).build();
+
+        // When
+        Set<OrderDto> orderdsPage = orderDao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(order2.getCreated(), order2.getId(), 2);
+        Set<OrderDto> lastPage = orderDao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(order1.getCreated(), order1.getId(), 2);
+
+        // Then
+        assertNotNull(orderdsPage);
+        assertEquals(1, orderdsPage.size());
+        for (OrderDto o : orderdsPage) {
+            assertEquals(order1.getId(), o.getId());
+            assertEquals(order1.getCode(), o.getCode());
+            assertThat(o.getOrderLines(), containsInAnyOrder(orderLineDto1, orderLineDto2));
+        }
+        assertNotNull(lastPage);
+        assertTrue(lastPage.isEmpty());
+    }
+
+
+    @Test
+    public void getKeysetPageQuery_whenDeeperCursorIsGiven_thenEstimatedCostDoesNotGrow() {
+        // When
+        Explain firstPage = dslContext.explain(
+                orderDao.getKeysetPageQuery(null, null, 1)
+        );
+        Explain deeperPage = dslContext.explain(
+                orderDao.getKeysetPageQuery(order2.getCreated(), order2.getId(), 1)
+        );
+        Explain deepestPage = dslContext.explain(
+                orderDao.getKeysetPageQuery(order1.getCreated(), order1.getId(), 1)
+        );
+
+        // Then
+        assertTrue(deeperPage.cost() <= firstPage.cost());
+        assertTrue(deepestPage.cost() <= deeperPage.cost());
+    }
+
 }
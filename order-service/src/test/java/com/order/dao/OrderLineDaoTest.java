@@ -12,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jooq.JooqTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -293,4 +295,100 @@ public class OrderLineDaoTest {
         assertThat(orderLineDtos.get(1), samePropertyValuesAs(orderLineDto2));
     }
 
+
+    @Test
+    public void saveAll_whenNullModelsAreGiven_thenEmptyListIsReturned() {
+        // When
+        List<OrderLine> orderLines = orderLineDao.saveAll(null);
+
+        // Then
+        assertNotNull(orderLines);
+        assertTrue(orderLines.isEmpty());
+    }
+
+
+    @Test
+    public void saveAll_whenNotPositiveBatchSizeIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        // When/Then
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> orderLineDao.saveAll(List.of(orderLine1), 0)
+        );
+    }
+
+
+    @Test
+    public void saveAll_whenNewModelsAreGiven_thenTheyAreInsertedInBatchesAndTheirIdsAreReturned() {
+        // Given
+        OrderLine newOrderLine1 = new OrderLine(null, 2, (short)1, (short)1, 7.5D);
+        OrderLine newOrderLine2 = new OrderLine(null, 2, (short)2, (short)2, 16D);
+        OrderLine newOrderLine3 = new OrderLine(null, 2, (short)3, (short)3, 21D);
+        long initialRows = orderLineDao.count();
+
+        // When
+        List<OrderLine> orderLines = orderLineDao.saveAll(
+                List.of(newOrderLine1, newOrderLine2, newOrderLine3),
+                2
+        );
+
+        // Then
+        assertNotNull(orderLines);
+        assertEquals(3, orderLines.size());
+        assertEquals(initialRows + 3, orderLineDao.count());
+        for (OrderLine orderLine : List.of(newOrderLine1, newOrderLine2, newOrderLine3)) {
+            assertNotNull(orderLine.getId());
+            assertThat(orderLineDao.findById(orderLine.getId()), samePropertyValuesAs(orderLine));
+        }
+    }
+
+
+    @Test
+    public void saveAll_whenNewModelsAreGiven_thenEveryOneIsMatchedWithItsOwnInsertedRow() {
+        // Given
+        List<OrderLine> newOrderLines = new ArrayList<>();
+        for (short i = 1; i <= 10; i++) {
+            newOrderLines.add(
+                    new OrderLine(null, 1 + i % 2, (short)(1 + i % 3), i, 7.5D * i)
+            );
+        }
+
+        // When
+        orderLineDao.saveAll(newOrderLines);
+
+        // Then
+        Integer previousId = null;
+        for (OrderLine orderLine : newOrderLines) {
+            assertNotNull(orderLine.getId());
+            if (null != previousId) {
+                assertTrue(previousId < orderLine.getId());
+            }
+            assertThat(orderLineDao.findById(orderLine.getId()), samePropertyValuesAs(orderLine));
+            previousId = orderLine.getId();
+        }
+    }
+
+
+    @Test
+    public void saveAll_whenNewAndExistingModelsAreGiven_thenAllOfThemAreStored() {
+        // Given
+        OrderLine newOrderLine = new OrderLine(null, 2, (short)1, (short)1, 7.5D);
+        orderLine1.setAmount((short)10);
+        orderLine2.setCost(99D);
+        long initialRows = orderLineDao.count();
+
+        // When
+        List<OrderLine> orderLines = orderLineDao.saveAll(
+                List.of(orderLine1, newOrderLine, orderLine2)
+        );
+
+        // Then
+        assertNotNull(orderLines);
+        assertEquals(3, orderLines.size());
+        assertEquals(initialRows + 1, orderLineDao.count());
+        assertNotNull(newOrderLine.getId());
+        assertThat(orderLineDao.findById(newOrderLine.getId()), samePropertyValuesAs(newOrderLine));
+        assertThat(orderLineDao.findById(orderLine1.getId()), samePropertyValuesAs(orderLine1));
+        assertThat(orderLineDao.findById(orderLine2.getId()), samePropertyValuesAs(orderLine2));
+    }
+
 }
@@ -0,0 +1,148 @@
+package com.order.grpc.client;
+
+import com.order.configuration.security.SecurityConfiguration;
+import com.order.grpc.configuration.GrpcConfiguration;
+import com.order.grpc.interceptor.RequestIdInterceptor;
+import com.spring5microservices.grpc.IngredientResponse;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class GrpcClientTest {
+
+    private static final String METHOD_NAME = "getIngredients";
+
+    @Mock
+    private GrpcConfiguration mockGrpcConfiguration;
+
+    @Mock
+    private SecurityConfiguration mockSecurityConfiguration;
+
+    @Mock
+    private RequestIdInterceptor mockRequestIdInterceptor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GrpcClient grpcClient;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockGrpcConfiguration.getServerHost()).thenReturn("localhost");
+        when(mockGrpcConfiguration.getServerPort()).thenReturn(11);
+        when(mockGrpcConfiguration.getClientChannelPoolSize()).thenReturn(1);
+        when(mockGrpcConfiguration.getClientMaxInFlightCalls()).thenReturn(1);
+        when(mockSecurityConfiguration.getClientId()).thenReturn("clientId");
+        when(mockSecurityConfiguration.getClientPassword()).thenReturn("clientPassword");
+        meterRegistry = new SimpleMeterRegistry();
+        grpcClient = new GrpcClient(mockGrpcConfiguration, mockSecurityConfiguration, mockRequestIdInterceptor, meterRegistry);
+    }
+
+
+    @AfterEach
+    @SneakyThrows
+    public void tearDown() {
+        grpcClient.stop();
+    }
+
+
+    @Test
+    @DisplayName("asyncServerStreamingCall: when the maximum number of in-flight calls was reached then RESOURCE_EXHAUSTED is returned")
+    public void asyncServerStreamingCall_whenTheMaximumNumberOfInFlightCallsWasReached_thenResourceExhaustedIsReturned() {
+        AtomicReference<StreamObserver<IngredientResponse>> pendingCall = new AtomicReference<>();
+
+        CompletableFuture<List<IngredientResponse>> firstCall = grpcClient.asyncServerStreamingCall(
+                METHOD_NAME, null, (stub, observer) -> pendingCall.set(observer));
+        CompletableFuture<List<IngredientResponse>> rejectedCall = grpcClient.asyncServerStreamingCall(
+                METHOD_NAME, null, (stub, observer) -> observer.onCompleted());
+
+        assertFalse(firstCall.isDone());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, getStatusCode(rejectedCall));
+        assertEquals(1, getInFlightCalls());
+    }
+
+
+    @Test
+    @DisplayName("asyncServerStreamingCall: when the call is completed then its permit is released and its latency recorded")
+    public void asyncServerStreamingCall_whenTheCallIsCompleted_thenItsPermitIsReleasedAndItsLatencyRecorded() {
+        IngredientResponse ingredient = IngredientResponse.newBuilder().setId(1).setName("ingredient 1").build();
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<List<IngredientResponse>> call = grpcClient.asyncServerStreamingCall(
+                    METHOD_NAME, null, (stub, observer) -> {
+                        observer.onNext(ingredient);
+                        observer.onCompleted();
+                    });
+
+            assertEquals(List.of(ingredient), call.join());
+        }
+        assertEquals(0, getInFlightCalls());
+        assertEquals(2, getCallsCount(Status.Code.OK));
+    }
+
+
+    @Test
+    @DisplayName("asyncServerStreamingCall: when the call fails then its permit is released and its status recorded")
+    public void asyncServerStreamingCall_whenTheCallFails_thenItsPermitIsReleasedAndItsStatusRecorded() {
+        CompletableFuture<List<IngredientResponse>> failedCall = grpcClient.asyncServerStreamingCall(
+                METHOD_NAME, null, (stub, observer) -> observer.onError(Status.UNAVAILABLE.asRuntimeException()));
+        CompletableFuture<List<IngredientResponse>> thrownCall = grpcClient.asyncServerStreamingCall(
+                METHOD_NAME, null, (stub, observer) -> { throw Status.INTERNAL.asRuntimeException(); });
+        CompletableFuture<List<IngredientResponse>> nextCall = grpcClient.asyncServerStreamingCall(
+                METHOD_NAME, null, (stub, observer) -> observer.onCompleted());
+
+        assertEquals(Status.Code.UNAVAILABLE, getStatusCode(failedCall));
+        assertEquals(Status.Code.INTERNAL, getStatusCode(thrownCall));
+        assertTrue(nextCall.join().isEmpty());
+        assertEquals(0, getInFlightCalls());
+        assertEquals(1, getCallsCount(Status.Code.UNAVAILABLE));
+        assertEquals(1, getCallsCount(Status.Code.INTERNAL));
+        assertEquals(1, getCallsCount(Status.Code.OK));
+    }
+
+
+    private static Status.Code getStatusCode(CompletableFuture<?> call) {
+        CompletionException exception = assertThrows(CompletionException.class, call::join);
+        assertInstanceOf(StatusRuntimeException.class, exception.getCause());
+        return ((StatusRuntimeException) exception.getCause()).getStatus().getCode();
+    }
+
+
+    private double getInFlightCalls() {
+        return meterRegistry.get(GrpcClient.IN_FLIGHT_CALLS_METRIC)
+                .gauge()
+                .value();
+    }
+
+
+    private long getCallsCount(Status.Code code) {
+        return meterRegistry.get(GrpcClient.CALLS_METRIC)
+                .tag("method", METHOD_NAME)
+                .tag("status", code.name())
+                .timer()
+                .count();
+    }
+
+}
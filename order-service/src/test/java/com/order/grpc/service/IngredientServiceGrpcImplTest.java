@@ -1,25 +1,47 @@
 package com.order.grpc.service;
 
 import com.order.grpc.client.GrpcClient;
+import com.order.grpc.configuration.GrpcConfiguration;
 import com.spring5microservices.grpc.IngredientResponse;
 import com.spring5microservices.grpc.IngredientServiceGrpc;
+import com.spring5microservices.grpc.PizzaIngredientResponse;
 import com.spring5microservices.grpc.PizzaRequest;
+import com.spring5microservices.grpc.PizzasRequest;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -28,16 +50,23 @@ public class IngredientServiceGrpcImplTest {
     @Mock
     private GrpcClient mockGrpcClient;
 
+    @Mock
+    private GrpcConfiguration mockGrpcConfiguration;
+
     @Mock
     private IngredientServiceGrpc.IngredientServiceBlockingStub mockIngredientServiceGrpc;
 
+    @Mock
+    private IngredientServiceGrpc.IngredientServiceStub mockIngredientServiceAsyncGrpc;
+
     private IngredientServiceGrpcImpl service;
 
 
     @BeforeEach
     public void init() {
-        service = new IngredientServiceGrpcImpl(mockGrpcClient);
+        service = new IngredientServiceGrpcImpl(mockGrpcClient, mockGrpcConfiguration);
         when(mockGrpcClient.getIngredientServiceGrpc()).thenReturn(mockIngredientServiceGrpc);
+        when(mockGrpcConfiguration.getClientMaxPizzaIdsPerCall()).thenReturn(20);
     }
 
 
@@ -74,4 +103,117 @@ public class IngredientServiceGrpcImplTest {
         assertEquals(expectedResult, result);
     }
 
+
+    static Stream<Arguments> findByPizzaIdsTestCases() {
+        IngredientResponse ingredient1 = IngredientResponse.newBuilder().setId(1).setName("ingredient 1").build();
+        IngredientResponse ingredient2 = IngredientResponse.newBuilder().setId(2).setName("ingredient 2").build();
+
+        List<PizzaIngredientResponse> notEmptyGrpcResult = List.of(
+                PizzaIngredientResponse.newBuilder().setPizzaId(11).setIngredient(ingredient1).build(),
+                PizzaIngredientResponse.newBuilder().setPizzaId(11).setIngredient(ingredient2).build(),
+                PizzaIngredientResponse.newBuilder().setPizzaId(12).setIngredient(ingredient1).build()
+        );
+
+        Map<Short, List<IngredientResponse>> expectedResultNotEmptyGrpcResult = Map.of(
+                (short)11, List.of(ingredient1, ingredient2),
+                (short)12, List.of(ingredient1)
+        );
+        return Stream.of(
+                //@formatter:off
+                //            pizzaIds,                                  grpcInvocationResult,   expectedResult
+                Arguments.of( null,                                      null,                   Map.of() ),
+                Arguments.of( List.of(),                                 null,                   Map.of() ),
+                Arguments.of( List.of((short)11),                        List.of(),              Map.of() ),
+                Arguments.of( List.of((short)11, (short)12, (short)11),  notEmptyGrpcResult,     expectedResultNotEmptyGrpcResult )
+        ); //@formatter:on
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("findByPizzaIdsTestCases")
+    @DisplayName("findByPizzaIds: test cases")
+    public void findByPizzaIds_testCases(List<Short> pizzaIds,
+                                         List<PizzaIngredientResponse> grpcInvocationResult,
+                                         Map<Short, List<IngredientResponse>> expectedResult) {
+        when(mockGrpcClient.<PizzaIngredientResponse>asyncServerStreamingCall(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(grpcInvocationResult));
+
+        Map<Short, List<IngredientResponse>> result = service.findByPizzaIds(pizzaIds);
+
+        assertEquals(expectedResult, result);
+    }
+
+
+    @Test
+    @DisplayName("findByPizzaIds: when there are more identifiers than the maximum per call then several calls sharing the same deadline are sent")
+    public void findByPizzaIds_whenThereAreMoreIdentifiersThanTheMaximumPerCall_thenSeveralCallsSharingTheSameDeadlineAreSent() {
+        // Given
+        IngredientResponse ingredient = IngredientResponse.newBuilder().setId(1).setName("ingredient 1").build();
+        Deadline deadline = Deadline.after(10, TimeUnit.SECONDS);
+        when(mockGrpcConfiguration.getClientMaxPizzaIdsPerCall()).thenReturn(2);
+        when(mockGrpcClient.buildCallsDeadline()).thenReturn(deadline);
+        when(mockGrpcClient.<PizzaIngredientResponse>asyncServerStreamingCall(eq("getIngredientsByPizzaIds"), eq(deadline), any()))
+                .thenAnswer(invocation -> {
+                    BiConsumer<IngredientServiceGrpc.IngredientServiceStub, StreamObserver<PizzaIngredientResponse>> call = invocation.getArgument(2);
+                    List<PizzaIngredientResponse> responses = new ArrayList<>();
+                    call.accept(mockIngredientServiceAsyncGrpc, new StreamObserver<>() {
+                        @Override
+                        public void onNext(PizzaIngredientResponse value) {
+                            responses.add(value);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {}
+
+                        @Override
+                        public void onCompleted() {}
+                    });
+                    return CompletableFuture.completedFuture(responses);
+                });
+        doAnswer(invocation -> {
+            PizzasRequest request = invocation.getArgument(0);
+            StreamObserver<PizzaIngredientResponse> observer = invocation.getArgument(1);
+            request.getIdsList().forEach(id ->
+                    observer.onNext(PizzaIngredientResponse.newBuilder().setPizzaId(id).setIngredient(ingredient).build())
+            );
+            observer.onCompleted();
+            return null;
+        })
+        .when(mockIngredientServiceAsyncGrpc).getIngredientsByPizzaIds(any(PizzasRequest.class), any());
+
+        // When
+        Map<Short, List<IngredientResponse>> result = service.findByPizzaIds(List.of((short)11, (short)12, (short)11, (short)13));
+
+        // Then
+        ArgumentCaptor<PizzasRequest> requestCaptor = ArgumentCaptor.forClass(PizzasRequest.class);
+        verify(mockIngredientServiceAsyncGrpc, times(2)).getIngredientsByPizzaIds(requestCaptor.capture(), any());
+        assertEquals(
+                List.of(List.of(11, 12), List.of(13)),
+                requestCaptor.getAllValues().stream()
+                        .map(PizzasRequest::getIdsList)
+                        .collect(toList())
+        );
+        assertEquals(
+                Map.of((short)11, List.of(ingredient), (short)12, List.of(ingredient), (short)13, List.of(ingredient)),
+                result
+        );
+        verify(mockIngredientServiceGrpc, never()).getIngredientsByPizzaIds(any());
+    }
+
+
+    @Test
+    @DisplayName("findByPizzaIds: when one of the calls fails then its error is thrown")
+    public void findByPizzaIds_whenOneOfTheCallsFails_thenItsErrorIsThrown() {
+        when(mockGrpcConfiguration.getClientMaxPizzaIdsPerCall()).thenReturn(1);
+        when(mockGrpcClient.<PizzaIngredientResponse>asyncServerStreamingCall(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()))
+                .thenReturn(CompletableFuture.failedFuture(Status.DEADLINE_EXCEEDED.asRuntimeException()));
+
+        StatusRuntimeException exception = assertThrows(
+                StatusRuntimeException.class,
+                () -> service.findByPizzaIds(List.of((short)11, (short)12))
+        );
+        assertEquals(Status.Code.DEADLINE_EXCEEDED, exception.getStatus().getCode());
+    }
+
 }
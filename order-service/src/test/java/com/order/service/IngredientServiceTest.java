@@ -18,6 +18,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -30,7 +31,7 @@ import static com.order.TestDataFactory.buildPizzaDto;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -70,7 +71,7 @@ public class IngredientServiceTest {
                                                               Optional<OrderDto> orderServiceResult,
                                                               Optional<Set<IngredientAmountDto>> expectedResult) {
         when(mockOrderService.findByIdWithOrderLines(orderId)).thenReturn(orderServiceResult);
-        when(mockIngredientServiceGrpc.findByPizzaId(anyShort())).thenReturn(List.of());
+        when(mockIngredientServiceGrpc.findByPizzaIds(anyCollection())).thenReturn(Map.of());
 
         Optional<Set<IngredientAmountDto>> result = service.getSummaryByOrderId(orderId);
 
@@ -93,19 +94,20 @@ public class IngredientServiceTest {
         PizzaDto pizza2 = buildPizzaDto((short)31, "Margherita", 7D);
         OrderLineDto orderLine1 =  buildOrderLineDto(21, 2, pizza1, (short)2, 12D);
         OrderLineDto orderLine2 =  buildOrderLineDto(22, 2, pizza2, (short)3, 21D);
-        OrderDto order = buildOrderDto(2, "Order2", new Date(), List.of(orderLine1, orderLine2));
+        OrderLineDto orderLine3 =  buildOrderLineDto(23, 2, pizza1, (short)1, 6D);
+        OrderDto order = buildOrderDto(2, "Order2", new Date(), List.of(orderLine1, orderLine2, orderLine3));
 
         Set<IngredientAmountDto> expectedResult = Set.of(
-                buildIngredientAmount(ingredient1.getName(), 2),
-                buildIngredientAmount(ingredient2.getName(), 1),
+                buildIngredientAmount(ingredient1.getName(), 3),
+                buildIngredientAmount(ingredient2.getName(), 2),
                 buildIngredientAmount(ingredient3.getName(), 1),
-                buildIngredientAmount(ingredient4.getName(), 2),
-                buildIngredientAmount(ingredient5.getName(), 2)
+                buildIngredientAmount(ingredient4.getName(), 3),
+                buildIngredientAmount(ingredient5.getName(), 3)
         );
 
         when(mockOrderService.findByIdWithOrderLines(order.getId())).thenReturn(of(order));
-        when(mockIngredientServiceGrpc.findByPizzaId(pizza1.getId())).thenReturn(ingredientsPizza1);
-        when(mockIngredientServiceGrpc.findByPizzaId(pizza2.getId())).thenReturn(ingredientsPizza2);
+        when(mockIngredientServiceGrpc.findByPizzaIds(List.of(pizza1.getId(), pizza2.getId(), pizza1.getId())))
+                .thenReturn(Map.of(pizza1.getId(), ingredientsPizza1, pizza2.getId(), ingredientsPizza2));
 
         Optional<Set<IngredientAmountDto>> result = service.getSummaryByOrderId(order.getId());
 
@@ -0,0 +1,274 @@
+package com.order.service;
+
+import com.order.dao.OrderDao;
+import com.order.dao.OrderLineDao;
+import com.order.dto.OrderBulkResultDto;
+import com.order.dto.OrderDto;
+import com.order.dto.OrderLineDto;
+import com.order.dto.PizzaDto;
+import com.order.model.Order;
+import com.order.model.OrderLine;
+import com.order.util.converter.OrderConverter;
+import com.order.util.converter.OrderLineConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validation;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.order.TestDataFactory.buildOrder;
+import static com.order.TestDataFactory.buildOrderDto;
+import static com.order.TestDataFactory.buildOrderLine;
+import static com.order.TestDataFactory.buildOrderLineDto;
+import static com.order.TestDataFactory.buildPizzaDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class OrderBulkServiceTest {
+
+    @Mock
+    private OrderDao mockOrderDao;
+
+    @Mock
+    private OrderLineDao mockOrderLineDao;
+
+    @Mock
+    private OrderConverter mockOrderConverter;
+
+    @Mock
+    private OrderLineConverter mockOrderLineConverter;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
+    private OrderBulkService service;
+
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        service = buildService(2);
+        when(mockTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null)
+        );
+        when(mockOrderConverter.fromDtoToModel(any(OrderDto.class))).thenAnswer(invocation -> {
+            OrderDto dto = invocation.getArgument(0);
+            return buildOrder(dto.getId(), dto.getCode(), new Timestamp(dto.getCreated().getTime()));
+        });
+        when(mockOrderLineConverter.fromDtosToModels(anyCollection(), anyInt())).thenAnswer(invocation -> {
+            Collection<OrderLineDto> dtos = invocation.getArgument(0);
+            Integer orderId = invocation.getArgument(1);
+            List<OrderLine> lines = new ArrayList<>();
+            dtos.forEach(dto ->
+                    lines.add(buildOrderLine(null, orderId, dto.getPizza().getId(), dto.getAmount(), dto.getCost()))
+            );
+            return lines;
+        });
+    }
+
+
+    @Test
+    @DisplayName("buildService: when not valid chunk size is given then IllegalArgumentException is thrown")
+    public void buildService_whenNotValidChunkSizeIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> buildService(0));
+    }
+
+
+    @Test
+    @DisplayName("createAll: when no orders are given then empty list is returned")
+    public void createAll_whenNoOrdersAreGiven_thenEmptyListIsReturned() {
+        assertTrue(service.createAll(null).isEmpty());
+        assertTrue(service.createAll(List.of()).isEmpty());
+
+        verify(mockTransactionTemplate, never()).execute(any());
+    }
+
+
+    @Test
+    @DisplayName("createAll: when valid and not valid orders are given then only the valid ones are created using chunks")
+    public void createAll_whenValidAndNotValidOrdersAreGiven_thenOnlyTheValidOnesAreCreatedUsingChunks() {
+        // Given
+        PizzaDto pizzaDto = buildPizzaDto((short)1, "Carbonara", 7.5D);
+        OrderDto valid1 = buildOrderDto(null, "Order1", new Date(), List.of(buildOrderLineDto(null, null, pizzaDto, (short)1, 7.5D)));
+        OrderDto withoutCode = buildOrderDto(null, null, new Date(), List.of());
+        OrderDto valid2 = buildOrderDto(null, "Order2", new Date(), List.of(buildOrderLineDto(null, null, pizzaDto, (short)2, 15D)));
+        OrderDto withId = buildOrderDto(10, "Order3", new Date(), List.of());
+        OrderDto repeatedCode = buildOrderDto(null, "Order1", new Date(), List.of());
+        OrderDto valid3 = buildOrderDto(null, "Order4", new Date(), List.of());
+
+        AtomicInteger nextId = new AtomicInteger(1);
+        when(mockOrderDao.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(nextId.getAndIncrement()));
+            return new ArrayList<>(orders);
+        });
+
+        // When
+        List<OrderBulkResultDto> result = service.createAll(
+                List.of(valid1, withoutCode, valid2, withId, repeatedCode, valid3)
+        );
+
+        // Then
+        assertEquals(6, result.size());
+        assertResult(result.get(0), 0, "Order1", 1, OrderBulkResultDto.Status.CREATED);
+        assertResult(result.get(1), 1, null, null, OrderBulkResultDto.Status.INVALID);
+        assertResult(result.get(2), 2, "Order2", 2, OrderBulkResultDto.Status.CREATED);
+        assertResult(result.get(3), 3, "Order3", null, OrderBulkResultDto.Status.INVALID);
+        assertResult(result.get(4), 4, "Order1", null, OrderBulkResultDto.Status.INVALID);
+        assertResult(result.get(5), 5, "Order4", 3, OrderBulkResultDto.Status.CREATED);
+
+        // 3 valid orders using chunks of 2
+        verify(mockTransactionTemplate, times(2)).execute(any());
+        verify(mockOrderDao, times(2)).saveAll(anyCollection());
+        verify(mockOrderLineDao, times(2)).saveAll(anyCollection());
+    }
+
+
+    @Test
+    @DisplayName("createAll: when an order breaks a constraint then only it is failed and the remaining ones are created")
+    public void createAll_whenAnOrderBreaksAConstraint_thenOnlyItIsFailedAndTheRemainingOnesAreCreated() {
+        // Given
+        OrderDto order1 = buildOrderDto(null, "Order1", new Date(), List.of());
+        OrderDto order2 = buildOrderDto(null, "Order2", new Date(), List.of());
+        OrderDto order3 = buildOrderDto(null, "Order3", new Date(), List.of());
+
+        AtomicInteger nextId = new AtomicInteger(1);
+        when(mockOrderDao.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            if (orders.stream().anyMatch(o -> "Order2".equals(o.getCode()))) {
+                throw new DuplicateKeyException("duplicate key value violates unique constraint \"order_code_uindex\"");
+            }
+            orders.forEach(o -> o.setId(nextId.getAndIncrement()));
+            return new ArrayList<>(orders);
+        });
+
+        // When
+        List<OrderBulkResultDto> result = service.createAll(List.of(order1, order2, order3));
+
+        // Then
+        assertEquals(3, result.size());
+        assertResult(result.get(0), 0, "Order1", 1, OrderBulkResultDto.Status.CREATED);
+        assertResult(result.get(1), 1, "Order2", null, OrderBulkResultDto.Status.FAILED);
+        assertResult(result.get(2), 2, "Order3", 2, OrderBulkResultDto.Status.CREATED);
+        assertEquals(List.of(OrderBulkService.NOT_STORED_ERROR), result.get(1).getErrors());
+
+        // The failed chunk, its orders one by one and the second chunk
+        verify(mockOrderDao, times(4)).saveAll(anyCollection());
+    }
+
+
+    @Test
+    @DisplayName("createAll: when a chunk cannot be stored then its orders are failed without details but the remaining ones are created")
+    public void createAll_whenAChunkCannotBeStored_thenItsOrdersAreFailedWithoutDetailsButTheRemainingOnesAreCreated() {
+        // Given
+        OrderDto order1 = buildOrderDto(null, "Order1", new Date(), List.of());
+        OrderDto order2 = buildOrderDto(null, "Order2", new Date(), List.of());
+        OrderDto order3 = buildOrderDto(null, "Order3", new Date(), List.of());
+
+        AtomicInteger invocations = new AtomicInteger();
+        when(mockOrderDao.saveAll(anyCollection())).thenAnswer(invocation -> {
+            if (0 == invocations.getAndIncrement()) {
+                throw new DataAccessResourceFailureException("Connection to localhost:5432 refused");
+            }
+            Collection<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(3));
+            return new ArrayList<>(orders);
+        });
+
+        // When
+        List<OrderBulkResultDto> result = service.createAll(List.of(order1, order2, order3));
+
+        // Then
+        assertEquals(3, result.size());
+        assertResult(result.get(0), 0, "Order1", null, OrderBulkResultDto.Status.FAILED);
+        assertResult(result.get(1), 1, "Order2", null, OrderBulkResultDto.Status.FAILED);
+        assertResult(result.get(2), 2, "Order3", 3, OrderBulkResultDto.Status.CREATED);
+        assertEquals(List.of(OrderBulkService.NOT_STORED_ERROR), result.get(0).getErrors());
+        assertEquals(List.of(OrderBulkService.NOT_STORED_ERROR), result.get(1).getErrors());
+
+        verify(mockOrderDao, times(2)).saveAll(anyCollection());
+    }
+
+
+    @Test
+    @DisplayName("createAll: when the code of an order already exists then only it is failed and the remaining ones are created")
+    public void createAll_whenTheCodeOfAnOrderAlreadyExists_thenOnlyItIsFailedAndTheRemainingOnesAreCreated() {
+        // Given
+        OrderDto order1 = buildOrderDto(null, "Order1", new Date(), List.of());
+        OrderDto order2 = buildOrderDto(null, "Order2", new Date(), List.of());
+
+        when(mockOrderDao.findByCodes("Order1", "Order2")).thenReturn(
+                List.of(buildOrder(5, "Order2", new Timestamp(new Date().getTime())))
+        );
+        when(mockOrderDao.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(1));
+            return new ArrayList<>(orders);
+        });
+
+        // When
+        List<OrderBulkResultDto> result = service.createAll(List.of(order1, order2));
+
+        // Then
+        assertEquals(2, result.size());
+        assertResult(result.get(0), 0, "Order1", 1, OrderBulkResultDto.Status.CREATED);
+        assertResult(result.get(1), 1, "Order2", null, OrderBulkResultDto.Status.FAILED);
+
+        verify(mockOrderDao, times(1)).saveAll(List.of(buildOrder(1, "Order1", new Timestamp(order1.getCreated().getTime()))));
+    }
+
+
+    private OrderBulkService buildService(int chunkSize) {
+        return new OrderBulkService(
+                mockOrderDao,
+                mockOrderLineDao,
+                mockOrderConverter,
+                mockOrderLineConverter,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                mockTransactionTemplate,
+                chunkSize
+        );
+    }
+
+
+    private void assertResult(OrderBulkResultDto result,
+                              int expectedIndex,
+                              String expectedCode,
+                              Integer expectedId,
+                              OrderBulkResultDto.Status expectedStatus) {
+        assertEquals(expectedIndex, result.getIndex());
+        assertEquals(expectedCode, result.getCode());
+        assertEquals(expectedStatus, result.getStatus());
+        if (null == expectedId) {
+            assertNull(result.getId());
+            assertTrue(!result.getErrors().isEmpty());
+        } else {
+            assertEquals(expectedId, result.getId());
+            assertTrue(result.getErrors().isEmpty());
+        }
+    }
+
+}
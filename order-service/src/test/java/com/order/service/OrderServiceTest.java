@@ -3,10 +3,18 @@ package com.order.service;
 import com.order.dao.OrderDao;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
+import com.order.util.OrderDtoUtil;
+import com.order.util.OrderPageCursorUtil;
+import com.order.util.SingleFlightCache;
 import com.order.util.converter.OrderConverter;
+import com.spring5microservices.common.collection.tuple.Tuple;
+import com.spring5microservices.common.collection.tuple.Tuple2;
 import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -16,6 +24,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -43,12 +52,15 @@ public class OrderServiceTest {
     @Mock
     private OrderLineService mockOrderLineService;
 
+    private SingleFlightCache<Integer, OrderDto> orderLookupCache;
+
     private OrderService service;
 
 
     @BeforeEach
     public void init() {
-        service = new OrderService(mockOrderDao, mockOrderConverter, mockOrderLineService);
+        orderLookupCache = new SingleFlightCache<>("test", 60000, 10, OrderDtoUtil::copy, new SimpleMeterRegistry());
+        service = new OrderService(mockOrderDao, mockOrderConverter, mockOrderLineService, orderLookupCache);
     }
 
 
@@ -78,6 +90,45 @@ public class OrderServiceTest {
     }
 
 
+    @Test
+    @DisplayName("findByIdWithOrderLines: when the order was saved after being found then it is searched again")
+    public void findByIdWithOrderLines_whenTheOrderWasSavedAfterBeingFound_thenItIsSearchedAgain() {
+        OrderDto dto = buildOrderDto(1, "Order1", new Date(), List.of());
+        Order model = buildOrder(dto.getId(), dto.getCode(), new Timestamp(dto.getCreated().getTime()));
+
+        when(mockOrderDao.fetchToOrderDtoByIdWithOrderLineDto(dto.getId())).thenReturn(of(dto));
+        when(mockOrderConverter.fromDtoToOptionalModel(dto)).thenReturn(of(model));
+
+        assertEquals(of(dto), service.findByIdWithOrderLines(dto.getId()));
+        assertEquals(of(dto), service.findByIdWithOrderLines(dto.getId()));
+        verify(mockOrderDao, times(1)).fetchToOrderDtoByIdWithOrderLineDto(dto.getId());
+
+        service.save(dto);
+
+        assertEquals(of(dto), service.findByIdWithOrderLines(dto.getId()));
+        verify(mockOrderDao, times(2)).fetchToOrderDtoByIdWithOrderLineDto(dto.getId());
+    }
+
+
+    @Test
+    @DisplayName("findByIdWithOrderLines: when the returned order is modified then the next searches are not affected")
+    public void findByIdWithOrderLines_whenTheReturnedOrderIsModified_thenTheNextSearchesAreNotAffected() {
+        OrderLineDto lineDto = buildOrderLineDto(11, 1, null, (short)5, 7.50D);
+        OrderDto dto = buildOrderDto(1, "Order1", new Date(), List.of(lineDto));
+
+        when(mockOrderDao.fetchToOrderDtoByIdWithOrderLineDto(dto.getId())).thenReturn(of(dto));
+
+        OrderDto firstResult = service.findByIdWithOrderLines(dto.getId()).get();
+        firstResult.setCode("Modified");
+        firstResult.getOrderLines().get(0).setAmount((short)1);
+
+        OrderDto secondResult = service.findByIdWithOrderLines(dto.getId()).get();
+        assertEquals("Order1", secondResult.getCode());
+        assertEquals((short)5, secondResult.getOrderLines().get(0).getAmount());
+        verify(mockOrderDao, times(1)).fetchToOrderDtoByIdWithOrderLineDto(dto.getId());
+    }
+
+
     static Stream<Arguments> findPageOrderedByCreatedWithOrderLinesTestCases() {
         OrderLineDto lineDto1 = buildOrderLineDto(11, 1, null, (short)5, 7.50D);
         OrderLineDto lineDto2 = buildOrderLineDto(12, 2, null, (short)3, 6.75D);
@@ -107,6 +158,39 @@ public class OrderServiceTest {
     }
 
 
+    static Stream<Arguments> findPageOrderedByCreatedWithOrderLinesUsingCursorTestCases() {
+        OrderLineDto lineDto1 = buildOrderLineDto(11, 1, null, (short)5, 7.50D);
+        OrderLineDto lineDto2 = buildOrderLineDto(12, 2, null, (short)3, 6.75D);
+        OrderDto dto1 = buildOrderDto(1, "Order1", new Timestamp(2000), List.of(lineDto1));
+        OrderDto dto2 = buildOrderDto(2, "Order2", new Timestamp(1000), List.of(lineDto2));
+        Tuple2<Timestamp, Integer> after = Tuple.of(new Timestamp(3000), 3);
+        String dto2Cursor = OrderPageCursorUtil.encode(dto2.getCreated(), dto2.getId());
+        return Stream.of(
+                //@formatter:off
+                //            after,   size,   repositoryResult,                                    expectedResult
+                Arguments.of( null,    2,      new LinkedHashSet<>(),                               new OrderPageDto(List.of(), null) ),
+                Arguments.of( null,    3,      new LinkedHashSet<>(List.of(dto1, dto2)),            new OrderPageDto(List.of(dto1, dto2), null) ),
+                Arguments.of( after,   2,      new LinkedHashSet<>(List.of(dto1, dto2)),            new OrderPageDto(List.of(dto1, dto2), dto2Cursor) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findPageOrderedByCreatedWithOrderLinesUsingCursorTestCases")
+    @DisplayName("findPageOrderedByCreatedWithOrderLines: using cursor test cases")
+    public void findPageOrderedByCreatedWithOrderLinesUsingCursor_testCases(Tuple2<Timestamp, Integer> after,
+                                                                            int size,
+                                                                            Set<OrderDto> repositoryResult,
+                                                                            OrderPageDto expectedResult) {
+        Timestamp afterCreated = null == after ? null : after._1;
+        Integer afterId = null == after ? null : after._2;
+        when(mockOrderDao.fetchKeysetPageToOrderDtoByIdWithOrderLineDto(afterCreated, afterId, size)).thenReturn(repositoryResult);
+
+        OrderPageDto result = service.findPageOrderedByCreatedWithOrderLines(after, size);
+
+        assertEquals(expectedResult, result);
+    }
+
+
     static Stream<Arguments> saveTestCases() {
         OrderDto dto = buildOrderDto(null, "Order1", new Date(), List.of());
         Order model = buildOrder(dto.getId(), dto.getCode(), new Timestamp(dto.getCreated().getTime()));
@@ -0,0 +1,53 @@
+package com.order.util;
+
+import com.order.dto.OrderDto;
+import com.order.dto.OrderLineDto;
+import com.order.dto.PizzaDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static com.order.TestDataFactory.buildOrderDto;
+import static com.order.TestDataFactory.buildOrderLineDto;
+import static com.order.TestDataFactory.buildPizzaDto;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class OrderDtoUtilTest {
+
+    @Test
+    @DisplayName("copy: when null is given then null is returned")
+    public void copy_whenNullIsGiven_thenNullIsReturned() {
+        assertNull(OrderDtoUtil.copy(null));
+    }
+
+
+    @Test
+    @DisplayName("copy: when an order is given then a deep copy is returned")
+    public void copy_whenAnOrderIsGiven_thenADeepCopyIsReturned() {
+        PizzaDto pizza = buildPizzaDto((short)1, "Carbonara", 7.50D);
+        OrderLineDto orderLine = buildOrderLineDto(11, 1, pizza, (short)2, 15D);
+        OrderDto order = buildOrderDto(1, "Order1", new Timestamp(System.currentTimeMillis()), List.of(orderLine));
+
+        OrderDto copy = OrderDtoUtil.copy(order);
+
+        assertNotSame(order, copy);
+        assertEquals(order.getId(), copy.getId());
+        assertEquals(order.getCode(), copy.getCode());
+        assertNotSame(order.getCreated(), copy.getCreated());
+        assertEquals(order.getCreated(), copy.getCreated());
+        assertEquals(1, copy.getOrderLines().size());
+
+        OrderLineDto orderLineCopy = copy.getOrderLines().get(0);
+        assertNotSame(orderLine, orderLineCopy);
+        assertNotSame(pizza, orderLineCopy.getPizza());
+        assertThat(orderLineCopy.getPizza(), samePropertyValuesAs(pizza));
+        assertThat(orderLineCopy, samePropertyValuesAs(orderLine, "pizza"));
+    }
+
+}
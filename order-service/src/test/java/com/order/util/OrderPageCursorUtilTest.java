@@ -0,0 +1,85 @@
+package com.order.util;
+
+import com.spring5microservices.common.collection.tuple.Tuple;
+import com.spring5microservices.common.collection.tuple.Tuple2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrderPageCursorUtilTest {
+
+    static Stream<Arguments> encodeWithInvalidParametersTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            created,      id
+                Arguments.of( null,         null ),
+                Arguments.of( new Date(),   null ),
+                Arguments.of( null,         1 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("encodeWithInvalidParametersTestCases")
+    @DisplayName("encode: when given parameters are not valid then IllegalArgumentException is thrown")
+    public void encode_whenGivenParametersAreNotValid_thenIllegalArgumentExceptionIsThrown(Date created,
+                                                                                        Integer id) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> OrderPageCursorUtil.encode(created, id)
+        );
+    }
+
+
+    @Test
+    @DisplayName("encode: when valid parameters are given then decode returns them")
+    public void encode_whenValidParametersAreGiven_thenDecodeReturnsThem() {
+        Timestamp created = Timestamp.valueOf("2019-01-02 18:00:00.123456");
+        Integer id = 2;
+
+        String cursor = OrderPageCursorUtil.encode(created, id);
+
+        assertEquals(
+                of(Tuple.of(created, id)),
+                OrderPageCursorUtil.decode(cursor)
+        );
+    }
+
+
+    static Stream<Arguments> decodeTestCases() {
+        Timestamp created = new Timestamp(new Date().getTime());
+        String validCursor = OrderPageCursorUtil.encode(created, 11);
+        return Stream.of(
+                //@formatter:off
+                //            cursor,            expectedResult
+                Arguments.of( null,              empty() ),
+                Arguments.of( "",                empty() ),
+                Arguments.of( "notValid#",       empty() ),
+                Arguments.of( "bm90VmFsaWQ",     empty() ),
+                Arguments.of( validCursor,       of(Tuple.of(created, 11)) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("decodeTestCases")
+    @DisplayName("decode: test cases")
+    public void decode_testCases(String cursor,
+                                 Optional<Tuple2<Timestamp, Integer>> expectedResult) {
+        assertEquals(
+                expectedResult,
+                OrderPageCursorUtil.decode(cursor)
+        );
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.order.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightCacheTest {
+
+    private static final String NAME = "test";
+
+
+    @Test
+    @DisplayName("get: when null key is given then empty is returned and loader is not invoked")
+    public void get_whenNullKeyIsGiven_thenEmptyIsReturnedAndLoaderIsNotInvoked() {
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 0, 10, new SimpleMeterRegistry());
+
+        assertEquals(empty(), cache.get(null, k -> { loads.incrementAndGet(); return of("value"); }));
+        assertEquals(0, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when no time to live is given then every sequential request invokes the loader")
+    public void get_whenNoTimeToLiveIsGiven_thenEverySequentialRequestInvokesTheLoader() {
+        AtomicInteger loads = new AtomicInteger();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 0, 10, meterRegistry);
+
+        assertEquals(of("value"), cache.get(1, k -> { loads.incrementAndGet(); return of("value"); }));
+        assertEquals(of("value"), cache.get(1, k -> { loads.incrementAndGet(); return of("value"); }));
+
+        assertEquals(2, loads.get());
+        assertEquals(2, requests(meterRegistry, "loaded"));
+        assertEquals(0, requests(meterRegistry, "hit"));
+    }
+
+
+    @Test
+    @DisplayName("get: when time to live is given then found values are cached until they are invalidated")
+    public void get_whenTimeToLiveIsGiven_thenFoundValuesAreCachedUntilTheyAreInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 60000, 10, meterRegistry);
+
+        assertEquals(of("value"), cache.get(1, k -> { loads.incrementAndGet(); return of("value"); }));
+        assertEquals(of("value"), cache.get(1, k -> { loads.incrementAndGet(); return of("value"); }));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(1);
+
+        assertEquals(of("value"), cache.get(1, k -> { loads.incrementAndGet(); return of("value"); }));
+        assertEquals(2, loads.get());
+        assertEquals(2, requests(meterRegistry, "loaded"));
+        assertEquals(1, requests(meterRegistry, "hit"));
+    }
+
+
+    @Test
+    @DisplayName("get: when time to live is given and the value was not found then it is not cached")
+    public void get_whenTimeToLiveIsGivenAndTheValueWasNotFound_thenItIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 60000, 10, new SimpleMeterRegistry());
+
+        assertEquals(empty(), cache.get(1, k -> { loads.incrementAndGet(); return empty(); }));
+        assertEquals(empty(), cache.get(1, k -> { loads.incrementAndGet(); return empty(); }));
+
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when concurrent requests of the same key are sent then the loader is invoked only once")
+    public void get_whenConcurrentRequestsOfTheSameKeyAreSent_thenTheLoaderIsInvokedOnlyOnce() throws Exception {
+        int numberOfRequests = 5;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 0, 10, meterRegistry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfRequests);
+        try {
+            List<Future<Optional<String>>> results = new ArrayList<>();
+            results.add(
+                    executor.submit(() ->
+                            cache.get(1, k -> {
+                                loads.incrementAndGet();
+                                loaderStarted.countDown();
+                                await(releaseLoader);
+                                return of("value");
+                            })
+                    )
+            );
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < numberOfRequests; i++) {
+                results.add(
+                        executor.submit(() ->
+                                cache.get(1, k -> { loads.incrementAndGet(); return of("other"); })
+                        )
+                );
+            }
+            // Wait until all the requests are waiting for the first one
+            while (numberOfRequests - 1 > requests(meterRegistry, "coalesced")) {
+                Thread.sleep(10);
+            }
+            releaseLoader.countDown();
+
+            for (Future<Optional<String>> result : results) {
+                assertEquals(of("value"), result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, requests(meterRegistry, "loaded"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("get: when a copier is given then every caller receives its own copy of the value")
+    public void get_whenACopierIsGiven_thenEveryCallerReceivesItsOwnCopyOfTheValue() {
+        List<String> loadedValue = new ArrayList<>(List.of("value"));
+        SingleFlightCache<Integer, List<String>> cache = new SingleFlightCache<>(NAME, 60000, 10, ArrayList::new, new SimpleMeterRegistry());
+
+        List<String> loaded = cache.get(1, k -> of(loadedValue)).get();
+        loaded.add("changed by the first caller");
+        List<String> cached = cache.get(1, k -> of(List.of("other"))).get();
+        cached.add("changed by the second caller");
+
+        assertNotSame(loadedValue, loaded);
+        assertNotSame(loaded, cached);
+        assertEquals(List.of("value"), cache.get(1, k -> of(List.of("other"))).get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the loader fails then the exception is thrown and next request invokes it again")
+    public void get_whenTheLoaderFails_thenTheExceptionIsThrownAndNextRequestInvokesItAgain() {
+        SingleFlightCache<Integer, String> cache = new SingleFlightCache<>(NAME, 60000, 10, new SimpleMeterRegistry());
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get(1, k -> { throw new IllegalStateException(); })
+        );
+        assertEquals(of("value"), cache.get(1, k -> of("value")));
+    }
+
+
+    private static double requests(SimpleMeterRegistry meterRegistry,
+                                   String result) {
+        return meterRegistry.get(NAME + SingleFlightCache.REQUESTS_METRIC_SUFFIX)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -8,6 +8,9 @@ public class Constants {
     // Global cache configuration
     public static final String CACHE_INSTANCE_NAME = "PizzaServiceCacheInstance";
 
+    // Hibernate second level cache regions of the catalog entities and collections
+    public static final String CATALOG_CACHE_REGIONS = "com.pizza.model.*";
+
     // Database schema on which the entities have been included
     public static final String DATABASE_SCHEMA = "eat";
 
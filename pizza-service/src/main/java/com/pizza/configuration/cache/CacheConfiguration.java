@@ -7,17 +7,25 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.hibernate.CacheEnvironment;
+import com.hazelcast.hibernate.HazelcastCacheRegionFactory;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.pizza.configuration.Constants;
 import lombok.Getter;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import javax.persistence.SharedCacheMode;
+
 import static com.pizza.configuration.Constants.CACHE_INSTANCE_NAME;
+import static com.pizza.configuration.Constants.CATALOG_CACHE_REGIONS;
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
 
 @Configuration
 @ComponentScan(basePackages = {Constants.PATH.EXTERNAL.COMMON})
@@ -35,20 +43,80 @@ public class CacheConfiguration {
     private String userBlacklistCacheName;
 
 
+    // Regions of the Hibernate second level cache used by the entities of the catalog
+    @Value("${cache.catalog.entryCapacity:10000}")
+    private int catalogCacheEntryCapacity;
+
+    @Value("${cache.catalog.expireInSeconds:3600}")
+    private int catalogCacheExpireInSeconds;
+
+    // Region of the Hibernate query cache used by the cacheable queries of the repositories
+    @Value("${cache.queryResults.entryCapacity:1000}")
+    private int queryResultsCacheEntryCapacity;
+
+    @Value("${cache.queryResults.expireInSeconds:600}")
+    private int queryResultsCacheExpireInSeconds;
+
+    // Total number of pizzas used by the paged queries
+    @Value("${cache.pizzaCount.expireInSeconds:300}")
+    private int pizzaCountCacheExpireInSeconds;
+
+    @Value("${cache.pizzaCount.name:pizzaCount}")
+    @Getter
+    private String pizzaCountCacheName;
+
+
     /**
-     * Centralized cache configuration to manage the information we want to cache
+     *    Hazelcast instance shared by the {@link CacheManager} and the Hibernate second level cache. Its name lets Spring
+     * Boot create it before the {@link javax.persistence.EntityManagerFactory}.
      *
-     * @return {@link CacheManager}
+     * @return {@link HazelcastInstance}
      */
-    @Bean
-    public CacheManager cacheManager() {
+    @Bean(destroyMethod = "")
+    public HazelcastInstance hazelcastInstance() {
         HazelcastInstance existingInstance = Hazelcast.getHazelcastInstanceByName(CACHE_INSTANCE_NAME);
-        HazelcastInstance hazelcastInstance = null != existingInstance
+        return null != existingInstance
                 ? existingInstance
                 : Hazelcast.newHazelcastInstance(hazelCastConfig());
+    }
+
+
+    /**
+     * Centralized cache configuration to manage the information we want to cache
+     *
+     * @param hazelcastInstance
+     *    {@link HazelcastInstance} used to store the information
+     *
+     * @return {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(final HazelcastInstance hazelcastInstance) {
         return new HazelcastCacheManager(hazelcastInstance);
     }
 
+
+    /**
+     *    Enables the Hibernate second level and query caches using {@code hazelcastInstance}. Only the entities and
+     * collections annotated with {@link org.hibernate.annotations.Cache} are cached.
+     *
+     * @param hazelcastInstance
+     *    {@link HazelcastInstance} used to store the information
+     *
+     * @return {@link HibernatePropertiesCustomizer}
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final HazelcastInstance hazelcastInstance) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, HazelcastCacheRegionFactory.class.getName());
+            properties.put(AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE.name());
+            properties.put(CacheEnvironment.HAZELCAST_INSTANCE_NAME, hazelcastInstance.getName());
+            properties.put(CacheEnvironment.SHUTDOWN_ON_STOP, false);
+        };
+    }
+
+
     /**
      * Include all configuration options and different caches used in the application
      *
@@ -67,6 +135,34 @@ public class CacheConfiguration {
                                                 .setEvictionPolicy(EvictionPolicy.LRU)
                                 )
                                 .setTimeToLiveSeconds(userBlacklistCacheExpireInSeconds)
+                )
+                .addMapConfig(
+                        new MapConfig()
+                                .setName(CATALOG_CACHE_REGIONS)
+                                .setEvictionConfig(
+                                        new EvictionConfig()
+                                                .setSize(catalogCacheEntryCapacity)
+                                                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                                                .setEvictionPolicy(EvictionPolicy.LRU)
+                                )
+                                .setTimeToLiveSeconds(catalogCacheExpireInSeconds)
+                )
+                // The update timestamps region is not bounded: it only contains one entry per table and must not be evicted
+                .addMapConfig(
+                        new MapConfig()
+                                .setName(DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)
+                                .setEvictionConfig(
+                                        new EvictionConfig()
+                                                .setSize(queryResultsCacheEntryCapacity)
+                                                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                                                .setEvictionPolicy(EvictionPolicy.LRU)
+                                )
+                                .setTimeToLiveSeconds(queryResultsCacheExpireInSeconds)
+                )
+                .addMapConfig(
+                        new MapConfig()
+                                .setName(pizzaCountCacheName)
+                                .setTimeToLiveSeconds(pizzaCountCacheExpireInSeconds)
                 );
         return config;
     }
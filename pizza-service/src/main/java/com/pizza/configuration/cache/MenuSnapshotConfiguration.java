@@ -0,0 +1,92 @@
+package com.pizza.configuration.cache;
+
+import com.pizza.repository.PizzaRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.menu.MenuSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Configuration of the in-memory copy of the catalog used to serve the queries without accessing to the database,
+ * only used if {@code menu.snapshot.enabled} is {@code true}.
+ */
+@Configuration
+@ConditionalOnProperty(value = MenuSnapshotService.ENABLED_PROPERTY, havingValue = "true")
+public class MenuSnapshotConfiguration {
+
+    public static final String MENU_SNAPSHOT_EXECUTOR = "menuSnapshotExecutor";
+
+    @Value("${menu.snapshot.refreshIntervalInSeconds:3600}")
+    private long refreshIntervalInSeconds;
+
+
+    /**
+     * Thread used to load the catalog, so the requests are never waiting for it.
+     *
+     * @return {@link ScheduledExecutorService}
+     */
+    @Bean(name = MENU_SNAPSHOT_EXECUTOR, destroyMethod = "shutdownNow")
+    public ScheduledExecutorService menuSnapshotExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "menu-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     *    {@link MenuSnapshotService} whose snapshot is loaded at the beginning and every
+     * {@code menu.snapshot.refreshIntervalInSeconds}, besides after every change. The gRPC responses cached by
+     * {@link IngredientResponseCacheService} are removed every time a new snapshot is published, because the ones
+     * built between a change and the next snapshot contain the previous information.
+     *
+     * @param pizzaRepository
+     *    {@link PizzaRepository} used to load the catalog
+     * @param transactionManager
+     *    {@link PlatformTransactionManager} used to manage the transactions
+     * @param menuSnapshotExecutor
+     *    {@link ScheduledExecutorService} used to load the catalog
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     * @param ingredientResponseCacheService
+     *    {@link IngredientResponseCacheService} to invalidate after every new snapshot
+     *
+     * @return {@link MenuSnapshotService}
+     */
+    @Bean
+    public MenuSnapshotService menuSnapshotService(final PizzaRepository pizzaRepository,
+                                                   final PlatformTransactionManager transactionManager,
+                                                   @Qualifier(MENU_SNAPSHOT_EXECUTOR) final ScheduledExecutorService menuSnapshotExecutor,
+                                                   final MeterRegistry meterRegistry,
+                                                   final IngredientResponseCacheService ingredientResponseCacheService) {
+        MenuSnapshotService menuSnapshotService = new MenuSnapshotService(
+                pizzaRepository,
+                transactionManager,
+                menuSnapshotExecutor,
+                meterRegistry,
+                Clock.systemUTC()
+        );
+        menuSnapshotService.addRefreshListener(snapshot ->
+                ingredientResponseCacheService.invalidateAll()
+        );
+        menuSnapshotExecutor.scheduleWithFixedDelay(
+                menuSnapshotService::refreshQuietly,
+                0,
+                refreshIntervalInSeconds,
+                TimeUnit.SECONDS
+        );
+        return menuSnapshotService;
+    }
+
+}
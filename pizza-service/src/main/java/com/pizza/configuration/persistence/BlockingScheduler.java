@@ -0,0 +1,86 @@
+package com.pizza.configuration.persistence;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.function.Supplier;
+
+/**
+ *    Runs blocking code, like JPA repositories or the distributed cache, in a bounded {@link Scheduler} instead of in
+ * the threads of the event loop, so a slow database only affects to the requests that need it.
+ * <p>
+ *    The transactions are opened in the same thread the blocking code is invoked, because they are bound to it, so the
+ * {@link org.springframework.transaction.annotation.Transactional} annotations of the caller do not reach them.
+ */
+public class BlockingScheduler {
+
+    private final Scheduler scheduler;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final TransactionTemplate readWriteTransactionTemplate;
+
+
+    public BlockingScheduler(final PlatformTransactionManager transactionManager,
+                             final Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readWriteTransactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+
+    /**
+     * Invokes the given {@code supplier} inside a read-only transaction.
+     *
+     * @param supplier
+     *    {@link Supplier} with the blocking code to run
+     *
+     * @return {@link Mono} with the result of {@code supplier}, empty if it returns {@code null}
+     */
+    public <T> Mono<T> read(final Supplier<T> supplier) {
+        return call(() ->
+                readOnlyTransactionTemplate.execute(status -> supplier.get())
+        );
+    }
+
+
+    /**
+     * Invokes the given {@code supplier} inside a read-write transaction, rolled back if it throws an exception.
+     *
+     * @param supplier
+     *    {@link Supplier} with the blocking code to run
+     *
+     * @return {@link Mono} with the result of {@code supplier}, empty if it returns {@code null}
+     */
+    public <T> Mono<T> write(final Supplier<T> supplier) {
+        return call(() ->
+                readWriteTransactionTemplate.execute(status -> supplier.get())
+        );
+    }
+
+
+    /**
+     * Invokes the given {@code supplier} without a transaction.
+     *
+     * @param supplier
+     *    {@link Supplier} with the blocking code to run
+     *
+     * @return {@link Mono} with the result of {@code supplier}, empty if it returns {@code null}
+     */
+    public <T> Mono<T> call(final Supplier<T> supplier) {
+        return Mono.fromSupplier(supplier)
+                .subscribeOn(scheduler);
+    }
+
+
+    /**
+     * Releases the threads of the internal {@link Scheduler}.
+     */
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+}
@@ -2,12 +2,46 @@ package com.pizza.configuration.persistence;
 
 import com.pizza.configuration.Constants;
 import com.pizza.repository.base.ExtendedQueryDslJpaRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Custom {@link Configuration} class to add specific configuration options related with the persistence.
  */
 @Configuration
 @EnableJpaRepositories(basePackages = Constants.PATH.REPOSITORY, repositoryBaseClass = ExtendedQueryDslJpaRepositoryImpl.class)
-public class PersistenceConfiguration { }
+public class PersistenceConfiguration {
+
+    // By default, the same as the connection pool, more threads would only wait for a connection
+    @Value("${database.scheduler.threadCap:10}")
+    private int schedulerThreadCap;
+
+    @Value("${database.scheduler.queuedTaskCap:10000}")
+    private int schedulerQueuedTaskCap;
+
+
+    /**
+     * {@link BlockingScheduler} used to invoke JPA repositories outside the threads of the event loop.
+     *
+     * @param transactionManager
+     *    {@link PlatformTransactionManager} used to manage the transactions
+     *
+     * @return {@link BlockingScheduler}
+     */
+    @Bean(destroyMethod = "dispose")
+    public BlockingScheduler blockingScheduler(final PlatformTransactionManager transactionManager) {
+        return new BlockingScheduler(
+                transactionManager,
+                Schedulers.newBoundedElastic(
+                        schedulerThreadCap,
+                        schedulerQueuedTaskCap,
+                        "blocking"
+                )
+        );
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.pizza.configuration.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+/**
+ *    Configuration of the non-blocking access to the database, only used if {@code database.reactive.enabled} is
+ * {@code true}. Otherwise, the JPA repositories are used for every query.
+ * <p>
+ *    The {@link R2dbcTransactionManager} is not published as a bean, to avoid the ambiguity with the JPA one in the
+ * {@link org.springframework.transaction.annotation.Transactional} annotations.
+ */
+@Configuration
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "true")
+public class ReactivePersistenceConfiguration {
+
+    public static final String ENABLED_PROPERTY = "database.reactive.enabled";
+
+    @Value("${database.reactive.url}")
+    private String url;
+
+    @Value("${database.reactive.username}")
+    private String username;
+
+    @Value("${database.reactive.password}")
+    private String password;
+
+    @Value("${database.reactive.maxPoolSize:10}")
+    private int maxPoolSize;
+
+
+    /**
+     * Pool of non-blocking connections to the database.
+     *
+     * @return {@link ConnectionPool}
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                ConnectionFactoryOptions.parse(url)
+                        .mutate()
+                        .option(USER, username)
+                        .option(PASSWORD, password)
+                        .build()
+        );
+        return new ConnectionPool(
+                ConnectionPoolConfiguration.builder(connectionFactory)
+                        .maxSize(maxPoolSize)
+                        .build()
+        );
+    }
+
+
+    @Bean
+    public DatabaseClient databaseClient(final ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+
+    /**
+     * Used to include several non-blocking queries in the same transaction.
+     *
+     * @param connectionFactory
+     *    {@link ConnectionFactory} whose connections will be managed
+     *
+     * @return {@link TransactionalOperator}
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(final ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(
+                new R2dbcTransactionManager(connectionFactory)
+        );
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.pizza.configuration.security;
 
+import com.pizza.service.cache.TokenVerificationCacheService;
 import com.pizza.service.cache.UserBlacklistCacheService;
 import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
 import com.spring5microservices.common.enums.ExtendedHttpStatus;
@@ -39,6 +40,9 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
  *    Manages the validation of the token related with a logged user, using the {@link Authentication}
  * to get and fill the required {@link UsernamePasswordAuthenticationToken} used later to know if the
  * user has the correct {@link GrantedAuthority}.
+ * <p>
+ *    The verified tokens are cached by {@link TokenVerificationCacheService}, so the security server is not invoked
+ * in every request.
  */
 @AllArgsConstructor
 @Component
@@ -54,14 +58,22 @@ public class SecurityManager implements ReactiveAuthenticationManager {
     @Lazy
     private final WebClient webClient;
 
+    @Lazy
+    private final TokenVerificationCacheService tokenVerificationCacheService;
+
 
     @Override
     public Mono<Authentication> authenticate(final Authentication authentication) {
         String authToken = authentication.getCredentials().toString();
-        return getAuthenticationInformation(
-                securityConfiguration.getAuthenticationInformationWebService(),
-                authToken
+        return tokenVerificationCacheService.get(
+                authToken,
+                token ->
+                        getAuthenticationInformation(
+                                securityConfiguration.getAuthenticationInformationWebService(),
+                                token
+                        )
         )
+        // The blacklist must be checked in every request, also with the cached tokens
         .map(this::getFromUsernameAuthoritiesDto);
     }
 
@@ -6,7 +6,7 @@ import com.pizza.configuration.rest.RestRoutes;
 import com.pizza.dto.PizzaDto;
 import com.pizza.model.Ingredient;
 import com.pizza.model.Pizza;
-import com.pizza.service.PizzaService;
+import com.pizza.service.reactive.PizzaReactiveService;
 import com.pizza.util.converter.PizzaConverter;
 import com.spring5microservices.common.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,7 +21,6 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -57,7 +56,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class PizzaController {
 
     @Lazy
-    private final PizzaService service;
+    private final PizzaReactiveService service;
 
     @Lazy
     private final PizzaConverter converter;
@@ -117,28 +116,23 @@ public class PizzaController {
             }
     )
     @PostMapping
-    @Transactional(rollbackFor = Exception.class)
     @RoleAdmin
     public Mono<ResponseEntity<PizzaDto>> create(@RequestBody @Valid final PizzaDto pizzaDto) {
         log.info(
                 format("Creating the pizza: %s",
                         pizzaDto)
         );
-        return Mono.just(
-                service.save(
-                            converter.fromDtoToModel(pizzaDto)
-                        )
-                        .map(converter::fromModelToDto)
-                        .map(p ->
-                                new ResponseEntity<>(
-                                        p,
-                                        CREATED
-                                )
-                        )
-                        .orElseGet(() ->
-                                new ResponseEntity<>(UNPROCESSABLE_ENTITY)
+        return service.save(
+                        converter.fromDtoToModel(pizzaDto)
+                )
+                .map(converter::fromModelToDto)
+                .map(p ->
+                        new ResponseEntity<>(
+                                p,
+                                CREATED
                         )
-        );
+                )
+                .defaultIfEmpty(new ResponseEntity<>(UNPROCESSABLE_ENTITY));
     }
 
 
@@ -196,26 +190,21 @@ public class PizzaController {
             }
     )
     @GetMapping("/{name}")
-    @Transactional(readOnly = true)
     @RoleAdminOrUser
     public Mono<ResponseEntity<PizzaDto>> findByName(@PathVariable @Size(min=1, max=64) final String name) {
         log.info(
                 format("Searching the pizza with name: %s",
                         name)
         );
-        return Mono.just(
-                service.findByName(name)
-                        .map(converter::fromModelToDto)
-                        .map(p ->
-                                new ResponseEntity<>(
-                                        p,
-                                        OK
-                                )
-                )
-                .orElseGet(() ->
-                        new ResponseEntity<>(NOT_FOUND)
+        return service.findByName(name)
+                .map(converter::fromModelToDto)
+                .map(p ->
+                        new ResponseEntity<>(
+                                p,
+                                OK
+                        )
                 )
-        );
+                .defaultIfEmpty(new ResponseEntity<>(NOT_FOUND));
     }
 
 
@@ -270,7 +259,6 @@ public class PizzaController {
             }
     )
     @GetMapping(RestRoutes.PIZZA.PAGE_WITH_INGREDIENTS)
-    @Transactional(readOnly = true)
     @RoleAdminOrUser
     public Mono<Page<PizzaDto>> findPageWithIngredients(@RequestParam(value = "page") @PositiveOrZero final int page,
                                                         @RequestParam(value = "size") @Positive final int size) {
@@ -278,14 +266,14 @@ public class PizzaController {
                 format("Returning the page of pizzas related with page: %d and size: %d",
                         page, size)
         );
-        return Mono.just(
-                service.findPageWithIngredients(
+        return service.findPageWithIngredients(
                         page,
                         size,
                         null
                 )
-                .map(converter::fromModelToDto)
-        );
+                .map(pizzas ->
+                        pizzas.map(converter::fromModelToDto)
+                );
     }
 
 
@@ -343,28 +331,23 @@ public class PizzaController {
             }
     )
     @PutMapping
-    @Transactional(rollbackFor = Exception.class)
     @RoleAdmin
     public Mono<ResponseEntity<PizzaDto>> update(@RequestBody @Valid final PizzaDto pizzaDto) {
         log.info(
                 format("Updating the pizza: %s",
                         pizzaDto)
         );
-        return Mono.just(
-                service.save(
-                            converter.fromDtoToModel(pizzaDto)
-                        )
-                        .map(converter::fromModelToDto)
-                        .map(p ->
-                                new ResponseEntity<>(
-                                        p,
-                                        OK
-                                )
-                        )
-                        .orElseGet(() ->
-                                new ResponseEntity<>(NOT_FOUND)
+        return service.save(
+                        converter.fromDtoToModel(pizzaDto)
+                )
+                .map(converter::fromModelToDto)
+                .map(p ->
+                        new ResponseEntity<>(
+                                p,
+                                OK
                         )
-        );
+                )
+                .defaultIfEmpty(new ResponseEntity<>(NOT_FOUND));
     }
 
 }
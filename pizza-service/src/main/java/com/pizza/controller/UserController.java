@@ -1,6 +1,7 @@
 package com.pizza.controller;
 
 import com.pizza.annotation.RoleAdmin;
+import com.pizza.configuration.persistence.BlockingScheduler;
 import com.pizza.configuration.rest.RestRoutes;
 import com.pizza.service.cache.UserBlacklistCacheService;
 import com.spring5microservices.common.dto.ErrorResponseDto;
@@ -46,6 +47,9 @@ public class UserController {
     @Lazy
     private final UserBlacklistCacheService userBlackListCacheService;
 
+    @Lazy
+    private final BlockingScheduler blockingScheduler;
+
 
     /**
      * Include the given {@code username} into the blacklist.
@@ -107,14 +111,14 @@ public class UserController {
                 format("Adding to the blacklist the username: %s",
                         username)
         );
-        return userBlackListCacheService.put(username)
-                ? Mono.just(
-                        new ResponseEntity<>(
-                                username,
-                                OK
-                        )
-                )
-                : Mono.just(new ResponseEntity<>(UNPROCESSABLE_ENTITY));
+        return blockingScheduler.call(() ->
+                userBlackListCacheService.put(username)
+                        ? new ResponseEntity<>(
+                                  username,
+                                  OK
+                          )
+                        : new ResponseEntity<>(UNPROCESSABLE_ENTITY)
+        );
     }
 
 
@@ -178,14 +182,14 @@ public class UserController {
                 format("Removing from the blacklist the username: %s",
                         username)
         );
-        return userBlackListCacheService.remove(username)
-                ? Mono.just(
-                        new ResponseEntity<>(
-                                username,
-                                OK
-                        )
-                )
-                : Mono.just(new ResponseEntity<>(NOT_FOUND));
+        return blockingScheduler.call(() ->
+                userBlackListCacheService.remove(username)
+                        ? new ResponseEntity<>(
+                                  username,
+                                  OK
+                          )
+                        : new ResponseEntity<>(NOT_FOUND)
+        );
     }
 
 }
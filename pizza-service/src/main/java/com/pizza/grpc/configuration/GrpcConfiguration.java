@@ -1,17 +1,89 @@
 package com.pizza.grpc.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 @Getter
 public class GrpcConfiguration {
 
+    public static final String SERVER_EXECUTOR = "grpcServerExecutor";
+
     @Value("${grpc.server.port}")
     private int serverPort;
 
     @Value("${grpc.server.awaitTerminationInSeconds}")
     private int serverAwaitTerminationInSeconds;
 
+    // Number of threads used to invoke the gRPC services
+    @Value("${grpc.server.executor.threads:20}")
+    private int serverExecutorThreads;
+
+    // Maximum number of calls managed at the same time, the new ones will be rejected with RESOURCE_EXHAUSTED
+    @Value("${grpc.server.maxConcurrentCalls:200}")
+    private int serverMaxConcurrentCalls;
+
+    @Value("${grpc.server.maxConcurrentCallsPerConnection:100}")
+    private int serverMaxConcurrentCallsPerConnection;
+
+    @Value("${grpc.server.maxInboundMessageSizeInBytes:4194304}")
+    private int serverMaxInboundMessageSizeInBytes;
+
+    @Value("${grpc.server.keepAliveTimeInSeconds:60}")
+    private long serverKeepAliveTimeInSeconds;
+
+    @Value("${grpc.server.keepAliveTimeoutInSeconds:20}")
+    private long serverKeepAliveTimeoutInSeconds;
+
+    // Minimum time the clients must wait between keepalive pings
+    @Value("${grpc.server.permitKeepAliveTimeInSeconds:30}")
+    private long serverPermitKeepAliveTimeInSeconds;
+
+
+    /**
+     *    Bounded pool of threads used to invoke the gRPC services, instead of the default unbounded one. Its queue is not
+     * limited because gRPC only enqueues one task of every call at the same time, and the number of calls is already
+     * limited by {@link com.pizza.grpc.interceptor.ConcurrencyLimitInterceptor}.
+     * <p>
+     * Its queue depth and active threads are published with the tag: {@code name=grpcServer}.
+     *
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     *
+     * @return {@link ThreadPoolExecutor}
+     */
+    @Bean(name = SERVER_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor grpcServerExecutor(final MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                serverExecutorThreads,
+                serverExecutorThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "grpc-server-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        new ExecutorServiceMetrics(
+                executor,
+                "grpcServer",
+                Tags.empty()
+        )
+        .bindTo(meterRegistry);
+        return executor;
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.pizza.grpc.interceptor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.pizza.configuration.security.SecurityConfiguration;
 import com.pizza.grpc.configuration.Constants;
 import com.spring5microservices.common.collection.tuple.Tuple2;
@@ -12,21 +14,29 @@ import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.Status;
-import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+import static com.spring5microservices.common.util.DigestUtil.sha256;
 import static io.grpc.Status.OK;
 import static io.grpc.Status.UNAUTHENTICATED;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  *    Gets {@link GrpcHeader#AUTHORIZATION} from the metadata, verifies it and sets the client identifier
  * obtained from the provided data into the {@link Context}.
+ * <p>
+ *    The SHA-256 digests of the already verified headers are kept in a small cache, so the next calls with the same
+ * credentials only need to calculate and find the digest. Not valid headers are never cached.
  */
-@AllArgsConstructor
 @Log4j2
 @Component
 public class AuthenticationInterceptor implements ServerInterceptor {
@@ -34,6 +44,20 @@ public class AuthenticationInterceptor implements ServerInterceptor {
     @Lazy
     private final SecurityConfiguration securityConfiguration;
 
+    private final Cache<ByteBuffer, Boolean> verifiedDigests;
+
+
+    public AuthenticationInterceptor(final SecurityConfiguration securityConfiguration,
+                                     @Value("${grpc.server.verifiedCredentials.entryCapacity:16}") final long entryCapacity,
+                                     @Value("${grpc.server.verifiedCredentials.expireInSeconds:600}") final long expireInSeconds) {
+        this.securityConfiguration = securityConfiguration;
+        this.verifiedDigests = Caffeine.newBuilder()
+                .maximumSize(entryCapacity)
+                .expireAfterWrite(expireInSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+
     @Override
     public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(final ServerCall<ReqT, RespT> serverCall,
                                                                  final Metadata metadata,
@@ -78,12 +102,16 @@ public class AuthenticationInterceptor implements ServerInterceptor {
                     .withDescription("Authentication data is missing");
         }
         try {
+            ByteBuffer digest = sha256(basicAuthentication);
+            if (null != verifiedDigests.getIfPresent(digest)) {
+                return OK;
+            }
             Tuple2<String, String> usernameAndPassword = HttpUtil.decodeBasicAuthentication(basicAuthentication);
-            log.info(
+            log.debug(() ->
                     format("Verifying authentication data of the gRPC client identifier: %s",
                             usernameAndPassword._1)
             );
-            if (!usernameAndPassword._1.equals(securityConfiguration.getClientId())) {
+            if (!isEqual(usernameAndPassword._1, securityConfiguration.getClientId())) {
                 log.error(
                         format("Provided gRPC client identifier: %s does not match with configured one: %s",
                                 usernameAndPassword._1, securityConfiguration.getClientId())
@@ -91,22 +119,41 @@ public class AuthenticationInterceptor implements ServerInterceptor {
                 return UNAUTHENTICATED
                         .withDescription("Provided authentication is not valid");
             }
-            if (!usernameAndPassword._2.equals(securityConfiguration.getClientPassword())) {
+            if (!isEqual(usernameAndPassword._2, securityConfiguration.getClientPassword())) {
                 log.error("Provided gRPC client password does not match with configured one");
                 return UNAUTHENTICATED
                         .withDescription("Provided authentication is not valid");
             }
+            verifiedDigests.put(digest, Boolean.TRUE);
             return OK;
 
         } catch (Exception e) {
-            log.error(
-                    format("There was an error trying to verify the basic authentication data: %s",
-                            basicAuthentication),
-                    e
-            );
+            log.error("There was an error trying to verify the basic authentication data", e);
             return UNAUTHENTICATED
                     .withDescription("There was an error trying to verify provided authentication");
         }
     }
 
+
+    /**
+     * Compares the given {@link String}s in a time that does not depend on the position of their first difference.
+     *
+     * @param provided
+     *    {@link String} sent by the client
+     * @param expected
+     *    {@link String} with the configured value
+     *
+     * @return {@code true} if both are equal, {@code false} otherwise
+     */
+    private static boolean isEqual(final String provided,
+                                   final String expected) {
+        if (null == provided || null == expected) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                provided.getBytes(UTF_8),
+                expected.getBytes(UTF_8)
+        );
+    }
+
 }
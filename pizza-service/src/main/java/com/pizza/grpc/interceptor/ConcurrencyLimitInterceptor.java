@@ -0,0 +1,126 @@
+package com.pizza.grpc.interceptor;
+
+import com.pizza.grpc.configuration.GrpcConfiguration;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ *    Implementation of {@link ServerInterceptor} that limits the number of calls managed at the same time to
+ * {@link GrpcConfiguration#getServerMaxConcurrentCalls()}. When the server is saturated, the new calls are rejected
+ * with {@link Status#RESOURCE_EXHAUSTED}, so the clients can retry them instead of waiting in an unbounded queue.
+ * <p>
+ *    A call is active until it is closed or cancelled, not only while the service method is invoked, because the
+ * responses are sent using other threads.
+ */
+@Log4j2
+@Component
+public class ConcurrencyLimitInterceptor implements ServerInterceptor {
+
+    public static final String ACTIVE_CALLS_METRIC = "grpc.server.calls.active";
+    public static final String REJECTED_CALLS_METRIC = "grpc.server.calls.rejected";
+
+    private final int maxConcurrentCalls;
+
+    private final Semaphore permits;
+
+    private final MeterRegistry meterRegistry;
+
+
+    public ConcurrencyLimitInterceptor(final GrpcConfiguration grpcConfiguration,
+                                       final MeterRegistry meterRegistry) {
+        this.maxConcurrentCalls = grpcConfiguration.getServerMaxConcurrentCalls();
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(ACTIVE_CALLS_METRIC, permits, p -> maxConcurrentCalls - p.availablePermits())
+                .description("Number of gRPC calls currently managed")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(final ServerCall<ReqT, RespT> serverCall,
+                                                                 final Metadata metadata,
+                                                                 final ServerCallHandler<ReqT, RespT> serverCallHandler) {
+        String methodName = serverCall.getMethodDescriptor().getFullMethodName();
+        if (!permits.tryAcquire()) {
+            log.warn(
+                    format("The gRPC call: %s was rejected because there are already %d active ones",
+                            methodName,
+                            maxConcurrentCalls)
+            );
+            Counter.builder(REJECTED_CALLS_METRIC)
+                    .description("Number of gRPC calls rejected because the server was saturated")
+                    .tag("method", methodName)
+                    .register(meterRegistry)
+                    .increment();
+            serverCall.close(
+                    Status.RESOURCE_EXHAUSTED.withDescription("The server is saturated, try again later"),
+                    new Metadata()
+            );
+            return new ServerCall.Listener<>() {};
+        }
+        AtomicBoolean released = new AtomicBoolean(false);
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        ServerCall<ReqT, RespT> limitedServerCall = new ForwardingServerCall.SimpleForwardingServerCall<>(serverCall) {
+
+            @Override
+            public void close(Status status,
+                              Metadata trailers) {
+                try {
+                    super.close(status, trailers);
+                } finally {
+                    release.run();
+                }
+            }
+        };
+        try {
+            ServerCall.Listener<ReqT> delegate = serverCallHandler.startCall(
+                    limitedServerCall,
+                    metadata
+            );
+            return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+
+                @Override
+                public void onCancel() {
+                    try {
+                        super.onCancel();
+                    } finally {
+                        release.run();
+                    }
+                }
+
+                @Override
+                public void onComplete() {
+                    try {
+                        super.onComplete();
+                    } finally {
+                        release.run();
+                    }
+                }
+            };
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.pizza.grpc.interceptor;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ *    Implementation of {@link ServerInterceptor} that publishes the latency of every gRPC call, since it was received
+ * until it was closed, in the metric {@code grpc.server.calls} tagged by {@code method} and returned {@code status}.
+ */
+@AllArgsConstructor
+@Component
+public class MetricsInterceptor implements ServerInterceptor {
+
+    public static final String CALLS_METRIC = "grpc.server.calls";
+
+    @Lazy
+    private final MeterRegistry meterRegistry;
+
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(final ServerCall<ReqT, RespT> serverCall,
+                                                                 final Metadata metadata,
+                                                                 final ServerCallHandler<ReqT, RespT> serverCallHandler) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String methodName = serverCall.getMethodDescriptor().getFullMethodName();
+        return serverCallHandler.startCall(
+                new ForwardingServerCall.SimpleForwardingServerCall<>(serverCall) {
+
+                    @Override
+                    public void close(Status status,
+                                      Metadata trailers) {
+                        sample.stop(
+                                Timer.builder(CALLS_METRIC)
+                                        .description("Latency of the gRPC calls")
+                                        .tag("method", methodName)
+                                        .tag("status", status.getCode().name())
+                                        .register(meterRegistry)
+                        );
+                        super.close(status, trailers);
+                    }
+                },
+                metadata
+        );
+    }
+
+}
@@ -2,18 +2,22 @@ package com.pizza.grpc.server;
 
 import com.pizza.grpc.configuration.GrpcConfiguration;
 import com.pizza.grpc.interceptor.AuthenticationInterceptor;
+import com.pizza.grpc.interceptor.ConcurrencyLimitInterceptor;
 import com.pizza.grpc.interceptor.ExceptionHandlerInterceptor;
+import com.pizza.grpc.interceptor.MetricsInterceptor;
 import com.pizza.grpc.interceptor.RequestIdInterceptor;
 import com.pizza.grpc.service.IngredientServiceGrpcImpl;
 import io.grpc.BindableService;
-import io.grpc.Grpc;
 import io.grpc.InsecureServerCredentials;
 import io.grpc.Server;
 import io.grpc.ServerInterceptor;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -41,9 +45,17 @@ public class GrpcServer {
     @Lazy
     private final ExceptionHandlerInterceptor exceptionHandlerInterceptor;
 
+    @Lazy
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Lazy
+    private final MetricsInterceptor metricsInterceptor;
+
     @Lazy
     private final IngredientServiceGrpcImpl ingredientServiceGrpc;
 
+    private final Executor executor;
+
     private final Server server;
 
 
@@ -51,12 +63,18 @@ public class GrpcServer {
                       final RequestIdInterceptor requestIdInterceptor,
                       final AuthenticationInterceptor authenticationInterceptor,
                       final ExceptionHandlerInterceptor exceptionHandlerInterceptor,
-                      final IngredientServiceGrpcImpl ingredientServiceGrpc) {
+                      final ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                      final MetricsInterceptor metricsInterceptor,
+                      final IngredientServiceGrpcImpl ingredientServiceGrpc,
+                      @Qualifier(GrpcConfiguration.SERVER_EXECUTOR) final Executor executor) {
         this.grpcConfiguration = grpcConfiguration;
         this.requestIdInterceptor = requestIdInterceptor;
         this.authenticationInterceptor = authenticationInterceptor;
         this.exceptionHandlerInterceptor = exceptionHandlerInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.metricsInterceptor = metricsInterceptor;
         this.ingredientServiceGrpc = ingredientServiceGrpc;
+        this.executor = executor;
         this.server = buildServer(
                 grpcConfiguration.getServerPort()
         );
@@ -121,7 +139,12 @@ public class GrpcServer {
 
 
     /**
-     * Configures the gRPC server including: {@link BindableService} and {@link ServerInterceptor}.
+     *    Configures the gRPC server including: {@link BindableService}, {@link ServerInterceptor}, the {@link Executor}
+     * used to invoke the services and the limits of the connections.
+     * <p>
+     *    The interceptors are invoked in the reverse order they are added. So {@link MetricsInterceptor} goes first,
+     * and the calls rejected by a saturated server are recorded with their status too. Right after it,
+     * {@link ConcurrencyLimitInterceptor} rejects those calls before they are authenticated or handled.
      *
      * @param port
      *    Port used by the gRPC server
@@ -129,14 +152,22 @@ public class GrpcServer {
      * @return {@link Server}
      */
     private Server buildServer(final int port) {
-        return Grpc.newServerBuilderForPort(
+        return NettyServerBuilder.forPort(
                 port,
                 InsecureServerCredentials.create()
         )
+        .executor(executor)
+        .maxConcurrentCallsPerConnection(grpcConfiguration.getServerMaxConcurrentCallsPerConnection())
+        .maxInboundMessageSize(grpcConfiguration.getServerMaxInboundMessageSizeInBytes())
+        .keepAliveTime(grpcConfiguration.getServerKeepAliveTimeInSeconds(), TimeUnit.SECONDS)
+        .keepAliveTimeout(grpcConfiguration.getServerKeepAliveTimeoutInSeconds(), TimeUnit.SECONDS)
+        .permitKeepAliveTime(grpcConfiguration.getServerPermitKeepAliveTimeInSeconds(), TimeUnit.SECONDS)
         .addService(ingredientServiceGrpc)
         .intercept(exceptionHandlerInterceptor)
         .intercept(authenticationInterceptor)
         .intercept(requestIdInterceptor)
+        .intercept(concurrencyLimitInterceptor)
+        .intercept(metricsInterceptor)
         .build();
     }
 
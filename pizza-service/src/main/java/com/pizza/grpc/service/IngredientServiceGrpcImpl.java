@@ -2,18 +2,33 @@ package com.pizza.grpc.service;
 
 import com.spring5microservices.grpc.IngredientResponse;
 import com.spring5microservices.grpc.IngredientServiceGrpc;
+import com.spring5microservices.grpc.PizzaIngredientResponse;
 import com.spring5microservices.grpc.PizzaRequest;
+import com.spring5microservices.grpc.PizzasRequest;
+import com.pizza.configuration.persistence.BlockingScheduler;
 import com.pizza.grpc.converter.IngredientGrpcConverter;
+import com.pizza.grpc.util.FlowControlledSubscriber;
 import com.pizza.service.IngredientService;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.reactive.IngredientReactiveService;
 import io.grpc.stub.StreamObserver;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import static com.spring5microservices.common.util.ObjectUtil.getOrElse;
+import static com.spring5microservices.grpc.util.GrpcErrorHandlerUtil.getStatusRuntimeExceptionFromThrowable;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 
 @AllArgsConstructor
 @Log4j2
@@ -23,10 +38,23 @@ public class IngredientServiceGrpcImpl extends IngredientServiceGrpc.IngredientS
     @Lazy
     private final IngredientService ingredientService;
 
+    @Lazy
+    private final IngredientReactiveService ingredientReactiveService;
+
     @Lazy
     private final IngredientGrpcConverter ingredientGrpcConverter;
 
+    @Lazy
+    private final BlockingScheduler blockingScheduler;
+
+    @Lazy
+    private final IngredientResponseCacheService ingredientResponseCacheService;
+
 
+    /**
+     *    Sends the {@link com.pizza.model.Ingredient}s of the required pizza, one message every time the client is ready
+     * to receive it. The built responses are cached by {@link IngredientResponseCacheService}.
+     */
     @Override
     public void getIngredients(final PizzaRequest pizzaRequest,
                                final StreamObserver<IngredientResponse> responseObserver) {
@@ -39,15 +67,105 @@ public class IngredientServiceGrpcImpl extends IngredientServiceGrpc.IngredientS
                         )
                 )
         );
-        ofNullable(pizzaRequest)
+        Mono.justOrEmpty(pizzaRequest)
                 .map(PizzaRequest::getId)
-                .map(ingredientService::findByPizzaId)
-                .ifPresent(ingredients ->
-                        ingredients.stream()
-                                .map(ingredientGrpcConverter::fromModelToDto)
-                                .forEach(responseObserver::onNext)
+                .flatMapMany(this::findIngredientResponses)
+                .subscribe(
+                        new FlowControlledSubscriber<>(
+                                responseObserver,
+                                error -> onError(error, responseObserver)
+                        )
+                );
+    }
+
+
+    @Override
+    public void getIngredientsByPizzaIds(final PizzasRequest pizzasRequest,
+                                         final StreamObserver<PizzaIngredientResponse> responseObserver) {
+        final Set<Integer> pizzaIds = ofNullable(pizzasRequest)
+                .map(PizzasRequest::getIdsList)
+                .map(LinkedHashSet::new)
+                .orElseGet(LinkedHashSet::new);
+
+        log.info(
+                format("Getting ingredients contained in the pizza's identifiers: %s",
+                        pizzaIds)
+        );
+        blockingScheduler.read(() ->
+                ingredientService.findByPizzaIds(pizzaIds)
+                        .entrySet()
+                        .stream()
+                        .flatMap(pizzaIngredients ->
+                                pizzaIngredients.getValue()
+                                        .stream()
+                                        .map(ingredientGrpcConverter::fromModelToDto)
+                                        .map(ingredient ->
+                                                PizzaIngredientResponse.newBuilder()
+                                                        .setPizzaId(pizzaIngredients.getKey())
+                                                        .setIngredient(ingredient)
+                                                        .build()
+                                        )
+                        )
+                        .collect(toList())
+        )
+        .flatMapIterable(responses -> responses)
+        .subscribe(
+                new FlowControlledSubscriber<>(
+                        responseObserver,
+                        error -> onError(error, responseObserver)
+                )
+        );
+    }
+
+
+    /**
+     *    Returns the {@link IngredientResponse}s of the given pizza's identifier: from the cache if they were found, or
+     * querying and converting them otherwise. In the last case, they are streamed as they are found and cached once
+     * all of them were sent.
+     *
+     * @param pizzaId
+     *    Pizza's identifier to search
+     *
+     * @return {@link Flux} of {@link IngredientResponse}
+     */
+    private Flux<IngredientResponse> findIngredientResponses(final Integer pizzaId) {
+        return ingredientResponseCacheService.get(pizzaId)
+                .map(Flux::fromIterable)
+                .orElseGet(() ->
+                        Flux.defer(() -> {
+                            long generation = ingredientResponseCacheService.getGeneration();
+                            List<IngredientResponse> responses = new ArrayList<>();
+                            return ingredientReactiveService.findByPizzaId(pizzaId)
+                                    .map(ingredientGrpcConverter::fromModelToDto)
+                                    .doOnNext(responses::add)
+                                    .doOnComplete(() ->
+                                            ingredientResponseCacheService.put(
+                                                    pizzaId,
+                                                    responses,
+                                                    generation
+                                            )
+                                    );
+                        })
                 );
-        responseObserver.onCompleted();
+    }
+
+
+    /**
+     *    Sends to the client the given {@link Throwable} converted into its equivalent {@link io.grpc.Status}. The queries
+     * are invoked outside the gRPC thread, so {@link com.pizza.grpc.interceptor.ExceptionHandlerInterceptor} does not
+     * receive their errors.
+     *
+     * @param error
+     *    {@link Throwable} thrown invoking the query
+     * @param responseObserver
+     *    {@link StreamObserver} used to send the response
+     */
+    private void onError(final Throwable error,
+                         final StreamObserver<?> responseObserver) {
+        log.error("There was an error getting the ingredients", error);
+        responseObserver.onError(
+                getStatusRuntimeExceptionFromThrowable(error)
+        );
     }
 
 }
@@ -0,0 +1,119 @@
+package com.pizza.grpc.util;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ *    Sends to a gRPC client the elements of a {@link org.reactivestreams.Publisher} respecting the flow control of its
+ * call: a new element is only requested when the previous one was sent and the transport is ready to receive more,
+ * so a slow client does not make the server buffer the whole response.
+ * <p>
+ *    If the client cancels the call, the subscription is cancelled too, and no more elements will be requested to the
+ * {@link org.reactivestreams.Publisher}.
+ *
+ * @param <T>
+ *    Type of the sent responses
+ */
+public class FlowControlledSubscriber<T> extends BaseSubscriber<T> {
+
+    private final StreamObserver<T> responseObserver;
+
+    private final ServerCallStreamObserver<T> serverCallStreamObserver;
+
+    private final Consumer<Throwable> errorHandler;
+
+    // Only one element is requested every time, so this flag is enough to know if there is an in-flight one
+    private final AtomicBoolean requested;
+
+
+    /**
+     *    Create a new instance. It must be invoked in the thread of the gRPC call, because the handlers of the call
+     * can only be registered before the service method returns.
+     *
+     * @param responseObserver
+     *    {@link StreamObserver} used to send the responses. If it is not a {@link ServerCallStreamObserver}, flow
+     *    control is not available and all the elements will be requested at once
+     * @param errorHandler
+     *    {@link Consumer} used to send to the client the errors of the {@link org.reactivestreams.Publisher}
+     */
+    public FlowControlledSubscriber(final StreamObserver<T> responseObserver,
+                                    final Consumer<Throwable> errorHandler) {
+        this.responseObserver = responseObserver;
+        this.errorHandler = errorHandler;
+        this.requested = new AtomicBoolean(false);
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            this.serverCallStreamObserver = (ServerCallStreamObserver<T>) responseObserver;
+            this.serverCallStreamObserver.setOnReadyHandler(this::requestIfReady);
+            this.serverCallStreamObserver.setOnCancelHandler(this::dispose);
+        } else {
+            this.serverCallStreamObserver = null;
+        }
+    }
+
+
+    @Override
+    protected void hookOnSubscribe(final Subscription subscription) {
+        if (null == serverCallStreamObserver) {
+            requestUnbounded();
+        } else {
+            requestIfReady();
+        }
+    }
+
+
+    @Override
+    protected void hookOnNext(final T value) {
+        if (null == serverCallStreamObserver) {
+            responseObserver.onNext(value);
+            return;
+        }
+        requested.set(false);
+        if (serverCallStreamObserver.isCancelled()) {
+            dispose();
+            return;
+        }
+        responseObserver.onNext(value);
+        requestIfReady();
+    }
+
+
+    @Override
+    protected void hookOnComplete() {
+        if (!isCallCancelled()) {
+            responseObserver.onCompleted();
+        }
+    }
+
+
+    @Override
+    protected void hookOnError(final Throwable throwable) {
+        if (!isCallCancelled()) {
+            errorHandler.accept(throwable);
+        }
+    }
+
+
+    /**
+     *    Requests the next element if the transport is ready and there is no in-flight one. It is invoked both after
+     * sending an element and by gRPC when the transport becomes ready again, so the elements are not requested twice.
+     */
+    private void requestIfReady() {
+        if (isDisposed() || null == upstream()) {
+            return;
+        }
+        if (serverCallStreamObserver.isReady() && requested.compareAndSet(false, true)) {
+            request(1);
+        }
+    }
+
+
+    private boolean isCallCancelled() {
+        return null != serverCallStreamObserver && serverCallStreamObserver.isCancelled();
+    }
+
+}
@@ -7,8 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.Convert;
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.EntityResult;
 import javax.persistence.FieldResult;
@@ -29,6 +32,8 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "pizza", schema = Constants.DATABASE_SCHEMA)
 @SqlResultSetMapping(
    name = Constants.SQL_RESULT_MAPPING.PIZZA_INGREDIENTS,
@@ -54,6 +59,7 @@ public class Pizza {
     private Double cost;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(schema = Constants.DATABASE_SCHEMA,
                name = "pizza_ingredient",
                inverseJoinColumns = { @JoinColumn(name = "ingredient_id") })
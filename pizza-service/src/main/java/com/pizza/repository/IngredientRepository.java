@@ -15,16 +15,24 @@ import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.sql.RelationalPathBase;
 import com.querydsl.sql.SQLExpressions;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.stream.Collectors.groupingBy;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Repository
 public interface IngredientRepository extends ExtendedQueryDslJpaRepository<Ingredient, Integer>, QuerydslPredicateExecutor<Ingredient> {
@@ -38,9 +46,48 @@ public interface IngredientRepository extends ExtendedQueryDslJpaRepository<Ingr
      * @return {@link Set} of {@link Ingredient}
      */
     @Query(value = "SELECT DISTINCT i FROM Pizza p JOIN p.ingredients i WHERE p.id = :pizzaId")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Set<Ingredient> findByPizzaId(@Nullable @Param("pizzaId") Integer pizzaId);
 
 
+    /**
+     *    Return the {@link Ingredient}s contained in every one of the given {@link Pizza}'s identifiers, using only
+     * one query.
+     *
+     * @param pizzaIds
+     *    {@link Collection} of {@link Pizza#getId()}
+     *
+     * @return {@link Map} with {@link Pizza#getId()} as key and its {@link Ingredient}s as value
+     */
+    default Map<Integer, Set<Ingredient>> findByPizzaIds(@Nullable final Collection<Integer> pizzaIds) {
+        if (null == pizzaIds || pizzaIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        QPizza pizza = QPizza.pizza;
+        QIngredient ingredient = QIngredient.ingredient;
+
+        return getJPAQuery()
+                .select(
+                        pizza.id,
+                        ingredient
+                )
+                .from(pizza)
+                .innerJoin(pizza.ingredients, ingredient)
+                .where(pizza.id.in(pizzaIds))
+                .fetch()
+                .stream()
+                .collect(
+                        groupingBy(
+                                t -> t.get(pizza.id),
+                                mapping(
+                                        t -> t.get(ingredient),
+                                        toSet()
+                                )
+                        )
+                );
+    }
+
+
     /**
      * Return the {@link Ingredient#getName()} with its more expensive {@link Pizza#getName()}
      *
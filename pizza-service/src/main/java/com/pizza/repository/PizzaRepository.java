@@ -11,10 +11,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -22,13 +24,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 @Repository
 public interface PizzaRepository extends ExtendedJpaRepository<Pizza, Integer>, QuerydslPredicateExecutor<Pizza> {
 
+    /**
+     * Gets all the {@link Pizza}s with their {@link Ingredient}s.
+     *
+     * @return {@link List} of {@link Pizza}
+     */
+    @Query(value = "SELECT DISTINCT p FROM Pizza p LEFT JOIN FETCH p.ingredients")
+    List<Pizza> findAllWithIngredients();
+
+
     /**
      *    Gets paged all the {@link Pizza}s with their {@link Ingredient}s using the given {@link Pageable}
      * to configure the required one.
@@ -59,6 +72,30 @@ public interface PizzaRepository extends ExtendedJpaRepository<Pizza, Integer>,
      * @return {@link Page} of {@link Pizza}
      */
     default Page<Pizza> findPageWithIngredientsWithoutInMemoryPagination(@Nullable final Pageable pageable) {
+        return findPageWithIngredientsWithoutInMemoryPagination(
+                pageable,
+                this::count
+        );
+    }
+
+
+    /**
+     *    Gets paged all the {@link Pizza}s with their {@link Ingredient}s using the given {@link Pageable}
+     * to configure the required one.
+     *
+     * @apiNote {@code totalSupplier} is only not invoked when the first page contains all the {@link Pizza}s. The
+     *          {@link Pizza}s with the same values in the sorted properties are ordered by their identifiers, so
+     *          every page contains at most {@link Pageable#getPageSize()} ones.
+     *
+     * @param pageable
+     *    {@link Pageable} with the desired page to get
+     * @param totalSupplier
+     *    {@link LongSupplier} with the total number of {@link Pizza}s
+     *
+     * @return {@link Page} of {@link Pizza}
+     */
+    default Page<Pizza> findPageWithIngredientsWithoutInMemoryPagination(@Nullable final Pageable pageable,
+                                                                         final LongSupplier totalSupplier) {
         if (null == pageable) {
             return findPageWithIngredients(pageable);
         }
@@ -72,6 +109,11 @@ public interface PizzaRepository extends ExtendedJpaRepository<Pizza, Integer>,
                                       .map(s -> s.getProperty() + " " + s.getDirection().name())
                                       .collect(Collectors.toList()));
 
+        // Otherwise, the pizzas with the same sorted values would share their rank and a page could contain more of them
+        if (null != pageable.getSort() && pageable.getSort().isSorted() && null == pageable.getSort().getOrderFor("id")) {
+            orderByClause += ",id asc";
+        }
+
         List<Object[]> rawResults = getEntityManager().createNativeQuery("select p_i_r.id, p_i_r.name, p_i_r.cost, p_i_r.ingredients_id, p_i_r.ingredients_name "
                                                                        + "from (select *, dense_rank() over (order by " + orderByClause + ") rank "
                                                                        + "      from (select p.id, p.name, p.cost, i.id ingredients_id, i.name ingredients_name "
@@ -98,10 +140,15 @@ public interface PizzaRepository extends ExtendedJpaRepository<Pizza, Integer>,
                     pizza.setIngredients(ingredients);
                     pizzas.add(pizza);
         });
+        // The total could be a cached one, so it is only deduced from the first page
+        long total = 0 == pageable.getPageNumber() && pizzas.size() < pageable.getPageSize()
+                ? pizzas.size()
+                : totalSupplier.getAsLong();
+
         return new PageImpl<>(
                 pizzas,
                 pageable,
-                this.count()
+                total
         );
     }
 
@@ -116,6 +163,7 @@ public interface PizzaRepository extends ExtendedJpaRepository<Pizza, Integer>,
      *         {@link Optional#empty()} otherwise.
      */
     @EntityGraph(attributePaths = "ingredients")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Pizza> findWithIngredientsByName(@Nullable PizzaEnum name);
 
 
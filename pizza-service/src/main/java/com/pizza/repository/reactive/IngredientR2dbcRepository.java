@@ -0,0 +1,106 @@
+package com.pizza.repository.reactive;
+
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import io.r2dbc.spi.Row;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking version of the main queries of {@link com.pizza.repository.IngredientRepository}.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@Repository
+public class IngredientR2dbcRepository {
+
+    // Rows fetched from the database cursor every time, so the results are pulled only when they are requested
+    private static final int FETCH_SIZE = 50;
+
+    @Lazy
+    private final DatabaseClient databaseClient;
+
+
+    /**
+     *    Return the {@link Ingredient}s contained in the {@link Pizza}'s identifier {@code pizzaId}, they are read from
+     * the database in chunks of {@link IngredientR2dbcRepository#FETCH_SIZE} rows as they are requested.
+     *
+     * @param pizzaId
+     *   {@link Pizza#getId()}
+     *
+     * @return {@link Flux} of {@link Ingredient}
+     */
+    public Flux<Ingredient> findByPizzaId(@Nullable final Integer pizzaId) {
+        if (null == pizzaId) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("select distinct i.id, i.name "
+                                + "from eat.ingredient i "
+                                + "join eat.pizza_ingredient pi on pi.ingredient_id = i.id "
+                                + "where pi.pizza_id = :pizzaId")
+                .bind("pizzaId", pizzaId)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> toIngredient(row))
+                .all();
+    }
+
+
+    /**
+     *    Persist the information included in the given {@code ingredients}. The new ones, or the ones with an
+     * identifier that does not exist, are inserted and updated with the generated {@link Ingredient#getId()}.
+     *
+     * @param ingredients
+     *    {@link Collection} of {@link Ingredient} to save
+     *
+     * @return {@link Flux} with the saved {@link Ingredient}s
+     */
+    public Flux<Ingredient> saveAll(@Nullable final Collection<Ingredient> ingredients) {
+        if (null == ingredients) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(ingredients)
+                .concatMap(this::save);
+    }
+
+
+    private Mono<Ingredient> save(final Ingredient ingredient) {
+        Mono<Ingredient> insert = databaseClient.sql("insert into eat.ingredient (name) values (:name) returning id")
+                .bind("name", ingredient.getName())
+                .map((row, metadata) -> row.get("id", Integer.class))
+                .one()
+                .map(id -> {
+                    ingredient.setId(id);
+                    return ingredient;
+                });
+
+        if (null == ingredient.getId()) {
+            return insert;
+        }
+        return databaseClient.sql("update eat.ingredient set name = :name where id = :id")
+                .bind("name", ingredient.getName())
+                .bind("id", ingredient.getId())
+                .fetch()
+                .rowsUpdated()
+                .filter(rowsUpdated -> 0 < rowsUpdated)
+                .map(rowsUpdated -> ingredient)
+                .switchIfEmpty(insert);
+    }
+
+
+    private static Ingredient toIngredient(final Row row) {
+        return new Ingredient(
+                row.get("id", Integer.class),
+                row.get("name", String.class)
+        );
+    }
+
+}
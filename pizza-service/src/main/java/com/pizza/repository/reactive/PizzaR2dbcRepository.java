@@ -0,0 +1,314 @@
+package com.pizza.repository.reactive;
+
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.enums.PizzaEnum;
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import com.spring5microservices.common.collection.tuple.Tuple2;
+import io.r2dbc.spi.Row;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Non-blocking version of the main queries of {@link com.pizza.repository.PizzaRepository}.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@Repository
+public class PizzaR2dbcRepository {
+
+    // Columns allowed in the order by clause
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "cost");
+
+    private static final String PIZZA_WITH_INGREDIENTS_QUERY = "select p.id, p.name, p.cost, i.id ingredients_id, i.name ingredients_name "
+                                                             + "from eat.pizza p "
+                                                             + "left join eat.pizza_ingredient pi on pi.pizza_id = p.id "
+                                                             + "left join eat.ingredient i on i.id = pi.ingredient_id ";
+
+    @Lazy
+    private final DatabaseClient databaseClient;
+
+    @Lazy
+    private final TransactionalOperator reactiveTransactionalOperator;
+
+    @Lazy
+    private final IngredientR2dbcRepository ingredientRepository;
+
+
+    /**
+     * Gets the {@link Pizza} (including its {@link Ingredient}s) which name matches with the given one.
+     *
+     * @param name
+     *    Name to search a coincidence in {@link Pizza#getName()}
+     *
+     * @return {@link Mono} with the {@link Pizza} which name matches with the given one,
+     *         {@link Mono#empty()} otherwise
+     */
+    public Mono<Pizza> findWithIngredientsByName(@Nullable final PizzaEnum name) {
+        if (null == name) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(PIZZA_WITH_INGREDIENTS_QUERY + "where p.name = :name")
+                .bind("name", name.getInternalPropertyValue())
+                .map((row, metadata) -> toPizzaAndIngredient(row))
+                .all()
+                .collectList()
+                .flatMap(rows ->
+                        Mono.justOrEmpty(
+                                groupByPizza(rows).stream()
+                                        .findFirst()
+                        )
+                );
+    }
+
+
+    /**
+     *    Gets paged all the {@link Pizza}s with their {@link Ingredient}s using the given {@link Pageable}, the
+     * pagination is done in database like in
+     * {@link com.pizza.repository.PizzaRepository#findPageWithIngredientsWithoutInMemoryPagination(Pageable)}.
+     *
+     * @param pageable
+     *    {@link Pageable} with the desired page to get
+     *
+     * @return {@link Mono} with the {@link Page} of {@link Pizza}
+     */
+    public Mono<Page<Pizza>> findPageWithIngredients(@Nullable final Pageable pageable) {
+        return findPageWithIngredients(
+                pageable,
+                count()
+        );
+    }
+
+
+    /**
+     *    Gets paged all the {@link Pizza}s with their {@link Ingredient}s using the given {@link Pageable}. {@code total}
+     * is only not subscribed when the first page contains all the {@link Pizza}s.
+     *
+     * @param pageable
+     *    {@link Pageable} with the desired page to get
+     * @param total
+     *    {@link Mono} with the total number of {@link Pizza}s
+     *
+     * @return {@link Mono} with the {@link Page} of {@link Pizza}
+     */
+    public Mono<Page<Pizza>> findPageWithIngredients(@Nullable final Pageable pageable,
+                                                     final Mono<Long> total) {
+        if (null == pageable || pageable.isUnpaged()) {
+            return databaseClient.sql(PIZZA_WITH_INGREDIENTS_QUERY + "order by p.id desc")
+                    .map((row, metadata) -> toPizzaAndIngredient(row))
+                    .all()
+                    .collectList()
+                    .map(rows ->
+                            new PageImpl<>(groupByPizza(rows))
+                    );
+        }
+        int rankInitial = (pageable.getPageNumber() * pageable.getPageSize()) + 1;
+        int rankFinal = rankInitial + pageable.getPageSize() - 1;
+        String orderByClause = buildOrderByClause(pageable.getSort());
+
+        Mono<List<Pizza>> pizzas = databaseClient.sql("select p_i_r.id, p_i_r.name, p_i_r.cost, p_i_r.ingredients_id, p_i_r.ingredients_name "
+                                                    + "from (select *, dense_rank() over (order by " + orderByClause + ") rank "
+                                                    + "      from (select p.id, p.name, p.cost, i.id ingredients_id, i.name ingredients_name "
+                                                    + "            from eat.pizza p "
+                                                    + "            left join eat.pizza_ingredient pi on pi.pizza_id = p.id "
+                                                    + "            left join eat.ingredient i on i.id = pi.ingredient_id "
+                                                    + "           ) p_i "
+                                                    + "     ) p_i_r "
+                                                    + "where p_i_r.rank between :rankInitial and :rankFinal "
+                                                    + "order by p_i_r.rank")
+                .bind("rankInitial", rankInitial)
+                .bind("rankFinal", rankFinal)
+                .map((row, metadata) -> toPizzaAndIngredient(row))
+                .all()
+                .collectList()
+                .map(PizzaR2dbcRepository::groupByPizza);
+
+        return pizzas.flatMap(content -> {
+            // The total could be a cached one, so it is only deduced from the first page
+            boolean isTotalKnown = 0 == pageable.getPageNumber() &&
+                    content.size() < pageable.getPageSize();
+
+            return isTotalKnown
+                    ? Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()))
+                    : total.map(t -> new PageImpl<>(content, pageable, t));
+        });
+    }
+
+
+    /**
+     * Returns the total number of {@link Pizza}s.
+     *
+     * @return {@link Mono} with the number of {@link Pizza}s
+     */
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from eat.pizza")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+
+
+    /**
+     *    Persist the information included in the given {@link Pizza} and its {@link Ingredient}s in only one
+     * transaction.
+     *
+     * @param pizza
+     *    {@link Pizza} to save
+     *
+     * @return {@link Mono} with the {@link Pizza} with its "final information" after this action
+     */
+    public Mono<Pizza> save(@Nullable final Pizza pizza) {
+        if (null == pizza) {
+            return Mono.empty();
+        }
+        Set<Ingredient> ingredients = ofNullable(pizza.getIngredients())
+                .orElseGet(HashSet::new);
+
+        return ingredientRepository.saveAll(ingredients)
+                .then(savePizza(pizza))
+                .flatMap(p ->
+                        replaceIngredients(p, ingredients)
+                )
+                .as(reactiveTransactionalOperator::transactional);
+    }
+
+
+    private Mono<Pizza> savePizza(final Pizza pizza) {
+        Mono<Pizza> insert = databaseClient.sql("insert into eat.pizza (name, cost) values (:name, :cost) returning id")
+                .bind("name", pizza.getName().getInternalPropertyValue())
+                .bind("cost", pizza.getCost())
+                .map((row, metadata) -> row.get("id", Integer.class))
+                .one()
+                .map(id -> {
+                    pizza.setId(id);
+                    return pizza;
+                });
+
+        if (null == pizza.getId()) {
+            return insert;
+        }
+        return databaseClient.sql("update eat.pizza set name = :name, cost = :cost where id = :id")
+                .bind("name", pizza.getName().getInternalPropertyValue())
+                .bind("cost", pizza.getCost())
+                .bind("id", pizza.getId())
+                .fetch()
+                .rowsUpdated()
+                .filter(rowsUpdated -> 0 < rowsUpdated)
+                .map(rowsUpdated -> pizza)
+                .switchIfEmpty(insert);
+    }
+
+
+    private Mono<Pizza> replaceIngredients(final Pizza pizza,
+                                           final Collection<Ingredient> ingredients) {
+        return databaseClient.sql("delete from eat.pizza_ingredient where pizza_id = :pizzaId")
+                .bind("pizzaId", pizza.getId())
+                .fetch()
+                .rowsUpdated()
+                .thenMany(
+                        Flux.fromIterable(ingredients)
+                                .concatMap(ingredient ->
+                                        databaseClient.sql("insert into eat.pizza_ingredient (pizza_id, ingredient_id) values (:pizzaId, :ingredientId)")
+                                                .bind("pizzaId", pizza.getId())
+                                                .bind("ingredientId", ingredient.getId())
+                                                .fetch()
+                                                .rowsUpdated()
+                                )
+                )
+                .then(Mono.just(pizza));
+    }
+
+
+    /**
+     *    Returns the order by clause equivalent to the given {@link Sort}, ignoring the not allowed properties. The
+     * identifier is always included to break the ties, so every {@link Pizza} has its own rank.
+     *
+     * @param sort
+     *    {@link Sort} to convert
+     *
+     * @return order by clause
+     */
+    private static String buildOrderByClause(@Nullable final Sort sort) {
+        String orderByClause = ofNullable(sort)
+                .map(s ->
+                        s.stream()
+                                .filter(order -> SORTABLE_PROPERTIES.contains(order.getProperty()))
+                                .map(order -> order.getProperty() + " " + order.getDirection().name())
+                                .collect(joining(","))
+                )
+                .orElse("");
+
+        if (orderByClause.isEmpty()) {
+            return "id desc";
+        }
+        // Otherwise, the pizzas with the same sorted values would share their rank and a page could contain more of them
+        return null == sort.getOrderFor("id")
+                ? orderByClause + ",id asc"
+                : orderByClause;
+    }
+
+
+    /**
+     * Groups the given rows by every {@link Pizza} and its {@link Ingredient}s, keeping the original order.
+     *
+     * @param rows
+     *    {@link List} of {@link Pizza} and {@link Ingredient} (it can be {@code null}) returned by the query
+     *
+     * @return {@link List} of {@link Pizza}
+     */
+    private static List<Pizza> groupByPizza(final List<Tuple2<Pizza, Ingredient>> rows) {
+        Map<Integer, Pizza> pizzas = new LinkedHashMap<>();
+        rows.forEach(row -> {
+            Pizza pizza = pizzas.computeIfAbsent(
+                    row._1.getId(),
+                    id -> row._1
+            );
+            if (null != row._2) {
+                pizza.getIngredients().add(row._2);
+            }
+        });
+        return new ArrayList<>(pizzas.values());
+    }
+
+
+    private static Tuple2<Pizza, Ingredient> toPizzaAndIngredient(final Row row) {
+        Pizza pizza = new Pizza(
+                row.get("id", Integer.class),
+                PizzaEnum.getFromDatabaseValue(row.get("name", String.class))
+                        .orElse(null),
+                row.get("cost", Double.class),
+                new LinkedHashSet<>()
+        );
+        Integer ingredientId = row.get("ingredients_id", Integer.class);
+        Ingredient ingredient = null == ingredientId
+                ? null
+                : new Ingredient(
+                        ingredientId,
+                        row.get("ingredients_name", String.class)
+                  );
+        return Tuple2.of(pizza, ingredient);
+    }
+
+}
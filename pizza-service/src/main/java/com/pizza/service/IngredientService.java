@@ -3,14 +3,17 @@ package com.pizza.service;
 import com.pizza.model.Ingredient;
 import com.pizza.model.Pizza;
 import com.pizza.repository.IngredientRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Optional.ofNullable;
@@ -22,6 +25,9 @@ public class IngredientService {
     @Lazy
     private final IngredientRepository repository;
 
+    @Lazy
+    private final IngredientResponseCacheService ingredientResponseCacheService;
+
 
     /**
      * Return the {@link Ingredient}s contained in the {@link Pizza}'s identifier {@code pizzaId}
@@ -38,6 +44,21 @@ public class IngredientService {
     }
 
 
+    /**
+     * Return the {@link Ingredient}s contained in every one of the given {@link Pizza}'s identifiers.
+     *
+     * @param pizzaIds
+     *   {@link Collection} of {@link Pizza#getId()}
+     *
+     * @return {@link Map} with {@link Pizza#getId()} as key and its {@link Ingredient}s as value
+     */
+    public Map<Integer, Set<Ingredient>> findByPizzaIds(final Collection<Integer> pizzaIds) {
+        return ofNullable(pizzaIds)
+                .map(repository::findByPizzaIds)
+                .orElseGet(HashMap::new);
+    }
+
+
     /**
      * Persist the information included in the given {@code ingredients}
      *
@@ -48,7 +69,11 @@ public class IngredientService {
      */
     public List<Ingredient> saveAll(final Collection<Ingredient> ingredients) {
         return ofNullable(ingredients)
-                .map(repository::saveAll)
+                .map(i -> {
+                    List<Ingredient> savedIngredients = repository.saveAll(i);
+                    ingredientResponseCacheService.invalidateAll();
+                    return savedIngredients;
+                })
                 .orElseGet(ArrayList::new);
     }
 
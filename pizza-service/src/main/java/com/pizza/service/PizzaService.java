@@ -4,6 +4,8 @@ import com.pizza.enums.PizzaEnum;
 import com.pizza.model.Ingredient;
 import com.pizza.model.Pizza;
 import com.pizza.repository.PizzaRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.cache.PizzaCountCacheService;
 import com.pizza.util.PageUtil;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Lazy;
@@ -27,6 +29,12 @@ public class PizzaService {
     @Lazy
     private final IngredientService ingredientService;
 
+    @Lazy
+    private final PizzaCountCacheService pizzaCountCacheService;
+
+    @Lazy
+    private final IngredientResponseCacheService ingredientResponseCacheService;
+
 
     /**
      * Returns the {@link Pizza} which name matches with the given one.
@@ -44,7 +52,8 @@ public class PizzaService {
 
 
     /**
-     * Returns the required page information about {@link Pizza}s with their {@link Ingredient}s
+     *    Returns the required page information about {@link Pizza}s with their {@link Ingredient}s. The total number
+     * of {@link Pizza}s is got from {@link PizzaCountCacheService}, so only one query is sent in most of the cases.
      *
      * @param page
      *    Number of page to get
@@ -64,7 +73,8 @@ public class PizzaService {
                                 page,
                                 size,
                                 sort
-                        )
+                        ),
+                        () -> pizzaCountCacheService.getOrLoad(repository::count)
                 )
         )
         .orElseGet(() ->
@@ -85,7 +95,10 @@ public class PizzaService {
         return ofNullable(pizza)
                 .map(p -> {
                     ingredientService.saveAll(p.getIngredients());
-                    return repository.save(p);
+                    Pizza savedPizza = repository.save(p);
+                    pizzaCountCacheService.invalidate();
+                    ingredientResponseCacheService.invalidateAll();
+                    return savedPizza;
                 });
     }
 
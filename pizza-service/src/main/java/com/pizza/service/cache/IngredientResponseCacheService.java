@@ -0,0 +1,130 @@
+package com.pizza.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pizza.model.Pizza;
+import com.spring5microservices.grpc.IngredientResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Keeps in memory the already built {@link IngredientResponse}s of every {@link Pizza}, so the gRPC requests do not
+ * need to query the database and convert the results every time. It is local to every instance, so the changes done
+ * by other ones are only seen when the responses expire.
+ * <p>
+ *    Its hits and misses are published with the tag: {@code cache=grpcIngredientResponses}.
+ */
+@Service
+public class IngredientResponseCacheService {
+
+    public static final String CACHE_NAME = "grpcIngredientResponses";
+
+    private final Cache<Integer, List<IngredientResponse>> cache;
+
+    // Increased by every invalidation, used to avoid caching responses loaded before it
+    private final AtomicLong generation;
+
+
+    public IngredientResponseCacheService(@Value("${cache.grpcIngredientResponses.entryCapacity:1000}") final long entryCapacity,
+                                          @Value("${cache.grpcIngredientResponses.expireInSeconds:300}") final long expireInSeconds,
+                                          final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(entryCapacity)
+                .expireAfterWrite(expireInSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        this.generation = new AtomicLong();
+        CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                cache,
+                CACHE_NAME
+        );
+    }
+
+
+    /**
+     * Returns the cached {@link IngredientResponse}s of the given {@link Pizza}'s identifier.
+     *
+     * @param pizzaId
+     *    {@link Pizza#getId()}
+     *
+     * @return {@link Optional} with the {@link IngredientResponse}s, empty if they are not cached
+     */
+    public Optional<List<IngredientResponse>> get(final Integer pizzaId) {
+        return ofNullable(pizzaId)
+                .map(cache::getIfPresent);
+    }
+
+
+    /**
+     * Returns the current generation, it must be got before loading the {@link IngredientResponse}s to cache.
+     *
+     * @return current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+
+    /**
+     *    Include the given {@link IngredientResponse}s inside the cache, only if there was no invalidation since
+     * {@code loadGeneration}.
+     *
+     * @param pizzaId
+     *    {@link Pizza#getId()}
+     * @param ingredientResponses
+     *    {@link IngredientResponse}s of {@code pizzaId}
+     * @param loadGeneration
+     *    {@link IngredientResponseCacheService#getGeneration()} got before loading {@code ingredientResponses}
+     */
+    public void put(final Integer pizzaId,
+                    final List<IngredientResponse> ingredientResponses,
+                    final long loadGeneration) {
+        if (null == pizzaId || null == ingredientResponses) {
+            return;
+        }
+        cache.put(pizzaId, List.copyOf(ingredientResponses));
+        // An invalidation could have been done meanwhile
+        if (loadGeneration != generation.get()) {
+            cache.invalidate(pizzaId);
+        }
+    }
+
+
+    /**
+     *    Removes all the cached {@link IngredientResponse}s, because a change in an ingredient can affect several pizzas.
+     * If there is an active transaction, they are removed again once it finishes, so the responses loaded before the
+     * commit are not kept.
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            clear();
+                        }
+                    }
+            );
+        }
+    }
+
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.pizza.service.cache;
+
+import com.pizza.configuration.cache.CacheConfiguration;
+import com.pizza.model.Pizza;
+import com.spring5microservices.common.service.CacheService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ *    Keeps the total number of {@link Pizza}s, so the paged queries do not need to count them every time. It is
+ * shared by all the instances and must be invalidated after every change.
+ */
+@AllArgsConstructor
+@Service
+public class PizzaCountCacheService {
+
+    private static final String KEY = "total";
+
+    @Lazy
+    private final CacheConfiguration cacheConfiguration;
+
+    @Lazy
+    private final CacheService cacheService;
+
+
+    /**
+     * Returns the cached total number of {@link Pizza}s.
+     *
+     * @return {@link Optional} with the total number of {@link Pizza}s, empty if it is not cached
+     */
+    public Optional<Long> get() {
+        return cacheService.get(
+                cacheConfiguration.getPizzaCountCacheName(),
+                KEY
+        );
+    }
+
+
+    /**
+     * Returns the cached total number of {@link Pizza}s, using {@code loader} and caching its result if there is none.
+     *
+     * @param loader
+     *    {@link LongSupplier} used to count the {@link Pizza}s
+     *
+     * @return total number of {@link Pizza}s
+     */
+    public long getOrLoad(final LongSupplier loader) {
+        return get()
+                .orElseGet(() -> {
+                    long total = loader.getAsLong();
+                    put(total);
+                    return total;
+                });
+    }
+
+
+    /**
+     * Include the total number of {@link Pizza}s inside the related cache.
+     *
+     * @param total
+     *    Number of {@link Pizza}s
+     */
+    public void put(final long total) {
+        cacheService.put(
+                cacheConfiguration.getPizzaCountCacheName(),
+                KEY,
+                total
+        );
+    }
+
+
+    /**
+     *    Removes the cached total number of {@link Pizza}s. If there is an active transaction, it is removed again once
+     * it finishes, so a concurrent count done before the commit is not kept.
+     */
+    public void invalidate() {
+        remove();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            remove();
+                        }
+                    }
+            );
+        }
+    }
+
+
+    private void remove() {
+        cacheService.remove(
+                cacheConfiguration.getPizzaCountCacheName(),
+                KEY
+        );
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.pizza.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring5microservices.common.cache.ExpirationTimeExpiry;
+import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.spring5microservices.common.util.DigestUtil.sha256;
+import static java.lang.String.format;
+import static java.util.Optional.empty;
+
+/**
+ *    Keeps in memory the {@link UsernameAuthoritiesDto} returned by the security server for every verified token, so
+ * the same token is not sent to it in every request. The tokens are stored using their SHA-256 digest.
+ * <p>
+ *    Every entry is kept at most {@code security.tokenCache.expireInSeconds}, or less if the token expires before and
+ * its expiration time can be read from it. The concurrent requests of a token that is not cached share the same
+ * request to the security server. The not valid tokens are never cached.
+ * <p>
+ *    Its hits and misses are published with the tag: {@code cache=verifiedTokens}.
+ */
+@Log4j2
+@Service
+public class TokenVerificationCacheService {
+
+    public static final String CACHE_NAME = "verifiedTokens";
+
+    private static final String EXPIRATION_TIME_CLAIM = "exp";
+
+    private final AsyncCache<ByteBuffer, VerifiedToken> cache;
+
+    private final ObjectMapper objectMapper;
+
+
+    public TokenVerificationCacheService(@Value("${security.tokenCache.entryCapacity:10000}") final long entryCapacity,
+                                         @Value("${security.tokenCache.expireInSeconds:60}") final long expireInSeconds,
+                                         final ObjectMapper objectMapper,
+                                         final MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(entryCapacity)
+                .expireAfter(
+                        new ExpirationTimeExpiry<ByteBuffer, VerifiedToken>(
+                                VerifiedToken::getExpirationTime,
+                                Duration.ofSeconds(expireInSeconds)
+                        )
+                )
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                cache.synchronous(),
+                CACHE_NAME
+        );
+    }
+
+
+    /**
+     *    Returns the {@link UsernameAuthoritiesDto} related with the given {@code token}: from the cache if it was
+     * found, sharing the in-flight verification of the same {@code token} if there is one, or invoking {@code loader}
+     * otherwise.
+     *
+     * @param token
+     *    Token to verify
+     * @param loader
+     *    {@link Function} used to verify {@code token} if it was not found
+     *
+     * @return {@link Mono} with the {@link UsernameAuthoritiesDto} related with {@code token}, empty if it is not valid
+     */
+    public Mono<UsernameAuthoritiesDto> get(final String token,
+                                            final Function<String, Mono<UsernameAuthoritiesDto>> loader) {
+        if (null == token) {
+            return Mono.empty();
+        }
+        return Mono.defer(() ->
+                        Mono.fromFuture(
+                                cache.get(
+                                        sha256(token),
+                                        (digest, executor) ->
+                                                loader.apply(token)
+                                                        .map(dto ->
+                                                                new VerifiedToken(
+                                                                        dto,
+                                                                        getExpirationTime(token).orElse(null)
+                                                                )
+                                                        )
+                                                        .toFuture()
+                                )
+                                // The cancellation of one request must not cancel the verification shared with the others
+                                .copy()
+                        )
+                )
+                .map(VerifiedToken::getUsernameAuthorities);
+    }
+
+
+    /**
+     * Returns the expiration time included in the given {@code token} if it is a signed, and not encrypted, JWT.
+     *
+     * @param token
+     *    Token to read
+     *
+     * @return {@link Optional} with the expiration time of {@code token}
+     */
+    private Optional<Instant> getExpirationTime(final String token) {
+        String[] parts = token.split("\\.");
+        if (3 != parts.length) {
+            return empty();
+        }
+        try {
+            JsonNode expirationTime = objectMapper.readTree(
+                    Base64.getUrlDecoder().decode(parts[1])
+            )
+            .get(EXPIRATION_TIME_CLAIM);
+
+            return null != expirationTime && expirationTime.isNumber()
+                    ? Optional.of(Instant.ofEpochSecond(expirationTime.asLong()))
+                    : empty();
+
+        } catch (Exception e) {
+            log.debug(() ->
+                    format("It was not possible to read the expiration time of the token due to: %s",
+                            e.getMessage())
+            );
+            return empty();
+        }
+    }
+
+
+    @AllArgsConstructor
+    @Getter
+    private static class VerifiedToken {
+        private final UsernameAuthoritiesDto usernameAuthorities;
+
+        // Null if it could not be read from the token
+        private final Instant expirationTime;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.pizza.service.menu;
+
+import com.pizza.enums.PizzaEnum;
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ *    Immutable copy of the whole catalog of {@link Pizza}s and {@link Ingredient}s, indexed by the fields used in the
+ * queries. The returned instances are shared by all the requests, so they must not be modified.
+ */
+@Getter
+public class MenuSnapshot {
+
+    // Incremented every time the catalog is loaded again
+    private final long version;
+
+    private final Instant builtAt;
+
+    // Sorted by identifier desc, like the pages returned by the database
+    private final List<Pizza> pizzas;
+
+    private final Map<Integer, Pizza> pizzasById;
+
+    private final Map<PizzaEnum, Pizza> pizzasByName;
+
+
+    private MenuSnapshot(final long version,
+                         final Instant builtAt,
+                         final List<Pizza> pizzas) {
+        Map<Integer, Pizza> pizzasById = new LinkedHashMap<>();
+        Map<PizzaEnum, Pizza> pizzasByName = new LinkedHashMap<>();
+        pizzas.forEach(p -> {
+            pizzasById.put(p.getId(), p);
+            if (null != p.getName()) {
+                pizzasByName.put(p.getName(), p);
+            }
+        });
+        this.version = version;
+        this.builtAt = builtAt;
+        this.pizzas = pizzas;
+        this.pizzasById = unmodifiableMap(pizzasById);
+        this.pizzasByName = unmodifiableMap(pizzasByName);
+    }
+
+
+    /**
+     * Creates a new {@link MenuSnapshot} with a copy of the given {@link Pizza}s and their {@link Ingredient}s.
+     *
+     * @param version
+     *    Version of the new snapshot
+     * @param builtAt
+     *    {@link Instant} when the {@code pizzas} were loaded
+     * @param pizzas
+     *    {@link Collection} of {@link Pizza}s with their {@link Ingredient}s
+     *
+     * @return {@link MenuSnapshot}
+     */
+    public static MenuSnapshot of(final long version,
+                                  final Instant builtAt,
+                                  final Collection<Pizza> pizzas) {
+        return new MenuSnapshot(
+                version,
+                builtAt,
+                ofNullable(pizzas)
+                        .orElseGet(List::of)
+                        .stream()
+                        .map(MenuSnapshot::copy)
+                        .sorted(Comparator.comparing(Pizza::getId).reversed())
+                        .collect(toUnmodifiableList())
+        );
+    }
+
+
+    /**
+     * Returns the {@link Pizza} which name matches with the given one.
+     *
+     * @param name
+     *    {@link PizzaEnum} to search
+     *
+     * @return {@link Optional} of {@link Pizza}
+     */
+    public Optional<Pizza> findByName(final PizzaEnum name) {
+        return ofNullable(name)
+                .map(pizzasByName::get);
+    }
+
+
+    /**
+     * Return the {@link Ingredient}s contained in the {@link Pizza}'s identifier {@code pizzaId}
+     *
+     * @param pizzaId
+     *   {@link Pizza#getId()}
+     *
+     * @return {@link Set} of {@link Ingredient}, empty if {@code pizzaId} does not exist
+     */
+    public Set<Ingredient> findIngredientsByPizzaId(final Integer pizzaId) {
+        return ofNullable(pizzaId)
+                .map(pizzasById::get)
+                .map(Pizza::getIngredients)
+                .orElseGet(Set::of);
+    }
+
+
+    private static Pizza copy(final Pizza pizza) {
+        return new Pizza(
+                pizza.getId(),
+                pizza.getName(),
+                pizza.getCost(),
+                ofNullable(pizza.getIngredients())
+                        .orElseGet(Set::of)
+                        .stream()
+                        .map(i -> new Ingredient(i.getId(), i.getName()))
+                        .collect(toUnmodifiableSet())
+        );
+    }
+
+}
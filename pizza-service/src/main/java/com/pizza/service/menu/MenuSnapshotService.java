@@ -0,0 +1,198 @@
+package com.pizza.service.menu;
+
+import com.pizza.model.Pizza;
+import com.pizza.repository.PizzaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Keeps the current {@link MenuSnapshot}, so the catalog can be read without accessing to the database. A new one
+ * is built in background when {@link MenuSnapshotService#refreshInBackground()} is invoked, and replaces the current
+ * one only if it was successfully loaded, notifying then to the listeners added by
+ * {@link MenuSnapshotService#addRefreshListener(Consumer)}.
+ * <p>
+ * Published metrics:
+ * <ul>
+ *   <li>{@code menu.snapshot.version}: version of the current snapshot</li>
+ *   <li>{@code menu.snapshot.age}: seconds since the current snapshot was loaded</li>
+ *   <li>{@code menu.snapshot.refresh}: number of refreshes tagged by {@code result}: {@code success} or {@code failure}</li>
+ * </ul>
+ */
+@Log4j2
+public class MenuSnapshotService {
+
+    public static final String ENABLED_PROPERTY = "menu.snapshot.enabled";
+
+    public static final String VERSION_METRIC = "menu.snapshot.version";
+    public static final String AGE_METRIC = "menu.snapshot.age";
+    public static final String REFRESH_METRIC = "menu.snapshot.refresh";
+
+    private final PizzaRepository pizzaRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Executor refreshExecutor;
+
+    private final Clock clock;
+
+    private final AtomicReference<MenuSnapshot> snapshot;
+
+    // Avoids queuing several refreshes when a lot of changes are done at the same time
+    private final AtomicBoolean refreshPending;
+
+    // Invoked once a new snapshot has replaced the previous one
+    private final List<Consumer<MenuSnapshot>> refreshListeners;
+
+    private final Counter successCounter;
+
+    private final Counter failureCounter;
+
+
+    public MenuSnapshotService(final PizzaRepository pizzaRepository,
+                               final PlatformTransactionManager transactionManager,
+                               final Executor refreshExecutor,
+                               final MeterRegistry meterRegistry,
+                               final Clock clock) {
+        this.pizzaRepository = pizzaRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.snapshot = new AtomicReference<>();
+        this.refreshPending = new AtomicBoolean(false);
+        this.refreshListeners = new CopyOnWriteArrayList<>();
+        this.successCounter = buildRefreshCounter("success", meterRegistry);
+        this.failureCounter = buildRefreshCounter("failure", meterRegistry);
+        Gauge.builder(VERSION_METRIC, this, s -> s.getSnapshot().map(MenuSnapshot::getVersion).orElse(0L))
+                .description("Version of the current menu snapshot")
+                .register(meterRegistry);
+        Gauge.builder(AGE_METRIC, this, s -> s.getAgeInSeconds().orElse(-1L))
+                .description("Seconds since the current menu snapshot was loaded")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Returns the current {@link MenuSnapshot}.
+     *
+     * @return {@link Optional} of {@link MenuSnapshot}, empty if it has not been loaded yet
+     */
+    public Optional<MenuSnapshot> getSnapshot() {
+        return ofNullable(snapshot.get());
+    }
+
+
+    /**
+     *    Adds a listener invoked with every new {@link MenuSnapshot}, once it has replaced the previous one. Useful to
+     * remove the information built using the previous one.
+     *
+     * @param listener
+     *    {@link Consumer} to invoke after every successful refresh
+     */
+    public void addRefreshListener(final Consumer<MenuSnapshot> listener) {
+        ofNullable(listener)
+                .ifPresent(refreshListeners::add);
+    }
+
+
+    /**
+     *    Loads again the catalog from the database in the current thread and publishes it as the new {@link MenuSnapshot},
+     * notifying then to the refresh listeners.
+     *
+     * @return new {@link MenuSnapshot}
+     */
+    public MenuSnapshot refresh() {
+        MenuSnapshot newSnapshot;
+        try {
+            List<Pizza> pizzas = readOnlyTransactionTemplate.execute(status ->
+                    pizzaRepository.findAllWithIngredients()
+            );
+            newSnapshot = snapshot.updateAndGet(current ->
+                    MenuSnapshot.of(
+                            (null == current ? 0 : current.getVersion()) + 1,
+                            clock.instant(),
+                            pizzas
+                    )
+            );
+            successCounter.increment();
+            log.info(
+                    format("Menu snapshot version: %d loaded with %d pizzas",
+                            newSnapshot.getVersion(),
+                            newSnapshot.getPizzas().size())
+            );
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        }
+        refreshListeners.forEach(listener ->
+                listener.accept(newSnapshot)
+        );
+        return newSnapshot;
+    }
+
+
+    /**
+     *    Requests a new {@link MenuSnapshot} that will be loaded using the internal {@link Executor}. If there is already
+     * a pending one, no new request is queued because it will include the latest changes.
+     */
+    public void refreshInBackground() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                refreshQuietly();
+            });
+        }
+    }
+
+
+    /**
+     * Same as {@link MenuSnapshotService#refresh()} but only logging the errors, keeping the current {@link MenuSnapshot}.
+     */
+    public void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("There was an error loading the menu snapshot, the previous one will be used", e);
+        }
+    }
+
+
+    private Optional<Long> getAgeInSeconds() {
+        return getSnapshot()
+                .map(s ->
+                        Duration.between(
+                                s.getBuiltAt(),
+                                clock.instant()
+                        )
+                        .toSeconds()
+                );
+    }
+
+
+    private static Counter buildRefreshCounter(final String result,
+                                               final MeterRegistry meterRegistry) {
+        return Counter.builder(REFRESH_METRIC)
+                .description("Number of menu snapshot refreshes by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.pizza.service.reactive;
+
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import reactor.core.publisher.Flux;
+
+/**
+ *    Non-blocking operations related with {@link Ingredient}s. The used implementation depends on
+ * {@link com.pizza.configuration.persistence.ReactivePersistenceConfiguration#ENABLED_PROPERTY}.
+ */
+public interface IngredientReactiveService {
+
+    // Qualifier of the implementation that accesses to the database
+    String STORAGE = "ingredientReactiveServiceStorage";
+
+
+    /**
+     * Return the {@link Ingredient}s contained in the {@link Pizza}'s identifier {@code pizzaId}
+     *
+     * @param pizzaId
+     *   {@link Pizza#getId()}
+     *
+     * @return {@link Flux} of {@link Ingredient}
+     */
+    Flux<Ingredient> findByPizzaId(Integer pizzaId);
+
+}
@@ -0,0 +1,42 @@
+package com.pizza.service.reactive;
+
+import com.pizza.configuration.persistence.BlockingScheduler;
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.model.Ingredient;
+import com.pizza.service.IngredientService;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+
+/**
+ * {@link IngredientReactiveService} that invokes {@link IngredientService} using the {@link BlockingScheduler}.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "false", matchIfMissing = true)
+@Qualifier(IngredientReactiveService.STORAGE)
+@Service
+public class JpaIngredientReactiveService implements IngredientReactiveService {
+
+    @Lazy
+    private final IngredientService ingredientService;
+
+    @Lazy
+    private final BlockingScheduler blockingScheduler;
+
+
+    @Override
+    public Flux<Ingredient> findByPizzaId(final Integer pizzaId) {
+        return blockingScheduler.read(() ->
+                        new ArrayList<>(
+                                ingredientService.findByPizzaId(pizzaId)
+                        )
+                )
+                .flatMapIterable(ingredients -> ingredients);
+    }
+
+}
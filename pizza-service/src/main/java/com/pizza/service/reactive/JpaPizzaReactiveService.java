@@ -0,0 +1,63 @@
+package com.pizza.service.reactive;
+
+import com.pizza.configuration.persistence.BlockingScheduler;
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.model.Pizza;
+import com.pizza.service.PizzaService;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PizzaReactiveService} that invokes {@link PizzaService} using the {@link BlockingScheduler}.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "false", matchIfMissing = true)
+@Qualifier(PizzaReactiveService.STORAGE)
+@Service
+public class JpaPizzaReactiveService implements PizzaReactiveService {
+
+    @Lazy
+    private final PizzaService pizzaService;
+
+    @Lazy
+    private final BlockingScheduler blockingScheduler;
+
+
+    @Override
+    public Mono<Pizza> findByName(final String name) {
+        return blockingScheduler.read(() ->
+                pizzaService.findByName(name)
+                        .orElse(null)
+        );
+    }
+
+
+    @Override
+    public Mono<Page<Pizza>> findPageWithIngredients(final int page,
+                                                     final int size,
+                                                     final Sort sort) {
+        return blockingScheduler.read(() ->
+                pizzaService.findPageWithIngredients(
+                        page,
+                        size,
+                        sort
+                )
+        );
+    }
+
+
+    @Override
+    public Mono<Pizza> save(final Pizza pizza) {
+        return blockingScheduler.write(() ->
+                pizzaService.save(pizza)
+                        .orElse(null)
+        );
+    }
+
+}
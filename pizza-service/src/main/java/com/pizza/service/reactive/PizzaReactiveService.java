@@ -0,0 +1,55 @@
+package com.pizza.service.reactive;
+
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Mono;
+
+/**
+ *    Non-blocking operations related with {@link Pizza}s. The used implementation depends on
+ * {@link com.pizza.configuration.persistence.ReactivePersistenceConfiguration#ENABLED_PROPERTY}.
+ */
+public interface PizzaReactiveService {
+
+    // Qualifier of the implementation that accesses to the database
+    String STORAGE = "pizzaReactiveServiceStorage";
+
+
+    /**
+     * Returns the {@link Pizza} which name matches with the given one.
+     *
+     * @param name
+     *    Name to search in the current {@link Pizza#getName()}s
+     *
+     * @return {@link Mono} of {@link Pizza}
+     */
+    Mono<Pizza> findByName(String name);
+
+
+    /**
+     * Returns the required page information about {@link Pizza}s with their {@link Ingredient}s
+     *
+     * @param page
+     *    Number of page to get
+     * @param size
+     *    Number of elements in every page
+     * @param sort
+     *    {@link Sort} with how we want to sort the returned results
+     *
+     * @return {@link Mono} with the {@link Page} of {@link Pizza}
+     */
+    Mono<Page<Pizza>> findPageWithIngredients(int page, int size, Sort sort);
+
+
+    /**
+     * Persist the information included in the given {@link Pizza}
+     *
+     * @param pizza
+     *    {@link Pizza} to save
+     *
+     * @return {@link Mono} of {@link Pizza} with its "final information" after this action
+     */
+    Mono<Pizza> save(Pizza pizza);
+
+}
@@ -0,0 +1,31 @@
+package com.pizza.service.reactive;
+
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.model.Ingredient;
+import com.pizza.repository.reactive.IngredientR2dbcRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link IngredientReactiveService} that uses non-blocking connections to the database.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@Qualifier(IngredientReactiveService.STORAGE)
+@Service
+public class R2dbcIngredientReactiveService implements IngredientReactiveService {
+
+    @Lazy
+    private final IngredientR2dbcRepository repository;
+
+
+    @Override
+    public Flux<Ingredient> findByPizzaId(final Integer pizzaId) {
+        return repository.findByPizzaId(pizzaId);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.pizza.service.reactive;
+
+import com.pizza.configuration.persistence.BlockingScheduler;
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.enums.PizzaEnum;
+import com.pizza.model.Pizza;
+import com.pizza.repository.reactive.PizzaR2dbcRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.cache.PizzaCountCacheService;
+import com.pizza.util.PageUtil;
+import lombok.AllArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ *    {@link PizzaReactiveService} that uses non-blocking connections to the database. The changes are not done through
+ * Hibernate, so its second level cache and the other cached information are cleared after every one.
+ */
+@AllArgsConstructor
+@ConditionalOnProperty(value = ReactivePersistenceConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@Qualifier(PizzaReactiveService.STORAGE)
+@Service
+public class R2dbcPizzaReactiveService implements PizzaReactiveService {
+
+    @Lazy
+    private final PizzaR2dbcRepository repository;
+
+    @Lazy
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Lazy
+    private final BlockingScheduler blockingScheduler;
+
+    @Lazy
+    private final PizzaCountCacheService pizzaCountCacheService;
+
+    @Lazy
+    private final IngredientResponseCacheService ingredientResponseCacheService;
+
+
+    @Override
+    public Mono<Pizza> findByName(final String name) {
+        return Mono.justOrEmpty(PizzaEnum.getFromDatabaseValue(name))
+                .flatMap(repository::findWithIngredientsByName);
+    }
+
+
+    @Override
+    public Mono<Page<Pizza>> findPageWithIngredients(final int page,
+                                                     final int size,
+                                                     final Sort sort) {
+        return repository.findPageWithIngredients(
+                PageUtil.buildPageRequest(
+                        page,
+                        size,
+                        sort
+                ),
+                blockingScheduler.call(pizzaCountCacheService::get)
+                        .flatMap(Mono::justOrEmpty)
+                        .switchIfEmpty(
+                                Mono.defer(repository::count)
+                                        .flatMap(total ->
+                                                blockingScheduler.call(() -> {
+                                                    pizzaCountCacheService.put(total);
+                                                    return total;
+                                                })
+                                        )
+                        )
+        );
+    }
+
+
+    @Override
+    public Mono<Pizza> save(final Pizza pizza) {
+        return repository.save(pizza)
+                .flatMap(p ->
+                        blockingScheduler.call(() -> {
+                            entityManagerFactory.unwrap(SessionFactory.class)
+                                    .getCache()
+                                    .evictAllRegions();
+                            pizzaCountCacheService.invalidate();
+                            ingredientResponseCacheService.invalidateAll();
+                            return p;
+                        })
+                );
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.pizza.service.reactive;
+
+import com.pizza.model.Ingredient;
+import com.pizza.service.menu.MenuSnapshot;
+import com.pizza.service.menu.MenuSnapshotService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ *    {@link IngredientReactiveService} that returns the {@link Ingredient}s included in the current {@link MenuSnapshot}.
+ * The {@link IngredientReactiveService#STORAGE} one is only used when there is no snapshot yet.
+ */
+@ConditionalOnProperty(value = MenuSnapshotService.ENABLED_PROPERTY, havingValue = "true")
+@Primary
+@Service
+public class SnapshotIngredientReactiveService implements IngredientReactiveService {
+
+    @Lazy
+    private final IngredientReactiveService storage;
+
+    @Lazy
+    private final MenuSnapshotService menuSnapshotService;
+
+
+    public SnapshotIngredientReactiveService(@Qualifier(IngredientReactiveService.STORAGE) final IngredientReactiveService storage,
+                                             final MenuSnapshotService menuSnapshotService) {
+        this.storage = storage;
+        this.menuSnapshotService = menuSnapshotService;
+    }
+
+
+    @Override
+    public Flux<Ingredient> findByPizzaId(final Integer pizzaId) {
+        return menuSnapshotService.getSnapshot()
+                .map(snapshot ->
+                        Flux.fromIterable(
+                                snapshot.findIngredientsByPizzaId(pizzaId)
+                        )
+                )
+                .orElseGet(() ->
+                        storage.findByPizzaId(pizzaId)
+                );
+    }
+
+}
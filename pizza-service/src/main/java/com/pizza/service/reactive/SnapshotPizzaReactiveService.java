@@ -0,0 +1,158 @@
+package com.pizza.service.reactive;
+
+import com.pizza.enums.PizzaEnum;
+import com.pizza.model.Pizza;
+import com.pizza.service.menu.MenuSnapshot;
+import com.pizza.service.menu.MenuSnapshotService;
+import com.pizza.util.PageUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+/**
+ *    {@link PizzaReactiveService} that returns the {@link Pizza}s included in the current {@link MenuSnapshot}. The
+ * {@link PizzaReactiveService#STORAGE} one is only used to save them, or to query them when there is no snapshot yet.
+ * Every change requests a new {@link MenuSnapshot}.
+ */
+@ConditionalOnProperty(value = MenuSnapshotService.ENABLED_PROPERTY, havingValue = "true")
+@Primary
+@Service
+public class SnapshotPizzaReactiveService implements PizzaReactiveService {
+
+    private static final Comparator<Pizza> DEFAULT_ORDER = Comparator.comparing(Pizza::getId).reversed();
+
+    @Lazy
+    private final PizzaReactiveService storage;
+
+    @Lazy
+    private final MenuSnapshotService menuSnapshotService;
+
+
+    public SnapshotPizzaReactiveService(@Qualifier(PizzaReactiveService.STORAGE) final PizzaReactiveService storage,
+                                        final MenuSnapshotService menuSnapshotService) {
+        this.storage = storage;
+        this.menuSnapshotService = menuSnapshotService;
+    }
+
+
+    @Override
+    public Mono<Pizza> findByName(final String name) {
+        return menuSnapshotService.getSnapshot()
+                .map(snapshot ->
+                        Mono.justOrEmpty(
+                                PizzaEnum.getFromDatabaseValue(name)
+                                        .flatMap(snapshot::findByName)
+                        )
+                )
+                .orElseGet(() ->
+                        storage.findByName(name)
+                );
+    }
+
+
+    @Override
+    public Mono<Page<Pizza>> findPageWithIngredients(final int page,
+                                                     final int size,
+                                                     final Sort sort) {
+        PageRequest pageRequest = PageUtil.buildPageRequest(
+                page,
+                size,
+                sort
+        );
+        Optional<Comparator<Pizza>> comparator = buildComparator(pageRequest.getSort());
+        return menuSnapshotService.getSnapshot()
+                .filter(snapshot -> comparator.isPresent())
+                .map(snapshot ->
+                        Mono.just(
+                                buildPage(
+                                        snapshot.getPizzas(),
+                                        pageRequest,
+                                        comparator.get()
+                                )
+                        )
+                )
+                .orElseGet(() ->
+                        storage.findPageWithIngredients(
+                                page,
+                                size,
+                                sort
+                        )
+                );
+    }
+
+
+    @Override
+    public Mono<Pizza> save(final Pizza pizza) {
+        return storage.save(pizza)
+                .doFinally(signal ->
+                        menuSnapshotService.refreshInBackground()
+                );
+    }
+
+
+    private static Page<Pizza> buildPage(final List<Pizza> pizzas,
+                                         final PageRequest pageRequest,
+                                         final Comparator<Pizza> comparator) {
+        List<Pizza> sortedPizzas = pizzas.stream()
+                .sorted(comparator)
+                .toList();
+
+        int fromIndex = (int) Math.min(pageRequest.getOffset(), sortedPizzas.size());
+        int toIndex = Math.min(fromIndex + pageRequest.getPageSize(), sortedPizzas.size());
+        return new PageImpl<>(
+                sortedPizzas.subList(fromIndex, toIndex),
+                pageRequest,
+                sortedPizzas.size()
+        );
+    }
+
+
+    /**
+     * Returns the {@link Comparator} equivalent to the given {@link Sort}.
+     *
+     * @param sort
+     *    {@link Sort} to convert
+     *
+     * @return {@link Optional} of {@link Comparator}, {@link Optional#empty()} if {@code sort} contains a property
+     *         that cannot be sorted in memory
+     */
+    private static Optional<Comparator<Pizza>> buildComparator(final Sort sort) {
+        if (sort.isUnsorted()) {
+            return of(DEFAULT_ORDER);
+        }
+        Comparator<Pizza> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Pizza> propertyComparator;
+            switch (order.getProperty()) {
+                case "id" -> propertyComparator = Comparator.comparing(Pizza::getId);
+                case "name" -> propertyComparator = Comparator.comparing(p -> p.getName().getInternalPropertyValue());
+                case "cost" -> propertyComparator = Comparator.comparing(Pizza::getCost);
+                default -> {
+                    return empty();
+                }
+            }
+            if (order.isDescending()) {
+                propertyComparator = propertyComparator.reversed();
+            }
+            comparator = null == comparator
+                    ? propertyComparator
+                    : comparator.thenComparing(propertyComparator);
+        }
+        return of(comparator);
+    }
+
+}
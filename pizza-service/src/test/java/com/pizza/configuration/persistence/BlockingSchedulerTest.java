@@ -0,0 +1,87 @@
+package com.pizza.configuration.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class BlockingSchedulerTest {
+
+    @Mock
+    private PlatformTransactionManager mockTransactionManager;
+
+    @Mock
+    private TransactionStatus mockTransactionStatus;
+
+    private BlockingScheduler blockingScheduler;
+
+
+    @BeforeEach
+    public void init() {
+        blockingScheduler = new BlockingScheduler(
+                mockTransactionManager,
+                Schedulers.newBoundedElastic(1, 10, "test")
+        );
+        when(mockTransactionManager.getTransaction(any()))
+                .thenReturn(mockTransactionStatus);
+    }
+
+
+    @Test
+    @DisplayName("read: when the supplier is invoked then it runs in a read-only transaction outside the caller thread")
+    public void read_whenTheSupplierIsInvoked_thenItRunsInAReadOnlyTransactionOutsideTheCallerThread() {
+        Thread caller = Thread.currentThread();
+
+        StepVerifier.create(blockingScheduler.read(Thread::currentThread))
+                .assertNext(thread -> assertNotEquals(caller, thread))
+                .verifyComplete();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(mockTransactionManager).getTransaction(definition.capture());
+        verify(mockTransactionManager).commit(mockTransactionStatus);
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+
+    @Test
+    @DisplayName("write: when the supplier fails then the transaction is rolled back and the error is returned")
+    public void write_whenTheSupplierFails_thenTheTransactionIsRolledBackAndTheErrorIsReturned() {
+        StepVerifier.create(blockingScheduler.write(() -> { throw new IllegalStateException(); }))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(mockTransactionManager).getTransaction(definition.capture());
+        verify(mockTransactionManager).rollback(mockTransactionStatus);
+        verify(mockTransactionManager, never()).commit(any());
+        assertFalse(definition.getValue().isReadOnly());
+    }
+
+
+    @Test
+    @DisplayName("call: when the supplier returns null then empty is returned without transaction")
+    public void call_whenTheSupplierReturnsNull_thenEmptyIsReturnedWithoutTransaction() {
+        StepVerifier.create(blockingScheduler.call(() -> null))
+                .verifyComplete();
+
+        verify(mockTransactionManager, never()).getTransaction(any());
+    }
+
+}
@@ -2,27 +2,36 @@ package com.pizza.controller;
 
 import com.pizza.PizzaServiceApplication;
 import com.pizza.configuration.Constants;
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
 import com.pizza.configuration.rest.RestRoutes;
 import com.pizza.dto.IngredientDto;
 import com.pizza.dto.PizzaDto;
 import com.pizza.enums.PizzaEnum;
 import com.pizza.model.Ingredient;
 import com.pizza.model.Pizza;
+import com.pizza.repository.reactive.PizzaR2dbcRepository;
 import com.pizza.service.PizzaService;
 import com.spring5microservices.common.dto.ErrorResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
@@ -30,6 +39,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +49,9 @@ import static com.pizza.TestDataFactory.buildPizza;
 import static com.pizza.TestDataFactory.buildPizzaDto;
 import static com.pizza.enums.PizzaEnum.CARBONARA;
 import static com.spring5microservices.common.enums.RestApiErrorCode.VALIDATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -51,6 +64,9 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 @SpringBootTest(classes = PizzaServiceApplication.class)
 public class PizzaControllerTest extends BaseControllerTest {
 
+    // Name of the threads of the scheduler used to invoke the JPA repositories
+    private static final String BLOCKING_THREAD_PREFIX = "blocking";
+
     @MockBean
     private PizzaService mockPizzaService;
 
@@ -177,6 +193,31 @@ public class PizzaControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    public void create_whenNotEmptyDtoIsGiven_thenPizzaIsSavedInAReadWriteTransactionOutsideTheEventLoop() {
+        // Given
+        PizzaDto pizzaDto = buildPizzaDto(null, CARBONARA.getInternalPropertyValue(), 7D, Set.of());
+        Pizza pizza = buildPizza(1, CARBONARA, pizzaDto.getCost(), Set.of());
+        AtomicReference<BlockingCallInformation> blockingCall = new AtomicReference<>();
+
+        // When
+        when(mockPizzaService.save(any())).thenAnswer(invocation -> {
+            blockingCall.set(BlockingCallInformation.current());
+            return of(pizza);
+        });
+
+        // Then
+        webTestClient.post()
+                .uri(RestRoutes.PIZZA.ROOT)
+                .body(Mono.just(pizzaDto), PizzaDto.class)
+                .exchange()
+                .expectStatus().isCreated();
+
+        assertBlockingCall(blockingCall.get(), false);
+    }
+
+
     @Test
     public void findByName_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
         // Given
@@ -260,6 +301,28 @@ public class PizzaControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    public void findByName_whenTheNameIsGiven_thenItIsSearchedInAReadOnlyTransactionOutsideTheEventLoop() {
+        // Given
+        AtomicReference<BlockingCallInformation> blockingCall = new AtomicReference<>();
+
+        // When
+        when(mockPizzaService.findByName(anyString())).thenAnswer(invocation -> {
+            blockingCall.set(BlockingCallInformation.current());
+            return Optional.empty();
+        });
+
+        // Then
+        webTestClient.get()
+                .uri(RestRoutes.PIZZA.ROOT + "/carbonara")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        assertBlockingCall(blockingCall.get(), true);
+    }
+
+
     @Test
     public void findPageWithIngredients_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
         // Given
@@ -388,6 +451,31 @@ public class PizzaControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    public void findPageWithIngredients_whenValidParametersAreGiven_thenThePageIsSearchedInAReadOnlyTransactionOutsideTheEventLoop() {
+        // Given
+        AtomicReference<BlockingCallInformation> blockingCall = new AtomicReference<>();
+
+        // When
+        when(mockPizzaService.findPageWithIngredients(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            blockingCall.set(BlockingCallInformation.current());
+            return Page.empty();
+        });
+
+        // Then
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(RestRoutes.PIZZA.ROOT + RestRoutes.PIZZA.PAGE_WITH_INGREDIENTS)
+                        .queryParam("page", 0)
+                        .queryParam("size", 1)
+                        .build())
+                .exchange()
+                .expectStatus().isOk();
+
+        assertBlockingCall(blockingCall.get(), true);
+    }
+
+
     @Test
     public void update_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
         // When/Then
@@ -499,4 +587,150 @@ public class PizzaControllerTest extends BaseControllerTest {
         verify(mockPizzaService, times(1)).save(beforePizza);
     }
 
+
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    public void update_whenNotEmptyDtoIsGiven_thenPizzaIsSavedInAReadWriteTransactionOutsideTheEventLoop() {
+        // Given
+        PizzaDto pizzaDto = buildPizzaDto(1, CARBONARA.getInternalPropertyValue(), 7D, Set.of());
+        Pizza pizza = buildPizza(pizzaDto.getId(), CARBONARA, pizzaDto.getCost(), Set.of());
+        AtomicReference<BlockingCallInformation> blockingCall = new AtomicReference<>();
+
+        // When
+        when(mockPizzaService.save(any())).thenAnswer(invocation -> {
+            blockingCall.set(BlockingCallInformation.current());
+            return of(pizza);
+        });
+
+        // Then
+        webTestClient.put()
+                .uri(RestRoutes.PIZZA.ROOT)
+                .body(Mono.just(pizzaDto), PizzaDto.class)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertBlockingCall(blockingCall.get(), false);
+    }
+
+
+    @Nested
+    @TestPropertySource(properties = ReactivePersistenceConfiguration.ENABLED_PROPERTY + "=true")
+    class WithReactivePersistence {
+
+        // Its own context, the pizza services depend on ReactivePersistenceConfiguration#ENABLED_PROPERTY
+        @Autowired
+        private ApplicationContext reactiveContext;
+
+        @MockBean
+        private PizzaR2dbcRepository mockPizzaR2dbcRepository;
+
+        private WebTestClient webTestClient;
+
+
+        @BeforeEach
+        public void init() {
+            this.webTestClient = WebTestClient.bindToApplicationContext(this.reactiveContext).configureClient().build();
+        }
+
+
+        @Test
+        @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+        public void create_whenNotEmptyDtoIsGiven_thenPizzaIsSavedByTheR2dbcRepository() {
+            // Given
+            PizzaDto beforePizzaDto = buildPizzaDto(null, CARBONARA.getInternalPropertyValue(), 7D, Set.of());
+            Pizza beforePizza = buildPizza(beforePizzaDto.getId(), CARBONARA, beforePizzaDto.getCost(), Set.of());
+            PizzaDto afterPizzaDto = buildPizzaDto(1, beforePizzaDto.getName(), beforePizzaDto.getCost(), Set.of());
+            Pizza afterPizza = buildPizza(afterPizzaDto.getId(), CARBONARA, afterPizzaDto.getCost(), Set.of());
+
+            // When
+            when(mockPizzaR2dbcRepository.save(beforePizza)).thenReturn(Mono.just(afterPizza));
+
+            // Then
+            webTestClient.post()
+                    .uri(RestRoutes.PIZZA.ROOT)
+                    .body(Mono.just(beforePizzaDto), PizzaDto.class)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectBody(PizzaDto.class)
+                    .isEqualTo(afterPizzaDto);
+
+            verify(mockPizzaR2dbcRepository, times(1)).save(beforePizza);
+        }
+
+
+        @Test
+        @WithMockUser(authorities = {Constants.ROLE_USER})
+        public void findByName_whenTheNameExists_thenThePizzaIsSearchedByTheR2dbcRepository() {
+            // Given
+            IngredientDto ingredientDto = buildIngredientDto(1, "Bacon");
+            Ingredient ingredient = buildIngredient(ingredientDto.getId(), ingredientDto.getName());
+            PizzaDto pizzaDto = buildPizzaDto(1, CARBONARA.getInternalPropertyValue(), 7D, Set.of(ingredientDto));
+            Pizza pizza = buildPizza(pizzaDto.getId(), CARBONARA, pizzaDto.getCost(), Set.of(ingredient));
+
+            // When
+            when(mockPizzaR2dbcRepository.findWithIngredientsByName(CARBONARA)).thenReturn(Mono.just(pizza));
+
+            // Then
+            webTestClient.get()
+                    .uri(RestRoutes.PIZZA.ROOT + "/" + pizzaDto.getName())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(PizzaDto.class)
+                    .isEqualTo(pizzaDto);
+        }
+
+
+        @Test
+        @WithMockUser(authorities = {Constants.ROLE_USER})
+        public void findPageWithIngredients_whenResultsAreFound_thenThePageIsSearchedByTheR2dbcRepository() {
+            // Given
+            PizzaDto pizzaDto = buildPizzaDto(1, CARBONARA.getInternalPropertyValue(), 7D, Set.of());
+            Pizza pizza = buildPizza(pizzaDto.getId(), CARBONARA, pizzaDto.getCost(), Set.of());
+
+            // When
+            when(mockPizzaR2dbcRepository.findPageWithIngredients(any(), any())).thenReturn(Mono.just(new PageImpl<>(List.of(pizza))));
+
+            // Then
+            webTestClient.get()
+                    .uri(uriBuilder -> uriBuilder.path(RestRoutes.PIZZA.ROOT + RestRoutes.PIZZA.PAGE_WITH_INGREDIENTS)
+                            .queryParam("page", 0)
+                            .queryParam("size", 1)
+                            .build())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.content.[0].id").isEqualTo(pizzaDto.getId())
+                    .jsonPath("$.content.[0].name").isEqualTo(pizzaDto.getName())
+                    .jsonPath("$.totalElements").isEqualTo(1);
+        }
+
+    }
+
+
+    private static void assertBlockingCall(BlockingCallInformation blockingCall,
+                                           boolean expectedReadOnly) {
+        assertNotNull(blockingCall);
+        assertTrue(blockingCall.getThreadName().startsWith(BLOCKING_THREAD_PREFIX));
+        assertTrue(blockingCall.isTransactionActive());
+        assertEquals(expectedReadOnly, blockingCall.isTransactionReadOnly());
+    }
+
+
+    // Where and how the invoked PizzaService was executed
+    @AllArgsConstructor
+    @Getter
+    private static class BlockingCallInformation {
+        private final String threadName;
+        private final boolean transactionActive;
+        private final boolean transactionReadOnly;
+
+        static BlockingCallInformation current() {
+            return new BlockingCallInformation(
+                    Thread.currentThread().getName(),
+                    TransactionSynchronizationManager.isActualTransactionActive(),
+                    TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            );
+        }
+    }
+
 }
@@ -13,6 +13,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +25,9 @@ import static org.mockito.Mockito.when;
 @SpringBootTest(classes = PizzaServiceApplication.class)
 public class UserControllerTest extends BaseControllerTest {
 
+    // Name of the threads of the scheduler used to invoke the distributed cache
+    private static final String BLOCKING_THREAD_PREFIX = "blocking";
+
     @MockBean
     private UserBlacklistCacheService mockUserBlacklistCacheService;
 
@@ -93,6 +100,29 @@ public class UserControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    public void addToBlacklist_whenValidUsernameIsGiven_thenTheCacheIsInvokedOutsideTheEventLoop() {
+        // Given
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // When
+        when(mockUserBlacklistCacheService.put(anyString())).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        // Then
+        webTestClient.post()
+                .uri(RestRoutes.USER.ROOT + RestRoutes.USER.BLACKLIST + "/testUser")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertNotNull(threadName.get());
+        assertTrue(threadName.get().startsWith(BLOCKING_THREAD_PREFIX));
+    }
+
+
     @Test
     public void removeFromBlacklist_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
         // When/Then
@@ -152,4 +182,27 @@ public class UserControllerTest extends BaseControllerTest {
         verify(mockUserBlacklistCacheService, times(1)).remove(anyString());
     }
 
+
+    @Test
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    public void removeFromBlacklist_whenValidUsernameIsGiven_thenTheCacheIsInvokedOutsideTheEventLoop() {
+        // Given
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // When
+        when(mockUserBlacklistCacheService.remove(anyString())).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        // Then
+        webTestClient.delete()
+                .uri(RestRoutes.USER.ROOT + RestRoutes.USER.BLACKLIST + "/testUser")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertNotNull(threadName.get());
+        assertTrue(threadName.get().startsWith(BLOCKING_THREAD_PREFIX));
+    }
+
 }
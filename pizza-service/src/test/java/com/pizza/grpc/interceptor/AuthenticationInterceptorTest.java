@@ -0,0 +1,117 @@
+package com.pizza.grpc.interceptor;
+
+import com.pizza.configuration.security.SecurityConfiguration;
+import com.spring5microservices.grpc.configuration.GrpcHeader;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Base64;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class AuthenticationInterceptorTest {
+
+    private static final String CLIENT_ID = "clientId";
+    private static final String CLIENT_PASSWORD = "clientPassword";
+
+    @Mock
+    private SecurityConfiguration mockSecurityConfiguration;
+
+    @Mock
+    private ServerCall<String, String> mockServerCall;
+
+    @Mock
+    private ServerCallHandler<String, String> mockServerCallHandler;
+
+    @Mock
+    private ServerCall.Listener<String> mockListener;
+
+    private AuthenticationInterceptor interceptor;
+
+
+    @BeforeEach
+    public void init() {
+        interceptor = new AuthenticationInterceptor(mockSecurityConfiguration, 10, 60);
+        when(mockSecurityConfiguration.getClientId())
+                .thenReturn(CLIENT_ID);
+        when(mockSecurityConfiguration.getClientPassword())
+                .thenReturn(CLIENT_PASSWORD);
+        when(mockServerCallHandler.startCall(any(), any()))
+                .thenReturn(mockListener);
+    }
+
+
+    static Stream<Arguments> interceptCallWhenNotValidAuthenticationIsGivenTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            authorization
+                Arguments.of( (String)null ),
+                Arguments.of( "NotBasic" ),
+                Arguments.of( buildAuthorization("notValidClientId", CLIENT_PASSWORD) ),
+                Arguments.of( buildAuthorization(CLIENT_ID, "notValidPassword") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("interceptCallWhenNotValidAuthenticationIsGivenTestCases")
+    @DisplayName("interceptCall: when not valid authentication is given then the call is closed with UNAUTHENTICATED")
+    public void interceptCall_whenNotValidAuthenticationIsGiven_thenTheCallIsClosedWithUnauthenticated(String authorization) {
+        interceptor.interceptCall(mockServerCall, buildMetadata(authorization), mockServerCallHandler);
+        interceptor.interceptCall(mockServerCall, buildMetadata(authorization), mockServerCallHandler);
+
+        ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+        verify(mockServerCall, times(2)).close(status.capture(), any());
+        assertEquals(Status.Code.UNAUTHENTICATED, status.getValue().getCode());
+        verify(mockServerCallHandler, never()).startCall(any(), any());
+    }
+
+
+    @Test
+    @DisplayName("interceptCall: when valid authentication is given again then it is not verified again")
+    public void interceptCall_whenValidAuthenticationIsGivenAgain_thenItIsNotVerifiedAgain() {
+        String authorization = buildAuthorization(CLIENT_ID, CLIENT_PASSWORD);
+
+        interceptor.interceptCall(mockServerCall, buildMetadata(authorization), mockServerCallHandler);
+        interceptor.interceptCall(mockServerCall, buildMetadata(authorization), mockServerCallHandler);
+
+        verify(mockServerCall, never()).close(any(), any());
+        verify(mockServerCallHandler, times(2)).startCall(any(), any());
+        verify(mockSecurityConfiguration, times(1)).getClientPassword();
+    }
+
+
+    private static String buildAuthorization(String username,
+                                             String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(UTF_8));
+    }
+
+
+    private static Metadata buildMetadata(String authorization) {
+        Metadata metadata = new Metadata();
+        if (null != authorization) {
+            metadata.put(GrpcHeader.AUTHORIZATION, authorization);
+        }
+        return metadata;
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.pizza.grpc.interceptor;
+
+import com.pizza.grpc.configuration.GrpcConfiguration;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ConcurrencyLimitInterceptorTest {
+
+    private static final String METHOD_NAME = "IngredientService/getIngredients";
+
+    @Mock
+    private GrpcConfiguration mockGrpcConfiguration;
+
+    @Mock
+    private ServerCallHandler<String, String> mockServerCallHandler;
+
+    @Mock
+    private ServerCall.Listener<String> mockListener;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(mockGrpcConfiguration.getServerMaxConcurrentCalls())
+                .thenReturn(1);
+        when(mockServerCallHandler.startCall(any(), any()))
+                .thenReturn(mockListener);
+        interceptor = new ConcurrencyLimitInterceptor(mockGrpcConfiguration, meterRegistry);
+    }
+
+
+    @Test
+    @DisplayName("interceptCall: when the server is saturated then the call is rejected with RESOURCE_EXHAUSTED")
+    public void interceptCall_whenTheServerIsSaturated_thenTheCallIsRejectedWithResourceExhausted() {
+        ServerCall<String, String> activeCall = buildServerCall();
+        ServerCall<String, String> rejectedCall = buildServerCall();
+
+        interceptor.interceptCall(activeCall, new Metadata(), mockServerCallHandler);
+        interceptor.interceptCall(rejectedCall, new Metadata(), mockServerCallHandler);
+
+        ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+        verify(rejectedCall, times(1)).close(status.capture(), any());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, status.getValue().getCode());
+        verify(mockServerCallHandler, times(1)).startCall(any(), any());
+        assertEquals(1, meterRegistry.get(ConcurrencyLimitInterceptor.ACTIVE_CALLS_METRIC).gauge().value());
+        assertEquals(1, meterRegistry.get(ConcurrencyLimitInterceptor.REJECTED_CALLS_METRIC).tag("method", METHOD_NAME).counter().count());
+    }
+
+
+    @Test
+    @DisplayName("interceptCall: when the active call is closed then a new one is accepted")
+    @SuppressWarnings("unchecked")
+    public void interceptCall_whenTheActiveCallIsClosed_thenANewOneIsAccepted() {
+        ServerCall<String, String> firstCall = buildServerCall();
+        ServerCall<String, String> secondCall = buildServerCall();
+        ArgumentCaptor<ServerCall<String, String>> startedCall = ArgumentCaptor.forClass(ServerCall.class);
+
+        ServerCall.Listener<String> listener = interceptor.interceptCall(firstCall, new Metadata(), mockServerCallHandler);
+        verify(mockServerCallHandler).startCall(startedCall.capture(), any());
+
+        // The call is closed and completed, but only one permit is released
+        startedCall.getValue().close(Status.OK, new Metadata());
+        listener.onComplete();
+        verify(mockListener, times(1)).onComplete();
+        assertEquals(0, meterRegistry.get(ConcurrencyLimitInterceptor.ACTIVE_CALLS_METRIC).gauge().value());
+
+        interceptor.interceptCall(secondCall, new Metadata(), mockServerCallHandler);
+
+        verify(secondCall, never()).close(any(), any());
+        verify(mockServerCallHandler, times(2)).startCall(any(), any());
+        assertEquals(1, meterRegistry.get(ConcurrencyLimitInterceptor.ACTIVE_CALLS_METRIC).gauge().value());
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private ServerCall<String, String> buildServerCall() {
+        ServerCall<String, String> serverCall = mock(ServerCall.class);
+        MethodDescriptor<String, String> methodDescriptor = MethodDescriptor.<String, String>newBuilder()
+                .setType(MethodDescriptor.MethodType.SERVER_STREAMING)
+                .setFullMethodName(METHOD_NAME)
+                .setRequestMarshaller(mock(MethodDescriptor.Marshaller.class))
+                .setResponseMarshaller(mock(MethodDescriptor.Marshaller.class))
+                .build();
+        when(serverCall.getMethodDescriptor())
+                .thenReturn(methodDescriptor);
+        return serverCall;
+    }
+
+}
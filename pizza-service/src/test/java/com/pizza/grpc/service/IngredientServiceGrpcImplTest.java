@@ -1,34 +1,52 @@
 package com.pizza.grpc.service;
 
+import com.pizza.configuration.persistence.BlockingScheduler;
 import com.pizza.grpc.converter.IngredientGrpcConverter;
 import com.pizza.model.Ingredient;
 import com.pizza.service.IngredientService;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.reactive.JpaIngredientReactiveService;
 import com.spring5microservices.grpc.IngredientResponse;
+import com.spring5microservices.grpc.PizzaIngredientResponse;
 import com.spring5microservices.grpc.PizzaRequest;
+import com.spring5microservices.grpc.PizzasRequest;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static com.pizza.TestDataFactory.buildIngredient;
 import static com.pizza.TestDataFactory.buildIngredientResponse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -40,12 +58,22 @@ public class IngredientServiceGrpcImplTest {
     @Mock
     private IngredientGrpcConverter mockIngredientGrpcConverter;
 
+    @Mock
+    private PlatformTransactionManager mockTransactionManager;
+
     private IngredientServiceGrpcImpl service;
 
 
     @BeforeEach
     public void init() {
-        service = new IngredientServiceGrpcImpl(mockIngredientService, mockIngredientGrpcConverter);
+        BlockingScheduler blockingScheduler = new BlockingScheduler(mockTransactionManager, Schedulers.boundedElastic());
+        service = new IngredientServiceGrpcImpl(
+                mockIngredientService,
+                new JpaIngredientReactiveService(mockIngredientService, blockingScheduler),
+                mockIngredientGrpcConverter,
+                blockingScheduler,
+                new IngredientResponseCacheService(10, 60, new SimpleMeterRegistry())
+        );
     }
 
 
@@ -100,12 +128,125 @@ public class IngredientServiceGrpcImplTest {
     }
 
 
-    private StreamObserver<IngredientResponse> buildStreamObserverForTesting(final Collection<IngredientResponse> ingredientResponse,
-                                                                             final CountDownLatch latch) {
-        return new StreamObserver<>() {
+    @Test
+    @DisplayName("getIngredients: when the query fails then the error is sent to the client")
+    public void getIngredients_whenTheQueryFails_thenTheErrorIsSentToTheClient() throws InterruptedException {
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final StreamObserver<IngredientResponse> streamObserver = new StreamObserver<>() {
             @Override
             public void onNext(IngredientResponse value) {
-                ingredientResponse.add(value);
+                fail("No response was expected");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                latch.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                fail("The query should have failed");
+            }
+        };
+        when(mockIngredientService.findByPizzaId(1))
+                .thenThrow(new IllegalArgumentException("Not valid identifier"));
+
+        service.getIngredients(PizzaRequest.newBuilder().setId(1).build(), streamObserver);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(StatusRuntimeException.class, error.get());
+        assertEquals(Status.UNKNOWN.getCode(), ((StatusRuntimeException) error.get()).getStatus().getCode());
+    }
+
+
+    @Test
+    @DisplayName("getIngredients: when the responses were already sent then they are returned from the cache")
+    public void getIngredients_whenTheResponsesWereAlreadySent_thenTheyAreReturnedFromTheCache() throws InterruptedException {
+        PizzaRequest pizzaRequest = PizzaRequest.newBuilder().setId(1).build();
+        Ingredient ingredient = buildIngredient(1, "ingredient1");
+        IngredientResponse ingredientResponse = buildIngredientResponse(ingredient.getId(), ingredient.getName());
+        when(mockIngredientService.findByPizzaId(1))
+                .thenReturn(Set.of(ingredient));
+        when(mockIngredientGrpcConverter.fromModelToDto(ingredient))
+                .thenReturn(ingredientResponse);
+
+        for (int i = 0; i < 2; i++) {
+            final List<IngredientResponse> result = new ArrayList<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            service.getIngredients(pizzaRequest, buildStreamObserverForTesting(result, latch));
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(ingredientResponse), result);
+        }
+        verify(mockIngredientService, times(1)).findByPizzaId(1);
+        verify(mockIngredientGrpcConverter, times(1)).fromModelToDto(ingredient);
+    }
+
+
+    static Stream<Arguments> getIngredientsByPizzaIdsTestCases() {
+        PizzasRequest emptyRequest = PizzasRequest.newBuilder().build();
+        PizzasRequest requestWithRepeatedIds = PizzasRequest.newBuilder().addAllIds(List.of(1, 2, 1)).build();
+
+        Ingredient ingredient1 = buildIngredient(1, "ingredient1");
+        Ingredient ingredient2 = buildIngredient(2, "ingredient2");
+        IngredientResponse ingredientResponse1 = buildIngredientResponse(ingredient1.getId(), ingredient1.getName());
+        IngredientResponse ingredientResponse2 = buildIngredientResponse(ingredient2.getId(), ingredient2.getName());
+
+        Map<Integer, Set<Ingredient>> serviceResult = new LinkedHashMap<>();
+        serviceResult.put(1, Set.of(ingredient1));
+        serviceResult.put(2, Set.of(ingredient2));
+
+        List<PizzaIngredientResponse> expectedResult = List.of(
+                PizzaIngredientResponse.newBuilder().setPizzaId(1).setIngredient(ingredientResponse1).build(),
+                PizzaIngredientResponse.newBuilder().setPizzaId(2).setIngredient(ingredientResponse2).build()
+        );
+        return Stream.of(
+                //@formatter:off
+                //            pizzasRequest,            expectedPizzaIds,   serviceResult,   expectedResult
+                Arguments.of( null,                     Set.of(),           Map.of(),        List.of() ),
+                Arguments.of( emptyRequest,             Set.of(),           Map.of(),        List.of() ),
+                Arguments.of( requestWithRepeatedIds,   Set.of(1, 2),       serviceResult,   expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getIngredientsByPizzaIdsTestCases")
+    @DisplayName("getIngredientsByPizzaIds: test cases")
+    public void getIngredientsByPizzaIds_testCases(PizzasRequest pizzasRequest,
+                                                   Set<Integer> expectedPizzaIds,
+                                                   Map<Integer, Set<Ingredient>> serviceResult,
+                                                   List<PizzaIngredientResponse> expectedResult) throws InterruptedException {
+        final List<PizzaIngredientResponse> result = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final StreamObserver<PizzaIngredientResponse> streamObserver = buildStreamObserverForTesting(
+                result,
+                latch
+        );
+
+        when(mockIngredientService.findByPizzaIds(expectedPizzaIds))
+                .thenReturn(serviceResult);
+        serviceResult.values()
+                .stream()
+                .flatMap(Set::stream)
+                .forEach(i ->
+                        when(mockIngredientGrpcConverter.fromModelToDto(i))
+                                .thenReturn(buildIngredientResponse(i.getId(), i.getName()))
+                );
+
+        service.getIngredientsByPizzaIds(pizzasRequest, streamObserver);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(expectedResult, result);
+    }
+
+
+    private <T> StreamObserver<T> buildStreamObserverForTesting(final Collection<T> responses,
+                                                                final CountDownLatch latch) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                responses.add(value);
             }
 
             @Override
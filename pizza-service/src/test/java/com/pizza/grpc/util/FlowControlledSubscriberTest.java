@@ -0,0 +1,144 @@
+package com.pizza.grpc.util;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.publisher.TestPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class FlowControlledSubscriberTest {
+
+    @Mock
+    private ServerCallStreamObserver<String> mockServerCallStreamObserver;
+
+    private AtomicReference<Throwable> error;
+
+
+    @BeforeEach
+    public void init() {
+        error = new AtomicReference<>();
+    }
+
+
+    @Test
+    @DisplayName("FlowControlledSubscriber: when the observer does not support flow control then all the elements are sent")
+    public void flowControlledSubscriber_whenTheObserverDoesNotSupportFlowControl_thenAllTheElementsAreSent() {
+        List<String> responses = new ArrayList<>();
+        StreamObserver<String> streamObserver = new StreamObserver<>() {
+            @Override
+            public void onNext(String value) {
+                responses.add(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                responses.add("completed");
+            }
+        };
+
+        Flux.just("1", "2", "3")
+                .subscribe(new FlowControlledSubscriber<>(streamObserver, error::set));
+
+        assertEquals(List.of("1", "2", "3", "completed"), responses);
+        assertNull(error.get());
+    }
+
+
+    @Test
+    @DisplayName("FlowControlledSubscriber: when the transport is not ready then no more elements are requested until it is")
+    public void flowControlledSubscriber_whenTheTransportIsNotReady_thenNoMoreElementsAreRequestedUntilItIs() {
+        TestPublisher<String> publisher = TestPublisher.create();
+        ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+        when(mockServerCallStreamObserver.isReady())
+                .thenReturn(true);
+
+        FlowControlledSubscriber<String> subscriber = new FlowControlledSubscriber<>(mockServerCallStreamObserver, error::set);
+        verify(mockServerCallStreamObserver).setOnReadyHandler(onReadyHandler.capture());
+        publisher.flux().subscribe(subscriber);
+
+        // Only one element is requested every time
+        publisher.assertMinRequested(1);
+        publisher.assertMaxRequested(1);
+
+        when(mockServerCallStreamObserver.isReady())
+                .thenReturn(false);
+        publisher.next("1");
+        verify(mockServerCallStreamObserver, times(1)).onNext("1");
+        publisher.assertMaxRequested(0);
+
+        // The transport is ready again
+        when(mockServerCallStreamObserver.isReady())
+                .thenReturn(true);
+        onReadyHandler.getValue().run();
+        publisher.assertMinRequested(1);
+
+        // A second notification does not request more elements
+        onReadyHandler.getValue().run();
+        publisher.assertMaxRequested(1);
+
+        publisher.next("2");
+        publisher.complete();
+        verify(mockServerCallStreamObserver, times(1)).onNext("2");
+        verify(mockServerCallStreamObserver, times(1)).onCompleted();
+    }
+
+
+    @Test
+    @DisplayName("FlowControlledSubscriber: when the call is cancelled then the subscription is cancelled")
+    public void flowControlledSubscriber_whenTheCallIsCancelled_thenTheSubscriptionIsCancelled() {
+        TestPublisher<String> publisher = TestPublisher.create();
+        ArgumentCaptor<Runnable> onCancelHandler = ArgumentCaptor.forClass(Runnable.class);
+        when(mockServerCallStreamObserver.isReady())
+                .thenReturn(true);
+
+        FlowControlledSubscriber<String> subscriber = new FlowControlledSubscriber<>(mockServerCallStreamObserver, error::set);
+        verify(mockServerCallStreamObserver).setOnCancelHandler(onCancelHandler.capture());
+        publisher.flux().subscribe(subscriber);
+
+        onCancelHandler.getValue().run();
+
+        publisher.assertCancelled();
+        assertTrue(subscriber.isDisposed());
+        verify(mockServerCallStreamObserver, never()).onNext("1");
+    }
+
+
+    @Test
+    @DisplayName("FlowControlledSubscriber: when the publisher fails then the error handler is invoked")
+    public void flowControlledSubscriber_whenThePublisherFails_thenTheErrorHandlerIsInvoked() {
+        IllegalStateException exception = new IllegalStateException();
+        when(mockServerCallStreamObserver.isReady())
+                .thenReturn(true);
+
+        Flux.<String>error(exception)
+                .subscribe(new FlowControlledSubscriber<>(mockServerCallStreamObserver, error::set));
+
+        assertEquals(exception, error.get());
+        verify(mockServerCallStreamObserver, never()).onCompleted();
+    }
+
+}
@@ -16,6 +16,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -59,6 +60,41 @@ public class IngredientRepositoryTest {
     }
 
 
+    static Stream<Arguments> findByPizzaIdsTestCases() {
+        Integer carbonaraId = 1;
+        Integer hawaiianId = 2;
+        Set<Ingredient> carbonaraIngredients = Set.of(
+                buildIngredient(1, "Bacon"),
+                buildIngredient(3, "Egg"),
+                buildIngredient(5, "Mozzarella"),
+                buildIngredient(7, "Parmesan")
+        );
+        Set<Ingredient> hawaiianIngredients = Set.of(
+                buildIngredient(2, "Cheese"),
+                buildIngredient(4, "Ham"),
+                buildIngredient(8, "Pineapple")
+        );
+        return Stream.of(
+                //@formatter:off
+                //            pizzaIds,                                    expectedResult
+                Arguments.of( null,                                        Map.of() ),
+                Arguments.of( List.of(),                                   Map.of() ),
+                Arguments.of( List.of(-1),                                 Map.of() ),
+                Arguments.of( List.of(carbonaraId),                        Map.of(carbonaraId, carbonaraIngredients) ),
+                Arguments.of( List.of(carbonaraId, hawaiianId, -1),        Map.of(carbonaraId, carbonaraIngredients, hawaiianId, hawaiianIngredients) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByPizzaIdsTestCases")
+    @DisplayName("findByPizzaIds: test cases")
+    public void findByPizzaIds_testCases(Collection<Integer> pizzaIds,
+                                         Map<Integer, Set<Ingredient>> expectedResult) {
+        Map<Integer, Set<Ingredient>> result = repository.findByPizzaIds(pizzaIds);
+        assertEquals(expectedResult, result);
+    }
+
+
     static Stream<Arguments> getIngredientWithItsMoreExpensivePizzaTestCases() {
         IngredientPizzaSummaryDto dto1 = buildIngredientPizzaSummaryDto("Tomato sauce", "Margherita", 7d);
         IngredientPizzaSummaryDto dto2 = buildIngredientPizzaSummaryDto("Cheese", "Hawaiian", 8d);
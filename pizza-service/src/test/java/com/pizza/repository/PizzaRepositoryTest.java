@@ -15,8 +15,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
@@ -117,6 +123,56 @@ public class PizzaRepositoryTest {
     }
 
 
+    @Test
+    public void findPageWithIngredientsWithoutInMemoryPagination_whenTotalCanBeDeducedFromTheFirstPage_thenTotalSupplierIsNotInvoked() {
+        // Given
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost");
+        AtomicInteger totalInvocations = new AtomicInteger();
+        LongSupplier totalSupplier = () -> {
+            totalInvocations.incrementAndGet();
+            return 3;
+        };
+
+        // When
+        Page<Pizza> firstPage = repository.findPageWithIngredientsWithoutInMemoryPagination(PageRequest.of(0, 5, sort), totalSupplier);
+        Page<Pizza> lastPage = repository.findPageWithIngredientsWithoutInMemoryPagination(PageRequest.of(1, 2, sort), totalSupplier);
+
+        // Then
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(3, firstPage.getNumberOfElements());
+        assertEquals(3, lastPage.getTotalElements());
+        assertThat(lastPage.getContent(), contains(hawaiian));
+        // Only the first page can deduce the total
+        assertEquals(1, totalInvocations.get());
+    }
+
+
+    @Test
+    public void findPageWithIngredientsWithoutInMemoryPagination_whenSeveralPizzasHaveTheSameSortedValue_thenEveryPageContainsAtMostItsSize() {
+        // Given
+        Pizza marinara = repository.saveAndFlush(new Pizza(null, PizzaEnum.MARINARA, hawaiian.getCost(), new HashSet<>()));
+        int size = 1;
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost");
+
+        // When
+        List<Page<Pizza>> pages = IntStream.range(0, 4)
+                .mapToObj(page -> repository.findPageWithIngredientsWithoutInMemoryPagination(PageRequest.of(page, size, sort)))
+                .collect(toList());
+
+        // Then
+        pages.forEach(page -> {
+            assertEquals(4, page.getTotalElements());
+            assertEquals(1, page.getNumberOfElements());
+        });
+        assertThat(
+                pages.stream()
+                        .map(page -> page.getContent().get(0))
+                        .collect(toList()),
+                contains(margherita, carbonara, hawaiian, marinara)
+        );
+    }
+
+
     @Test
     public void findWithIngredientsByName_whenNoNameIsGiven_thenOptionalEmptyIsReturned() {
         // When
@@ -0,0 +1,118 @@
+package com.pizza.repository.reactive;
+
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.model.Ingredient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.pizza.TestDataFactory.buildIngredient;
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        classes = { ReactivePersistenceConfiguration.class, IngredientR2dbcRepository.class },
+        properties = ReactivePersistenceConfiguration.ENABLED_PROPERTY + "=true"
+)
+public class IngredientR2dbcRepositoryTest {
+
+    @Autowired
+    private IngredientR2dbcRepository repository;
+
+    @Autowired
+    private TransactionalOperator reactiveTransactionalOperator;
+
+
+    static Stream<Arguments> findByPizzaIdTestCases() {
+        Integer carbonaraId = 1;
+        Map<Integer, String> carbonaraIngredients = Map.of(
+                1, "Bacon",
+                3, "Egg",
+                5, "Mozzarella",
+                7, "Parmesan"
+        );
+        return Stream.of(
+                //@formatter:off
+                //            pizzaId,       expectedResult
+                Arguments.of( null,          Map.of() ),
+                Arguments.of( -1,            Map.of() ),
+                Arguments.of( carbonaraId,   carbonaraIngredients )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByPizzaIdTestCases")
+    @DisplayName("findByPizzaId: test cases")
+    public void findByPizzaId_testCases(Integer pizzaId,
+                                        Map<Integer, String> expectedResult) {
+        StepVerifier.create(
+                        repository.findByPizzaId(pizzaId)
+                                .collectMap(Ingredient::getId, Ingredient::getName)
+                )
+                .expectNext(expectedResult)
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("saveAll: when no ingredients are given then nothing is saved")
+    public void saveAll_whenNoIngredientsAreGiven_thenNothingIsSaved() {
+        StepVerifier.create(repository.saveAll(null))
+                .verifyComplete();
+
+        StepVerifier.create(repository.saveAll(List.of()))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("saveAll: when new and existing ingredients are given then the new ones are inserted and the existing ones updated")
+    public void saveAll_whenNewAndExistingIngredientsAreGiven_thenTheNewOnesAreInsertedAndTheExistingOnesUpdated() {
+        // Given
+        Ingredient newIngredient = buildIngredient(null, "Garlic");
+        Ingredient notExistingIngredient = buildIngredient(-1, "Basil");
+        Ingredient existingIngredient = buildIngredient(6, "Fresh oregano");
+
+        // When
+        Flux<Map<Integer, String>> result = inRollbackTransaction(
+                repository.saveAll(List.of(newIngredient, notExistingIngredient, existingIngredient))
+                        .thenMany(repository.findByPizzaId(3))
+                        .collect(toMap(Ingredient::getId, Ingredient::getName))
+                        .flux()
+        );
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(Map.of(5, "Mozzarella", 6, "Fresh oregano", 9, "Tomato sauce"))
+                .verifyComplete();
+
+        assertNotNull(newIngredient.getId());
+        assertTrue(0 < notExistingIngredient.getId());
+        assertEquals(6, existingIngredient.getId());
+    }
+
+
+    /**
+     * The changes done by the given {@link Flux} are rolled back, so they do not affect to other tests.
+     */
+    private <T> Flux<T> inRollbackTransaction(Flux<T> flux) {
+        return reactiveTransactionalOperator.execute(status -> {
+            status.setRollbackOnly();
+            return flux;
+        });
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.pizza.repository.reactive;
+
+import com.pizza.configuration.persistence.ReactivePersistenceConfiguration;
+import com.pizza.enums.PizzaEnum;
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.pizza.TestDataFactory.buildIngredient;
+import static com.pizza.TestDataFactory.buildPizza;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(
+        classes = { ReactivePersistenceConfiguration.class, IngredientR2dbcRepository.class, PizzaR2dbcRepository.class },
+        properties = ReactivePersistenceConfiguration.ENABLED_PROPERTY + "=true"
+)
+public class PizzaR2dbcRepositoryTest {
+
+    private static final Map<Integer, String> CARBONARA_INGREDIENTS = Map.of(
+            1, "Bacon",
+            3, "Egg",
+            5, "Mozzarella",
+            7, "Parmesan"
+    );
+
+    private static final Map<Integer, String> HAWAIIAN_INGREDIENTS = Map.of(
+            2, "Cheese",
+            4, "Ham",
+            8, "Pineapple"
+    );
+
+    private static final Map<Integer, String> MARGHERITA_INGREDIENTS = Map.of(
+            5, "Mozzarella",
+            6, "Oregano",
+            9, "Tomato sauce"
+    );
+
+    @Autowired
+    private PizzaR2dbcRepository repository;
+
+    @Autowired
+    private TransactionalOperator reactiveTransactionalOperator;
+
+
+    @Test
+    @DisplayName("findWithIngredientsByName: when no name is given then empty Mono is returned")
+    public void findWithIngredientsByName_whenNoNameIsGiven_thenEmptyMonoIsReturned() {
+        StepVerifier.create(repository.findWithIngredientsByName(null))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findWithIngredientsByName: when a not stored name is given then empty Mono is returned")
+    public void findWithIngredientsByName_whenANotStoredNameIsGiven_thenEmptyMonoIsReturned() {
+        StepVerifier.create(repository.findWithIngredientsByName(PizzaEnum.MARINARA))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findWithIngredientsByName: when an existent name is given then the pizza with its ingredients is returned")
+    public void findWithIngredientsByName_whenAnExistentNameIsGiven_thenThePizzaWithItsIngredientsIsReturned() {
+        StepVerifier.create(repository.findWithIngredientsByName(PizzaEnum.CARBONARA))
+                .assertNext(pizza ->
+                        assertPizza(pizza, 1, PizzaEnum.CARBONARA, 7.5D, CARBONARA_INGREDIENTS)
+                )
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when null pageable is given then all pizzas are returned")
+    public void findPageWithIngredients_whenNullPageableIsGiven_thenAllPizzasAreReturned() {
+        StepVerifier.create(repository.findPageWithIngredients(null))
+                .assertNext(page -> {
+                    assertEquals(3, page.getTotalElements());
+                    assertEquals(3, page.getNumberOfElements());
+                    assertPizza(page.getContent().get(0), 3, PizzaEnum.MARGUERITA, 7D, MARGHERITA_INGREDIENTS);
+                    assertPizza(page.getContent().get(1), 2, PizzaEnum.HAWAIIAN, 8D, HAWAIIAN_INGREDIENTS);
+                    assertPizza(page.getContent().get(2), 1, PizzaEnum.CARBONARA, 7.5D, CARBONARA_INGREDIENTS);
+                })
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when not null pageable is given then different pages will be managed")
+    public void findPageWithIngredients_whenNotNullPageableIsGiven_thenDifferentPagesWillBeManaged() {
+        // Given
+        int size = 2;
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost");
+
+        // When/Then
+        StepVerifier.create(repository.findPageWithIngredients(PageRequest.of(0, size, sort)))
+                .assertNext(page -> {
+                    assertEquals(3, page.getTotalElements());
+                    assertEquals(2, page.getNumberOfElements());
+                    assertPizza(page.getContent().get(0), 3, PizzaEnum.MARGUERITA, 7D, MARGHERITA_INGREDIENTS);
+                    assertPizza(page.getContent().get(1), 1, PizzaEnum.CARBONARA, 7.5D, CARBONARA_INGREDIENTS);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(repository.findPageWithIngredients(PageRequest.of(1, size, sort)))
+                .assertNext(page -> {
+                    assertEquals(3, page.getTotalElements());
+                    assertEquals(1, page.getNumberOfElements());
+                    assertPizza(page.getContent().get(0), 2, PizzaEnum.HAWAIIAN, 8D, HAWAIIAN_INGREDIENTS);
+                })
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when the total can be deduced from the first page then it is not subscribed")
+    public void findPageWithIngredients_whenTheTotalCanBeDeducedFromTheFirstPage_thenItIsNotSubscribed() {
+        // Given
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost");
+        AtomicInteger totalSubscriptions = new AtomicInteger();
+        Mono<Long> total = Mono.fromSupplier(() -> {
+            totalSubscriptions.incrementAndGet();
+            return 3L;
+        });
+
+        // When/Then
+        StepVerifier.create(repository.findPageWithIngredients(PageRequest.of(0, 5, sort), total))
+                .assertNext(page -> {
+                    assertEquals(3, page.getTotalElements());
+                    assertEquals(3, page.getNumberOfElements());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(repository.findPageWithIngredients(PageRequest.of(1, 2, sort), total))
+                .assertNext(page -> {
+                    assertEquals(3, page.getTotalElements());
+                    assertEquals(1, page.getNumberOfElements());
+                })
+                .verifyComplete();
+
+        // Only the first page can deduce the total
+        assertEquals(1, totalSubscriptions.get());
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when several pizzas have the same sorted value then every page contains at most its size")
+    public void findPageWithIngredients_whenSeveralPizzasHaveTheSameSortedValue_thenEveryPageContainsAtMostItsSize() {
+        // Given
+        int size = 1;
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost");
+        Pizza marinara = buildPizza(null, PizzaEnum.MARINARA, 8D, new HashSet<>());
+
+        // When
+        Mono<List<Page<Pizza>>> result = inRollbackTransaction(
+                repository.save(marinara)
+                        .thenMany(
+                                Flux.range(0, 4)
+                                        .concatMap(page ->
+                                                repository.findPageWithIngredients(PageRequest.of(page, size, sort))
+                                        )
+                        )
+                        .collectList()
+        );
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(pages -> {
+                    pages.forEach(page -> {
+                        assertEquals(4, page.getTotalElements());
+                        assertEquals(1, page.getNumberOfElements());
+                    });
+                    assertEquals(
+                            List.of(PizzaEnum.MARGUERITA, PizzaEnum.CARBONARA, PizzaEnum.HAWAIIAN, PizzaEnum.MARINARA),
+                            pages.stream()
+                                    .map(page -> page.getContent().get(0).getName())
+                                    .collect(toList())
+                    );
+                })
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when the sort uses not allowed properties then they are ignored")
+    public void findPageWithIngredients_whenTheSortUsesNotAllowedProperties_thenTheyAreIgnored() {
+        // Given
+        Sort sort = Sort.by(Sort.Direction.ASC, "cost; delete from eat.pizza");
+
+        // When/Then
+        StepVerifier.create(repository.findPageWithIngredients(PageRequest.of(0, 3, sort)))
+                .assertNext(page ->
+                        assertEquals(
+                                List.of(PizzaEnum.MARGUERITA, PizzaEnum.HAWAIIAN, PizzaEnum.CARBONARA),
+                                page.getContent().stream()
+                                        .map(Pizza::getName)
+                                        .collect(toList())
+                        )
+                )
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("count: when it is invoked then the number of pizzas is returned")
+    public void count_whenItIsInvoked_thenTheNumberOfPizzasIsReturned() {
+        StepVerifier.create(repository.count())
+                .expectNext(3L)
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("save: when no pizza is given then empty Mono is returned")
+    public void save_whenNoPizzaIsGiven_thenEmptyMonoIsReturned() {
+        StepVerifier.create(repository.save(null))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("save: when a new pizza is given then it is stored with its ingredients")
+    public void save_whenANewPizzaIsGiven_thenItIsStoredWithItsIngredients() {
+        // Given
+        Ingredient existingIngredient = buildIngredient(6, "Oregano");
+        Ingredient newIngredient = buildIngredient(null, "Garlic");
+        Pizza pizza = buildPizza(null, PizzaEnum.MARINARA, 6D, Set.of(existingIngredient, newIngredient));
+
+        // When
+        Mono<Pizza> result = inRollbackTransaction(
+                repository.save(pizza)
+                        .then(repository.findWithIngredientsByName(PizzaEnum.MARINARA))
+        );
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(stored -> {
+                    assertNotNull(newIngredient.getId());
+                    assertPizza(
+                            stored,
+                            pizza.getId(),
+                            PizzaEnum.MARINARA,
+                            6D,
+                            Map.of(6, "Oregano", newIngredient.getId(), "Garlic")
+                    );
+                })
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("save: when an existing pizza is given then it is updated and its ingredients are replaced")
+    public void save_whenAnExistingPizzaIsGiven_thenItIsUpdatedAndItsIngredientsAreReplaced() {
+        // Given
+        Pizza pizza = buildPizza(3, PizzaEnum.MARGUERITA, 7.25D, Set.of(buildIngredient(9, "Tomato sauce")));
+
+        // When
+        Mono<Pizza> result = inRollbackTransaction(
+                repository.save(pizza)
+                        .then(repository.findWithIngredientsByName(PizzaEnum.MARGUERITA))
+        );
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(stored ->
+                        assertPizza(stored, 3, PizzaEnum.MARGUERITA, 7.25D, Map.of(9, "Tomato sauce"))
+                )
+                .verifyComplete();
+    }
+
+
+    private static void assertPizza(Pizza pizza,
+                                    Integer expectedId,
+                                    PizzaEnum expectedName,
+                                    Double expectedCost,
+                                    Map<Integer, String> expectedIngredients) {
+        assertEquals(expectedId, pizza.getId());
+        assertEquals(expectedName, pizza.getName());
+        assertEquals(expectedCost, pizza.getCost());
+        assertEquals(
+                expectedIngredients,
+                pizza.getIngredients().stream()
+                        .collect(toMap(Ingredient::getId, Ingredient::getName))
+        );
+    }
+
+
+    /**
+     * The changes done by the given {@link Mono} are rolled back, so they do not affect to other tests.
+     */
+    private <T> Mono<T> inRollbackTransaction(Mono<T> mono) {
+        return reactiveTransactionalOperator.execute(status -> {
+                    status.setRollbackOnly();
+                    return mono;
+                })
+                .next();
+    }
+
+}
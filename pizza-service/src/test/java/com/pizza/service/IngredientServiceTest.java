@@ -2,6 +2,7 @@ package com.pizza.service;
 
 import com.pizza.model.Ingredient;
 import com.pizza.repository.IngredientRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +14,14 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.pizza.TestDataFactory.buildIngredient;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -26,12 +30,15 @@ public class IngredientServiceTest {
     @Mock
     private IngredientRepository mockIngredientRepository;
 
+    @Mock
+    private IngredientResponseCacheService mockIngredientResponseCacheService;
+
     private IngredientService service;
 
 
     @BeforeEach
     public void init() {
-        service = new IngredientService(mockIngredientRepository);
+        service = new IngredientService(mockIngredientRepository, mockIngredientResponseCacheService);
     }
 
 
@@ -65,6 +72,36 @@ public class IngredientServiceTest {
     }
 
 
+    static Stream<Arguments> findByPizzaIdsTestCases() {
+        Ingredient ingredient1 = buildIngredient(1, "Cheese");
+        Ingredient ingredient2 = buildIngredient(2, "Bacon");
+        Map<Integer, Set<Ingredient>> repositoryResult = Map.of(
+                11, Set.of(ingredient1, ingredient2),
+                12, Set.of(ingredient1)
+        );
+        return Stream.of(
+                //@formatter:off
+                //            pizzaIds,           repositoryResult,   expectedResult
+                Arguments.of( null,               null,               Map.of() ),
+                Arguments.of( List.of(),          Map.of(),           Map.of() ),
+                Arguments.of( List.of(11, 12),    repositoryResult,   repositoryResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByPizzaIdsTestCases")
+    @DisplayName("findByPizzaIds: test cases")
+    public void findByPizzaIds_testCases(Collection<Integer> pizzaIds,
+                                         Map<Integer, Set<Ingredient>> repositoryResult,
+                                         Map<Integer, Set<Ingredient>> expectedResult) {
+        when(mockIngredientRepository.findByPizzaIds(pizzaIds)).thenReturn(repositoryResult);
+
+        Map<Integer, Set<Ingredient>> result = service.findByPizzaIds(pizzaIds);
+
+        assertEquals(expectedResult, result);
+    }
+
+
     static Stream<Arguments> saveAllTestCases() {
         Ingredient ingredient1 = buildIngredient(1, "Cheese");
         Ingredient ingredient2 = buildIngredient(2, "Bacon");
@@ -91,6 +128,8 @@ public class IngredientServiceTest {
         List<Ingredient> result = service.saveAll(ingredients);
 
         assertEquals(expectedResult, result);
+        verify(mockIngredientResponseCacheService, times(null == ingredients ? 0 : 1))
+                .invalidateAll();
     }
 
 }
@@ -4,6 +4,8 @@ import com.pizza.enums.PizzaEnum;
 import com.pizza.model.Ingredient;
 import com.pizza.model.Pizza;
 import com.pizza.repository.PizzaRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.cache.PizzaCountCacheService;
 import com.pizza.util.PageUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 import static com.pizza.TestDataFactory.buildIngredient;
@@ -30,6 +33,9 @@ import static com.pizza.enums.PizzaEnum.MARGUERITA;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,12 +49,18 @@ public class PizzaServiceTest {
     @Mock
     private IngredientService mockIngredientService;
 
+    @Mock
+    private PizzaCountCacheService mockPizzaCountCacheService;
+
+    @Mock
+    private IngredientResponseCacheService mockIngredientResponseCacheService;
+
     private PizzaService service;
 
 
     @BeforeEach
     public void init() {
-        service = new PizzaService(mockPizzaRepository, mockIngredientService);
+        service = new PizzaService(mockPizzaRepository, mockIngredientService, mockPizzaCountCacheService, mockIngredientResponseCacheService);
     }
 
 
@@ -107,7 +119,7 @@ public class PizzaServiceTest {
                                                   Page<Pizza> repositoryResult,
                                                   Page<Pizza> expectedResult) {
         when(mockPizzaRepository.findPageWithIngredientsWithoutInMemoryPagination(
-                PageUtil.buildPageRequest(page, size, sort))
+                eq(PageUtil.buildPageRequest(page, size, sort)), any(LongSupplier.class))
         ).thenReturn(repositoryResult);
 
         Page<Pizza> result = service.findPageWithIngredients(page, size, sort);
@@ -142,6 +154,15 @@ public class PizzaServiceTest {
         if (Objects.nonNull(pizza)) {
             verify(mockIngredientService, times(1))
                     .saveAll(pizza.getIngredients());
+            verify(mockPizzaCountCacheService, times(1))
+                    .invalidate();
+            verify(mockIngredientResponseCacheService, times(1))
+                    .invalidateAll();
+        } else {
+            verify(mockPizzaCountCacheService, never())
+                    .invalidate();
+            verify(mockIngredientResponseCacheService, never())
+                    .invalidateAll();
         }
     }
 
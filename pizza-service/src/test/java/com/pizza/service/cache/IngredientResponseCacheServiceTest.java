@@ -0,0 +1,91 @@
+package com.pizza.service.cache;
+
+import com.spring5microservices.grpc.IngredientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static com.pizza.TestDataFactory.buildIngredientResponse;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IngredientResponseCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IngredientResponseCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new IngredientResponseCacheService(10, 60, meterRegistry);
+    }
+
+
+    @AfterEach
+    public void clean() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    @Test
+    @DisplayName("get: when the responses were cached then they are returned and the hit is published")
+    public void get_whenTheResponsesWereCached_thenTheyAreReturnedAndTheHitIsPublished() {
+        List<IngredientResponse> responses = List.of(buildIngredientResponse(1, "Cheese"));
+
+        assertEquals(empty(), service.get(null));
+        assertEquals(empty(), service.get(1));
+
+        service.put(1, responses, service.getGeneration());
+
+        assertEquals(of(responses), service.get(1));
+        assertEquals(1, gets("hit"));
+        assertEquals(1, gets("miss"));
+    }
+
+
+    @Test
+    @DisplayName("put: when there was an invalidation during the load then the responses are not cached")
+    public void put_whenThereWasAnInvalidationDuringTheLoad_thenTheResponsesAreNotCached() {
+        long generation = service.getGeneration();
+        service.invalidateAll();
+
+        service.put(1, List.of(buildIngredientResponse(1, "Cheese")), generation);
+
+        assertEquals(empty(), service.get(1));
+    }
+
+
+    @Test
+    @DisplayName("invalidateAll: when there is a transaction then the responses cached before its completion are removed")
+    public void invalidateAll_whenThereIsATransaction_thenTheResponsesCachedBeforeItsCompletionAreRemoved() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.invalidateAll();
+        service.put(1, List.of(buildIngredientResponse(1, "Cheese")), service.getGeneration());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(empty(), service.get(1));
+    }
+
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", IngredientResponseCacheService.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.pizza.service.cache;
+
+import com.pizza.configuration.cache.CacheConfiguration;
+import com.spring5microservices.common.service.CacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class PizzaCountCacheServiceTest {
+
+    private static final String CACHE_NAME = "TestCache";
+
+    @Mock
+    private CacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private CacheService mockCacheService;
+
+    private PizzaCountCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new PizzaCountCacheService(mockCacheConfiguration, mockCacheService);
+        when(mockCacheConfiguration.getPizzaCountCacheName())
+                .thenReturn(CACHE_NAME);
+    }
+
+
+    @AfterEach
+    public void clean() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when the total is cached then the loader is not invoked")
+    public void getOrLoad_whenTheTotalIsCached_thenTheLoaderIsNotInvoked() {
+        AtomicInteger loads = new AtomicInteger();
+        when(mockCacheService.get(eq(CACHE_NAME), anyString()))
+                .thenReturn(Optional.of(3L));
+
+        assertEquals(3L, service.getOrLoad(() -> { loads.incrementAndGet(); return 5L; }));
+        assertEquals(0, loads.get());
+        verify(mockCacheService, never()).put(anyString(), anyString(), eq(5L));
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when the total is not cached then the loader is invoked and its result cached")
+    public void getOrLoad_whenTheTotalIsNotCached_thenTheLoaderIsInvokedAndItsResultCached() {
+        when(mockCacheService.get(eq(CACHE_NAME), anyString()))
+                .thenReturn(Optional.empty());
+
+        assertEquals(5L, service.getOrLoad(() -> 5L));
+        verify(mockCacheService, times(1)).put(eq(CACHE_NAME), anyString(), eq(5L));
+    }
+
+
+    @Test
+    @DisplayName("invalidate: when there is no transaction then the total is removed only once")
+    public void invalidate_whenThereIsNoTransaction_thenTheTotalIsRemovedOnlyOnce() {
+        service.invalidate();
+
+        verify(mockCacheService, times(1)).remove(eq(CACHE_NAME), anyString());
+    }
+
+
+    @Test
+    @DisplayName("invalidate: when there is a transaction then the total is removed again after its completion")
+    public void invalidate_whenThereIsATransaction_thenTheTotalIsRemovedAgainAfterItsCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.invalidate();
+        verify(mockCacheService, times(1)).remove(eq(CACHE_NAME), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(mockCacheService, times(2)).remove(eq(CACHE_NAME), anyString());
+    }
+
+}
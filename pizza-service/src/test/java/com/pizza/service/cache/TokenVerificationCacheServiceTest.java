@@ -0,0 +1,130 @@
+package com.pizza.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TokenVerificationCacheServiceTest {
+
+    private static final String TOKEN = "token";
+
+    private TokenVerificationCacheService service;
+
+    private UsernameAuthoritiesDto usernameAuthorities;
+
+
+    @BeforeEach
+    public void init() {
+        service = new TokenVerificationCacheService(10, 60, new ObjectMapper(), new SimpleMeterRegistry());
+        usernameAuthorities = new UsernameAuthoritiesDto("user", Set.of("ADMIN"), Map.of());
+    }
+
+
+    @Test
+    @DisplayName("get: when null token is given then empty is returned and loader is not invoked")
+    public void get_whenNullTokenIsGiven_thenEmptyIsReturnedAndLoaderIsNotInvoked() {
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(service.get(null, t -> { loads.incrementAndGet(); return Mono.just(usernameAuthorities); }))
+                .verifyComplete();
+
+        assertEquals(0, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token was verified then the loader is not invoked again")
+    public void get_whenTheTokenWasVerified_thenTheLoaderIsNotInvokedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(service.get(TOKEN, t -> { loads.incrementAndGet(); return Mono.just(usernameAuthorities); }))
+                    .expectNext(usernameAuthorities)
+                    .verifyComplete();
+        }
+        assertEquals(1, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token is not valid then it is not cached")
+    public void get_whenTheTokenIsNotValid_thenItIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(service.get(TOKEN, t -> { loads.incrementAndGet(); return Mono.empty(); }))
+                    .verifyComplete();
+        }
+        StepVerifier.create(service.get(TOKEN, t -> { loads.incrementAndGet(); return Mono.error(new IllegalStateException()); }))
+                .verifyError(IllegalStateException.class);
+
+        assertEquals(3, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token has already expired then it is not cached")
+    public void get_whenTheTokenHasAlreadyExpired_thenItIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        String expiredToken = buildJwt(Instant.now().minusSeconds(10));
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(service.get(expiredToken, t -> { loads.incrementAndGet(); return Mono.just(usernameAuthorities); }))
+                    .expectNext(usernameAuthorities)
+                    .verifyComplete();
+        }
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when concurrent requests of the same token are sent then the loader is invoked only once")
+    public void get_whenConcurrentRequestsOfTheSameTokenAreSent_thenTheLoaderIsInvokedOnlyOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<UsernameAuthoritiesDto> verification = Sinks.one();
+
+        List<Mono<UsernameAuthoritiesDto>> requests = List.of(
+                service.get(TOKEN, t -> { loads.incrementAndGet(); return verification.asMono(); }),
+                service.get(TOKEN, t -> { loads.incrementAndGet(); return verification.asMono(); })
+        );
+        StepVerifier firstRequest = StepVerifier.create(requests.get(0))
+                .expectNext(usernameAuthorities)
+                .expectComplete()
+                .verifyLater();
+        StepVerifier secondRequest = StepVerifier.create(requests.get(1))
+                .expectNext(usernameAuthorities)
+                .expectComplete()
+                .verifyLater();
+
+        verification.tryEmitValue(usernameAuthorities);
+
+        firstRequest.verify();
+        secondRequest.verify();
+        assertEquals(1, loads.get());
+    }
+
+
+    private static String buildJwt(Instant expirationTime) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(UTF_8))
+                + "." + encoder.encodeToString(("{\"exp\":" + expirationTime.getEpochSecond() + "}").getBytes(UTF_8))
+                + ".signature";
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.pizza.service.menu;
+
+import com.pizza.model.Ingredient;
+import com.pizza.model.Pizza;
+import com.pizza.repository.PizzaRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.spring5microservices.grpc.IngredientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.pizza.TestDataFactory.buildIngredient;
+import static com.pizza.TestDataFactory.buildIngredientResponse;
+import static com.pizza.TestDataFactory.buildPizza;
+import static com.pizza.enums.PizzaEnum.CARBONARA;
+import static com.pizza.enums.PizzaEnum.MARGUERITA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class MenuSnapshotServiceTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-01T10:00:00Z");
+
+    @Mock
+    private PizzaRepository mockPizzaRepository;
+
+    @Mock
+    private PlatformTransactionManager mockTransactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<Runnable> pendingTasks;
+
+    private MenuSnapshotService service;
+
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        pendingTasks = new ArrayList<>();
+        service = new MenuSnapshotService(
+                mockPizzaRepository,
+                mockTransactionManager,
+                pendingTasks::add,
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+
+    @Test
+    @DisplayName("getSnapshot: when the catalog has not been loaded then empty is returned")
+    public void getSnapshot_whenTheCatalogHasNotBeenLoaded_thenEmptyIsReturned() {
+        assertFalse(service.getSnapshot().isPresent());
+        assertEquals(0, meterRegistry.get(MenuSnapshotService.VERSION_METRIC).gauge().value());
+    }
+
+
+    @Test
+    @DisplayName("refresh: when the catalog is loaded then a new indexed version is published")
+    public void refresh_whenTheCatalogIsLoaded_thenANewIndexedVersionIsPublished() {
+        // Given
+        Ingredient cheese = buildIngredient(1, "Cheese");
+        Ingredient bacon = buildIngredient(2, "Bacon");
+        Pizza carbonara = buildPizza(1, CARBONARA, 7D, Set.of(cheese, bacon));
+        Pizza margherita = buildPizza(2, MARGUERITA, 6D, Set.of(cheese));
+        when(mockPizzaRepository.findAllWithIngredients())
+                .thenReturn(List.of(carbonara, margherita));
+
+        // When
+        service.refresh();
+        MenuSnapshot snapshot = service.refresh();
+
+        // Then
+        assertEquals(snapshot, service.getSnapshot().get());
+        assertEquals(2, snapshot.getVersion());
+        assertEquals(NOW, snapshot.getBuiltAt());
+        assertEquals(List.of(margherita, carbonara), snapshot.getPizzas());
+        assertEquals(carbonara, snapshot.findByName(CARBONARA).get());
+        assertEquals(Set.of(cheese, bacon), snapshot.findIngredientsByPizzaId(1));
+        assertTrue(snapshot.findIngredientsByPizzaId(3).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPizzas().clear());
+
+        assertEquals(2, meterRegistry.get(MenuSnapshotService.VERSION_METRIC).gauge().value());
+        assertEquals(0, meterRegistry.get(MenuSnapshotService.AGE_METRIC).gauge().value());
+        assertEquals(2, meterRegistry.get(MenuSnapshotService.REFRESH_METRIC).tag("result", "success").counter().count());
+    }
+
+
+    @Test
+    @DisplayName("refresh: when the responses were built with the previous version then they are invalidated by the listener")
+    public void refresh_whenTheResponsesWereBuiltWithThePreviousVersion_thenTheyAreInvalidatedByTheListener() {
+        // Given
+        IngredientResponseCacheService ingredientResponseCacheService = new IngredientResponseCacheService(10, 60, meterRegistry);
+        service.addRefreshListener(snapshot -> ingredientResponseCacheService.invalidateAll());
+
+        Pizza previousCarbonara = buildPizza(1, CARBONARA, 7D, Set.of(buildIngredient(1, "Cheese")));
+        Pizza newCarbonara = buildPizza(1, CARBONARA, 7D, Set.of(buildIngredient(2, "Bacon")));
+        when(mockPizzaRepository.findAllWithIngredients())
+                .thenReturn(List.of(previousCarbonara))
+                .thenReturn(List.of(newCarbonara));
+        service.refresh();
+
+        // When
+        // Saved pizza: the responses are invalidated after the commit
+        ingredientResponseCacheService.invalidateAll();
+
+        // Read before the new snapshot is published: the previous ingredients are cached again
+        List<IngredientResponse> previousResponses = List.of(buildIngredientResponse(1, "Cheese"));
+        ingredientResponseCacheService.put(1, previousResponses, ingredientResponseCacheService.getGeneration());
+        assertEquals(previousResponses, ingredientResponseCacheService.get(1).get());
+
+        // Background refresh
+        service.refresh();
+
+        // Then
+        assertFalse(ingredientResponseCacheService.get(1).isPresent());
+        assertEquals(Set.of(buildIngredient(2, "Bacon")), service.getSnapshot().get().findIngredientsByPizzaId(1));
+    }
+
+
+    @Test
+    @DisplayName("refreshQuietly: when the catalog cannot be loaded then the previous version is kept")
+    public void refreshQuietly_whenTheCatalogCannotBeLoaded_thenThePreviousVersionIsKept() {
+        when(mockPizzaRepository.findAllWithIngredients())
+                .thenReturn(List.of(buildPizza(1, CARBONARA, 7D, Set.of())))
+                .thenThrow(new IllegalStateException("Database not available"));
+
+        service.refreshQuietly();
+        service.refreshQuietly();
+
+        assertEquals(1, service.getSnapshot().get().getVersion());
+        assertEquals(1, meterRegistry.get(MenuSnapshotService.REFRESH_METRIC).tag("result", "failure").counter().count());
+    }
+
+
+    @Test
+    @DisplayName("refreshInBackground: when several refreshes are requested before the pending one then only one is done")
+    public void refreshInBackground_whenSeveralRefreshesAreRequestedBeforeThePendingOne_thenOnlyOneIsDone() {
+        when(mockPizzaRepository.findAllWithIngredients())
+                .thenReturn(List.of());
+
+        service.refreshInBackground();
+        service.refreshInBackground();
+        assertEquals(1, pendingTasks.size());
+
+        pendingTasks.remove(0).run();
+        service.refreshInBackground();
+        assertEquals(1, pendingTasks.size());
+
+        verify(mockPizzaRepository, times(1)).findAllWithIngredients();
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.pizza.service.reactive;
+
+import com.pizza.configuration.persistence.BlockingScheduler;
+import com.pizza.model.Pizza;
+import com.pizza.repository.reactive.PizzaR2dbcRepository;
+import com.pizza.service.cache.IngredientResponseCacheService;
+import com.pizza.service.cache.PizzaCountCacheService;
+import com.pizza.util.PageUtil;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.pizza.TestDataFactory.buildIngredient;
+import static com.pizza.TestDataFactory.buildPizza;
+import static com.pizza.enums.PizzaEnum.CARBONARA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class R2dbcPizzaReactiveServiceTest {
+
+    @Mock
+    private PizzaR2dbcRepository mockPizzaRepository;
+
+    @Mock
+    private EntityManagerFactory mockEntityManagerFactory;
+
+    @Mock
+    private SessionFactory mockSessionFactory;
+
+    @Mock
+    private Cache mockCache;
+
+    @Mock
+    private PlatformTransactionManager mockTransactionManager;
+
+    @Mock
+    private PizzaCountCacheService mockPizzaCountCacheService;
+
+    @Mock
+    private IngredientResponseCacheService mockIngredientResponseCacheService;
+
+    private R2dbcPizzaReactiveService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new R2dbcPizzaReactiveService(
+                mockPizzaRepository,
+                mockEntityManagerFactory,
+                new BlockingScheduler(mockTransactionManager, Schedulers.immediate()),
+                mockPizzaCountCacheService,
+                mockIngredientResponseCacheService
+        );
+        when(mockEntityManagerFactory.unwrap(SessionFactory.class))
+                .thenReturn(mockSessionFactory);
+        when(mockSessionFactory.getCache())
+                .thenReturn(mockCache);
+    }
+
+
+    static Stream<Arguments> findByNameWhenNotValidNameIsGivenTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            name
+                Arguments.of( (String)null ),
+                Arguments.of( "NotFound" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByNameWhenNotValidNameIsGivenTestCases")
+    @DisplayName("findByName: when not valid name is given then empty is returned without querying the database")
+    public void findByName_whenNotValidNameIsGiven_thenEmptyIsReturnedWithoutQueryingTheDatabase(String name) {
+        StepVerifier.create(service.findByName(name))
+                .verifyComplete();
+
+        verify(mockPizzaRepository, never()).findWithIngredientsByName(any());
+    }
+
+
+    @Test
+    @DisplayName("findByName: when valid name is given then the found pizza is returned")
+    public void findByName_whenValidNameIsGiven_thenTheFoundPizzaIsReturned() {
+        Pizza pizza = buildPizza(1, CARBONARA, 7D, Set.of(buildIngredient(1, "Cheese")));
+        when(mockPizzaRepository.findWithIngredientsByName(CARBONARA))
+                .thenReturn(Mono.just(pizza));
+
+        StepVerifier.create(service.findByName(CARBONARA.getInternalPropertyValue()))
+                .expectNext(pizza)
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when it is invoked then the page request is sent to the repository")
+    public void findPageWithIngredients_whenItIsInvoked_thenThePageRequestIsSentToTheRepository() {
+        Pizza pizza = buildPizza(1, CARBONARA, 7D, Set.of());
+        Sort sort = Sort.by("name");
+        PageImpl<Pizza> page = new PageImpl<>(List.of(pizza));
+        when(mockPizzaRepository.findPageWithIngredients(eq(PageUtil.buildPageRequest(0, 1, sort)), any()))
+                .thenReturn(Mono.just(page));
+
+        StepVerifier.create(service.findPageWithIngredients(0, 1, sort))
+                .assertNext(result -> assertEquals(page, result))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when the total is cached then it is not counted in database")
+    @SuppressWarnings("unchecked")
+    public void findPageWithIngredients_whenTheTotalIsCached_thenItIsNotCountedInDatabase() {
+        when(mockPizzaCountCacheService.get())
+                .thenReturn(Optional.of(3L));
+        when(mockPizzaRepository.count())
+                .thenReturn(Mono.just(5L));
+        when(mockPizzaRepository.findPageWithIngredients(any(), any()))
+                .thenAnswer(invocation ->
+                        ((Mono<Long>) invocation.getArgument(1))
+                                .map(total -> new PageImpl<>(List.of(), PageUtil.buildPageRequest(5, 1, null), total))
+                );
+
+        StepVerifier.create(service.findPageWithIngredients(5, 1, null))
+                .assertNext(result -> assertEquals(3L, result.getTotalElements()))
+                .verifyComplete();
+
+        verify(mockPizzaCountCacheService, never()).put(anyLong());
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when the total is not cached then it is counted in database and cached")
+    @SuppressWarnings("unchecked")
+    public void findPageWithIngredients_whenTheTotalIsNotCached_thenItIsCountedInDatabaseAndCached() {
+        when(mockPizzaCountCacheService.get())
+                .thenReturn(Optional.empty());
+        when(mockPizzaRepository.count())
+                .thenReturn(Mono.just(5L));
+        when(mockPizzaRepository.findPageWithIngredients(any(), any()))
+                .thenAnswer(invocation ->
+                        ((Mono<Long>) invocation.getArgument(1))
+                                .map(total -> new PageImpl<>(List.of(), PageUtil.buildPageRequest(5, 1, null), total))
+                );
+
+        StepVerifier.create(service.findPageWithIngredients(5, 1, null))
+                .assertNext(result -> assertEquals(5L, result.getTotalElements()))
+                .verifyComplete();
+
+        verify(mockPizzaCountCacheService, times(1)).put(5L);
+    }
+
+
+    @Test
+    @DisplayName("save: when the pizza is saved then the second level cache is cleared")
+    public void save_whenThePizzaIsSaved_thenTheSecondLevelCacheIsCleared() {
+        Pizza pizza = buildPizza(1, CARBONARA, 7D, Set.of());
+        when(mockPizzaRepository.save(pizza))
+                .thenReturn(Mono.just(pizza));
+
+        StepVerifier.create(service.save(pizza))
+                .expectNext(pizza)
+                .verifyComplete();
+
+        verify(mockCache, times(1)).evictAllRegions();
+        verify(mockPizzaCountCacheService, times(1)).invalidate();
+        verify(mockIngredientResponseCacheService, times(1)).invalidateAll();
+    }
+
+
+    @Test
+    @DisplayName("save: when the pizza was not saved then the second level cache is not cleared")
+    public void save_whenThePizzaWasNotSaved_thenTheSecondLevelCacheIsNotCleared() {
+        when(mockPizzaRepository.save(null))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(service.save(null))
+                .verifyComplete();
+
+        verify(mockCache, never()).evictAllRegions();
+        verify(mockPizzaCountCacheService, never()).invalidate();
+    }
+
+}
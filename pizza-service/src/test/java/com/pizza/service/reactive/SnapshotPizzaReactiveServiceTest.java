@@ -0,0 +1,139 @@
+package com.pizza.service.reactive;
+
+import com.pizza.model.Pizza;
+import com.pizza.service.menu.MenuSnapshot;
+import com.pizza.service.menu.MenuSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.pizza.TestDataFactory.buildPizza;
+import static com.pizza.enums.PizzaEnum.CARBONARA;
+import static com.pizza.enums.PizzaEnum.HAWAIIAN;
+import static com.pizza.enums.PizzaEnum.MARGUERITA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class SnapshotPizzaReactiveServiceTest {
+
+    @Mock
+    private PizzaReactiveService mockStorage;
+
+    @Mock
+    private MenuSnapshotService mockMenuSnapshotService;
+
+    private SnapshotPizzaReactiveService service;
+
+    private final Pizza carbonara = buildPizza(1, CARBONARA, 7D, Set.of());
+    private final Pizza margherita = buildPizza(2, MARGUERITA, 6D, Set.of());
+    private final Pizza hawaiian = buildPizza(3, HAWAIIAN, 8D, Set.of());
+
+
+    @BeforeEach
+    public void init() {
+        service = new SnapshotPizzaReactiveService(mockStorage, mockMenuSnapshotService);
+    }
+
+
+    @Test
+    @DisplayName("findByName: when there is a snapshot then the storage is not used")
+    public void findByName_whenThereIsASnapshot_thenTheStorageIsNotUsed() {
+        when(mockMenuSnapshotService.getSnapshot())
+                .thenReturn(Optional.of(MenuSnapshot.of(1, Instant.now(), List.of(carbonara, margherita))));
+
+        StepVerifier.create(service.findByName(CARBONARA.getInternalPropertyValue()))
+                .expectNext(carbonara)
+                .verifyComplete();
+        StepVerifier.create(service.findByName(HAWAIIAN.getInternalPropertyValue()))
+                .verifyComplete();
+
+        verify(mockStorage, never()).findByName(any());
+    }
+
+
+    @Test
+    @DisplayName("findByName: when there is no snapshot yet then the storage is used")
+    public void findByName_whenThereIsNoSnapshotYet_thenTheStorageIsUsed() {
+        when(mockMenuSnapshotService.getSnapshot())
+                .thenReturn(Optional.empty());
+        when(mockStorage.findByName(CARBONARA.getInternalPropertyValue()))
+                .thenReturn(Mono.just(carbonara));
+
+        StepVerifier.create(service.findByName(CARBONARA.getInternalPropertyValue()))
+                .expectNext(carbonara)
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when there is a snapshot then the page is built in memory")
+    public void findPageWithIngredients_whenThereIsASnapshot_thenThePageIsBuiltInMemory() {
+        when(mockMenuSnapshotService.getSnapshot())
+                .thenReturn(Optional.of(MenuSnapshot.of(1, Instant.now(), List.of(carbonara, margherita, hawaiian))));
+
+        StepVerifier.create(service.findPageWithIngredients(0, 2, null))
+                .assertNext(page -> {
+                    assertEquals(List.of(hawaiian, margherita), page.getContent());
+                    assertEquals(3, page.getTotalElements());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(service.findPageWithIngredients(1, 2, Sort.by("cost")))
+                .assertNext(page ->
+                        assertEquals(List.of(hawaiian), page.getContent())
+                )
+                .verifyComplete();
+
+        verify(mockStorage, never()).findPageWithIngredients(anyInt(), anyInt(), any());
+    }
+
+
+    @Test
+    @DisplayName("findPageWithIngredients: when the sort cannot be done in memory then the storage is used")
+    public void findPageWithIngredients_whenTheSortCannotBeDoneInMemory_thenTheStorageIsUsed() {
+        Sort sort = Sort.by("ingredients");
+        when(mockMenuSnapshotService.getSnapshot())
+                .thenReturn(Optional.of(MenuSnapshot.of(1, Instant.now(), List.of(carbonara))));
+        when(mockStorage.findPageWithIngredients(0, 2, sort))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(carbonara))));
+
+        StepVerifier.create(service.findPageWithIngredients(0, 2, sort))
+                .assertNext(page ->
+                        assertEquals(List.of(carbonara), page.getContent())
+                )
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("save: when the pizza is saved then a new snapshot is requested")
+    public void save_whenThePizzaIsSaved_thenANewSnapshotIsRequested() {
+        when(mockStorage.save(carbonara))
+                .thenReturn(Mono.just(carbonara));
+
+        StepVerifier.create(service.save(carbonara))
+                .expectNext(carbonara)
+                .verifyComplete();
+
+        verify(mockMenuSnapshotService, times(1)).refreshInBackground();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.security.jwt.configuration.rest;
 
+import com.security.jwt.enums.SecurityErrorEnum;
 import com.security.jwt.exception.ClientNotFoundException;
 import com.security.jwt.exception.TokenInvalidException;
 import com.spring5microservices.common.dto.ErrorResponseDto;
@@ -26,16 +27,10 @@ import javax.validation.ConstraintViolationException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import static com.spring5microservices.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
-import static com.spring5microservices.common.enums.RestApiErrorCode.INTERNAL;
-import static com.spring5microservices.common.enums.RestApiErrorCode.SECURITY;
 import static com.spring5microservices.common.enums.RestApiErrorCode.VALIDATION;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
-import static org.springframework.http.HttpStatus.FORBIDDEN;
-import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
-import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 /**
@@ -61,10 +56,9 @@ public class GlobalErrorWebExceptionHandler {
                                              final AccountStatusException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of("The account of the user is disabled"),
-                exchange,
-                FORBIDDEN.value()
+                SecurityErrorEnum.ACCOUNT_STATUS,
+                exception,
+                exchange
         );
     }
 
@@ -84,10 +78,9 @@ public class GlobalErrorWebExceptionHandler {
                                               final ClientNotFoundException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of("Given invalid client details identifier"),
-                exchange,
-                UNAUTHORIZED.value()
+                SecurityErrorEnum.CLIENT_NOT_FOUND,
+                exception,
+                exchange
         );
     }
 
@@ -186,10 +179,9 @@ public class GlobalErrorWebExceptionHandler {
                                             final TokenExpiredException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of("The given authorization token has expired"),
-                exchange,
-                TOKEN_EXPIRED.value()
+                SecurityErrorEnum.TOKEN_EXPIRED,
+                exception,
+                exchange
         );
     }
 
@@ -209,10 +201,9 @@ public class GlobalErrorWebExceptionHandler {
                                             final TokenInvalidException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of("The provided token is invalid"),
-                exchange,
-                UNAUTHORIZED.value()
+                SecurityErrorEnum.TOKEN_INVALID,
+                exception,
+                exchange
         );
     }
 
@@ -232,10 +223,9 @@ public class GlobalErrorWebExceptionHandler {
                                             final UnauthorizedException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of(exception.getMessage()),
-                exchange,
-                UNAUTHORIZED.value()
+                SecurityErrorEnum.UNAUTHORIZED,
+                exception,
+                exchange
         );
     }
 
@@ -255,10 +245,9 @@ public class GlobalErrorWebExceptionHandler {
                                                 final UsernameNotFoundException exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                SECURITY,
-                List.of("Given invalid credentials"),
-                exchange,
-                UNAUTHORIZED.value()
+                SecurityErrorEnum.USERNAME_NOT_FOUND,
+                exception,
+                exchange
         );
     }
 
@@ -278,10 +267,9 @@ public class GlobalErrorWebExceptionHandler {
                                 final Throwable exception) {
         log.error(getErrorMessageUsingHttpRequest(exchange), exception);
         return buildErrorResponse(
-                INTERNAL,
-                List.of("Internal error in the application"),
-                exchange,
-                INTERNAL_SERVER_ERROR.value()
+                SecurityErrorEnum.INTERNAL,
+                exception,
+                exchange
         );
     }
 
@@ -357,6 +345,30 @@ public class GlobalErrorWebExceptionHandler {
     }
 
 
+    /**
+     * Builds the Http response related with the given {@link SecurityErrorEnum}.
+     *
+     * @param error
+     *    {@link SecurityErrorEnum} with the information to include in the response
+     * @param exception
+     *    {@link Throwable} thrown
+     * @param exchange
+     *    {@link ServerWebExchange} with the request information
+     *
+     * @return {@link Mono} with the suitable Http response
+     */
+    private Mono<Void> buildErrorResponse(final SecurityErrorEnum error,
+                                          final Throwable exception,
+                                          final ServerWebExchange exchange) {
+        return buildErrorResponse(
+                error.getErrorCode(),
+                error.getErrorMessages(exception),
+                exchange,
+                error.getHttpStatus()
+        );
+    }
+
+
     /**
      * Builds the Http response related with an error, using the provided parameters.
      *
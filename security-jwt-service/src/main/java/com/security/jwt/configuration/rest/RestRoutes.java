@@ -15,6 +15,8 @@ public final class RestRoutes {
     public static final class SECURITY {
         public static final String ROOT = RestRoutes.ROOT;
         public static final String AUTHORIZATION_INFO = "/authinfo";
+        public static final String AUTHORIZATION_INFO_BATCH = "/authinfo/batch";
+        public static final String JWKS = "/jwks";
         public static final String LOGIN = "/login";
         public static final String REFRESH = "/refresh";
     }
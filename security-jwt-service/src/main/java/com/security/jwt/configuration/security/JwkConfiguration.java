@@ -0,0 +1,127 @@
+package com.security.jwt.configuration.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+/**
+ * Configuration properties related with the key pairs used to sign the JWT tokens with asymmetric algorithms
+ */
+@Configuration
+@Log4j2
+public class JwkConfiguration {
+
+    private static final int RSA_KEY_SIZE = 2048;
+
+    /**
+     *    JSON with the JWK set of private keys. The first key suitable for a signature algorithm is the one used to sign
+     * the new tokens, the other ones are only used to verify the tokens signed before a key rotation, so they should
+     * be removed once all those tokens have expired.
+     */
+    @Value("${security.jwk.signingKeys:}")
+    private String signingKeys;
+
+    /**
+     *    Only for development: if {@code true} and {@code security.jwk.signingKeys} is empty, new key pairs are generated
+     * every time the application starts.
+     */
+    @Value("${security.jwk.generateKeys:false}")
+    private boolean generateKeys;
+
+    @Value("${security.jwk.maxAgeInSeconds:300}")
+    @Getter
+    private long jwkSetMaxAgeInSeconds;
+
+
+    /**
+     *    {@link JWKSet} with the key pairs used to sign and verify the JWT tokens. If no one was configured, new key pairs
+     * are generated only if {@code security.jwk.generateKeys} is enabled, because they are only valid while the
+     * application is running and cannot be shared between its instances. Otherwise, the returned {@link JWKSet} is
+     * empty and the clients that use asymmetric algorithms will not be able to get tokens.
+     *
+     * @return {@link JWKSet}
+     *
+     * @throws IllegalStateException if the configured keys could not be parsed, are not private ones or their identifiers
+     *                               are not unique
+     */
+    @Bean
+    public JWKSet signingJwkSet() {
+        if (!StringUtils.hasText(signingKeys)) {
+            if (generateKeys) {
+                log.warn("There are no configured signing keys, so new ones will be generated and they will be lost after a restart");
+                return generateJwkSet();
+            }
+            log.warn("There are no configured signing keys, so only the clients that use HMAC algorithms will be able to get tokens");
+            return new JWKSet();
+        }
+        try {
+            JWKSet jwkSet = JWKSet.parse(signingKeys);
+            validate(jwkSet.getKeys());
+            return jwkSet;
+
+        } catch (ParseException e) {
+            throw new IllegalStateException(
+                    "The configured signing keys are not a valid JWK set",
+                    e
+            );
+        }
+    }
+
+
+    private static JWKSet generateJwkSet() {
+        try {
+            return new JWKSet(
+                    List.of(
+                            new RSAKeyGenerator(RSA_KEY_SIZE)
+                                    .keyID(UUID.randomUUID().toString())
+                                    .generate(),
+                            new ECKeyGenerator(Curve.P_256)
+                                    .keyID(UUID.randomUUID().toString())
+                                    .generate()
+                    )
+            );
+        } catch (JOSEException e) {
+            throw new IllegalStateException(
+                    "It was not possible to generate the signing keys",
+                    e
+            );
+        }
+    }
+
+
+    private static void validate(final List<JWK> keys) {
+        Set<String> keyIds = new HashSet<>();
+        for (JWK key: keys) {
+            if (!key.isPrivate()) {
+                throw new IllegalStateException(
+                        format("The signing key: %s does not contain its private part",
+                                key.getKeyID())
+                );
+            }
+            if (!StringUtils.hasText(key.getKeyID()) || !keyIds.add(key.getKeyID())) {
+                throw new IllegalStateException(
+                        format("Every signing key must have an unique identifier and: %s is not",
+                                key.getKeyID())
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.security.jwt.configuration.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuration related with the verification of several tokens in parallel
+ */
+@Configuration
+public class TokenVerificationConfiguration {
+
+    @Value("${security.tokenVerification.batch.threads:4}")
+    private int batchThreads;
+
+
+    /**
+     *    Bounded pool used to verify in parallel the tokens received in the same request. The verification only requires
+     * CPU, so the number of threads should not be greater than the available cores.
+     *
+     * @return {@link Scheduler}
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler tokenVerificationScheduler() {
+        return Schedulers.newParallel(
+                "token-verification",
+                batchThreads,
+                true
+        );
+    }
+
+}
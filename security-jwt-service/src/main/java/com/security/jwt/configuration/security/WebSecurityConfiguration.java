@@ -1,6 +1,7 @@
 package com.security.jwt.configuration.security;
 
 import com.security.jwt.configuration.documentation.DocumentationConfiguration;
+import com.security.jwt.configuration.rest.RestRoutes;
 import com.security.jwt.service.JwtClientDetailsService;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -89,6 +90,7 @@ public class WebSecurityConfiguration {
     private String[] allowedGetEndpoints() {
         return new String[] {
                 SPRING_ACTUATOR_PATH + ALLOW_ALL_ENDPOINTS,
+                RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.JWKS,
                 documentationConfiguration.getApiDocsPath() + ALLOW_ALL_ENDPOINTS,
                 documentationConfiguration.getApiUiUrl() + ALLOW_ALL_ENDPOINTS,
                 documentationConfiguration.getWebjarsUrl() + ALLOW_ALL_ENDPOINTS
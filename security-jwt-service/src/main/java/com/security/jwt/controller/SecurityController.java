@@ -1,12 +1,16 @@
 package com.security.jwt.controller;
 
 import com.security.jwt.configuration.rest.RestRoutes;
+import com.security.jwt.configuration.security.JwkConfiguration;
 import com.security.jwt.dto.AuthenticationRequestDto;
+import com.security.jwt.dto.TokenAuthorizationInformationDto;
+import com.security.jwt.service.JwkService;
 import com.security.jwt.service.SecurityService;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
 import com.spring5microservices.common.dto.ErrorResponseDto;
 import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,10 +18,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,6 +32,9 @@ import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Size;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static java.lang.String.format;
 import static org.springframework.http.HttpStatus.OK;
@@ -38,6 +47,14 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Validated
 public class SecurityController extends BaseController {
 
+    private static final int MAX_ACCESS_TOKENS_IN_BATCH = 100;
+
+    @Lazy
+    private final JwkConfiguration jwkConfiguration;
+
+    @Lazy
+    private final JwkService jwkService;
+
     @Lazy
     private final SecurityService service;
 
@@ -271,4 +288,119 @@ public class SecurityController extends BaseController {
                 );
     }
 
+
+    @Operation(
+            summary = "Get the authorization data of the users included in the given access tokens",
+            description = "Validates in parallel the given tokens and then returns, in the same order, his/her: username, roles and "
+                        + "additional information or the error found validating every one"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful operation with the authorization information, or the error, of every access token in the response",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = TokenAuthorizationInformationDto.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Given tokens do not verify included format validations",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "As part of the Basic Auth, the username does not exists or the given password does not belongs to this one.",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Any other internal server error",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+    @Transactional(readOnly = true)
+    public Mono<ResponseEntity<List<TokenAuthorizationInformationDto>>> authorizationInformationBatch(@RequestBody @Size(min = 1, max = MAX_ACCESS_TOKENS_IN_BATCH)
+                                                                                                      final List<@Size(min = 1) String> accessTokens) {
+        log.info(
+                format("Extracting authorization information of %s tokens",
+                        accessTokens.size())
+        );
+        return getPrincipal()
+                .flatMap(userDetails ->
+                        service.getAuthorizationInformation(
+                                accessTokens,
+                                userDetails.getUsername()
+                        )
+                        .collectList()
+                )
+                .map(authorizationInformation ->
+                        new ResponseEntity<>(
+                                authorizationInformation,
+                                OK
+                        )
+                );
+    }
+
+
+    /**
+     *    Return the public keys used to sign the tokens with asymmetric algorithms, so the resource servers can verify
+     * them locally. The response can be cached by them, but an unknown key identifier in a token means the keys were
+     * rotated and they must be requested again.
+     *
+     * @return the JWK set with the public keys and {@link HttpStatus#OK}
+     */
+    @Operation(
+            summary = "Get the public keys used to sign the tokens",
+            description = "Returns the JWK set with the public keys used to sign the tokens with asymmetric algorithms"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful operation with the JWK set in the response",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Any other internal server error",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorResponseDto.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(RestRoutes.SECURITY.JWKS)
+    public Mono<ResponseEntity<Map<String, Object>>> jwks() {
+        return Mono.fromSupplier(() ->
+                ResponseEntity.ok()
+                        .cacheControl(
+                                CacheControl.maxAge(
+                                        Duration.ofSeconds(
+                                                jwkConfiguration.getJwkSetMaxAgeInSeconds()
+                                        )
+                                )
+                                .cachePublic()
+                        )
+                        .body(
+                                jwkService.getPublicJwkSet()
+                        )
+        );
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.security.jwt.dto;
+
+import com.spring5microservices.common.dto.ErrorResponseDto;
+import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@Schema(description = "Result of verifying one of the given access tokens")
+public class TokenAuthorizationInformationDto {
+
+    @Schema(description = "Http code that would be returned verifying only this access token", requiredMode = RequiredMode.REQUIRED)
+    private int status;
+
+    @Schema(description = "Authorization information included in the access token, if it is valid")
+    private UsernameAuthoritiesDto authorizationInformation;
+
+    @Schema(description = "Details about why the access token is not valid")
+    private ErrorResponseDto error;
+
+}
@@ -0,0 +1,95 @@
+package com.security.jwt.enums;
+
+import com.security.jwt.exception.ClientNotFoundException;
+import com.security.jwt.exception.TokenInvalidException;
+import com.spring5microservices.common.dto.ErrorResponseDto;
+import com.spring5microservices.common.enums.ExtendedHttpStatus;
+import com.spring5microservices.common.enums.RestApiErrorCode;
+import com.spring5microservices.common.exception.TokenExpiredException;
+import com.spring5microservices.common.exception.UnauthorizedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ *    How the errors related with the security are returned to the clients, both by the Rest layer and inside the
+ * responses that include several results, like the verification of several access tokens. Any other error is
+ * returned as {@link SecurityErrorEnum#INTERNAL}.
+ */
+public enum SecurityErrorEnum {
+    ACCOUNT_STATUS (AccountStatusException.class, HttpStatus.FORBIDDEN.value(), RestApiErrorCode.SECURITY, e -> "The account of the user is disabled"),
+    CLIENT_NOT_FOUND (ClientNotFoundException.class, HttpStatus.UNAUTHORIZED.value(), RestApiErrorCode.SECURITY, e -> "Given invalid client details identifier"),
+    TOKEN_EXPIRED (TokenExpiredException.class, ExtendedHttpStatus.TOKEN_EXPIRED.value(), RestApiErrorCode.SECURITY, e -> "The given authorization token has expired"),
+    TOKEN_INVALID (TokenInvalidException.class, HttpStatus.UNAUTHORIZED.value(), RestApiErrorCode.SECURITY, e -> "The provided token is invalid"),
+    UNAUTHORIZED (UnauthorizedException.class, HttpStatus.UNAUTHORIZED.value(), RestApiErrorCode.SECURITY, Throwable::getMessage),
+    USERNAME_NOT_FOUND (UsernameNotFoundException.class, HttpStatus.UNAUTHORIZED.value(), RestApiErrorCode.SECURITY, e -> "Given invalid credentials"),
+    INTERNAL (Throwable.class, HttpStatus.INTERNAL_SERVER_ERROR.value(), RestApiErrorCode.INTERNAL, e -> "Internal error in the application");
+
+    private final Class<? extends Throwable> exceptionClass;
+    private final int httpStatus;
+    private final RestApiErrorCode errorCode;
+    private final Function<Throwable, String> errorMessage;
+
+    SecurityErrorEnum(Class<? extends Throwable> exceptionClass, int httpStatus, RestApiErrorCode errorCode,
+                      Function<Throwable, String> errorMessage) {
+        this.exceptionClass = exceptionClass;
+        this.httpStatus = httpStatus;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    public RestApiErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public List<String> getErrorMessages(final Throwable exception) {
+        return List.of(
+                errorMessage.apply(exception)
+        );
+    }
+
+    public ErrorResponseDto getErrorResponse(final Throwable exception) {
+        return new ErrorResponseDto(
+                errorCode,
+                getErrorMessages(exception)
+        );
+    }
+
+    /**
+     * Returns {@code true} if the error is an expected result of the security checks, not a problem in the application.
+     *
+     * @return {@code true} for every value except {@link SecurityErrorEnum#INTERNAL}
+     */
+    public boolean isExpected() {
+        return INTERNAL != this;
+    }
+
+
+    /**
+     * Get the {@link SecurityErrorEnum} related with the given {@link Throwable}.
+     *
+     * @param exception
+     *    {@link Throwable} to search
+     *
+     * @return {@link SecurityErrorEnum}, {@link SecurityErrorEnum#INTERNAL} if {@code exception} is not related with
+     *         the security
+     */
+    public static SecurityErrorEnum getByException(@Nullable Throwable exception) {
+        return Arrays.stream(SecurityErrorEnum.values())
+                .filter(e ->
+                        e.exceptionClass.isInstance(exception)
+                )
+                .findFirst()
+                .orElse(INTERNAL);
+    }
+
+}
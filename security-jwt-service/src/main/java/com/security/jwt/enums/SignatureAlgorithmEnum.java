@@ -3,13 +3,16 @@ package com.security.jwt.enums;
 import com.nimbusds.jose.JWSAlgorithm;
 
 /**
- * Allowed algorithms to sign a JWT token
+ *    Allowed algorithms to sign a JWT token. The HMAC ones use the signature secret of every client, the asymmetric ones
+ * use the key pairs shared by all clients, whose public keys are published to verify the tokens without the secret.
  */
 public enum SignatureAlgorithmEnum {
 
     HS256(JWSAlgorithm.HS256),
     HS384(JWSAlgorithm.HS384),
-    HS512(JWSAlgorithm.HS512);
+    HS512(JWSAlgorithm.HS512),
+    RS256(JWSAlgorithm.RS256),
+    ES256(JWSAlgorithm.ES256);
 
     private final JWSAlgorithm algorithm;
 
@@ -21,4 +24,8 @@ public enum SignatureAlgorithmEnum {
         return algorithm;
     }
 
+    public boolean isAsymmetric() {
+        return !JWSAlgorithm.Family.HMAC_SHA.contains(algorithm);
+    }
+
 }
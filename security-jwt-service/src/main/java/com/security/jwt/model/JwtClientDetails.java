@@ -42,6 +42,7 @@ public class JwtClientDetails implements UserDetails {
     @Size(min = 1, max = 128)
     private String clientSecret;
 
+    // Only used by the HMAC signature algorithms, the asymmetric ones use the key pairs of JwkConfiguration
     @NotNull
     @Size(min = 1, max = 256)
     private String signatureSecret;
@@ -1,11 +1,11 @@
 package com.security.jwt.service;
 
-import com.security.jwt.configuration.Constants;
-import com.security.jwt.configuration.security.JweConfiguration;
 import com.security.jwt.dto.RawAuthenticationInformationDto;
 import com.security.jwt.enums.AuthenticationConfigurationEnum;
 import com.security.jwt.exception.ClientNotFoundException;
 import com.security.jwt.model.JwtClientDetails;
+import com.security.jwt.service.cache.ClientCryptoCacheService;
+import com.security.jwt.service.cache.ClientCryptoCacheService.ClientCrypto;
 import com.security.jwt.util.JweUtil;
 import com.security.jwt.util.JwsUtil;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
@@ -16,9 +16,9 @@ import lombok.AllArgsConstructor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,7 +48,7 @@ public class AuthenticationService {
     private final JwtClientDetailsService jwtClientDetailsService;
 
     @Lazy
-    private final JweConfiguration jweConfiguration;
+    private final ClientCryptoCacheService clientCryptoCacheService;
 
     @Lazy
     private final JweUtil jweUtil;
@@ -56,9 +56,6 @@ public class AuthenticationService {
     @Lazy
     private final JwsUtil jwsUtil;
 
-    @Lazy
-    private final TextEncryptor encryptor;
-
 
     /**
      *    Build the {@link AuthenticationInformationDto} with the specific information related with a {@link UserDetails}
@@ -103,21 +100,55 @@ public class AuthenticationService {
      * @return {@link Map} with the {@code payload} of the given token
      *
      * @throws ClientNotFoundException if the given {@code clientId} does not exist in database
-     * @throws UnauthorizedException if the given {@code token} is not a valid one
+     * @throws UnauthorizedException if the given {@code token} is not a valid one or was issued to another client
      * @throws TokenExpiredException if the given {@code token} has expired
      */
     public Map<String, Object> getPayloadOfToken(final String token,
                                                  final String clientId,
                                                  final boolean isAccessToken) {
-        JwtClientDetails clientDetails = jwtClientDetailsService.findByClientId(clientId);
+        return getPayloadOfToken(
+                token,
+                jwtClientDetailsService.findByClientId(clientId),
+                isAccessToken
+        );
+    }
+
+
+    /**
+     *    Get the {@code payload} included in the given {@code token} related with the given {@link JwtClientDetails}.
+     * Useful when several tokens of the same {@link JwtClientDetails} must be verified.
+     *
+     * @param token
+     *    {@link String} with the token of which to extract the payload
+     * @param clientDetails
+     *    {@link JwtClientDetails} with the details about how the token was generated
+     * @param isAccessToken
+     *    {@code true} if {@code token} is an access one, {@code false} if it is a refresh token
+     *
+     * @return {@link Map} with the {@code payload} of the given token
+     *
+     * @throws UnauthorizedException if the given {@code token} is not a valid one or was issued to another client
+     * @throws TokenExpiredException if the given {@code token} has expired
+     */
+    public Map<String, Object> getPayloadOfToken(final String token,
+                                                 final JwtClientDetails clientDetails,
+                                                 final boolean isAccessToken) {
         Map<String, Object> payload = getVerifiedPayloadOfToken(
                 token,
                 clientDetails
         );
+        // The asymmetric keys are shared by all clients, so the signature does not prove to whom the token was issued
+        if (!isIssuedTo(payload, clientDetails.getClientId())) {
+            throw new UnauthorizedException(
+                    format("The given token: %s was not issued to the clientId: %s",
+                            token, clientDetails.getClientId()
+                    )
+            );
+        }
         if (isAccessToken != isAccessToken(payload)) {
             throw new UnauthorizedException(
                     format("The given token: %s related with clientId: %s is not an " + (isAccessToken ? "access " : "refresh ") + "one",
-                            token, clientId
+                            token, clientDetails.getClientId()
                     )
             );
         }
@@ -378,15 +409,25 @@ public class AuthenticationService {
 
 
     /**
-     * Decrypt the given {@code signatureSecret} related with a {@link JwtClientDetails}.
+     * Check if the given {@code payload} contains the given {@code clientId} as audience.
+     *
+     * @param payload
+     *    JWS/JWE token payload information
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} that is using the token
+     *
+     * @return {@code true} if the {@code payload} comes from a token issued to {@code clientId}, {@code false} otherwise
      */
-    private String decryptSignatureSecret(final String signatureSecret) {
-        return encryptor.decrypt(
-                signatureSecret.replace(
-                        Constants.CIPHER_SECRET_PREFIX,
-                        ""
+    private boolean isIssuedTo(final Map<String, Object> payload,
+                               final String clientId) {
+        return ofNullable(payload)
+                .map(p -> p.get(AUDIENCE.getKey()))
+                .map(audience ->
+                        audience instanceof Collection
+                                ? ((Collection<?>) audience).contains(clientId)
+                                : audience.equals(clientId)
                 )
-        );
+                .orElse(false);
     }
 
 
@@ -405,19 +446,22 @@ public class AuthenticationService {
     private String generateToken(final Map<String, Object> informationToInclude,
                                  final JwtClientDetails clientDetails,
                                  final int tokenValidityInSeconds) {
+        ClientCrypto clientCrypto = clientCryptoCacheService.get(clientDetails);
         if (clientDetails.isUseJwe()) {
             return jweUtil.generateToken(
                     informationToInclude,
                     clientDetails.getSignatureAlgorithm().getAlgorithm(),
-                    decryptSignatureSecret(clientDetails.getSignatureSecret()),
-                    jweConfiguration.getEncryptionSecret(),
+                    clientCrypto.getKeyId(),
+                    clientCrypto.getSigner(),
+                    clientCrypto.getEncrypter(),
                     tokenValidityInSeconds
             );
         } else {
             return jwsUtil.generateToken(
                     informationToInclude,
                     clientDetails.getSignatureAlgorithm().getAlgorithm(),
-                    decryptSignatureSecret(clientDetails.getSignatureSecret()),
+                    clientCrypto.getKeyId(),
+                    clientCrypto.getSigner(),
                     tokenValidityInSeconds
             );
         }
@@ -436,18 +480,19 @@ public class AuthenticationService {
      */
     private Map<String, Object> getVerifiedPayloadOfToken(final String token,
                                                           final JwtClientDetails clientDetails) {
+        ClientCrypto clientCrypto = clientCryptoCacheService.get(clientDetails);
         if (clientDetails.isUseJwe()) {
             return jweUtil.getPayloadExceptGivenKeys(
                     token,
-                    decryptSignatureSecret(clientDetails.getSignatureSecret()),
-                    jweConfiguration.getEncryptionSecret(),
+                    clientCrypto.getVerifier(),
+                    clientCrypto.getDecrypter(),
                     new HashSet<>()
             );
         }
         else {
             return jwsUtil.getPayloadExceptGivenKeys(
                     token,
-                    decryptSignatureSecret(clientDetails.getSignatureSecret()),
+                    clientCrypto.getVerifier(),
                     new HashSet<>()
             );
         }
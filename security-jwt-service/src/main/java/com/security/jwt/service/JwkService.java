@@ -0,0 +1,79 @@
+package com.security.jwt.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.security.jwt.util.JwsUtil;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+@AllArgsConstructor
+@Service
+public class JwkService {
+
+    @Lazy
+    private final JwsUtil jwsUtil;
+
+    @Lazy
+    private final JWKSet signingJwkSet;
+
+
+    /**
+     *    Return the public part of the keys used to sign the JWT tokens, as the JSON of a JWK set. Used by the resource
+     * servers to verify the tokens signed with asymmetric algorithms without asking for it.
+     *
+     * @return {@link Map} with the public JWK set
+     */
+    public Map<String, Object> getPublicJwkSet() {
+        return signingJwkSet.toJSONObject(true);
+    }
+
+
+    /**
+     * Return the key used to sign the new JWT tokens with the given {@link JWSAlgorithm}.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWT tokens
+     *
+     * @return {@link JWK}
+     *
+     * @throws IllegalArgumentException if there is no key suitable for {@code signatureAlgorithm}
+     */
+    public JWK getSigningKey(final JWSAlgorithm signatureAlgorithm) {
+        return getVerificationKeys(signatureAlgorithm)
+                .get(0);
+    }
+
+
+    /**
+     *    Return the keys used to verify the JWT tokens signed with the given {@link JWSAlgorithm}, including the ones
+     * used before a key rotation.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWT tokens
+     *
+     * @return {@link List} of {@link JWK}
+     *
+     * @throws IllegalArgumentException if there is no key suitable for {@code signatureAlgorithm}
+     */
+    public List<JWK> getVerificationKeys(final JWSAlgorithm signatureAlgorithm) {
+        List<JWK> keys = signingJwkSet.getKeys().stream()
+                .filter(key -> jwsUtil.isSuitableKey(signatureAlgorithm, key))
+                .collect(toList());
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException(
+                    format("There is no signing key suitable for the signature algorithm: %s",
+                            signatureAlgorithm)
+            );
+        }
+        return keys;
+    }
+
+}
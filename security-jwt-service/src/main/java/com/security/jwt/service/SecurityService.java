@@ -1,8 +1,12 @@
 package com.security.jwt.service;
 
+import com.security.jwt.dto.TokenAuthorizationInformationDto;
 import com.security.jwt.enums.AuthenticationConfigurationEnum;
+import com.security.jwt.enums.SecurityErrorEnum;
 import com.security.jwt.exception.ClientNotFoundException;
 import com.security.jwt.model.JwtClientDetails;
+import com.security.jwt.service.cache.VerifiedTokenCacheService;
+import com.security.jwt.service.cache.VerifiedTokenCacheService.VerifiedToken;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
 import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
 import com.spring5microservices.common.exception.TokenExpiredException;
@@ -16,12 +20,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
 import static java.util.Optional.of;
+import static org.springframework.http.HttpStatus.OK;
 
 @AllArgsConstructor
 @Log4j2
@@ -34,6 +43,15 @@ public class SecurityService {
     @Lazy
     private final AuthenticationService authenticationService;
 
+    @Lazy
+    private final JwtClientDetailsService jwtClientDetailsService;
+
+    @Lazy
+    private final Scheduler tokenVerificationScheduler;
+
+    @Lazy
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
+
 
     /**
      *    Build the {@link AuthenticationInformationDto} with the specific information related with a {@code username}
@@ -109,6 +127,9 @@ public class SecurityService {
      *  - Roles
      *  - Additional information: included in {@code accessToken} but not related with standard JWT and included specifically
      *                            by every application.
+     * <p>
+     *    The information of the already verified access tokens is returned from {@link VerifiedTokenCacheService}.
+     *
      * @param accessToken
      *    {@link String} with the access token to use
      * @param clientId
@@ -123,7 +144,138 @@ public class SecurityService {
      */
     public UsernameAuthoritiesDto getAuthorizationInformation(final String accessToken,
                                                               final String clientId) {
-        Map<String, Object> payload = authenticationService.getPayloadOfToken(accessToken, clientId, true);
+        return verifiedTokenCacheService.get(
+                accessToken,
+                clientId,
+                () -> {
+                    Map<String, Object> payload = authenticationService.getPayloadOfToken(accessToken, clientId, true);
+                    return VerifiedToken.of(
+                            payload,
+                            buildAuthorizationInformation(payload, clientId)
+                    );
+                }
+        );
+    }
+
+
+    /**
+     *    Extract from every given {@code accessTokens} the same information as {@link SecurityService#getAuthorizationInformation(String, String)},
+     * verifying them in parallel. The {@link JwtClientDetails} related with the given {@code clientId} is only searched once.
+     *
+     * @param accessTokens
+     *    {@link List} of {@link String} with the access tokens to use
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} used to know the details to include
+     *
+     * @return {@link Flux} of {@link TokenAuthorizationInformationDto}, in the same order as {@code accessTokens}, with
+     *         the authorization information of every valid access token or the error found verifying it
+     *
+     * @throws ClientNotFoundException if the given {@code clientId} does not exist in database
+     */
+    public Flux<TokenAuthorizationInformationDto> getAuthorizationInformation(final List<String> accessTokens,
+                                                                              final String clientId) {
+        return Mono.fromCallable(() ->
+                        jwtClientDetailsService.findByClientId(clientId)
+                )
+                .flatMapMany(clientDetails ->
+                        Flux.fromIterable(accessTokens)
+                                .flatMapSequential(accessToken ->
+                                        Mono.fromCallable(() ->
+                                                        getAuthorizationInformation(
+                                                                accessToken,
+                                                                clientDetails
+                                                        )
+                                                )
+                                                .onErrorResume(e ->
+                                                        Mono.just(
+                                                                buildAuthorizationInformationError(e, clientId)
+                                                        )
+                                                )
+                                                .subscribeOn(tokenVerificationScheduler)
+                                )
+                );
+    }
+
+
+    /**
+     * Extract from the given {@code accessToken} the information related with a {@link UsernameAuthoritiesDto}.
+     *
+     * @param accessToken
+     *    {@link String} with the access token to use
+     * @param clientDetails
+     *    {@link JwtClientDetails} with the details about how the token was generated
+     *
+     * @return {@link TokenAuthorizationInformationDto}
+     */
+    private TokenAuthorizationInformationDto getAuthorizationInformation(final String accessToken,
+                                                                         final JwtClientDetails clientDetails) {
+        String clientId = clientDetails.getClientId();
+        return TokenAuthorizationInformationDto.builder()
+                .status(OK.value())
+                .authorizationInformation(
+                        verifiedTokenCacheService.get(
+                                accessToken,
+                                clientId,
+                                () -> {
+                                    Map<String, Object> payload = authenticationService.getPayloadOfToken(accessToken, clientDetails, true);
+                                    return VerifiedToken.of(
+                                            payload,
+                                            buildAuthorizationInformation(payload, clientId)
+                                    );
+                                }
+                        )
+                )
+                .build();
+    }
+
+
+    /**
+     * Build the {@link TokenAuthorizationInformationDto} related with an error found verifying an access token.
+     *
+     * @param exception
+     *    {@link Throwable} thrown verifying the access token
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} related with the access token
+     *
+     * @return {@link TokenAuthorizationInformationDto}
+     */
+    private TokenAuthorizationInformationDto buildAuthorizationInformationError(final Throwable exception,
+                                                                                final String clientId) {
+        SecurityErrorEnum error = SecurityErrorEnum.getByException(exception);
+        if (error.isExpected()) {
+            log.debug(
+                    format("One of the access tokens related with the clientId: %s was not verified due to: %s",
+                            clientId,
+                            exception.getMessage())
+            );
+        } else {
+            log.error(
+                    format("There was an error verifying one of the access tokens related with the clientId: %s",
+                            clientId),
+                    exception
+            );
+        }
+        return TokenAuthorizationInformationDto.builder()
+                .status(error.getHttpStatus())
+                .error(error.getErrorResponse(exception))
+                .build();
+    }
+
+
+    /**
+     * Build the {@link UsernameAuthoritiesDto} using the information included in the given {@code payload}.
+     *
+     * @param payload
+     *    {@link Map} with the content of an access token
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} used to know the details to include
+     *
+     * @return {@link UsernameAuthoritiesDto}
+     *
+     * @throws UsernameNotFoundException if the {@code payload} does not contain a {@code username}
+     */
+    private UsernameAuthoritiesDto buildAuthorizationInformation(final Map<String, Object> payload,
+                                                                 final String clientId) {
         String username = getUsernameFromPayload(payload, clientId);
 
         return UsernameAuthoritiesDto.builder()
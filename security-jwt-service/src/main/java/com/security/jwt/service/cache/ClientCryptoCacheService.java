@@ -0,0 +1,190 @@
+package com.security.jwt.service.cache;
+
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.security.jwt.configuration.Constants;
+import com.security.jwt.configuration.security.JweConfiguration;
+import com.security.jwt.enums.SignatureAlgorithmEnum;
+import com.security.jwt.model.JwtClientDetails;
+import com.security.jwt.service.JwkService;
+import com.security.jwt.util.JweUtil;
+import com.security.jwt.util.JwsUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.crypto.encrypt.TextEncryptor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *    Keeps in memory, by {@link JwtClientDetails#getClientId()}, the ready to use objects required to sign, verify, encrypt
+ * and decrypt the tokens of every {@link JwtClientDetails}, avoiding to decrypt its signature secret and build them on
+ * every request.
+ * <p>
+ *    Those objects cannot be shared between the instances of the application, so they are stored in a local map instead
+ * of in the distributed cache of {@link JwtClientDetails}. An entry is rebuilt when the {@link JwtClientDetails} used
+ * to build it changes its signature configuration.
+ * <p>
+ *    The {@link JwtClientDetails} using asymmetric signature algorithms sign their tokens with the current key pair
+ * provided by {@link JwkService}, and verify them with the one whose identifier is included in every token.
+ */
+@AllArgsConstructor
+@Service
+public class ClientCryptoCacheService {
+
+    private final ConcurrentMap<String, ClientCrypto> cache = new ConcurrentHashMap<>();
+
+    @Lazy
+    private final JweConfiguration jweConfiguration;
+
+    @Lazy
+    private final JweUtil jweUtil;
+
+    @Lazy
+    private final JwkService jwkService;
+
+    @Lazy
+    private final JwsUtil jwsUtil;
+
+    @Lazy
+    private final TextEncryptor encryptor;
+
+
+    /**
+     * Remove all the stored {@link ClientCrypto}.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+
+    /**
+     * Return the {@link ClientCrypto} related with the given {@link JwtClientDetails}, building it if it does not exist.
+     *
+     * @param clientDetails
+     *    {@link JwtClientDetails} with the details about how to generate JWS/JWE tokens
+     *
+     * @return {@link ClientCrypto}
+     *
+     * @throws IllegalArgumentException if {@code clientDetails} is {@code null} or it was not possible to build the
+     *                                  {@link ClientCrypto} using its signature configuration
+     */
+    public ClientCrypto get(final JwtClientDetails clientDetails) {
+        Assert.notNull(clientDetails, "clientDetails cannot be null");
+        ClientCrypto clientCrypto = cache.get(clientDetails.getClientId());
+        if (null != clientCrypto && clientCrypto.isBuiltWith(clientDetails)) {
+            return clientCrypto;
+        }
+        return cache.compute(
+                clientDetails.getClientId(),
+                (clientId, current) ->
+                        null != current && current.isBuiltWith(clientDetails)
+                                ? current
+                                : build(clientDetails)
+        );
+    }
+
+
+    /**
+     * Build the {@link ClientCrypto} related with the given {@link JwtClientDetails}.
+     */
+    private ClientCrypto build(final JwtClientDetails clientDetails) {
+        JWSAlgorithm signatureAlgorithm = clientDetails.getSignatureAlgorithm().getAlgorithm();
+        String keyId = null;
+        JWSSigner signer;
+        JWSVerifier verifier;
+        if (clientDetails.getSignatureAlgorithm().isAsymmetric()) {
+            JWK signingKey = jwkService.getSigningKey(signatureAlgorithm);
+            keyId = signingKey.getKeyID();
+            signer = jwsUtil.getSuitableSigner(
+                    signatureAlgorithm,
+                    signingKey
+            );
+            verifier = jwsUtil.getSuitableVerifier(
+                    signatureAlgorithm,
+                    jwkService.getVerificationKeys(signatureAlgorithm)
+            );
+        }
+        else {
+            String signatureSecret = decryptSignatureSecret(clientDetails.getSignatureSecret());
+            signer = jwsUtil.getSuitableSigner(
+                    signatureAlgorithm,
+                    signatureSecret
+            );
+            verifier = jwsUtil.getSuitableVerifier(
+                    signatureAlgorithm,
+                    signatureSecret
+            );
+        }
+        return new ClientCrypto(
+                clientDetails.getSignatureSecret(),
+                clientDetails.getSignatureAlgorithm(),
+                clientDetails.isUseJwe(),
+                keyId,
+                signer,
+                verifier,
+                clientDetails.isUseJwe()
+                        ? jweUtil.getEncrypter(jweConfiguration.getEncryptionSecret())
+                        : null,
+                clientDetails.isUseJwe()
+                        ? jweUtil.getDecrypter(jweConfiguration.getEncryptionSecret())
+                        : null
+        );
+    }
+
+
+    /**
+     * Decrypt the given {@code signatureSecret} related with a {@link JwtClientDetails}.
+     */
+    private String decryptSignatureSecret(final String signatureSecret) {
+        return encryptor.decrypt(
+                signatureSecret.replace(
+                        Constants.CIPHER_SECRET_PREFIX,
+                        ""
+                )
+        );
+    }
+
+
+    /**
+     * Objects used to sign, verify, encrypt and decrypt the tokens of a {@link JwtClientDetails}.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class ClientCrypto {
+
+        // Signature configuration of the JwtClientDetails used to build it
+        private final String signatureSecret;
+        private final SignatureAlgorithmEnum signatureAlgorithm;
+        private final boolean useJwe;
+
+        // Only included if the JwtClientDetails uses an asymmetric signature algorithm
+        private final String keyId;
+
+        private final JWSSigner signer;
+        private final JWSVerifier verifier;
+
+        // Only included if the JwtClientDetails uses JWE tokens
+        private final JWEEncrypter encrypter;
+        private final JWEDecrypter decrypter;
+
+
+        /**
+         * Check if the given {@link JwtClientDetails} has the same signature configuration used to build this one.
+         */
+        private boolean isBuiltWith(final JwtClientDetails clientDetails) {
+            return Objects.equals(signatureSecret, clientDetails.getSignatureSecret())
+                    && signatureAlgorithm == clientDetails.getSignatureAlgorithm()
+                    && useJwe == clientDetails.isUseJwe();
+        }
+    }
+
+}
@@ -21,13 +21,22 @@ public class JwtClientDetailsCacheService {
     @Lazy
     private final CacheService cacheService;
 
+    @Lazy
+    private final ClientCryptoCacheService clientCryptoCacheService;
+
+    @Lazy
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
+
 
     /**
-     * Clear the cache used to store {@link JwtClientDetails} information.
+     *    Clear the cache used to store {@link JwtClientDetails} information, and the ones used to store the objects required
+     * to manage their tokens and the already verified access tokens.
      *
      * @return {@code true} if the cache was cleared, {@code false} otherwise
      */
     public boolean clear() {
+        clientCryptoCacheService.clear();
+        verifiedTokenCacheService.clear();
         return cacheService.clear(cacheConfiguration.getJwtConfigurationCacheName());
     }
 
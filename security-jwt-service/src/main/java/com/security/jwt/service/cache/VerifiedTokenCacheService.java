@@ -0,0 +1,182 @@
+package com.security.jwt.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.security.jwt.model.JwtClientDetails;
+import com.spring5microservices.common.cache.ExpirationTimeExpiry;
+import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.security.jwt.enums.TokenKeyEnum.EXPIRATION_TIME;
+import static com.security.jwt.enums.TokenKeyEnum.JWT_ID;
+import static com.spring5microservices.common.util.DigestUtil.sha256;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Keeps in memory the {@link UsernameAuthoritiesDto} built from every verified access token, so the same token is
+ * not decrypted, verified and mapped again every time a resource server asks for its authorization information. The
+ * tokens are stored by {@link JwtClientDetails#getClientId()} and their SHA-256 digest.
+ * <p>
+ *    Every entry is kept until its token expires, but never more than {@code cache.verifiedToken.expireInSeconds}.
+ * The not valid tokens are never cached. Its hits and misses are published with the tag: {@code cache=verifiedAccessTokens}.
+ */
+@Service
+public class VerifiedTokenCacheService {
+
+    public static final String CACHE_NAME = "verifiedAccessTokens";
+
+    private final Cache<VerifiedTokenKey, VerifiedToken> cache;
+
+
+    public VerifiedTokenCacheService(@Value("${cache.verifiedToken.entryCapacity:10000}") final long entryCapacity,
+                                     @Value("${cache.verifiedToken.expireInSeconds:300}") final long expireInSeconds,
+                                     final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(entryCapacity)
+                .expireAfter(
+                        new ExpirationTimeExpiry<VerifiedTokenKey, VerifiedToken>(
+                                VerifiedToken::getExpirationTime,
+                                Duration.ofSeconds(expireInSeconds)
+                        )
+                )
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                cache,
+                CACHE_NAME
+        );
+    }
+
+
+    /**
+     * Remove all the stored {@link UsernameAuthoritiesDto}.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+
+    /**
+     *    Return the {@link UsernameAuthoritiesDto} related with the given {@code accessToken} and {@code clientId}: from
+     * the cache if it was found, or invoking {@code loader} otherwise. The concurrent requests of the same token share
+     * the same invocation of {@code loader}. If {@code accessToken} or {@code clientId} are {@code null}, {@code loader}
+     * is always invoked and nothing is cached.
+     *
+     * @param accessToken
+     *    {@link String} with the access token to verify
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} related with {@code accessToken}
+     * @param loader
+     *    {@link Supplier} used to verify {@code accessToken} if it was not found. Any exception thrown by it is
+     *    propagated and nothing is cached
+     *
+     * @return {@link UsernameAuthoritiesDto}
+     *
+     * @throws IllegalArgumentException if {@code loader} is {@code null}
+     */
+    public UsernameAuthoritiesDto get(final String accessToken,
+                                      final String clientId,
+                                      final Supplier<VerifiedToken> loader) {
+        Assert.notNull(loader, "loader cannot be null");
+        if (null == accessToken || null == clientId) {
+            return loader.get()
+                    .getUsernameAuthorities();
+        }
+        return cache.get(
+                        new VerifiedTokenKey(
+                                clientId,
+                                sha256(accessToken)
+                        ),
+                        key -> loader.get()
+                )
+                .getUsernameAuthorities();
+    }
+
+
+    /**
+     *    Remove the {@link UsernameAuthoritiesDto} related with the access tokens with the given {@code jwtId}. It must be
+     * invoked every time an access token is revoked before its expiration time, because otherwise it would keep being
+     * considered valid until its entry expires.
+     *
+     * @param jwtId
+     *    {@link String} with the {@code jti} of the revoked access token
+     *
+     * @return {@code true} if any entry was removed, {@code false} otherwise
+     */
+    public boolean invalidateByJwtId(final String jwtId) {
+        return ofNullable(jwtId)
+                .map(id ->
+                        // Revocations are rare, so a scan is preferred to keep and clean a secondary index on every eviction
+                        cache.asMap()
+                                .values()
+                                .removeIf(verifiedToken -> id.equals(verifiedToken.getJwtId()))
+                )
+                .orElse(false);
+    }
+
+
+    /**
+     * {@link UsernameAuthoritiesDto} built from a verified access token, with the information required to manage its entry.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class VerifiedToken {
+
+        private final UsernameAuthoritiesDto usernameAuthorities;
+
+        // Null if they were not included in the access token
+        private final Instant expirationTime;
+        private final String jwtId;
+
+
+        /**
+         * Build a {@link VerifiedToken} using the given {@code usernameAuthorities} and the verified {@code payload} it was built from.
+         *
+         * @param payload
+         *    {@link Map} with the content of the verified access token
+         * @param usernameAuthorities
+         *    {@link UsernameAuthoritiesDto} built from {@code payload}
+         *
+         * @return {@link VerifiedToken}
+         */
+        public static VerifiedToken of(final Map<String, Object> payload,
+                                       final UsernameAuthoritiesDto usernameAuthorities) {
+            return new VerifiedToken(
+                    usernameAuthorities,
+                    ofNullable(payload)
+                            .map(p -> p.get(EXPIRATION_TIME.getKey()))
+                            .filter(Date.class::isInstance)
+                            .map(expirationTime -> ((Date) expirationTime).toInstant())
+                            .orElse(null),
+                    ofNullable(payload)
+                            .map(p -> p.get(JWT_ID.getKey()))
+                            .map(Object::toString)
+                            .orElse(null)
+            );
+        }
+    }
+
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class VerifiedTokenKey {
+        private final String clientId;
+        private final ByteBuffer digest;
+    }
+
+}
@@ -6,15 +6,21 @@ import com.nimbusds.jose.Header;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObject;
 import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWEHeader;
 import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.KeyException;
+import com.nimbusds.jose.KeyLengthException;
 import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.crypto.DirectDecrypter;
 import com.nimbusds.jose.crypto.DirectEncrypter;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jose.util.JSONObjectUtils;
+import com.nimbusds.jwt.SignedJWT;
 import com.security.jwt.exception.TokenInvalidException;
 import com.spring5microservices.common.exception.TokenExpiredException;
 import lombok.AllArgsConstructor;
@@ -79,7 +85,50 @@ public class JweUtil {
         );
         return encryptJwsToken(
                 jwsToken,
-                encryptionSecret
+                getEncrypter(encryptionSecret)
+        );
+    }
+
+
+    /**
+     *    Using the given {@code informationToInclude} generates a valid nested JWS and JWE token (signed + encrypted JWT),
+     * signed with the selected {@link JWSAlgorithm} and {@link JWSSigner}, and encrypted with the given {@link JWEEncrypter}.
+     * Useful when the same ones are used to generate several tokens.
+     *
+     * @param informationToInclude
+     *    {@link Map} with the information to include in the returned JWS token
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS token
+     * @param keyId
+     *    Identifier of the key used by {@code signer}, included in the header of the JWS token. {@code null} if it has no one
+     * @param signer
+     *    {@link JWSSigner} used to sign the JWS token
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
+     * @param expirationTimeInSeconds
+     *    How many seconds the JWS toke will be valid
+     *
+     * @return {@link String} with the JWS
+     *
+     * @throws IllegalArgumentException if {@code signatureAlgorithm}, {@code signer} or {@code encrypter} are {@code null}
+     */
+    public String generateToken(final Map<String, Object> informationToInclude,
+                                final JWSAlgorithm signatureAlgorithm,
+                                final String keyId,
+                                final JWSSigner signer,
+                                final JWEEncrypter encrypter,
+                                final long expirationTimeInSeconds) {
+        Assert.notNull(encrypter, "encrypter cannot be null");
+        SignedJWT signedJWT = jwsUtil.generateSignedJWT(
+                informationToInclude,
+                signatureAlgorithm,
+                keyId,
+                signer,
+                expirationTimeInSeconds
+        );
+        return encrypt(
+                new Payload(signedJWT),
+                encrypter
         );
     }
 
@@ -109,8 +158,9 @@ public class JweUtil {
         Assert.hasText(encryptionSecret, "encryptionSecret cannot be null or empty");
         String jwsToken = decryptJweToken(
                 jweToken,
-                encryptionSecret
-        );
+                getDecrypter(encryptionSecret)
+        )
+        .serialize();
         return jwsUtil.getPayloadKeys(
                 jwsToken,
                 signatureSecret,
@@ -144,8 +194,9 @@ public class JweUtil {
         Assert.hasText(encryptionSecret, "encryptionSecret cannot be null or empty");
         String jwsToken = decryptJweToken(
                 jweToken,
-                encryptionSecret
-        );
+                getDecrypter(encryptionSecret)
+        )
+        .serialize();
         return jwsUtil.getPayloadExceptGivenKeys(
                 jwsToken,
                 signatureSecret,
@@ -154,6 +205,43 @@ public class JweUtil {
     }
 
 
+    /**
+     *    Get the information included in the given JWE {@code jweToken} except the given {@code keysToExclude}, decrypting
+     * it with the given {@link JWEDecrypter} and verifying the nested JWS one with the given {@link JWSVerifier}.
+     *
+     * @param jweToken
+     *    JWE token to extract the required information
+     * @param verifier
+     *    {@link JWSVerifier} used to verify the signature of the nested JWS token
+     * @param decrypter
+     *    {@link JWEDecrypter} used to decrypt the JWE token
+     * @param keysToExclude
+     *    {@link Set} of {@link String} with the {@code key}s to exclude from JWS token
+     *
+     * @return {@link Map} of {@link String} - {@link Object} with the remaining information
+     *
+     * @throws IllegalArgumentException if {@code jweToken} is {@code null} or empty, or {@code verifier} or {@code decrypter}
+     *                                  are {@code null}
+     * @throws TokenInvalidException if {@code token} is not a JWE one or its nested JWS does not match with {@code verifier}
+     * @throws TokenExpiredException if {@code token} has expired
+     */
+    public Map<String, Object> getPayloadExceptGivenKeys(final String jweToken,
+                                                         final JWSVerifier verifier,
+                                                         final JWEDecrypter decrypter,
+                                                         final Set<String> keysToExclude) {
+        Assert.notNull(decrypter, "decrypter cannot be null");
+        SignedJWT signedJWT = decryptJweToken(
+                jweToken,
+                decrypter
+        );
+        return jwsUtil.getPayloadExceptGivenKeys(
+                signedJWT,
+                verifier,
+                keysToExclude
+        );
+    }
+
+
     /**
      * Get the information included in the given JWE {@code jweToken} WITHOUT ANY VERIFICATION.
      *
@@ -171,8 +259,9 @@ public class JweUtil {
         Assert.hasText(jweToken, "encryptionSecret cannot be null or empty");
         String jwsToken = decryptJweToken(
                 jweToken,
-                encryptionSecret
-        );
+                getDecrypter(encryptionSecret)
+        )
+        .serialize();
         return jwsUtil.getRawPayload(jwsToken);
     }
 
@@ -205,72 +294,158 @@ public class JweUtil {
     }
 
 
+    /**
+     * Return the {@link JWEEncrypter} used to encrypt the JWS tokens with the given {@code encryptionSecret}.
+     *
+     * @param encryptionSecret
+     *    {@link String} used to encrypt the JWS tokens
+     *
+     * @return {@link JWEEncrypter}
+     *
+     * @throws IllegalArgumentException if {@code encryptionSecret} is {@code null}, empty or has not a valid length
+     */
+    public JWEEncrypter getEncrypter(final String encryptionSecret) {
+        Assert.hasText(encryptionSecret, "encryptionSecret cannot be null or empty");
+        try {
+            return new DirectEncrypter(encryptionSecret.getBytes());
+
+        } catch (KeyLengthException e) {
+            throw new IllegalArgumentException(
+                    "The was a problem with the given encryptionSecret",
+                    e
+            );
+        }
+    }
+
+
+    /**
+     * Return the {@link JWEDecrypter} used to decrypt the JWE tokens encrypted with the given {@code encryptionSecret}.
+     *
+     * @param encryptionSecret
+     *    {@link String} used to encrypt the JWS tokens
+     *
+     * @return {@link JWEDecrypter}
+     *
+     * @throws IllegalArgumentException if {@code encryptionSecret} is {@code null}, empty or has not a valid length
+     */
+    public JWEDecrypter getDecrypter(final String encryptionSecret) {
+        Assert.hasText(encryptionSecret, "encryptionSecret cannot be null or empty");
+        try {
+            return new DirectDecrypter(encryptionSecret.getBytes());
+
+        } catch (KeyLengthException e) {
+            throw new IllegalArgumentException(
+                    "The was a problem with the given encryptionSecret",
+                    e
+            );
+        }
+    }
+
+
     /**
      * Encrypt the given JWS token using algorithms and encryption method defined by default.
      *
      * @param jwsToken
      *    {@link String} with the JWS token to encrypt
-     * @param encryptionSecret
-     *    {@link String} used to encrypt the JWS token
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
      *
      * @return {@link String} with the JWE token
      *
      * @throws IllegalArgumentException it there was a problem encrypting the JWS token
+     * @throws TokenInvalidException if {@code jwsToken} is not a JWS one
      */
     private String encryptJwsToken(final String jwsToken,
-                                   final String encryptionSecret) {
+                                   final JWEEncrypter encrypter) {
         if (!jwsUtil.isJwsToken(jwsToken)) {
             throw new TokenInvalidException(
                     format("The token: %s is not a JWS one",
                             jwsToken)
             );
         }
+        return encrypt(
+                new Payload(jwsToken),
+                encrypter
+        );
+    }
+
+
+    /**
+     * Encrypt the given {@link Payload}, that contains a JWS token, using algorithms and encryption method defined by default.
+     *
+     * @param payload
+     *    {@link Payload} with the JWS token to encrypt
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
+     *
+     * @return {@link String} with the JWE token
+     *
+     * @throws IllegalArgumentException it there was a problem encrypting the JWS token
+     */
+    private String encrypt(final Payload payload,
+                           final JWEEncrypter encrypter) {
         try {
             JWEObject jweObject = new JWEObject(
                     new JWEHeader.Builder(jweAlgorithm, encryptionMethod)
                             .contentType("JWT")   // Required to indicate nested JWT
                             .build(),
-                    new Payload(jwsToken));
-            jweObject.encrypt(new DirectEncrypter(encryptionSecret.getBytes()));
+                    payload
+            );
+            jweObject.encrypt(encrypter);
             return jweObject.serialize();
 
         } catch (JOSEException e) {
             throw new IllegalArgumentException(
                     format("The was a problem trying to encrypt the JWS token: %s",
-                            jwsToken),
+                            payload),
                     e
             );
         }
     }
 
+
     /**
-     * Decrypt the given JWE token returning the nested JWS one.
+     *    Decrypt the given JWE token returning the nested JWS one, already parsed. The JWE token is split and its header
+     * read only once, its type is only checked when it could not be parsed to return the suitable error.
      *
      * @param jweToken
      *    {@link String} with the JWE token to decrypt
-     * @param encryptionSecret
-     *    {@link String} used to encrypt the JWS token
+     * @param decrypter
+     *    {@link JWEDecrypter} used to decrypt the JWE token
      *
-     * @return {@link String} with the JWS nested token
+     * @return {@link SignedJWT} with the JWS nested token
      *
+     * @throws IllegalArgumentException if {@code jweToken} is {@code null}, empty or its type could not be known
      * @throws TokenInvalidException if the {@code token} is not a JWE one or there was a problem decrypting it
      */
-    private String decryptJweToken(final String jweToken,
-                                   final String encryptionSecret) {
-        if (!isJweToken(jweToken)) {
-            throw new TokenInvalidException(
-                    format("The token: %s is not a JWE one",
-                            jweToken)
-            );
-        }
+    private SignedJWT decryptJweToken(final String jweToken,
+                                      final JWEDecrypter decrypter) {
+        Assert.hasText(jweToken, "token cannot be null or empty");
         try {
             JWEObject jweObject = JWEObject.parse(jweToken);
-            jweObject.decrypt(new DirectDecrypter(encryptionSecret.getBytes()));
-            return jweObject.getPayload()
-                    .toSignedJWT()
-                    .serialize();
+            jweObject.decrypt(decrypter);
+            SignedJWT signedJWT = jweObject.getPayload().toSignedJWT();
+            if (null == signedJWT) {
+                throw new TokenInvalidException(
+                        format("The JWE token: %s does not contain a JWS one",
+                                jweToken)
+                );
+            }
+            return signedJWT;
 
-        } catch (JOSEException | ParseException e) {
+        } catch (ParseException e) {
+            if (!isJweToken(jweToken)) {
+                throw new TokenInvalidException(
+                        format("The token: %s is not a JWE one",
+                                jweToken)
+                );
+            }
+            throw new TokenInvalidException(
+                    format("The was a problem trying to decrypt the JWE token: %s",
+                            jweToken),
+                    e
+            );
+        } catch (JOSEException e) {
             if (e instanceof KeyException) {
                 throw new IllegalArgumentException(
                         "The was a problem with the given encryptionSecret",
@@ -9,14 +9,24 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.KeyLengthException;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jose.util.JSONObjectUtils;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.security.jwt.exception.TokenInvalidException;
 import com.spring5microservices.common.exception.TokenExpiredException;
+import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -29,6 +39,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toMap;
 
 @Component
@@ -37,6 +48,8 @@ public class JwsUtil {
 
     private final static List<JWSAlgorithm> ALLOWED_JWS_ALGORITHMS = List.of(JWSAlgorithm.HS256, JWSAlgorithm.HS384, JWSAlgorithm.HS512);
 
+    private final static List<JWSAlgorithm> ALLOWED_KEY_PAIR_JWS_ALGORITHMS = List.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
 
     /**
      *    Using the given {@code informationToInclude} generates a valid JWS token (signed JWT) signed with the selected
@@ -67,13 +80,52 @@ public class JwsUtil {
         );
         SignedJWT signedJWT = getSignedJWT(
                 signatureAlgorithm,
-                signatureSecret,
+                null,
+                getSuitableSigner(
+                        signatureAlgorithm,
+                        signatureSecret
+                ),
                 claimsSet
         );
         return signedJWT.serialize();
     }
 
 
+    /**
+     *    Using the given {@code informationToInclude} generates a valid JWS token (signed JWT) signed with the selected
+     * {@link JWSAlgorithm} and the given {@link JWSSigner}, useful when the same one is used to sign several tokens.
+     *
+     * @param informationToInclude
+     *    {@link Map} with the information to include in the returned JWS token
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS token
+     * @param keyId
+     *    Identifier of the key used by {@code signer}, included in the header of the JWS token. {@code null} if it has no one
+     * @param signer
+     *    {@link JWSSigner} used to sign the JWS token
+     * @param expirationTimeInSeconds
+     *    How many seconds the JWS toke will be valid
+     *
+     * @return {@link String} with the JWS
+     *
+     * @throws IllegalArgumentException if {@code signatureAlgorithm} or {@code signer} are {@code null}
+     */
+    public String generateToken(final Map<String, Object> informationToInclude,
+                                final JWSAlgorithm signatureAlgorithm,
+                                final String keyId,
+                                final JWSSigner signer,
+                                final long expirationTimeInSeconds) {
+        return generateSignedJWT(
+                informationToInclude,
+                signatureAlgorithm,
+                keyId,
+                signer,
+                expirationTimeInSeconds
+        )
+        .serialize();
+    }
+
+
     /**
      * Get the information included in the given JWS {@code token} that match with the given {@code keysToInclude}.
      *
@@ -96,15 +148,17 @@ public class JwsUtil {
         if (null == keysToInclude) {
             return new HashMap<>();
         }
-        return getAllClaimsFromToken(jwsToken, signatureSecret, true)
-                .entrySet().stream()
-                .filter(e -> keysToInclude.contains(e.getKey()))
-                .collect(
-                        toMap(
-                                Map.Entry::getKey,
-                                Map.Entry::getValue
+        return unmodifiableMap(
+                getAllClaimsFromToken(parse(jwsToken), signatureSecret, null, true)
+                        .entrySet().stream()
+                        .filter(e -> keysToInclude.contains(e.getKey()))
+                        .collect(
+                                toMap(
+                                        Map.Entry::getKey,
+                                        Map.Entry::getValue
+                                )
                         )
-                );
+        );
     }
 
 
@@ -130,15 +184,63 @@ public class JwsUtil {
         if (null == keysToExclude) {
             return new HashMap<>();
         }
-        return getAllClaimsFromToken(jwsToken, signatureSecret, true)
-                .entrySet().stream()
-                .filter(e -> !keysToExclude.contains(e.getKey()))
-                .collect(
-                        toMap(
-                                Map.Entry::getKey,
-                                Map.Entry::getValue
-                        )
-                );
+        return excludeKeys(
+                getAllClaimsFromToken(parse(jwsToken), signatureSecret, null, true),
+                keysToExclude
+        );
+    }
+
+
+    /**
+     *    Get the information included in the given JWS {@code token} except the given {@code keysToExclude}, verifying it
+     * with the given {@link JWSVerifier}.
+     *
+     * @param jwsToken
+     *    JWS token to extract the required information
+     * @param verifier
+     *    {@link JWSVerifier} used to verify the signature of the JWS token
+     * @param keysToExclude
+     *    {@link Set} of {@link String} with the {@code key}s to exclude from JWS token
+     *
+     * @return {@link Map} of {@link String} - {@link Object} with the remaining information
+     *
+     * @throws IllegalArgumentException if {@code token} is {@code null} or empty or {@code verifier} is {@code null}
+     * @throws TokenInvalidException if {@code jwsToken} is not a JWS one or its signature does not match with {@code verifier}
+     * @throws TokenExpiredException if {@code jwsToken} has expired
+     */
+    public Map<String, Object> getPayloadExceptGivenKeys(final String jwsToken,
+                                                         final JWSVerifier verifier,
+                                                         final Set<String> keysToExclude) {
+        if (null == keysToExclude) {
+            return new HashMap<>();
+        }
+        Assert.notNull(verifier, "verifier cannot be null");
+        return excludeKeys(
+                getAllClaimsFromToken(parse(jwsToken), null, verifier, true),
+                keysToExclude
+        );
+    }
+
+
+    /**
+     *    Get the information included in the given, and already parsed, {@link SignedJWT} except the given {@code keysToExclude},
+     * verifying it with the given {@link JWSVerifier}. Used to avoid serializing and parsing again the JWS tokens nested
+     * in JWE ones.
+     *
+     * @see JwsUtil#getPayloadExceptGivenKeys(String, JWSVerifier, Set)
+     */
+    Map<String, Object> getPayloadExceptGivenKeys(final SignedJWT signedJWT,
+                                                  final JWSVerifier verifier,
+                                                  final Set<String> keysToExclude) {
+        if (null == keysToExclude) {
+            return new HashMap<>();
+        }
+        Assert.notNull(signedJWT, "signedJWT cannot be null");
+        Assert.notNull(verifier, "verifier cannot be null");
+        return excludeKeys(
+                getAllClaimsFromToken(signedJWT, null, verifier, true),
+                keysToExclude
+        );
     }
 
 
@@ -154,7 +256,8 @@ public class JwsUtil {
      */
     public Map<String, Object> getRawPayload(final String jwsToken) {
         return getAllClaimsFromToken(
-                jwsToken,
+                parse(jwsToken),
+                null,
                 null,
                 false
         );
@@ -189,6 +292,274 @@ public class JwsUtil {
     }
 
 
+    /**
+     * Return the suitable {@link JWSSigner} taking into account the {@link JWSAlgorithm} used to sing the JWS tokens.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS tokens
+     * @param signatureSecret
+     *    {@link String} used to sign the JWS tokens
+     *
+     * @return {@link JWSSigner}
+     *
+     * @throws IllegalArgumentException if it was not possible to find a suitable {@link JWSSigner} or {@code signatureSecret}
+     *                                  has not enough length for the given {@code signatureAlgorithm}
+     */
+    public JWSSigner getSuitableSigner(final JWSAlgorithm signatureAlgorithm,
+                                       final String signatureSecret) {
+        Assert.hasText(signatureSecret, "signatureSecret cannot be null or empty");
+        if (ALLOWED_JWS_ALGORITHMS.contains(signatureAlgorithm)) {
+            try {
+                return new MACSigner(signatureSecret);
+
+            } catch (KeyLengthException e) {
+                throw new IllegalArgumentException(
+                        format("The given signatureSecret has not enough length for the signature algorithm: %s",
+                                signatureAlgorithm),
+                        e
+                );
+            }
+        }
+        throw new IllegalArgumentException(
+                format("It was not possible to find a suitable signer for the signature algorithm: %s ",
+                        signatureAlgorithm)
+        );
+    }
+
+
+    /**
+     * Return the suitable {@link JWSVerifier} taking into account the {@link JWSAlgorithm} used to sing the JWS tokens.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS tokens
+     * @param signatureSecret
+     *    {@link String} used to sign the JWS tokens
+     *
+     * @return {@link JWSVerifier}
+     *
+     * @throws IllegalArgumentException if it was not possible to find a suitable {@link JWSVerifier} or {@code signatureSecret}
+     *                                  has not enough length
+     */
+    public JWSVerifier getSuitableVerifier(final JWSAlgorithm signatureAlgorithm,
+                                           final String signatureSecret) {
+        Assert.hasText(signatureSecret, "signatureSecret cannot be null or empty");
+        if (ALLOWED_JWS_ALGORITHMS.contains(signatureAlgorithm)) {
+            try {
+                return new MACVerifier(signatureSecret);
+
+            } catch (JOSEException e) {
+                throw new IllegalArgumentException(
+                        format("The given signatureSecret is not valid for the signature algorithm: %s",
+                                signatureAlgorithm),
+                        e
+                );
+            }
+        }
+        throw new IllegalArgumentException(
+                format("It was not possible to find a suitable verifier for the signature algorithm: %s ",
+                        signatureAlgorithm)
+        );
+    }
+
+
+    /**
+     * Return the suitable {@link JWSSigner} taking into account the {@link JWSAlgorithm} used to sing the JWS tokens.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS tokens
+     * @param signingKey
+     *    {@link JWK} with the private key used to sign the JWS tokens
+     *
+     * @return {@link JWSSigner}
+     *
+     * @throws IllegalArgumentException if it was not possible to find a suitable {@link JWSSigner} or {@code signingKey}
+     *                                  is not a valid private key for the given {@code signatureAlgorithm}
+     */
+    public JWSSigner getSuitableSigner(final JWSAlgorithm signatureAlgorithm,
+                                       final JWK signingKey) {
+        Assert.notNull(signingKey, "signingKey cannot be null");
+        if (!isSuitableKey(signatureAlgorithm, signingKey)) {
+            throw new IllegalArgumentException(
+                    format("It was not possible to find a suitable signer for the signature algorithm: %s and the key: %s",
+                            signatureAlgorithm, signingKey.getKeyID())
+            );
+        }
+        try {
+            return signingKey instanceof RSAKey
+                    ? new RSASSASigner((RSAKey) signingKey)
+                    : new ECDSASigner((ECKey) signingKey);
+
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException(
+                    format("The key: %s is not a valid private one for the signature algorithm: %s",
+                            signingKey.getKeyID(), signatureAlgorithm),
+                    e
+            );
+        }
+    }
+
+
+    /**
+     *    Return the suitable {@link JWSVerifier} taking into account the {@link JWSAlgorithm} used to sing the JWS tokens.
+     * Every JWS token is verified with the key of {@code verificationKeys} whose identifier matches with the one included
+     * in its header, so the tokens signed with the previous keys are still valid after a key rotation.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS tokens
+     * @param verificationKeys
+     *    {@link List} of {@link JWK} with the public keys used to verify the JWS tokens
+     *
+     * @return {@link JWSVerifier}
+     *
+     * @throws IllegalArgumentException if {@code verificationKeys} is empty, contains keys without identifier or it was
+     *                                  not possible to find a suitable {@link JWSVerifier} for any of them
+     */
+    public JWSVerifier getSuitableVerifier(final JWSAlgorithm signatureAlgorithm,
+                                           final List<JWK> verificationKeys) {
+        Assert.notEmpty(verificationKeys, "verificationKeys cannot be null or empty");
+        Map<String, JWSVerifier> verifiersByKeyId = new HashMap<>();
+        for (JWK verificationKey: verificationKeys) {
+            Assert.hasText(verificationKey.getKeyID(), "every verification key must have an identifier");
+            if (!isSuitableKey(signatureAlgorithm, verificationKey)) {
+                throw new IllegalArgumentException(
+                        format("It was not possible to find a suitable verifier for the signature algorithm: %s and the key: %s",
+                                signatureAlgorithm, verificationKey.getKeyID())
+                );
+            }
+            try {
+                verifiersByKeyId.put(
+                        verificationKey.getKeyID(),
+                        verificationKey instanceof RSAKey
+                                ? new RSASSAVerifier((RSAKey) verificationKey)
+                                : new ECDSAVerifier((ECKey) verificationKey)
+                );
+            } catch (JOSEException e) {
+                throw new IllegalArgumentException(
+                        format("The key: %s is not a valid public one for the signature algorithm: %s",
+                                verificationKey.getKeyID(), signatureAlgorithm),
+                        e
+                );
+            }
+        }
+        return new KeyIdVerifier(
+                signatureAlgorithm,
+                verifiersByKeyId
+        );
+    }
+
+
+    /**
+     * Check if the given {@link JWK} can be used to sign and verify JWS tokens with the given {@link JWSAlgorithm}.
+     *
+     * @param signatureAlgorithm
+     *    {@link JWSAlgorithm} used to sign the JWS tokens
+     * @param key
+     *    {@link JWK} to check
+     *
+     * @return {@code true} if {@code key} is suitable for {@code signatureAlgorithm}, {@code false} otherwise
+     */
+    public boolean isSuitableKey(final JWSAlgorithm signatureAlgorithm,
+                                 final JWK key) {
+        if (null == key || !ALLOWED_KEY_PAIR_JWS_ALGORITHMS.contains(signatureAlgorithm) ||
+                (null != key.getAlgorithm() && !signatureAlgorithm.equals(key.getAlgorithm()))) {
+            return false;
+        }
+        if (JWSAlgorithm.Family.RSA.contains(signatureAlgorithm)) {
+            return key instanceof RSAKey;
+        }
+        return key instanceof ECKey
+                && Curve.forJWSAlgorithm(signatureAlgorithm).contains(((ECKey) key).getCurve());
+    }
+
+
+    /**
+     *    Using the given {@code informationToInclude} generates a valid {@link SignedJWT} signed with the selected
+     * {@link JWSAlgorithm} and the given {@link JWSSigner}. Used to avoid serializing and parsing again the JWS tokens
+     * nested in JWE ones.
+     *
+     * @see JwsUtil#generateToken(Map, JWSAlgorithm, String, JWSSigner, long)
+     */
+    SignedJWT generateSignedJWT(final Map<String, Object> informationToInclude,
+                                final JWSAlgorithm signatureAlgorithm,
+                                final String keyId,
+                                final JWSSigner signer,
+                                final long expirationTimeInSeconds) {
+        Assert.notNull(signatureAlgorithm, "signatureAlgorithm cannot be null");
+        Assert.notNull(signer, "signer cannot be null");
+        JWTClaimsSet claimsSet = addClaims(
+                informationToInclude,
+                expirationTimeInSeconds
+        );
+        return getSignedJWT(
+                signatureAlgorithm,
+                keyId,
+                signer,
+                claimsSet
+        );
+    }
+
+
+    /**
+     *    Parse the given {@code jwsToken}, splitting it and reading its header only once. The type of the token is only
+     * checked when it could not be parsed, to return the suitable error.
+     *
+     * @param jwsToken
+     *    JWS token to parse
+     *
+     * @return {@link SignedJWT}
+     *
+     * @throws IllegalArgumentException if {@code jwsToken} is {@code null}, empty or its type could not be known
+     * @throws TokenInvalidException if {@code jwsToken} is not a JWS one or it could not be parsed
+     */
+    private SignedJWT parse(final String jwsToken) {
+        Assert.hasText(jwsToken, "jwsToken cannot be null or empty");
+        try {
+            return SignedJWT.parse(jwsToken);
+
+        } catch (ParseException e) {
+            if (!isJwsToken(jwsToken)) {
+                throw new TokenInvalidException(
+                        format("The token: %s is not a JWS one",
+                                jwsToken)
+                );
+            }
+            throw new TokenInvalidException(
+                    format("The was an error getting information included in JWS token: %s",
+                            jwsToken),
+                    e
+            );
+        }
+    }
+
+
+    /**
+     * Return the given {@code claims} except the ones related with {@code keysToExclude}, without copying them if none is excluded.
+     *
+     * @param claims
+     *    Read-only {@link Map} with the claims of a JWS token
+     * @param keysToExclude
+     *    {@link Set} of {@link String} with the {@code key}s to exclude
+     *
+     * @return read-only {@link Map} of {@link String} - {@link Object}
+     */
+    private static Map<String, Object> excludeKeys(final Map<String, Object> claims,
+                                                   final Set<String> keysToExclude) {
+        if (keysToExclude.isEmpty()) {
+            return claims;
+        }
+        return unmodifiableMap(
+                claims.entrySet().stream()
+                        .filter(e -> !keysToExclude.contains(e.getKey()))
+                        .collect(
+                                toMap(
+                                        Map.Entry::getKey,
+                                        Map.Entry::getValue
+                                )
+                        )
+        );
+    }
+
+
     /**
      * Generate the information to include in the JWT token.
      *
@@ -218,8 +589,10 @@ public class JwsUtil {
      *
      * @param signatureAlgorithm
      *    {@link JWSAlgorithm} used to sign the JWS token
-     * @param signatureSecret
-     *    {@link String} used to sign the JWS token
+     * @param keyId
+     *    Identifier of the key used by {@code signer}, only included in the header if it is not {@code null}
+     * @param signer
+     *    {@link JWSSigner} used to sign the JWS token
      * @param claimsSet
      *    {@link JWTClaimsSet} with the information to include
      *
@@ -228,19 +601,17 @@ public class JwsUtil {
      * @throws IllegalArgumentException it there was a problem creating the JWS token
      */
     private SignedJWT getSignedJWT(final JWSAlgorithm signatureAlgorithm,
-                                   final String signatureSecret,
+                                   final String keyId,
+                                   final JWSSigner signer,
                                    final JWTClaimsSet claimsSet) {
         try {
             SignedJWT signedJWT = new SignedJWT(
-                    new JWSHeader(signatureAlgorithm),
+                    new JWSHeader.Builder(signatureAlgorithm)
+                            .keyID(keyId)
+                            .build(),
                     claimsSet
             );
-            signedJWT.sign(
-                    getSuitableSigner(
-                            signatureAlgorithm,
-                            signatureSecret
-                    )
-            );
+            signedJWT.sign(signer);
             return signedJWT;
         } catch (JOSEException e) {
             throw new IllegalArgumentException(
@@ -251,111 +622,100 @@ public class JwsUtil {
     }
 
     /**
-     * Extract from the given token all the information included in the payload.
+     * Extract from the given token all the information included in the payload, parsing it only once.
      *
-     * @param jwsToken
-     *    JWS token to extract the required information
+     * @param signedJWT
+     *    {@link SignedJWT} with the JWS token to extract the required information
      * @param signatureSecret
-     *    {@link String} used to sign the JWS token
+     *    {@link String} used to sign the JWS token, only used if {@code verifier} is {@code null}
+     * @param verifier
+     *    {@link JWSVerifier} used to verify the JWS token
      * @param verifyToken
      *    If {@code true} the given token will be verified: signature and expiration time, {@code false} otherwise
      *
-     * @return {@link Map} of {@link String}-{@link Object}
+     * @return read-only {@link Map} of {@link String}-{@link Object}
      *
-     * @throws IllegalArgumentException if {@code jwsToken} is {@code null} or empty.
-     *                                  when {@code verifyToken} is {@code true} => if {@code signatureSecret} are {@code null} or empty
-     * @throws TokenInvalidException when {@code verifyToken} is {@code true} => if {@code token} is not a JWS one or
-     *                               was not signed using {@code signatureSecret}
+     * @throws IllegalArgumentException when {@code verifyToken} is {@code true} => if {@code signatureSecret} and {@code verifier}
+     *                                  are {@code null} or empty
+     * @throws TokenInvalidException when {@code verifyToken} is {@code true} => if {@code token} was not signed using
+     *                               {@code signatureSecret}
      * @throws TokenExpiredException when {@code verifyToken} is {@code true} => if {@code token} has expired
      */
-    private Map<String, Object> getAllClaimsFromToken(final String jwsToken,
+    private Map<String, Object> getAllClaimsFromToken(final SignedJWT signedJWT,
                                                       final String signatureSecret,
+                                                      final JWSVerifier verifier,
                                                       final boolean verifyToken) {
-        Assert.hasText(jwsToken, "jwsToken cannot be null or empty");
-        if (!isJwsToken(jwsToken)) {
-            throw new TokenInvalidException(
-                    format("The token: %s is not a JWS one",
-                            jwsToken)
-            );
-        }
         try {
-            SignedJWT signedJWT = SignedJWT.parse(jwsToken);
             if (verifyToken) {
-                Assert.hasText(signatureSecret, "signatureSecret cannot be null or empty");
-                JWSVerifier verifier = getSuitableVerifier(
-                        signedJWT,
-                        signatureSecret
-                );
-                if (!signedJWT.verify(verifier)) {
+                JWSVerifier suitableVerifier = null == verifier
+                        ? getSuitableVerifier(
+                                signedJWT.getHeader().getAlgorithm(),
+                                signatureSecret
+                          )
+                        : verifier;
+                if (!signedJWT.verify(suitableVerifier)) {
                     throw new TokenInvalidException(
                             format("The JWS token: %s does not match the provided signatureSecret",
-                                    jwsToken)
+                                    signedJWT.getParsedString())
                     );
                 }
-                Date expirationTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+            }
+            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+            if (verifyToken) {
+                Date expirationTime = claimsSet.getExpirationTime();
                 if (null == expirationTime || expirationTime.before(new Date()))
                     throw new TokenExpiredException(
                             format("The JWT token: %s has expired at %s",
-                                    jwsToken, expirationTime)
+                                    signedJWT.getParsedString(), expirationTime)
                     );
             }
-            return signedJWT.getJWTClaimsSet().getClaims();
+            return claimsSet.getClaims();
 
         } catch (JOSEException | ParseException e) {
             throw new TokenInvalidException(
                     format("The was an error getting information included in JWS token: %s",
-                            jwsToken),
+                            signedJWT.getParsedString()),
                     e
             );
         }
     }
 
+
     /**
-     * Return the suitable {@link JWSSigner} taking into account the {@link JWSAlgorithm} used to sing the given JWS token.
-     *
-     * @param signatureAlgorithm
-     *    {@link JWSAlgorithm} used to sign the JWS token
-     * @param signatureSecret
-     *    {@link String} used to sign the JWS token
-     *
-     * @return {@link JWSSigner}
-     *
-     * @throws KeyLengthException if {@code signatureSecret} has not enough length for the given {@code signatureAlgorithm}
+     * {@link JWSVerifier} that uses the one related with the key identifier included in the header of every JWS token.
      */
-    private JWSSigner getSuitableSigner(final JWSAlgorithm signatureAlgorithm,
-                                        final String signatureSecret) throws KeyLengthException {
-        if (ALLOWED_JWS_ALGORITHMS.contains(signatureAlgorithm)) {
-            return new MACSigner(signatureSecret);
+    @AllArgsConstructor
+    private static class KeyIdVerifier implements JWSVerifier {
+
+        private final JWSAlgorithm signatureAlgorithm;
+
+        private final Map<String, JWSVerifier> verifiersByKeyId;
+
+        private final JCAContext jcaContext = new JCAContext();
+
+
+        @Override
+        public boolean verify(final JWSHeader header,
+                              final byte[] signingInput,
+                              final Base64URL signature) throws JOSEException {
+            JWSVerifier verifier = verifiersByKeyId.get(
+                    header.getKeyID()
+            );
+            // The algorithm is checked to reject the tokens whose header was modified to use another one
+            return signatureAlgorithm.equals(header.getAlgorithm())
+                    && null != verifier
+                    && verifier.verify(header, signingInput, signature);
         }
-        throw new IllegalArgumentException(
-                format("It was not possible to find a suitable signer for the signature algorithm: %s ",
-                        signatureAlgorithm)
-        );
-    }
 
+        @Override
+        public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+            return Set.of(signatureAlgorithm);
+        }
 
-    /**
-     * Return the suitable {@link JWSVerifier} taking into account the {@link JWSAlgorithm} used to sing the given JWS token.
-     *
-     * @param signedJWT
-     *    {@link SignedJWT} with JWS token
-     * @param signatureSecret
-     *    {@link String} used to sign the JWS token
-     *
-     * @return {@link JWSVerifier}
-     *
-     * @throws IllegalArgumentException if it was not possible to find a suitable {@link JWSVerifier}
-     */
-    private JWSVerifier getSuitableVerifier(final SignedJWT signedJWT,
-                                            final String signatureSecret) throws JOSEException {
-        JWSAlgorithm signatureAlgorithm = signedJWT.getHeader().getAlgorithm();
-        if (ALLOWED_JWS_ALGORITHMS.contains(signatureAlgorithm)) {
-            return new MACVerifier(signatureSecret);
+        @Override
+        public JCAContext getJCAContext() {
+            return jcaContext;
         }
-        throw new IllegalArgumentException(
-                format("It was not possible to find a suitable verifier for the signature algorithm: %s ",
-                        signatureAlgorithm)
-        );
     }
 
 }
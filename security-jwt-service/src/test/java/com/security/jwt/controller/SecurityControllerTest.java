@@ -3,6 +3,8 @@ package com.security.jwt.controller;
 import com.security.jwt.SecurityJwtServiceApplication;
 import com.security.jwt.configuration.rest.RestRoutes;
 import com.security.jwt.dto.AuthenticationRequestDto;
+import com.security.jwt.dto.TokenAuthorizationInformationDto;
+import com.security.jwt.service.JwkService;
 import com.security.jwt.service.SecurityService;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
 import com.spring5microservices.common.dto.ErrorResponseDto;
@@ -16,14 +18,18 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -31,6 +37,8 @@ import java.util.stream.Stream;
 import static com.security.jwt.TestDataFactory.buildAuthenticationRequest;
 import static com.security.jwt.TestDataFactory.buildDefaultAuthenticationInformation;
 import static com.security.jwt.TestDataFactory.buildUsernameAuthorities;
+import static com.spring5microservices.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
+import static com.spring5microservices.common.enums.RestApiErrorCode.SECURITY;
 import static com.spring5microservices.common.enums.RestApiErrorCode.VALIDATION;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -46,6 +54,9 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 @SpringBootTest(classes = SecurityJwtServiceApplication.class)
 public class SecurityControllerTest extends BaseControllerTest {
 
+    @MockBean
+    private JwkService mockJwkService;
+
     @MockBean
     private SecurityService mockSecurityService;
 
@@ -277,4 +288,80 @@ public class SecurityControllerTest extends BaseControllerTest {
         verify(mockSecurityService, times(1)).getAuthorizationInformation(accessToken, clientId);
     }
 
+
+    @Test
+    @SneakyThrows
+    @DisplayName("authorizationInformationBatch: when no basic authentication is provided then unauthorized code is returned")
+    public void authorizationInformationBatch_whenNoBasicAuthIsProvided_thenUnauthorizedHttpCodeIsReturned() {
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .bodyValue(List.of("ItDoesNotCare"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(mockSecurityService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("authorizationInformationBatch: when given parameters do not verify validations then bad request error is returned")
+    @WithMockUser
+    public void authorizationInformationBatch_whenGivenParametersDoNotVerifyValidations_thenBadRequestHttpCodeIsReturned() {
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(mockSecurityService);
+    }
+
+
+    @Test
+    @DisplayName("authorizationInformationBatch: when given access tokens verify the validations then the result of every one is returned")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void authorizationInformationBatch_whenParametersVerifyValidations_thenTheResultOfEveryOneIsReturned() {
+        String clientId = "ItDoesNotCare";
+        List<String> accessTokens = List.of("accessToken", "expiredAccessToken");
+        List<TokenAuthorizationInformationDto> authorizationInformation = List.of(
+                new TokenAuthorizationInformationDto(OK.value(), buildUsernameAuthorities("username", Set.of("admin"), new HashMap<>()), null),
+                new TokenAuthorizationInformationDto(TOKEN_EXPIRED.value(), null,
+                        new ErrorResponseDto(SECURITY, List.of("The given authorization token has expired")))
+        );
+
+        when(mockSecurityService.getAuthorizationInformation(accessTokens, clientId)).thenReturn(Flux.fromIterable(authorizationInformation));
+
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .bodyValue(accessTokens)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TokenAuthorizationInformationDto.class)
+                .isEqualTo(authorizationInformation);
+
+        verify(mockSecurityService, times(1)).getAuthorizationInformation(accessTokens, clientId);
+    }
+
+
+    @Test
+    @DisplayName("jwks: when no basic authentication is provided then the public keys are returned and can be cached")
+    public void jwks_whenNoBasicAuthIsProvided_thenThePublicKeysAreReturnedAndCanBeCached() {
+        Map<String, Object> publicJwkSet = Map.of(
+                "keys", List.of(Map.of("kty", "EC", "kid", "keyId"))
+        );
+
+        when(mockJwkService.getPublicJwkSet()).thenReturn(publicJwkSet);
+
+        webTestClient.get()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.JWKS)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofSeconds(300)).cachePublic())
+                .expectBody()
+                .jsonPath("$.keys[0].kid").isEqualTo("keyId");
+
+        verify(mockJwkService, times(1)).getPublicJwkSet();
+    }
+
 }
@@ -0,0 +1,71 @@
+package com.security.jwt.enums;
+
+import com.security.jwt.exception.ClientNotFoundException;
+import com.security.jwt.exception.TokenInvalidException;
+import com.spring5microservices.common.exception.TokenExpiredException;
+import com.spring5microservices.common.exception.UnauthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.security.jwt.enums.SecurityErrorEnum.ACCOUNT_STATUS;
+import static com.security.jwt.enums.SecurityErrorEnum.CLIENT_NOT_FOUND;
+import static com.security.jwt.enums.SecurityErrorEnum.INTERNAL;
+import static com.security.jwt.enums.SecurityErrorEnum.TOKEN_EXPIRED;
+import static com.security.jwt.enums.SecurityErrorEnum.TOKEN_INVALID;
+import static com.security.jwt.enums.SecurityErrorEnum.UNAUTHORIZED;
+import static com.security.jwt.enums.SecurityErrorEnum.USERNAME_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SecurityErrorEnumTest {
+
+    static Stream<Arguments> getByExceptionTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            exception,                                    expectedResult
+                Arguments.of( null,                                         INTERNAL ),
+                Arguments.of( new IllegalStateException(),                  INTERNAL ),
+                Arguments.of( new DisabledException("disabled"),            ACCOUNT_STATUS ),
+                Arguments.of( new ClientNotFoundException("client"),        CLIENT_NOT_FOUND ),
+                Arguments.of( new TokenExpiredException("expired"),         TOKEN_EXPIRED ),
+                Arguments.of( new TokenInvalidException("invalid"),         TOKEN_INVALID ),
+                Arguments.of( new UnauthorizedException("unauthorized"),    UNAUTHORIZED ),
+                Arguments.of( new UsernameNotFoundException("username"),    USERNAME_NOT_FOUND )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getByExceptionTestCases")
+    @DisplayName("getByException: test cases")
+    public void getByException_testCases(Throwable exception, SecurityErrorEnum expectedResult) {
+        assertEquals(expectedResult, SecurityErrorEnum.getByException(exception));
+    }
+
+
+    @Test
+    @DisplayName("getErrorMessages: when the message depends on the exception then the one of the exception is returned")
+    public void getErrorMessages_whenTheMessageDependsOnTheException_thenTheOneOfTheExceptionIsReturned() {
+        assertEquals(List.of("Wrong password"), UNAUTHORIZED.getErrorMessages(new UnauthorizedException("Wrong password")));
+        assertEquals(List.of("The provided token is invalid"), TOKEN_INVALID.getErrorMessages(new TokenInvalidException("Detailed cause")));
+    }
+
+
+    @Test
+    @DisplayName("isExpected: when it is invoked then only internal errors are not expected")
+    public void isExpected_whenItIsInvoked_thenOnlyInternalErrorsAreNotExpected() {
+        assertFalse(INTERNAL.isExpected());
+        Stream.of(SecurityErrorEnum.values())
+                .filter(e -> INTERNAL != e)
+                .forEach(e -> assertTrue(e.isExpected()));
+    }
+
+}
@@ -1,12 +1,17 @@
 package com.security.jwt.service;
 
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
 import com.security.jwt.TestDataFactory;
-import com.security.jwt.configuration.security.JweConfiguration;
 import com.security.jwt.dto.RawAuthenticationInformationDto;
 import com.security.jwt.exception.ClientNotFoundException;
 import com.security.jwt.model.JwtClientDetails;
 import com.security.jwt.application.spring5microservices.service.AuthenticationGenerator;
+import com.security.jwt.service.cache.ClientCryptoCacheService;
+import com.security.jwt.service.cache.ClientCryptoCacheService.ClientCrypto;
 import com.security.jwt.util.JweUtil;
 import com.security.jwt.util.JwsUtil;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
@@ -20,7 +25,6 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.HashMap;
@@ -48,11 +52,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -66,7 +71,7 @@ public class AuthenticationServiceTest {
     private JwtClientDetailsService mockJwtClientDetailsService;
 
     @Mock
-    private JweConfiguration mockJweConfiguration;
+    private ClientCryptoCacheService mockClientCryptoCacheService;
 
     @Mock
     private JweUtil mockJweUtil;
@@ -75,15 +80,28 @@ public class AuthenticationServiceTest {
     private JwsUtil mockJwsUtil;
 
     @Mock
-    private TextEncryptor mockEncryptor;
+    private JWSSigner mockSigner;
+
+    @Mock
+    private JWSVerifier mockVerifier;
+
+    @Mock
+    private JWEEncrypter mockEncrypter;
+
+    @Mock
+    private JWEDecrypter mockDecrypter;
 
     private AuthenticationService authenticationService;
 
     @BeforeEach
     public void init() {
-        authenticationService = new AuthenticationService(mockApplicationContext, mockJwtClientDetailsService, mockJweConfiguration,
-                mockJweUtil, mockJwsUtil, mockEncryptor);
-        when(mockJweConfiguration.getEncryptionSecret()).thenReturn("EncryptionSecret");
+        authenticationService = new AuthenticationService(mockApplicationContext, mockJwtClientDetailsService, mockClientCryptoCacheService,
+                mockJweUtil, mockJwsUtil);
+        when(mockClientCryptoCacheService.get(any(JwtClientDetails.class))).thenAnswer(invocation -> {
+            JwtClientDetails clientDetails = invocation.getArgument(0);
+            return new ClientCrypto(clientDetails.getSignatureSecret(), clientDetails.getSignatureAlgorithm(), clientDetails.isUseJwe(),
+                    null, mockSigner, mockVerifier, mockEncrypter, mockDecrypter);
+        });
     }
 
 
@@ -113,18 +131,15 @@ public class AuthenticationServiceTest {
                                                        JwtClientDetails clientDetailsResult,
                                                        Optional<RawAuthenticationInformationDto> rawAuthenticationInformation,
                                                        boolean isResultEmpty) {
-        String decryptedJwtSecret = "secretKey_ForTestingPurpose@12345#";
-
         when(mockApplicationContext.getBean(AuthenticationGenerator.class)).thenReturn(authenticationGenerator);
         when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(clientDetailsResult);
-        when(mockEncryptor.decrypt(anyString())).thenReturn(decryptedJwtSecret);
         if (null != authenticationGenerator) {
             when(authenticationGenerator.getRawAuthenticationInformation(userDetails)).thenReturn(rawAuthenticationInformation);
         }
         if (null != clientDetailsResult) {
             JWSAlgorithm algorithm = clientDetailsResult.getSignatureAlgorithm().getAlgorithm();
-            when(mockJweUtil.generateToken(anyMap(), eq(algorithm), anyString(), anyString(), anyInt())).thenReturn("JWE token");
-            when(mockJwsUtil.generateToken(anyMap(), eq(algorithm), anyString(), anyInt())).thenReturn("JWS token");
+            when(mockJweUtil.generateToken(anyMap(), eq(algorithm), isNull(), eq(mockSigner), eq(mockEncrypter), anyInt())).thenReturn("JWE token");
+            when(mockJwsUtil.generateToken(anyMap(), eq(algorithm), isNull(), eq(mockSigner), anyInt())).thenReturn("JWS token");
         }
         Optional<AuthenticationInformationDto> result = authenticationService.getAuthenticationInformation(clientId, userDetails);
         verifyGetAuthenticationInformationResult(clientDetailsResult, rawAuthenticationInformation, result, isResultEmpty);
@@ -159,15 +174,23 @@ public class AuthenticationServiceTest {
         JwtClientDetails clientDetailsJWS = TestDataFactory.buildDefaultJwtClientDetails(clientId);
         clientDetailsJWS.setUseJwe(false);
         Map<String, Object> payloadFromAccessToken = new HashMap<>() {{
+            put(AUDIENCE.getKey(), List.of(clientId));
             put(AUTHORITIES.getKey(), asList("admin"));
             put(JWT_ID.getKey(), "jti value");
             put(USERNAME.getKey(), "name value");
         }};
         Map<String, Object> payloadFromRefreshToken = new HashMap<>() {{
+            put(AUDIENCE.getKey(), List.of(clientId));
             put(AUTHORITIES.getKey(), asList("admin"));
             put(REFRESH_JWT_ID.getKey(), "ati value");
             put(USERNAME.getKey(), "name value");
         }};
+        Map<String, Object> payloadFromAccessTokenOfAnotherClient = new HashMap<>(payloadFromAccessToken) {{
+            put(AUDIENCE.getKey(), List.of("anotherClientId"));
+        }};
+        Map<String, Object> payloadFromRefreshTokenOfAnotherClient = new HashMap<>(payloadFromRefreshToken) {{
+            put(AUDIENCE.getKey(), "anotherClientId");
+        }};
         return Stream.of(
                 //@formatter:off
                 //            token,             clientId,   isAccessToken,   clientDetailsResult,   payload,                   expectedException,               expectedResult
@@ -179,8 +202,8 @@ public class AuthenticationServiceTest {
                 Arguments.of( "ItDoesNotCare",   clientId,   true,            null,                  null,                      ClientNotFoundException.class,   null ),
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWS,      null,                      UnauthorizedException.class,     null ),
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWE,      null,                      UnauthorizedException.class,     null ),
-                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWS,      null,                      null,                            null ),
-                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWE,      null,                      null,                            null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWS,      null,                      UnauthorizedException.class,     null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWE,      null,                      UnauthorizedException.class,     null ),
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWS,      payloadFromAccessToken,    UnauthorizedException.class,     null ),
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWE,      payloadFromAccessToken,    UnauthorizedException.class,     null ),
                 Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWS,      payloadFromAccessToken,    null,                            payloadFromAccessToken ),
@@ -188,7 +211,11 @@ public class AuthenticationServiceTest {
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWS,      payloadFromRefreshToken,   null,                            payloadFromRefreshToken ),
                 Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWE,      payloadFromRefreshToken,   null,                            payloadFromRefreshToken ),
                 Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWS,      payloadFromRefreshToken,   UnauthorizedException.class,     null ),
-                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWE,      payloadFromRefreshToken,   UnauthorizedException.class,     null )
+                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWE,      payloadFromRefreshToken,   UnauthorizedException.class,     null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWS,      payloadFromAccessTokenOfAnotherClient,    UnauthorizedException.class,   null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   true,            clientDetailsJWE,      payloadFromAccessTokenOfAnotherClient,    UnauthorizedException.class,   null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWS,      payloadFromRefreshTokenOfAnotherClient,   UnauthorizedException.class,   null ),
+                Arguments.of( "ItDoesNotCare",   clientId,   false,           clientDetailsJWE,      payloadFromRefreshTokenOfAnotherClient,   UnauthorizedException.class,   null )
         ); //@formatter:on
     }
 
@@ -202,11 +229,8 @@ public class AuthenticationServiceTest {
                                             Map<String, Object> payload,
                                             Class<? extends Exception> expectedException,
                                             Map<String, Object> expectedResult) {
-        String decryptedJwsSecret = "secretKey_ForTestingPurpose@12345#";
-
-        when(mockEncryptor.decrypt(anyString())).thenReturn(decryptedJwsSecret);
-        when(mockJwsUtil.getPayloadExceptGivenKeys(token, decryptedJwsSecret, new HashSet<>())).thenReturn(payload);
-        when(mockJweUtil.getPayloadExceptGivenKeys(eq(token), eq(decryptedJwsSecret), anyString(), anySet())).thenReturn(payload);
+        when(mockJwsUtil.getPayloadExceptGivenKeys(token, mockVerifier, new HashSet<>())).thenReturn(payload);
+        when(mockJweUtil.getPayloadExceptGivenKeys(eq(token), eq(mockVerifier), eq(mockDecrypter), anySet())).thenReturn(payload);
         if (null == clientDetailsResult) {
             when(mockJwtClientDetailsService.findByClientId(clientId)).thenThrow(ClientNotFoundException.class);
         }
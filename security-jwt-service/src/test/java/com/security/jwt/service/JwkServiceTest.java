@@ -0,0 +1,71 @@
+package com.security.jwt.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.security.jwt.util.JwsUtil;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwkServiceTest {
+
+    private ECKey currentKey;
+
+    private ECKey previousKey;
+
+    private JwkService service;
+
+
+    @BeforeEach
+    @SneakyThrows
+    public void init() {
+        currentKey = new ECKeyGenerator(Curve.P_256).keyID("current").generate();
+        previousKey = new ECKeyGenerator(Curve.P_256).keyID("previous").generate();
+        service = new JwkService(new JwsUtil(), new JWKSet(List.of(currentKey, previousKey)));
+    }
+
+
+    @Test
+    @DisplayName("getSigningKey: when there are several suitable keys then the first one is returned")
+    public void getSigningKey_whenThereAreSeveralSuitableKeys_thenTheFirstOneIsReturned() {
+        assertEquals(currentKey, service.getSigningKey(JWSAlgorithm.ES256));
+    }
+
+
+    @Test
+    @DisplayName("getVerificationKeys: when there are several suitable keys then all of them are returned")
+    public void getVerificationKeys_whenThereAreSeveralSuitableKeys_thenAllOfThemAreReturned() {
+        assertEquals(List.of(currentKey, previousKey), service.getVerificationKeys(JWSAlgorithm.ES256));
+    }
+
+
+    @Test
+    @DisplayName("getSigningKey: when there is no suitable key then IllegalArgumentException is thrown")
+    public void getSigningKey_whenThereIsNoSuitableKey_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> service.getSigningKey(JWSAlgorithm.RS256));
+    }
+
+
+    @Test
+    @DisplayName("getPublicJwkSet: when it is invoked then the private part of the keys is not included")
+    @SuppressWarnings("unchecked")
+    public void getPublicJwkSet_whenItIsInvoked_thenThePrivatePartOfTheKeysIsNotIncluded() {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) service.getPublicJwkSet().get("keys");
+
+        assertEquals(2, keys.size());
+        assertEquals("current", keys.get(0).get("kid"));
+        keys.forEach(key -> assertFalse(key.containsKey("d")));
+    }
+
+}
@@ -2,12 +2,20 @@ package com.security.jwt.service;
 
 import com.security.jwt.TestDataFactory;
 import com.security.jwt.application.spring5microservices.service.UserService;
+import com.security.jwt.dto.TokenAuthorizationInformationDto;
 import com.security.jwt.exception.ClientNotFoundException;
+import com.security.jwt.exception.TokenInvalidException;
+import com.security.jwt.model.JwtClientDetails;
+import com.security.jwt.service.cache.VerifiedTokenCacheService;
 import com.spring5microservices.common.dto.AuthenticationInformationDto;
+import com.spring5microservices.common.dto.ErrorResponseDto;
 import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import com.spring5microservices.common.exception.TokenExpiredException;
 import com.spring5microservices.common.exception.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -17,15 +25,20 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.security.jwt.enums.TokenKeyEnum.NAME;
+import static com.spring5microservices.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
+import static com.spring5microservices.common.enums.RestApiErrorCode.SECURITY;
 import static java.util.Arrays.asList;
 import static com.security.jwt.enums.AuthenticationConfigurationEnum.SPRING5_MICROSERVICES;
 import static java.util.Optional.empty;
@@ -36,7 +49,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @ExtendWith(SpringExtension.class)
 public class SecurityServiceTest {
@@ -47,11 +65,15 @@ public class SecurityServiceTest {
     @Mock
     private AuthenticationService mockAuthenticationService;
 
+    @Mock
+    private JwtClientDetailsService mockJwtClientDetailsService;
+
     private SecurityService securityService;
 
     @BeforeEach
     public void init() {
-        securityService = new SecurityService(mockApplicationContext, mockAuthenticationService);
+        securityService = new SecurityService(mockApplicationContext, mockAuthenticationService, mockJwtClientDetailsService,
+                Schedulers.parallel(), new VerifiedTokenCacheService(10, 60, new SimpleMeterRegistry()));
     }
 
 
@@ -209,4 +231,63 @@ public class SecurityServiceTest {
         }
     }
 
+
+    @Test
+    @DisplayName("getAuthorizationInformation: when the same access token is given again then it is not verified again")
+    public void getAuthorizationInformation_whenTheSameAccessTokenIsGivenAgain_thenItIsNotVerifiedAgain() {
+        String clientId = SPRING5_MICROSERVICES.getClientId();
+        Map<String, Object> payload = new HashMap<>();
+        UsernameAuthoritiesDto usernameAuthorities = TestDataFactory.buildUsernameAuthorities("username value", Set.of("admin"), new HashMap<>());
+
+        when(mockAuthenticationService.getPayloadOfToken("valid", clientId, true)).thenReturn(payload);
+        when(mockAuthenticationService.getUsername(payload, clientId)).thenReturn(of(usernameAuthorities.getUsername()));
+        when(mockAuthenticationService.getRoles(payload, clientId)).thenReturn(usernameAuthorities.getAuthorities());
+        when(mockAuthenticationService.getCustomInformationIncludedByClient(payload, clientId)).thenReturn(usernameAuthorities.getAdditionalInfo());
+
+        assertEquals(usernameAuthorities, securityService.getAuthorizationInformation("valid", clientId));
+        assertEquals(usernameAuthorities, securityService.getAuthorizationInformation("valid", clientId));
+
+        verify(mockAuthenticationService, times(1)).getPayloadOfToken("valid", clientId, true);
+    }
+
+
+    @Test
+    @DisplayName("getAuthorizationInformation: when the client does not exist then ClientNotFoundException is returned")
+    public void getAuthorizationInformation_whenTheClientDoesNotExist_thenClientNotFoundExceptionIsReturned() {
+        when(mockJwtClientDetailsService.findByClientId("NotFound")).thenThrow(ClientNotFoundException.class);
+
+        StepVerifier.create(securityService.getAuthorizationInformation(List.of("ItDoesNotCare"), "NotFound"))
+                .verifyError(ClientNotFoundException.class);
+
+        verifyNoInteractions(mockAuthenticationService);
+    }
+
+
+    @Test
+    @DisplayName("getAuthorizationInformation: when several access tokens are given then the result of every one is returned in the same order")
+    public void getAuthorizationInformation_whenSeveralAccessTokensAreGiven_thenTheResultOfEveryOneIsReturnedInTheSameOrder() {
+        String clientId = SPRING5_MICROSERVICES.getClientId();
+        JwtClientDetails clientDetails = TestDataFactory.buildDefaultJwtClientDetails(clientId);
+        Map<String, Object> payload = new HashMap<>();
+        UsernameAuthoritiesDto usernameAuthorities = TestDataFactory.buildUsernameAuthorities("username value", Set.of("admin"), new HashMap<>());
+
+        when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(clientDetails);
+        when(mockAuthenticationService.getPayloadOfToken("valid", clientDetails, true)).thenReturn(payload);
+        when(mockAuthenticationService.getPayloadOfToken("expired", clientDetails, true)).thenThrow(TokenExpiredException.class);
+        when(mockAuthenticationService.getPayloadOfToken("invalid", clientDetails, true)).thenThrow(TokenInvalidException.class);
+        when(mockAuthenticationService.getUsername(payload, clientId)).thenReturn(of(usernameAuthorities.getUsername()));
+        when(mockAuthenticationService.getRoles(payload, clientId)).thenReturn(usernameAuthorities.getAuthorities());
+        when(mockAuthenticationService.getCustomInformationIncludedByClient(payload, clientId)).thenReturn(usernameAuthorities.getAdditionalInfo());
+
+        StepVerifier.create(securityService.getAuthorizationInformation(List.of("valid", "expired", "invalid"), clientId))
+                .expectNext(new TokenAuthorizationInformationDto(OK.value(), usernameAuthorities, null))
+                .expectNext(new TokenAuthorizationInformationDto(TOKEN_EXPIRED.value(), null,
+                        new ErrorResponseDto(SECURITY, List.of("The given authorization token has expired"))))
+                .expectNext(new TokenAuthorizationInformationDto(UNAUTHORIZED.value(), null,
+                        new ErrorResponseDto(SECURITY, List.of("The provided token is invalid"))))
+                .verifyComplete();
+
+        verify(mockJwtClientDetailsService, times(1)).findByClientId(clientId);
+    }
+
 }
@@ -0,0 +1,171 @@
+package com.security.jwt.service.cache;
+
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.security.jwt.configuration.Constants;
+import com.security.jwt.configuration.security.JweConfiguration;
+import com.security.jwt.enums.SignatureAlgorithmEnum;
+import com.security.jwt.model.JwtClientDetails;
+import com.security.jwt.service.JwkService;
+import com.security.jwt.service.cache.ClientCryptoCacheService.ClientCrypto;
+import com.security.jwt.util.JweUtil;
+import com.security.jwt.util.JwsUtil;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.crypto.encrypt.TextEncryptor;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import static com.security.jwt.TestDataFactory.buildDefaultJwtClientDetails;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ClientCryptoCacheServiceTest {
+
+    private static final String CLIENT_ID = "clientId";
+    private static final String DECRYPTED_SIGNATURE_SECRET = "secretKey_ForTestingPurpose@12345#";
+
+    private static JWKSet signingJwkSet;
+
+    @Mock
+    private JweConfiguration mockJweConfiguration;
+
+    @Mock
+    private TextEncryptor mockEncryptor;
+
+    private JweUtil jweUtil;
+
+    private JwsUtil jwsUtil;
+
+    private ClientCryptoCacheService service;
+
+
+    @BeforeAll
+    @SneakyThrows
+    public static void initSigningKeys() {
+        signingJwkSet = new JWKSet(
+                new ECKeyGenerator(Curve.P_256).keyID("signingKey").generate()
+        );
+    }
+
+
+    @BeforeEach
+    public void init() {
+        jwsUtil = new JwsUtil();
+        jweUtil = new JweUtil(jwsUtil);
+        JwkService jwkService = new JwkService(jwsUtil, signingJwkSet);
+        service = new ClientCryptoCacheService(mockJweConfiguration, jweUtil, jwkService, jwsUtil, mockEncryptor);
+        when(mockJweConfiguration.getEncryptionSecret()).thenReturn("11111111111111111111111111111111");
+        when(mockEncryptor.decrypt(anyString())).thenReturn(DECRYPTED_SIGNATURE_SECRET);
+    }
+
+
+    @Test
+    @DisplayName("get: when null client details is given then IllegalArgumentException is thrown")
+    public void get_whenNullClientDetailsIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> service.get(null));
+    }
+
+
+    @Test
+    @DisplayName("get: when the same client details is given again then the signature secret is decrypted only once")
+    public void get_whenTheSameClientDetailsIsGivenAgain_thenTheSignatureSecretIsDecryptedOnlyOnce() {
+        JwtClientDetails clientDetails = buildDefaultJwtClientDetails(CLIENT_ID);
+
+        ClientCrypto clientCrypto = service.get(clientDetails);
+
+        assertSame(clientCrypto, service.get(clientDetails));
+        assertNotNull(clientCrypto.getSigner());
+        assertNotNull(clientCrypto.getVerifier());
+        assertNull(clientCrypto.getKeyId());
+        assertNull(clientCrypto.getEncrypter());
+        assertNull(clientCrypto.getDecrypter());
+        verify(mockEncryptor, times(1)).decrypt("secretKey_ForTestingPurpose@12345#");
+    }
+
+
+    @Test
+    @DisplayName("get: when the signature configuration of the client changes then a new one is built")
+    public void get_whenTheSignatureConfigurationOfTheClientChanges_thenANewOneIsBuilt() {
+        JwtClientDetails clientDetails = buildDefaultJwtClientDetails(CLIENT_ID);
+        ClientCrypto clientCrypto = service.get(clientDetails);
+
+        clientDetails.setSignatureAlgorithm(SignatureAlgorithmEnum.HS384);
+        clientDetails.setUseJwe(true);
+        ClientCrypto updatedClientCrypto = service.get(clientDetails);
+
+        assertNotSame(clientCrypto, updatedClientCrypto);
+        assertEquals(SignatureAlgorithmEnum.HS384, updatedClientCrypto.getSignatureAlgorithm());
+        assertNotNull(updatedClientCrypto.getEncrypter());
+        assertNotNull(updatedClientCrypto.getDecrypter());
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then a new one is built")
+    public void clear_whenItIsInvoked_thenANewOneIsBuilt() {
+        JwtClientDetails clientDetails = buildDefaultJwtClientDetails(CLIENT_ID);
+        ClientCrypto clientCrypto = service.get(clientDetails);
+
+        service.clear();
+
+        assertNotSame(clientCrypto, service.get(clientDetails));
+        verify(mockEncryptor, times(2)).decrypt(anyString());
+    }
+
+
+    @Test
+    @DisplayName("get: when the built objects are used then the generated tokens can be verified")
+    public void get_whenTheBuiltObjectsAreUsed_thenTheGeneratedTokensCanBeVerified() {
+        JwtClientDetails clientDetails = buildDefaultJwtClientDetails(CLIENT_ID);
+        clientDetails.setSignatureSecret(Constants.CIPHER_SECRET_PREFIX + "ItDoesNotCare");
+        clientDetails.setUseJwe(true);
+        Map<String, Object> informationToInclude = Map.of("username", "username value");
+
+        ClientCrypto clientCrypto = service.get(clientDetails);
+        String jweToken = jweUtil.generateToken(informationToInclude, clientDetails.getSignatureAlgorithm().getAlgorithm(),
+                clientCrypto.getKeyId(), clientCrypto.getSigner(), clientCrypto.getEncrypter(), 90);
+        Map<String, Object> payload = jweUtil.getPayloadExceptGivenKeys(jweToken, clientCrypto.getVerifier(), clientCrypto.getDecrypter(),
+                new HashSet<>());
+
+        assertEquals("username value", payload.get("username"));
+        verify(mockEncryptor, times(1)).decrypt("ItDoesNotCare");
+    }
+
+
+    @Test
+    @DisplayName("get: when the client uses an asymmetric signature algorithm then the signing key is used instead of the signature secret")
+    public void get_whenTheClientUsesAnAsymmetricSignatureAlgorithm_thenTheSigningKeyIsUsedInsteadOfTheSignatureSecret() {
+        JwtClientDetails clientDetails = buildDefaultJwtClientDetails(CLIENT_ID);
+        clientDetails.setSignatureAlgorithm(SignatureAlgorithmEnum.ES256);
+        Map<String, Object> informationToInclude = Map.of("username", "username value");
+
+        ClientCrypto clientCrypto = service.get(clientDetails);
+        String jwsToken = jwsUtil.generateToken(informationToInclude, clientDetails.getSignatureAlgorithm().getAlgorithm(),
+                clientCrypto.getKeyId(), clientCrypto.getSigner(), 90);
+        Map<String, Object> payload = jwsUtil.getPayloadExceptGivenKeys(jwsToken, clientCrypto.getVerifier(), new HashSet<>());
+
+        assertEquals("signingKey", clientCrypto.getKeyId());
+        assertEquals("username value", payload.get("username"));
+        verify(mockEncryptor, never()).decrypt(anyString());
+    }
+
+}
@@ -21,6 +21,8 @@ import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = JwtClientDetailsCacheService.class)
@@ -32,6 +34,12 @@ public class JwtClientDetailsCacheServiceTest {
     @MockBean
     private CacheService mockCacheService;
 
+    @MockBean
+    private ClientCryptoCacheService mockClientCryptoCacheService;
+
+    @MockBean
+    private VerifiedTokenCacheService mockVerifiedTokenCacheService;
+
     @Autowired
     private JwtClientDetailsCacheService jwtClientDetailsCacheService;
 
@@ -60,6 +68,8 @@ public class JwtClientDetailsCacheServiceTest {
 
         // Then
         assertEquals(expectedResult, operationResult);
+        verify(mockClientCryptoCacheService, times(1)).clear();
+        verify(mockVerifiedTokenCacheService, times(1)).clear();
     }
 
 
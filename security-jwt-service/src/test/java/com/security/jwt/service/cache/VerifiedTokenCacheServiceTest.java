@@ -0,0 +1,166 @@
+package com.security.jwt.service.cache;
+
+import com.security.jwt.TestDataFactory;
+import com.security.jwt.service.cache.VerifiedTokenCacheService.VerifiedToken;
+import com.spring5microservices.common.dto.UsernameAuthoritiesDto;
+import com.spring5microservices.common.exception.TokenExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.security.jwt.enums.TokenKeyEnum.EXPIRATION_TIME;
+import static com.security.jwt.enums.TokenKeyEnum.JWT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VerifiedTokenCacheServiceTest {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String CLIENT_ID = "clientId";
+    private static final String JWT_ID_VALUE = "jwtId";
+
+    private VerifiedTokenCacheService service;
+
+    private UsernameAuthoritiesDto usernameAuthorities;
+
+
+    @BeforeEach
+    public void init() {
+        service = new VerifiedTokenCacheService(10, 60, new SimpleMeterRegistry());
+        usernameAuthorities = TestDataFactory.buildUsernameAuthorities("username value", Set.of("admin"), new HashMap<>());
+    }
+
+
+    @Test
+    @DisplayName("get: when null loader is given then IllegalArgumentException is thrown")
+    public void get_whenNullLoaderIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> service.get(ACCESS_TOKEN, CLIENT_ID, null));
+    }
+
+
+    @Test
+    @DisplayName("get: when null access token is given then the loader is always invoked")
+    public void get_whenNullAccessTokenIsGiven_thenTheLoaderIsAlwaysInvoked() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(usernameAuthorities, service.get(null, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30))));
+        }
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the access token was verified then the loader is not invoked again")
+    public void get_whenTheAccessTokenWasVerified_thenTheLoaderIsNotInvokedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(usernameAuthorities, service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30))));
+        }
+        assertEquals(1, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the same access token is given with another client then the loader is invoked again")
+    public void get_whenTheSameAccessTokenIsGivenWithAnotherClient_thenTheLoaderIsInvokedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30)));
+        service.get(ACCESS_TOKEN, "anotherClientId", () -> load(loads, Instant.now().plusSeconds(30)));
+
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the access token is not valid then it is not cached")
+    public void get_whenTheAccessTokenIsNotValid_thenItIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(TokenExpiredException.class, () ->
+                    service.get(ACCESS_TOKEN, CLIENT_ID, () -> {
+                        loads.incrementAndGet();
+                        throw new TokenExpiredException("Expired");
+                    })
+            );
+        }
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the access token has already expired then it is not cached")
+    public void get_whenTheAccessTokenHasAlreadyExpired_thenItIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(usernameAuthorities, service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().minusSeconds(10))));
+        }
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("invalidateByJwtId: when the access token is revoked then the loader is invoked again")
+    public void invalidateByJwtId_whenTheAccessTokenIsRevoked_thenTheLoaderIsInvokedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30)));
+
+        assertFalse(service.invalidateByJwtId(null));
+        assertFalse(service.invalidateByJwtId("notCached"));
+        assertTrue(service.invalidateByJwtId(JWT_ID_VALUE));
+
+        service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30)));
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then the loader is invoked again")
+    public void clear_whenItIsInvoked_thenTheLoaderIsInvokedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30)));
+
+        service.clear();
+
+        service.get(ACCESS_TOKEN, CLIENT_ID, () -> load(loads, Instant.now().plusSeconds(30)));
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    @DisplayName("VerifiedToken.of: when the payload does not contain the expiration time nor jwt id then null is used")
+    public void verifiedTokenOf_whenThePayloadDoesNotContainTheExpirationTimeNorJwtId_thenNullIsUsed() {
+        VerifiedToken verifiedToken = VerifiedToken.of(new HashMap<>(), usernameAuthorities);
+
+        assertEquals(usernameAuthorities, verifiedToken.getUsernameAuthorities());
+        assertNull(verifiedToken.getExpirationTime());
+        assertNull(verifiedToken.getJwtId());
+    }
+
+
+    private VerifiedToken load(AtomicInteger loads,
+                               Instant expirationTime) {
+        loads.incrementAndGet();
+        Map<String, Object> payload = Map.of(
+                EXPIRATION_TIME.getKey(), Date.from(expirationTime),
+                JWT_ID.getKey(), JWT_ID_VALUE
+        );
+        return VerifiedToken.of(payload, usernameAuthorities);
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.security.jwt.util;
 
 import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
 import com.security.jwt.exception.TokenInvalidException;
 import com.spring5microservices.common.exception.TokenExpiredException;
+import lombok.SneakyThrows;
 import net.minidev.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -15,6 +24,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -255,4 +265,64 @@ public class JwsUtilTest {
         }
     }
 
+
+    @Test
+    @DisplayName("getPayloadExceptGivenKeys: when no key is excluded then a read-only view of the claims is returned")
+    public void getPayloadExceptGivenKeys_whenNoKeyIsExcluded_thenAReadOnlyViewOfTheClaimsIsReturned() {
+        String signatureSecret = "secretKey_ForTestingPurpose@12345#";
+        String jwsToken = jwsUtil.generateToken(Map.of("name", "name value"), JWSAlgorithm.HS256, signatureSecret, 90);
+
+        Map<String, Object> payload = jwsUtil.getPayloadExceptGivenKeys(jwsToken, jwsUtil.getSuitableVerifier(JWSAlgorithm.HS256, signatureSecret),
+                new HashSet<>());
+
+        assertEquals("name value", payload.get("name"));
+        assertThrows(UnsupportedOperationException.class, () -> payload.put("name", "other value"));
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getSuitableVerifier: when the keys were rotated then the tokens signed with the previous key are still verified")
+    public void getSuitableVerifier_whenTheKeysWereRotated_thenTheTokensSignedWithThePreviousKeyAreStillVerified() {
+        RSAKey previousKey = new RSAKeyGenerator(2048).keyID("previous").generate();
+        RSAKey currentKey = new RSAKeyGenerator(2048).keyID("current").generate();
+        String previousJwsToken = jwsUtil.generateToken(Map.of("name", "previous value"), JWSAlgorithm.RS256, previousKey.getKeyID(),
+                jwsUtil.getSuitableSigner(JWSAlgorithm.RS256, previousKey), 90);
+        String currentJwsToken = jwsUtil.generateToken(Map.of("name", "current value"), JWSAlgorithm.RS256, currentKey.getKeyID(),
+                jwsUtil.getSuitableSigner(JWSAlgorithm.RS256, currentKey), 90);
+
+        JWSVerifier verifier = jwsUtil.getSuitableVerifier(JWSAlgorithm.RS256, List.of(currentKey.toPublicJWK(), previousKey.toPublicJWK()));
+
+        assertEquals("current", SignedJWT.parse(currentJwsToken).getHeader().getKeyID());
+        assertEquals("previous value", jwsUtil.getPayloadExceptGivenKeys(previousJwsToken, verifier, new HashSet<>()).get("name"));
+        assertEquals("current value", jwsUtil.getPayloadExceptGivenKeys(currentJwsToken, verifier, new HashSet<>()).get("name"));
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getSuitableVerifier: when the token was signed with an unknown key then TokenInvalidException is thrown")
+    public void getSuitableVerifier_whenTheTokenWasSignedWithAnUnknownKey_thenTokenInvalidExceptionIsThrown() {
+        ECKey knownKey = new ECKeyGenerator(Curve.P_256).keyID("known").generate();
+        ECKey unknownKey = new ECKeyGenerator(Curve.P_256).keyID("unknown").generate();
+        String jwsToken = jwsUtil.generateToken(Map.of("name", "name value"), JWSAlgorithm.ES256, unknownKey.getKeyID(),
+                jwsUtil.getSuitableSigner(JWSAlgorithm.ES256, unknownKey), 90);
+
+        JWSVerifier verifier = jwsUtil.getSuitableVerifier(JWSAlgorithm.ES256, List.of(knownKey.toPublicJWK()));
+
+        assertThrows(TokenInvalidException.class, () -> jwsUtil.getPayloadExceptGivenKeys(jwsToken, verifier, new HashSet<>()));
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getSuitableSigner: when the key is not suitable for the signature algorithm then IllegalArgumentException is thrown")
+    public void getSuitableSigner_whenTheKeyIsNotSuitableForTheSignatureAlgorithm_thenIllegalArgumentExceptionIsThrown() {
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+
+        assertThrows(IllegalArgumentException.class, () -> jwsUtil.getSuitableSigner(JWSAlgorithm.RS256, ecKey));
+        assertThrows(IllegalArgumentException.class, () -> jwsUtil.getSuitableSigner(JWSAlgorithm.HS256, ecKey));
+        assertThrows(IllegalArgumentException.class, () -> jwsUtil.getSuitableVerifier(JWSAlgorithm.RS256, List.of(ecKey.toPublicJWK())));
+    }
+
 }
@@ -67,6 +67,8 @@ create table eat.order(
 
 create unique index order_code_uindex on eat.order (code);
 
+create index order_created_id_index on eat.order (created desc, id desc);
+
 
 create table eat.order_line(
   id         serial             not null    constraint order_line_pk primary key,